@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmark;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.runtime.serializer.data.binary.BinaryRecordDataSerializer;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks for {@link BinaryRecordDataGenerator} and {@link BinaryRecordDataSerializer}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BinaryRecordDataBenchmark {
+
+    @Param({"NARROW_NUMERIC", "WIDE_NUMERIC", "WIDE_STRING", "NULLABLE_MIXED"})
+    private RowShape shape;
+
+    private BinaryRecordDataGenerator generator;
+    private Object[] fields;
+    private BinaryRecordData record;
+    private byte[] serializedRecord;
+
+    private final DataOutputSerializer output = new DataOutputSerializer(4096);
+    private final DataInputDeserializer input = new DataInputDeserializer();
+
+    @Setup
+    public void setup() throws IOException {
+        generator = new BinaryRecordDataGenerator(shape.dataTypes());
+        fields = shape.fields(1);
+        record = generator.generate(fields);
+
+        BinaryRecordDataSerializer.INSTANCE.serialize(record, output);
+        serializedRecord = output.getCopyOfBuffer();
+        output.clear();
+    }
+
+    @Benchmark
+    public BinaryRecordData generate() {
+        return generator.generate(fields);
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        output.clear();
+        BinaryRecordDataSerializer.INSTANCE.serialize(record, output);
+        return output.length();
+    }
+
+    @Benchmark
+    public BinaryRecordData deserialize() throws IOException {
+        input.setBuffer(serializedRecord);
+        return BinaryRecordDataSerializer.INSTANCE.deserialize(input);
+    }
+
+    @Benchmark
+    public BinaryRecordData copy() {
+        return BinaryRecordDataSerializer.INSTANCE.copy(record);
+    }
+}
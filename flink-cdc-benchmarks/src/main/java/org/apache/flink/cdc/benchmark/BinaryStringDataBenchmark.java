@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmark;
+
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks for encoding, decoding and comparing {@link BinaryStringData}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BinaryStringDataBenchmark {
+
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    @Param({"false", "true"})
+    private boolean multiByte;
+
+    private String string;
+    private byte[] bytes;
+    private BinaryStringData left;
+    private BinaryStringData right;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(multiByte && i % 4 == 0 ? 'é' : (char) ('a' + i % 26));
+        }
+        string = builder.toString();
+        bytes = string.getBytes(StandardCharsets.UTF_8);
+        left = BinaryStringData.fromBytes(bytes);
+        // Only differs in the last byte, so that comparisons have to scan the whole string
+        byte[] otherBytes = bytes.clone();
+        otherBytes[otherBytes.length - 1]++;
+        right = BinaryStringData.fromBytes(otherBytes);
+    }
+
+    @Benchmark
+    public int encode() {
+        BinaryStringData data = BinaryStringData.fromString(string);
+        return data.toBytes().length;
+    }
+
+    @Benchmark
+    public String decode() {
+        // A fresh instance is required as the decoded string is cached
+        return BinaryStringData.fromBytes(bytes).toString();
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return left.compareTo(right);
+    }
+
+    @Benchmark
+    public boolean equals() {
+        return left.equals(right);
+    }
+
+    @Benchmark
+    public int hashCodeOfBinary() {
+        return BinaryStringData.fromBytes(bytes).hashCode();
+    }
+}
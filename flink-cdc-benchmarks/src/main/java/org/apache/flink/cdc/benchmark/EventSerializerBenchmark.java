@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmark;
+
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.runtime.serializer.event.DataChangeEventSerializer;
+import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks for {@link EventSerializer} and {@link DataChangeEventSerializer}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EventSerializerBenchmark {
+
+    @Param({"NARROW_NUMERIC", "WIDE_NUMERIC", "WIDE_STRING", "NULLABLE_MIXED"})
+    private RowShape shape;
+
+    private DataChangeEvent event;
+    private byte[] serializedEvent;
+    private byte[] serializedDataChangeEvent;
+
+    private final DataOutputSerializer output = new DataOutputSerializer(4096);
+    private final DataInputDeserializer input = new DataInputDeserializer();
+
+    @Setup
+    public void setup() throws IOException {
+        event =
+                DataChangeEvent.updateEvent(
+                        TableId.tableId("benchmark_db", "benchmark_table"),
+                        shape.record(1),
+                        shape.record(2));
+
+        EventSerializer.INSTANCE.serialize(event, output);
+        serializedEvent = output.getCopyOfBuffer();
+        output.clear();
+        DataChangeEventSerializer.INSTANCE.serialize(event, output);
+        serializedDataChangeEvent = output.getCopyOfBuffer();
+        output.clear();
+    }
+
+    @Benchmark
+    public int serializeEvent() throws IOException {
+        output.clear();
+        EventSerializer.INSTANCE.serialize(event, output);
+        return output.length();
+    }
+
+    @Benchmark
+    public Event deserializeEvent() throws IOException {
+        input.setBuffer(serializedEvent);
+        return EventSerializer.INSTANCE.deserialize(input);
+    }
+
+    @Benchmark
+    public int serializeDataChangeEvent() throws IOException {
+        output.clear();
+        DataChangeEventSerializer.INSTANCE.serialize(event, output);
+        return output.length();
+    }
+
+    @Benchmark
+    public DataChangeEvent deserializeDataChangeEvent() throws IOException {
+        input.setBuffer(serializedDataChangeEvent);
+        return DataChangeEventSerializer.INSTANCE.deserialize(input);
+    }
+
+    @Benchmark
+    public Event copyEvent() {
+        return EventSerializer.INSTANCE.copy(event);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmark;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.DecimalType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.math.BigDecimal;
+
+/**
+ * Row shapes shared by the benchmarks. Each shape provides a {@link Schema} and a deterministic
+ * sample row matching it, so that results are comparable between runs and releases.
+ */
+public enum RowShape {
+
+    /** A handful of numeric columns, like a typical narrow fact table. */
+    NARROW_NUMERIC(4, false, DataTypes.BIGINT(), DataTypes.DOUBLE()),
+
+    /** Many numeric, decimal and timestamp columns. */
+    WIDE_NUMERIC(
+            64,
+            false,
+            DataTypes.BIGINT(),
+            DataTypes.DOUBLE(),
+            DataTypes.DECIMAL(10, 2),
+            DataTypes.TIMESTAMP(3)),
+
+    /** Many string columns, like a typical wide dimension table. */
+    WIDE_STRING(64, false, DataTypes.STRING()),
+
+    /** Mixed column types, with every other column set to null. */
+    NULLABLE_MIXED(
+            32,
+            true,
+            DataTypes.BIGINT(),
+            DataTypes.STRING(),
+            DataTypes.DECIMAL(20, 4),
+            DataTypes.BOOLEAN());
+
+    private final int columnCount;
+    private final boolean nullable;
+    private final DataType[] columnTypes;
+
+    RowShape(int columnCount, boolean nullable, DataType... columnTypes) {
+        this.columnCount = columnCount;
+        this.nullable = nullable;
+        this.columnTypes = columnTypes;
+    }
+
+    /** Returns the schema of this shape. The first column is always an INT primary key. */
+    public Schema schema() {
+        Schema.Builder builder =
+                Schema.newBuilder().physicalColumn("id", DataTypes.INT().notNull());
+        for (int i = 1; i < columnCount; i++) {
+            builder.physicalColumn("col_" + i, typeOf(i));
+        }
+        return builder.primaryKey("id").build();
+    }
+
+    /** Returns the column types of this shape. */
+    public DataType[] dataTypes() {
+        return schema().getColumnDataTypes().toArray(new DataType[0]);
+    }
+
+    /** Returns the internal field values of the sample row with the given id. */
+    public Object[] fields(int id) {
+        Object[] fields = new Object[columnCount];
+        fields[0] = id;
+        for (int i = 1; i < columnCount; i++) {
+            fields[i] = nullable && i % 2 == 0 ? null : valueOf(typeOf(i), id, i);
+        }
+        return fields;
+    }
+
+    /** Returns the sample row with the given id in binary format. */
+    public BinaryRecordData record(int id) {
+        return new BinaryRecordDataGenerator(dataTypes()).generate(fields(id));
+    }
+
+    private DataType typeOf(int column) {
+        return columnTypes[column % columnTypes.length];
+    }
+
+    private static Object valueOf(DataType type, int id, int column) {
+        long seed = (long) id * 31 + column;
+        switch (type.getTypeRoot()) {
+            case BIGINT:
+                return seed;
+            case DOUBLE:
+                return seed / 7.0;
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) type;
+                return DecimalData.fromBigDecimal(
+                        BigDecimal.valueOf(seed, decimalType.getScale()),
+                        decimalType.getPrecision(),
+                        decimalType.getScale());
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return TimestampData.fromMillis(1_700_000_000_000L + seed);
+            case BOOLEAN:
+                return seed % 2 == 0;
+            case VARCHAR:
+                return BinaryStringData.fromString("value-" + seed + "-abcdefghijklmnopqrstuvwxyz");
+            default:
+                throw new IllegalArgumentException("Unsupported benchmark column type " + type);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmark;
+
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypeRoot;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link SchemaMergingUtils#coerceRow}, both for rows that already match the
+ * evolved schema and for rows that need to be widened into it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SchemaMergingUtilsBenchmark {
+
+    private static final String TIMEZONE = "UTC";
+
+    @Param({"NARROW_NUMERIC", "WIDE_NUMERIC", "WIDE_STRING", "NULLABLE_MIXED"})
+    private RowShape shape;
+
+    private Schema currentSchema;
+    private List<Object> currentRow;
+    private Schema narrowerSchema;
+    private List<Object> narrowerRow;
+
+    @Setup
+    public void setup() {
+        currentSchema = shape.schema();
+        currentRow = Arrays.asList(shape.fields(1));
+
+        // Upstream schema before evolution: BIGINT columns used to be INT columns
+        List<Column> narrowerColumns = new ArrayList<>();
+        narrowerRow = new ArrayList<>();
+        for (int i = 0; i < currentSchema.getColumnCount(); i++) {
+            Column column = currentSchema.getColumns().get(i);
+            Object value = currentRow.get(i);
+            if (column.getType().is(DataTypeRoot.BIGINT)) {
+                column = column.copy(DataTypes.INT());
+                value = value == null ? null : (int) (long) (Long) value;
+            }
+            narrowerColumns.add(column);
+            narrowerRow.add(value);
+        }
+        narrowerSchema = currentSchema.copy(narrowerColumns);
+    }
+
+    @Benchmark
+    public Object[] coerceIdenticalRow() {
+        return SchemaMergingUtils.coerceRow(TIMEZONE, currentSchema, currentSchema, currentRow);
+    }
+
+    @Benchmark
+    public Object[] coerceWidenedRow() {
+        return SchemaMergingUtils.coerceRow(TIMEZONE, currentSchema, narrowerSchema, narrowerRow);
+    }
+}
@@ -24,7 +24,7 @@ import static org.apache.flink.core.memory.MemoryUtils.UNSAFE;
 
 /** Murmur Hash. This is inspired by Guava's Murmur3_32HashFunction. */
 @Internal
-final class MurmurHashUtils {
+public final class MurmurHashUtils {
 
     private static final int C1 = 0xcc9e2d51;
     private static final int C2 = 0x1b873593;
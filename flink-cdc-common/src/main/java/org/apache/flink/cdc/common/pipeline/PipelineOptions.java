@@ -45,6 +45,64 @@ public class PipelineOptions {
                     .defaultValue(1)
                     .withDescription("Parallelism of the pipeline");
 
+    public static final ConfigOption<Integer> PIPELINE_SOURCE_PARALLELISM =
+            ConfigOptions.key("source.parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Parallelism of the source stage. Falls back to the pipeline parallelism if not set.");
+
+    public static final ConfigOption<Integer> PIPELINE_TRANSFORM_PARALLELISM =
+            ConfigOptions.key("transform.parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Parallelism of the transform stage. Falls back to the pipeline parallelism if not set. "
+                                    + "Events are repartitioned by table ID when it differs from the parallelism of the upstream stage.");
+
+    public static final ConfigOption<Integer> PIPELINE_SINK_PARALLELISM =
+            ConfigOptions.key("sink.parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Parallelism of the schema operator and the sink stage. Falls back to the pipeline parallelism if not set. "
+                                    + "Events are repartitioned by table ID when it differs from the parallelism of the upstream stage.");
+
+    public static final ConfigOption<UnkeyedTablePartitionStrategy>
+            PIPELINE_PARTITION_UNKEYED_TABLE_STRATEGY =
+                    ConfigOptions.key("partition.unkeyed-table.strategy")
+                            .enumType(UnkeyedTablePartitionStrategy.class)
+                            .defaultValue(UnkeyedTablePartitionStrategy.TABLE_ID)
+                            .withDescription(
+                                    Description.builder()
+                                            .text(
+                                                    "Strategy for partitioning data change events of tables without primary key to sink subtasks. ")
+                                            .linebreak()
+                                            .add(
+                                                    ListElement.list(
+                                                            text(
+                                                                    "TABLE_ID: Send all events of a table to one subtask, chosen by the table ID."),
+                                                            text(
+                                                                    "ROUND_ROBIN: Distribute events of a table to all subtasks in a round-robin manner."),
+                                                            text(
+                                                                    "LEAST_LOADED: Send each event to the subtask that has received the fewest events from this partitioner so far.")))
+                                            .linebreak()
+                                            .text(
+                                                    "Events of a table are not kept in order with strategies other than TABLE_ID, "
+                                                            + "so only use them if the sink does not depend on the order or partitioning "
+                                                            + "of tables without primary key, e.g. for append-only tables.")
+                                            .build());
+
+    public static final ConfigOption<Long> PIPELINE_TRANSFORM_UDF_RESULT_CACHE_MAX_SIZE =
+            ConfigOptions.key("transform.udf-result-cache.max-size")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Max number of cached results of projection expressions invoking UDFs in each transform subtask. "
+                                    + "Results are keyed by the expression and its referenced column values, so unchanged "
+                                    + "inputs do not invoke UDFs again. Only enable it if all UDFs are deterministic. "
+                                    + "Set it to 0 to disable the cache.");
+
     public static final ConfigOption<RuntimeExecutionMode> PIPELINE_EXECUTION_RUNTIME_MODE =
             ConfigOptions.key("execution.runtime-mode")
                     .enumType(RuntimeExecutionMode.class)
@@ -120,5 +178,17 @@ public class PipelineOptions {
                     .withDescription(
                             "The timeout time for SchemaOperator to wait downstream SchemaChangeEvent applying finished, the default value is 3 minutes.");
 
+    public static final ConfigOption<Boolean> PIPELINE_SCHEMA_OPERATOR_TABLE_LEVEL_BLOCKING =
+            ConfigOptions.key("schema-operator.table-level-blocking.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether SchemaOperator only holds back events of tables affected by an ongoing schema change, "
+                                    + "instead of blocking the whole subtask until the schema change is applied. "
+                                    + "Affected tables are the evolving table and tables routed to the same sink tables. "
+                                    + "Consecutive add column events held back meanwhile are also coalesced into one, "
+                                    + "on top of the coalescing applied to events derived from a single schema change. "
+                                    + "Only takes effect in the regular (non-distributed) streaming topology.");
+
     private PipelineOptions() {}
 }
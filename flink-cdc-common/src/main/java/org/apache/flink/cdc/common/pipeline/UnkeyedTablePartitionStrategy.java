@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.pipeline;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+/** Strategy for partitioning data change events of tables without primary key to sink subtasks. */
+@PublicEvolving
+public enum UnkeyedTablePartitionStrategy {
+
+    /** Sends all events of a table to the same subtask, chosen by the hash of the table ID. */
+    TABLE_ID,
+
+    /** Distributes events of a table to all subtasks in a round-robin manner. */
+    ROUND_ROBIN,
+
+    /** Sends each event to the subtask that has received the fewest events so far. */
+    LEAST_LOADED
+}
@@ -20,16 +20,41 @@ package org.apache.flink.cdc.common.schema;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.utils.Predicates;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
-/** Selectors for filtering tables. */
+/**
+ * Selectors for filtering tables.
+ *
+ * <p>The selectors are compiled when being built: selectors consisting of literal names only are
+ * looked up in a hash set, and the other selectors are combined into a single regular expression,
+ * so the cost of matching does not grow with the number of selectors.
+ */
 public class Selectors {
 
-    private List<Selector> selectors;
+    /** Separator of the table id components when matching against the compiled selectors. */
+    private static final char COMPONENT_SEPARATOR = '\u0000';
+
+    private static final Pattern LITERAL_PATTERN = Pattern.compile("[A-Za-z0-9_]+");
+
+    /**
+     * Constructs which can not be combined with other patterns without changing their meaning,
+     * such as anchors, back references, named groups, quotations and the comments flag.
+     */
+    private static final Pattern UNCOMBINABLE_PATTERN =
+            Pattern.compile("(?<!\\[)\\^|\\$|\\\\[AGZzkQ1-9]|\\(\\?<[^=!]|\\(\\?[a-zA-Z-]*x");
+
+    /** Compiled selectors for table ids of 1, 2 and 3 components. */
+    private CompiledSelectors[] compiledSelectors;
 
     private Selectors() {}
 
@@ -38,11 +63,13 @@ public class Selectors {
      * to be included.
      */
     private static class Selector {
+        private final String[] components;
         private final Predicate<String> namespacePred;
         private final Predicate<String> schemaNamePred;
         private final Predicate<String> tableNamePred;
 
         public Selector(String namespace, String schemaName, String tableName) {
+            this.components = new String[] {namespace, schemaName, tableName};
             this.namespacePred =
                     namespace == null ? (namespacePred) -> false : Predicates.includes(namespace);
             this.schemaNamePred =
@@ -69,16 +96,164 @@ public class Selectors {
                     && schemaNamePred.test(tableId.getSchemaName())
                     && tableNamePred.test(tableId.getTableName());
         }
+
+        /**
+         * Returns the patterns of each component that a table id with the given number of
+         * components is matched against, or null if this selector never matches such table ids.
+         */
+        @Nullable
+        private List<Set<Pattern>> componentPatterns(int depth) {
+            List<Set<Pattern>> patterns = new ArrayList<>(depth);
+            for (int i = components.length - depth; i < components.length; i++) {
+                if (components[i] == null) {
+                    return null;
+                }
+                Set<Pattern> componentPatterns =
+                        Predicates.setOfRegex(components[i], Pattern.CASE_INSENSITIVE);
+                if (componentPatterns.isEmpty()) {
+                    return null;
+                }
+                patterns.add(componentPatterns);
+            }
+            return patterns;
+        }
+    }
+
+    /** The {@link Selector}s compiled for table ids with the same number of components. */
+    private static class CompiledSelectors {
+        private final Set<String> literalKeys = new HashSet<>();
+        private final List<String> combinableRegexes = new ArrayList<>();
+        private final List<Selector> combinableSelectors = new ArrayList<>();
+        private final List<Selector> uncombinableSelectors = new ArrayList<>();
+        @Nullable private Pattern combinedPattern;
+
+        private void add(Selector selector, List<Set<Pattern>> componentPatterns) {
+            if (componentPatterns.stream().allMatch(CompiledSelectors::isLiteral)) {
+                literalKeys.add(
+                        componentPatterns.stream()
+                                .map(patterns -> patterns.iterator().next().pattern())
+                                .map(Selectors::toLowerCaseAscii)
+                                .collect(
+                                        Collectors.joining(String.valueOf(COMPONENT_SEPARATOR))));
+            } else if (componentPatterns.stream()
+                    .flatMap(Set::stream)
+                    .anyMatch(p -> UNCOMBINABLE_PATTERN.matcher(p.pattern()).find())) {
+                uncombinableSelectors.add(selector);
+            } else {
+                combinableSelectors.add(selector);
+                combinableRegexes.add(
+                        componentPatterns.stream()
+                                .map(
+                                        patterns ->
+                                                patterns.stream()
+                                                        .map(p -> "(?:" + p.pattern() + ")")
+                                                        .collect(
+                                                                Collectors.joining(
+                                                                        "|", "(?:", ")")))
+                                .collect(Collectors.joining("\\x00")));
+            }
+        }
+
+        private void compile() {
+            if (combinableRegexes.isEmpty()) {
+                return;
+            }
+            try {
+                combinedPattern =
+                        Pattern.compile(
+                                combinableRegexes.stream()
+                                        .map(regex -> "(?:" + regex + ")")
+                                        .collect(Collectors.joining("|")),
+                                Pattern.CASE_INSENSITIVE);
+            } catch (PatternSyntaxException e) {
+                // fall back to matching the selectors one by one
+                uncombinableSelectors.addAll(combinableSelectors);
+            }
+        }
+
+        private boolean isMatch(TableId tableId, String[] components) {
+            if (!literalKeys.isEmpty()) {
+                StringBuilder key = new StringBuilder();
+                for (int i = 0; i < components.length; i++) {
+                    if (i > 0) {
+                        key.append(COMPONENT_SEPARATOR);
+                    }
+                    key.append(toLowerCaseAscii(components[i]));
+                }
+                if (literalKeys.contains(key.toString())) {
+                    return true;
+                }
+            }
+            if (combinedPattern != null
+                    && combinedPattern
+                            .matcher(String.join(String.valueOf(COMPONENT_SEPARATOR), components))
+                            .matches()) {
+                return true;
+            }
+            for (Selector selector : uncombinableSelectors) {
+                if (selector.isMatch(tableId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isLiteral(Set<Pattern> patterns) {
+            return patterns.size() == 1
+                    && LITERAL_PATTERN.matcher(patterns.iterator().next().pattern()).matches();
+        }
     }
 
     /** Match the {@link TableId} against the {@link Selector}s. * */
     public boolean isMatch(TableId tableId) {
-        for (Selector selector : selectors) {
-            if (selector.isMatch(tableId)) {
-                return true;
+        String[] components = componentsOf(tableId);
+        return components != null
+                && compiledSelectors[components.length - 1].isMatch(tableId, components);
+    }
+
+    /**
+     * Returns the components of the table id which are matched against the selectors, or null if
+     * the table id can not be matched by any selector.
+     */
+    @Nullable
+    private static String[] componentsOf(TableId tableId) {
+        String namespace = tableId.getNamespace();
+        String schemaName = tableId.getSchemaName();
+        String tableName = tableId.getTableName();
+        String[] components;
+        if (namespace == null || namespace.isEmpty()) {
+            if (schemaName == null || schemaName.isEmpty()) {
+                components = new String[] {tableName};
+            } else {
+                components = new String[] {schemaName, tableName};
+            }
+        } else {
+            components = new String[] {namespace, schemaName, tableName};
+        }
+        for (String component : components) {
+            if (component == null) {
+                return null;
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Lower-cases ASCII letters only, which is consistent with the default {@link
+     * Pattern#CASE_INSENSITIVE} matching.
+     */
+    private static String toLowerCaseAscii(String str) {
+        char[] chars = null;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (chars == null) {
+                    chars = str.toCharArray();
+                }
+                chars[i] = (char) (c + ('a' - 'A'));
             }
         }
-        return false;
+        return chars == null ? str : new String(chars);
     }
 
     /** Builder for {@link Selectors}. */
@@ -119,7 +294,18 @@ public class Selectors {
 
         public Selectors build() {
             Selectors selectors = new Selectors();
-            selectors.selectors = this.selectors;
+            selectors.compiledSelectors = new CompiledSelectors[3];
+            for (int depth = 1; depth <= 3; depth++) {
+                CompiledSelectors compiled = new CompiledSelectors();
+                for (Selector selector : this.selectors) {
+                    List<Set<Pattern>> componentPatterns = selector.componentPatterns(depth);
+                    if (componentPatterns != null) {
+                        compiled.add(selector, componentPatterns);
+                    }
+                }
+                compiled.compile();
+                selectors.compiledSelectors[depth - 1] = compiled;
+            }
             return selectors;
         }
     }
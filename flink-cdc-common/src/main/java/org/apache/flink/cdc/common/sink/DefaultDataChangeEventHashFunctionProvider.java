@@ -17,21 +17,31 @@
 
 package org.apache.flink.cdc.common.sink;
 
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.RecordData.FieldGetter;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.data.binary.MurmurHashUtils;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.OperationType;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DecimalType;
 
 import javax.annotation.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.Optional;
+
+import static org.apache.flink.cdc.common.data.binary.BinaryFormat.HIGHEST_FIRST_BIT;
+import static org.apache.flink.cdc.common.data.binary.BinaryFormat.HIGHEST_SECOND_TO_EIGHTH_BIT;
 
 /** The default {@link HashFunctionProvider} implementation for data change event. */
 public class DefaultDataChangeEventHashFunctionProvider
@@ -41,61 +51,199 @@ public class DefaultDataChangeEventHashFunctionProvider
 
     @Override
     public HashFunction<DataChangeEvent> getHashFunction(@Nullable TableId tableId, Schema schema) {
-        return new DefaultDataChangeEventHashFunction(schema);
+        return new DefaultDataChangeEventHashFunction(tableId, schema);
     }
 
-    /** The default {@link HashFunction} implementation for data change event. */
+    /**
+     * The default {@link HashFunction} implementation for data change event.
+     *
+     * <p>Primary key fields are combined with a seed derived from the table ID. Each field hashes
+     * to the hash code of its extracted field object (content based for byte arrays), so that
+     * equal keys hash equally regardless of the {@link RecordData} implementation. Fields of
+     * {@link BinaryRecordData} compute the same value directly from the underlying memory
+     * segments, so that no object is allocated per event for common key types.
+     */
     static class DefaultDataChangeEventHashFunction implements HashFunction<DataChangeEvent> {
 
-        private final List<FieldGetter> primaryKeyGetters;
+        private final int[] primaryKeyPositions;
+        private final BinaryFieldHasher[] binaryHashers;
+        private final FieldGetter[] primaryKeyGetters;
+
+        /** Hash seed of the table, or null if the table is only known from events. */
+        @Nullable private final Integer tableSeed;
 
         public DefaultDataChangeEventHashFunction(Schema schema) {
-            primaryKeyGetters = createFieldGetters(schema);
+            this(null, schema);
+        }
+
+        public DefaultDataChangeEventHashFunction(@Nullable TableId tableId, Schema schema) {
+            int primaryKeyCount = schema.primaryKeys().size();
+            this.primaryKeyPositions = new int[primaryKeyCount];
+            this.binaryHashers = new BinaryFieldHasher[primaryKeyCount];
+            this.primaryKeyGetters = new FieldGetter[primaryKeyCount];
+            for (int i = 0; i < primaryKeyCount; i++) {
+                String pk = schema.primaryKeys().get(i);
+                int index = schema.getColumnNames().indexOf(pk);
+                if (index == -1) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Unable to find column \"%s\" which is defined as primary key",
+                                    pk));
+                }
+                DataType type = schema.getColumns().get(index).getType();
+                primaryKeyPositions[i] = index;
+                primaryKeyGetters[i] = RecordData.createFieldGetter(type, index);
+                binaryHashers[i] = createBinaryFieldHasher(type, primaryKeyGetters[i]);
+            }
+            this.tableSeed = tableId == null ? null : tableId.hashCode();
         }
 
         @Override
         public int hashcode(DataChangeEvent event) {
-            List<Object> objectsToHash = new ArrayList<>();
-            // Table ID
-            TableId tableId = event.tableId();
-            Optional.ofNullable(tableId.getNamespace()).ifPresent(objectsToHash::add);
-            Optional.ofNullable(tableId.getSchemaName()).ifPresent(objectsToHash::add);
-            objectsToHash.add(tableId.getTableName());
-
-            // Primary key
+            int hash = tableSeed != null ? tableSeed : event.tableId().hashCode();
             RecordData data =
                     event.op().equals(OperationType.DELETE) ? event.before() : event.after();
-            for (FieldGetter primaryKeyGetter : primaryKeyGetters) {
-                objectsToHash.add(primaryKeyGetter.getFieldOrNull(data));
+            if (data instanceof BinaryRecordData) {
+                BinaryRecordData binaryData = (BinaryRecordData) data;
+                for (int i = 0; i < primaryKeyPositions.length; i++) {
+                    int pos = primaryKeyPositions[i];
+                    int fieldHash =
+                            binaryData.isNullAt(pos) ? 0 : binaryHashers[i].hash(binaryData, pos);
+                    hash = 31 * hash + fieldHash;
+                }
+            } else {
+                for (FieldGetter primaryKeyGetter : primaryKeyGetters) {
+                    hash = 31 * hash + hashField(primaryKeyGetter.getFieldOrNull(data));
+                }
+            }
+            return MurmurHashUtils.fmix(hash) & 0x7FFFFFFF;
+        }
+
+        /** Hashes an extracted field object, byte arrays are hashed by their content. */
+        private static int hashField(@Nullable Object field) {
+            return field instanceof byte[]
+                    ? Arrays.hashCode((byte[]) field)
+                    : Objects.hashCode(field);
+        }
+
+        /**
+         * Creates a hasher of a {@link BinaryRecordData} field, which returns the same value as
+         * {@link #hashField} of the field object.
+         */
+        private static BinaryFieldHasher createBinaryFieldHasher(
+                DataType type, FieldGetter fallbackGetter) {
+            switch (type.getTypeRoot()) {
+                case BOOLEAN:
+                    return (data, pos) -> Boolean.hashCode(data.getBoolean(pos));
+                case TINYINT:
+                    return (data, pos) -> Byte.hashCode(data.getByte(pos));
+                case SMALLINT:
+                    return (data, pos) -> Short.hashCode(data.getShort(pos));
+                case INTEGER:
+                    return (data, pos) -> Integer.hashCode(data.getInt(pos));
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    // Same as DateData#hashCode and TimeData#hashCode
+                    return (data, pos) -> 31 + data.getInt(pos);
+                case BIGINT:
+                    return (data, pos) -> Long.hashCode(data.getLong(pos));
+                case FLOAT:
+                    return (data, pos) -> Float.hashCode(data.getFloat(pos));
+                case DOUBLE:
+                    return (data, pos) -> Double.hashCode(data.getDouble(pos));
+                case DECIMAL:
+                    DecimalType decimalType = (DecimalType) type;
+                    if (DecimalData.isCompact(decimalType.getPrecision())) {
+                        int scale = decimalType.getScale();
+                        return (data, pos) -> hashCompactDecimal(data.getLong(pos), scale);
+                    }
+                    return (data, pos) -> hashField(fallbackGetter.getFieldOrNull(data));
+                case CHAR:
+                case VARCHAR:
+                    return DefaultDataChangeEventHashFunction::hashStringField;
+                case BINARY:
+                case VARBINARY:
+                    return DefaultDataChangeEventHashFunction::hashBinaryField;
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    return DefaultDataChangeEventHashFunction::hashTimestampField;
+                default:
+                    return (data, pos) -> hashField(fallbackGetter.getFieldOrNull(data));
+            }
+        }
+
+        /**
+         * Hashes a compact decimal stored as unscaled long, same as {@link DecimalData#hashCode},
+         * which is the hash code of the {@link java.math.BigDecimal} of the unscaled long.
+         */
+        private static int hashCompactDecimal(long unscaled, int scale) {
+            long magnitude = unscaled < 0 ? -unscaled : unscaled;
+            int hash = (int) (((int) (magnitude >>> 32)) * 31 + (magnitude & 0xFFFFFFFFL));
+            return 31 * (unscaled < 0 ? -hash : hash) + scale;
+        }
+
+        /** Hashes a string field, same as {@link BinaryStringData#hashCode}. */
+        private static int hashStringField(BinaryRecordData data, int pos) {
+            long offsetAndLen = data.getLong(pos);
+            return BinarySegmentUtils.hash(
+                    data.getSegments(),
+                    variableLengthFieldOffset(data, pos, offsetAndLen),
+                    variableLengthFieldSize(offsetAndLen));
+        }
+
+        /** Hashes a binary field, same as {@link Arrays#hashCode(byte[])}. */
+        private static int hashBinaryField(BinaryRecordData data, int pos) {
+            long offsetAndLen = data.getLong(pos);
+            int offset = variableLengthFieldOffset(data, pos, offsetAndLen);
+            int size = variableLengthFieldSize(offsetAndLen);
+            int hash = 1;
+            for (int i = 0; i < size; i++) {
+                hash = 31 * hash + BinarySegmentUtils.getByte(data.getSegments(), offset + i);
+            }
+            return hash;
+        }
+
+        /**
+         * Returns the offset of the bytes of a variable-length field, which are inlined into the
+         * fixed-length part if less than 8 bytes.
+         */
+        private static int variableLengthFieldOffset(
+                BinaryRecordData data, int pos, long offsetAndLen) {
+            if ((offsetAndLen & HIGHEST_FIRST_BIT) == 0) {
+                return data.getOffset() + (int) (offsetAndLen >> 32);
+            }
+            int fieldOffset =
+                    data.getOffset()
+                            + BinaryRecordData.calculateBitSetWidthInBytes(data.getArity())
+                            + pos * 8;
+            // Big endian slots start with the mark and length byte
+            return BinarySegmentUtils.LITTLE_ENDIAN ? fieldOffset : fieldOffset + 1;
+        }
+
+        /** Returns the size in bytes of a variable-length field. */
+        private static int variableLengthFieldSize(long offsetAndLen) {
+            if ((offsetAndLen & HIGHEST_FIRST_BIT) == 0) {
+                return (int) offsetAndLen;
             }
+            return (int) ((offsetAndLen & HIGHEST_SECOND_TO_EIGHTH_BIT) >>> 56);
+        }
 
-            // Calculate hash
-            return (Objects.hash(objectsToHash.toArray()) * 31) & 0x7FFFFFFF;
+        /**
+         * Hashes a timestamp field, whose millisecond is stored in the variable-length part, same
+         * as {@link TimestampData#hashCode} and {@link LocalZonedTimestampData#hashCode}.
+         */
+        private static int hashTimestampField(BinaryRecordData data, int pos) {
+            long offsetAndNanos = data.getLong(pos);
+            int subOffset = (int) (offsetAndNanos >> 32);
+            long millisecond =
+                    BinarySegmentUtils.getLong(data.getSegments(), data.getOffset() + subOffset);
+            return 31 * Long.hashCode(millisecond) + (int) offsetAndNanos;
         }
 
-        private List<FieldGetter> createFieldGetters(Schema schema) {
-            List<FieldGetter> fieldGetters = new ArrayList<>(schema.primaryKeys().size());
-            schema.primaryKeys().stream()
-                    .mapToInt(
-                            pk -> {
-                                int index = schema.getColumnNames().indexOf(pk);
-                                if (index == -1) {
-                                    throw new IllegalStateException(
-                                            String.format(
-                                                    "Unable to find column \"%s\" which is defined as primary key",
-                                                    pk));
-                                }
-                                return index;
-                            })
-                    .forEach(
-                            primaryKeyPosition ->
-                                    fieldGetters.add(
-                                            RecordData.createFieldGetter(
-                                                    schema.getColumns()
-                                                            .get(primaryKeyPosition)
-                                                            .getType(),
-                                                    primaryKeyPosition)));
-            return fieldGetters;
+        /** Hashes a non-null field of a {@link BinaryRecordData}. */
+        @FunctionalInterface
+        private interface BinaryFieldHasher {
+            int hash(BinaryRecordData data, int pos);
         }
     }
 }
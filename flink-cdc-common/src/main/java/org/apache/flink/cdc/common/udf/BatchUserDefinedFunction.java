@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.udf;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+/**
+ * A {@link UserDefinedFunction} whose evaluation could be batched, e.g. a function that calls a
+ * remote model service.
+ *
+ * <p>The transform operator buffers up to {@link #getMaxBufferedInputs()} data change events, for
+ * at most {@link #getMaxBufferedMillis()}, and evaluates them twice. During the first pass, which
+ * is enclosed by {@link #startCollecting()} and {@link #evalCollected()}, only expressions invoking
+ * batched functions are evaluated, and {@code eval} methods should only record their arguments and
+ * return a placeholder value. {@link #evalCollected()} then evaluates all recorded arguments at
+ * once, and the second pass should return the evaluated results. Arguments that were not recorded,
+ * e.g. because the first pass failed to evaluate an enclosing expression, must still be evaluated
+ * one by one during the second pass. {@link #clearCollected()} is invoked after the second pass to
+ * release the results.
+ */
+@PublicEvolving
+public interface BatchUserDefinedFunction extends UserDefinedFunction {
+
+    /**
+     * Returns the max number of data change events to be buffered before evaluating them. Values
+     * not greater than 1 disable batched evaluation.
+     */
+    int getMaxBufferedInputs();
+
+    /**
+     * Returns the max time in milliseconds that a data change event could be buffered before being
+     * evaluated. Values not greater than 0 disable the time limit, so that buffered events are only
+     * evaluated when the buffer is full or before a checkpoint barrier or other events.
+     */
+    default long getMaxBufferedMillis() {
+        return 1000L;
+    }
+
+    /** Starts recording arguments of {@code eval} invocations. */
+    void startCollecting();
+
+    /** Stops recording arguments and evaluates all recorded arguments. */
+    void evalCollected() throws Exception;
+
+    /** Drops all recorded arguments and evaluated results. */
+    void clearCollected();
+}
@@ -132,6 +132,32 @@ class SelectorsTest {
         assertAllowed(selectors, null, "sc1", "sc1");
     }
 
+    @Test
+    void testCompiledTableSelector() {
+        // literal, combinable regex and uncombinable regex selectors
+        Selectors selectors =
+                new Selectors.SelectorsBuilder()
+                        .includeTables("db.sc1.Orders,db.sc[2-3].B[0-1]+,db.sc4.^C$,sc5.(a)\\1")
+                        .build();
+
+        assertAllowed(selectors, "db", "sc1", "orders");
+        assertAllowed(selectors, "DB", "SC1", "ORDERS");
+        assertAllowed(selectors, "db", "sc2", "b1");
+        assertAllowed(selectors, "db", "sc3", "B01");
+        assertAllowed(selectors, "db", "sc4", "c");
+        assertAllowed(selectors, null, "sc5", "aa");
+        // the last components of a selector are matched against table ids with fewer components
+        assertAllowed(selectors, null, "sc1", "orders");
+        assertAllowed(selectors, null, null, "b1");
+        assertNotAllowed(selectors, "db", "sc1", "orders1");
+        assertNotAllowed(selectors, "db", "sc2", "b2");
+        assertNotAllowed(selectors, "db", "sc4", "cc");
+        assertNotAllowed(selectors, null, "sc5", "ab");
+        assertNotAllowed(selectors, "db", "sc5", "aa");
+        assertNotAllowed(selectors, "db1", "sc1", "orders");
+        assertNotAllowed(selectors, null, null, "sc1");
+    }
+
     protected void assertAllowed(
             Selectors filter, String nameSpace, String schemaName, String tableName) {
 
@@ -0,0 +1,426 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.sink;
+
+import org.apache.flink.cdc.common.data.ArrayData;
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.MapData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.StringData;
+import org.apache.flink.cdc.common.data.TimeData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link DefaultDataChangeEventHashFunctionProvider}. */
+class DefaultDataChangeEventHashFunctionProviderTest {
+
+    private static final TableId TABLE = TableId.tableId("db", "table");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.BIGINT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("amount", DataTypes.DECIMAL(30, 4))
+                    .physicalColumn("ts", DataTypes.TIMESTAMP(6))
+                    .physicalColumn("comment", DataTypes.STRING())
+                    .primaryKey("id", "name", "amount", "ts")
+                    .build();
+
+    @Test
+    void testSameKeyHashesEqually() {
+        HashFunction<DataChangeEvent> hashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(TABLE, SCHEMA);
+        for (String name : new String[] {"short", "a name longer than eight bytes", null}) {
+            DataChangeEvent insert =
+                    DataChangeEvent.insertEvent(TABLE, binaryRecord(SCHEMA, row(1L, name, "x")));
+            DataChangeEvent delete =
+                    DataChangeEvent.deleteEvent(TABLE, binaryRecord(SCHEMA, row(1L, name, "y")));
+            assertThat(hashFunction.hashcode(insert))
+                    .isEqualTo(hashFunction.hashcode(delete))
+                    .isNotNegative();
+        }
+    }
+
+    @Test
+    void testBinaryAndGenericRecordsHashEqually() {
+        Object[][] typesAndValues = {
+            {DataTypes.BOOLEAN(), true, false},
+            {DataTypes.TINYINT(), (byte) -3, Byte.MAX_VALUE},
+            {DataTypes.SMALLINT(), (short) 1234, Short.MIN_VALUE},
+            {DataTypes.INT(), -42, Integer.MAX_VALUE},
+            {DataTypes.BIGINT(), (1L << 40) | 7, Long.MIN_VALUE},
+            {DataTypes.FLOAT(), 1.5f, -0.0f},
+            {DataTypes.DOUBLE(), -2.25, Double.MAX_VALUE},
+            {DataTypes.DATE(), DateData.fromEpochDay(19000), DateData.fromEpochDay(-1)},
+            {DataTypes.TIME(), TimeData.fromMillisOfDay(3_600_000), TimeData.fromMillisOfDay(0)},
+            {DataTypes.DECIMAL(10, 2), decimal("-12345678.90", 10, 2), decimal("0.01", 10, 2)},
+            {
+                DataTypes.DECIMAL(18, 4),
+                decimal("12345678901234.5678", 18, 4),
+                decimal("-99999999999999.9999", 18, 4)
+            },
+            {
+                DataTypes.DECIMAL(30, 4),
+                decimal("12345678901234567890.1234", 30, 4),
+                decimal("-1.5", 30, 4)
+            },
+            {
+                DataTypes.STRING(),
+                BinaryStringData.fromString("short"),
+                BinaryStringData.fromString("a name longer than eight bytes")
+            },
+            {
+                DataTypes.VARCHAR(10),
+                BinaryStringData.fromString(""),
+                BinaryStringData.fromString("键值")
+            },
+            {DataTypes.BYTES(), new byte[] {1, 2, 3}, new byte[] {-1, 0, 1, 2, 3, 4, 5, 6, 7, 8}},
+            {
+                DataTypes.TIMESTAMP(6),
+                TimestampData.fromMillis(1_700_000_000_000L, 123_000),
+                TimestampData.fromMillis(-1L, 999_999)
+            },
+            {
+                DataTypes.TIMESTAMP_LTZ(6),
+                LocalZonedTimestampData.fromEpochMillis(1_700_000_000_000L, 123_000),
+                LocalZonedTimestampData.fromEpochMillis(0L)
+            }
+        };
+        DefaultDataChangeEventHashFunctionProvider provider =
+                new DefaultDataChangeEventHashFunctionProvider();
+        for (Object[] typeAndValues : typesAndValues) {
+            DataType type = (DataType) typeAndValues[0];
+            Schema schema =
+                    Schema.newBuilder()
+                            .physicalColumn("comment", DataTypes.STRING())
+                            .physicalColumn("key", type)
+                            .primaryKey("key")
+                            .build();
+            HashFunction<DataChangeEvent> hashFunction = provider.getHashFunction(TABLE, schema);
+            // The trailing null value covers null keys
+            Object[] values = Arrays.copyOfRange(typeAndValues, 1, typeAndValues.length + 1);
+            for (Object value : values) {
+                Object[] fields = {BinaryStringData.fromString("comment"), value};
+                assertThat(
+                                hashFunction.hashcode(
+                                        DataChangeEvent.insertEvent(
+                                                TABLE, binaryRecord(schema, fields))))
+                        .as("Hash of %s value %s", type, value)
+                        .isEqualTo(
+                                hashFunction.hashcode(
+                                        DataChangeEvent.insertEvent(
+                                                TABLE, new GenericTestRecordData(fields))));
+            }
+        }
+    }
+
+    @Test
+    void testTableIdIsPartOfHash() {
+        DefaultDataChangeEventHashFunctionProvider provider =
+                new DefaultDataChangeEventHashFunctionProvider();
+        TableId otherTable = TableId.tableId("db", "other_table");
+        DataChangeEvent event =
+                DataChangeEvent.insertEvent(TABLE, binaryRecord(SCHEMA, row(1L, "name", "x")));
+        DataChangeEvent otherEvent =
+                DataChangeEvent.insertEvent(
+                        otherTable, binaryRecord(SCHEMA, row(1L, "name", "x")));
+
+        // Hash functions created without table ID derive the seed from events
+        assertThat(provider.getHashFunction(null, SCHEMA).hashcode(event))
+                .isEqualTo(provider.getHashFunction(TABLE, SCHEMA).hashcode(event));
+        assertThat(provider.getHashFunction(otherTable, SCHEMA).hashcode(otherEvent))
+                .isNotEqualTo(provider.getHashFunction(TABLE, SCHEMA).hashcode(event));
+    }
+
+    @Test
+    void testKeysAreWellDistributed() {
+        HashFunction<DataChangeEvent> hashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(TABLE, SCHEMA);
+        int channels = 16;
+        int keys = 16000;
+        int[] counts = new int[channels];
+        for (long id = 0; id < keys; id++) {
+            DataChangeEvent event =
+                    DataChangeEvent.insertEvent(
+                            TABLE, binaryRecord(SCHEMA, row(id, "name-" + id, "x")));
+            counts[hashFunction.hashcode(event) % channels]++;
+        }
+        for (int count : counts) {
+            assertThat(count).isBetween(keys / channels * 8 / 10, keys / channels * 12 / 10);
+        }
+    }
+
+    private static Object[] row(long id, String name, String comment) {
+        return new Object[] {
+            id,
+            name == null ? null : BinaryStringData.fromString(name),
+            decimal("12345678901234567890.1234", 30, 4),
+            TimestampData.fromMillis(1_700_000_000_000L, 123_000),
+            BinaryStringData.fromString(comment)
+        };
+    }
+
+    private static DecimalData decimal(String value, int precision, int scale) {
+        return DecimalData.fromBigDecimal(new BigDecimal(value), precision, scale);
+    }
+
+    /**
+     * Writes the given fields in the format of {@link BinaryRecordData}. The record starts at a
+     * non-zero offset of its memory segment, so that offsets relative to the record are covered.
+     */
+    private static BinaryRecordData binaryRecord(Schema schema, Object[] fields) {
+        int baseOffset = 16;
+        int nullBitsSizeInBytes = BinaryRecordData.calculateBitSetWidthInBytes(fields.length);
+        MemorySegment segment = MemorySegmentFactory.wrap(new byte[1024]);
+        int cursor = nullBitsSizeInBytes + 8 * fields.length;
+        for (int pos = 0; pos < fields.length; pos++) {
+            int fieldOffset = baseOffset + nullBitsSizeInBytes + pos * 8;
+            Object field = fields[pos];
+            if (field == null) {
+                BinarySegmentUtils.bitSet(
+                        segment, baseOffset, pos + BinaryRecordData.HEADER_SIZE_IN_BITS);
+                continue;
+            }
+            DataType type = schema.getColumns().get(pos).getType();
+            switch (type.getTypeRoot()) {
+                case BOOLEAN:
+                    segment.putBoolean(fieldOffset, (Boolean) field);
+                    break;
+                case TINYINT:
+                    segment.put(fieldOffset, (Byte) field);
+                    break;
+                case SMALLINT:
+                    segment.putShort(fieldOffset, (Short) field);
+                    break;
+                case INTEGER:
+                    segment.putInt(fieldOffset, (Integer) field);
+                    break;
+                case DATE:
+                    segment.putInt(fieldOffset, ((DateData) field).toEpochDay());
+                    break;
+                case TIME_WITHOUT_TIME_ZONE:
+                    segment.putInt(fieldOffset, ((TimeData) field).toMillisOfDay());
+                    break;
+                case BIGINT:
+                    segment.putLong(fieldOffset, (Long) field);
+                    break;
+                case FLOAT:
+                    segment.putFloat(fieldOffset, (Float) field);
+                    break;
+                case DOUBLE:
+                    segment.putDouble(fieldOffset, (Double) field);
+                    break;
+                case DECIMAL:
+                    DecimalData decimal = (DecimalData) field;
+                    if (decimal.isCompact()) {
+                        segment.putLong(fieldOffset, decimal.toUnscaledLong());
+                    } else {
+                        // Non-compact decimals always reserve 16 bytes in the variable-length part
+                        byte[] bytes = decimal.toUnscaledBytes();
+                        segment.put(baseOffset + cursor, bytes);
+                        segment.putLong(fieldOffset, ((long) cursor << 32) | bytes.length);
+                        cursor += 16;
+                    }
+                    break;
+                case CHAR:
+                case VARCHAR:
+                    cursor =
+                            writeBytes(
+                                    segment,
+                                    baseOffset,
+                                    fieldOffset,
+                                    cursor,
+                                    ((BinaryStringData) field).toBytes());
+                    break;
+                case BINARY:
+                case VARBINARY:
+                    cursor = writeBytes(segment, baseOffset, fieldOffset, cursor, (byte[]) field);
+                    break;
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    TimestampData timestamp = (TimestampData) field;
+                    segment.putLong(baseOffset + cursor, timestamp.getMillisecond());
+                    segment.putLong(
+                            fieldOffset,
+                            ((long) cursor << 32) | timestamp.getNanoOfMillisecond());
+                    cursor += 8;
+                    break;
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    LocalZonedTimestampData localZonedTimestamp = (LocalZonedTimestampData) field;
+                    segment.putLong(baseOffset + cursor, localZonedTimestamp.getEpochMillisecond());
+                    segment.putLong(
+                            fieldOffset,
+                            ((long) cursor << 32)
+                                    | localZonedTimestamp.getEpochNanoOfMillisecond());
+                    cursor += 8;
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Unsupported type " + type);
+            }
+        }
+        BinaryRecordData record = new BinaryRecordData(fields.length);
+        record.pointTo(new MemorySegment[] {segment}, baseOffset, cursor);
+        return record;
+    }
+
+    /** Writes variable-length bytes, which are inlined into the field if less than 8 bytes. */
+    private static int writeBytes(
+            MemorySegment segment, int baseOffset, int fieldOffset, int cursor, byte[] bytes) {
+        if (bytes.length < 8) {
+            long sevenBytes = 0L;
+            for (int i = 0; i < bytes.length; i++) {
+                int shift = BinarySegmentUtils.LITTLE_ENDIAN ? i * 8 : (6 - i) * 8;
+                sevenBytes |= (0xFFL & bytes[i]) << shift;
+            }
+            segment.putLong(fieldOffset, ((0x80L | bytes.length) << 56) | sevenBytes);
+            return cursor;
+        }
+        segment.put(baseOffset + cursor, bytes);
+        segment.putLong(fieldOffset, ((long) cursor << 32) | bytes.length);
+        return cursor + (bytes.length + 7) / 8 * 8;
+    }
+
+    /** A {@link RecordData} keeping the field objects, without binary format. */
+    private static class GenericTestRecordData implements RecordData {
+
+        private final Object[] fields;
+
+        private GenericTestRecordData(Object[] fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public int getArity() {
+            return fields.length;
+        }
+
+        @Override
+        public boolean isNullAt(int pos) {
+            return fields[pos] == null;
+        }
+
+        @Override
+        public boolean getBoolean(int pos) {
+            return (Boolean) fields[pos];
+        }
+
+        @Override
+        public byte getByte(int pos) {
+            return (Byte) fields[pos];
+        }
+
+        @Override
+        public short getShort(int pos) {
+            return (Short) fields[pos];
+        }
+
+        @Override
+        public int getInt(int pos) {
+            return (Integer) fields[pos];
+        }
+
+        @Override
+        public long getLong(int pos) {
+            return (Long) fields[pos];
+        }
+
+        @Override
+        public float getFloat(int pos) {
+            return (Float) fields[pos];
+        }
+
+        @Override
+        public double getDouble(int pos) {
+            return (Double) fields[pos];
+        }
+
+        @Override
+        public byte[] getBinary(int pos) {
+            return ((byte[]) fields[pos]).clone();
+        }
+
+        @Override
+        public StringData getString(int pos) {
+            return BinaryStringData.fromString(fields[pos].toString());
+        }
+
+        @Override
+        public DecimalData getDecimal(int pos, int precision, int scale) {
+            return (DecimalData) fields[pos];
+        }
+
+        @Override
+        public TimestampData getTimestamp(int pos, int precision) {
+            return (TimestampData) fields[pos];
+        }
+
+        @Override
+        public ZonedTimestampData getZonedTimestamp(int pos, int precision) {
+            return (ZonedTimestampData) fields[pos];
+        }
+
+        @Override
+        public LocalZonedTimestampData getLocalZonedTimestampData(int pos, int precision) {
+            return (LocalZonedTimestampData) fields[pos];
+        }
+
+        @Override
+        public ArrayData getArray(int pos) {
+            return (ArrayData) fields[pos];
+        }
+
+        @Override
+        public MapData getMap(int pos) {
+            return (MapData) fields[pos];
+        }
+
+        @Override
+        public RecordData getRow(int pos, int numFields) {
+            return (RecordData) fields[pos];
+        }
+
+        @Override
+        public DateData getDate(int pos) {
+            return (DateData) fields[pos];
+        }
+
+        @Override
+        public TimeData getTime(int pos) {
+            return (TimeData) fields[pos];
+        }
+    }
+}
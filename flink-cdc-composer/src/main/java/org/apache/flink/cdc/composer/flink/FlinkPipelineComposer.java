@@ -19,6 +19,7 @@ package org.apache.flink.cdc.composer.flink;
 
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.configuration.ConfigOption;
 import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.pipeline.PipelineOptions;
@@ -100,8 +101,11 @@ public class FlinkPipelineComposer implements PipelineComposer {
     public PipelineExecution compose(PipelineDef pipelineDef) {
         Configuration pipelineDefConfig = pipelineDef.getConfig();
 
-        int parallelism = pipelineDefConfig.get(PipelineOptions.PIPELINE_PARALLELISM);
-        env.getConfig().setParallelism(parallelism);
+        // Operators without an explicit parallelism (e.g. sink writers and committers) belong to
+        // the sink stage
+        int sinkParallelism =
+                getStageParallelism(pipelineDefConfig, PipelineOptions.PIPELINE_SINK_PARALLELISM);
+        env.getConfig().setParallelism(sinkParallelism);
 
         translate(env, pipelineDef);
 
@@ -114,7 +118,13 @@ public class FlinkPipelineComposer implements PipelineComposer {
 
     private void translate(StreamExecutionEnvironment env, PipelineDef pipelineDef) {
         Configuration pipelineDefConfig = pipelineDef.getConfig();
-        int parallelism = pipelineDefConfig.get(PipelineOptions.PIPELINE_PARALLELISM);
+        int sourceParallelism =
+                getStageParallelism(pipelineDefConfig, PipelineOptions.PIPELINE_SOURCE_PARALLELISM);
+        int transformParallelism =
+                getStageParallelism(
+                        pipelineDefConfig, PipelineOptions.PIPELINE_TRANSFORM_PARALLELISM);
+        int sinkParallelism =
+                getStageParallelism(pipelineDefConfig, PipelineOptions.PIPELINE_SINK_PARALLELISM);
         SchemaChangeBehavior schemaChangeBehavior =
                 pipelineDefConfig.get(PipelineOptions.PIPELINE_SCHEMA_CHANGE_BEHAVIOR);
 
@@ -159,7 +169,9 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         schemaChangeBehavior,
                         schemaOperatorUid,
                         pipelineDefConfig.get(PipelineOptions.PIPELINE_SCHEMA_OPERATOR_RPC_TIMEOUT),
-                        pipelineDefConfig.get(PipelineOptions.PIPELINE_LOCAL_TIME_ZONE));
+                        pipelineDefConfig.get(PipelineOptions.PIPELINE_LOCAL_TIME_ZONE),
+                        pipelineDefConfig.get(
+                                PipelineOptions.PIPELINE_SCHEMA_OPERATOR_TABLE_LEVEL_BLOCKING));
         DataSinkTranslator sinkTranslator = new DataSinkTranslator();
 
         // And required constructors
@@ -170,6 +182,21 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 sinkTranslator.createDataSink(pipelineDef.getSink(), pipelineDefConfig, env);
 
         boolean isParallelMetadataSource = dataSource.isParallelMetadataSource();
+        boolean hasTransforms = !pipelineDef.getTransforms().isEmpty();
+        if (isParallelMetadataSource
+                && hasTransforms
+                && transformParallelism != sourceParallelism) {
+            // Each source subtask of a distributed source carries its own view of table schemas,
+            // which must not be mixed up in one transform subtask
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Source %s has parallel metadata, %s must be equal to %s, but got %s and %s.",
+                            pipelineDef.getSource().getType(),
+                            PipelineOptions.PIPELINE_TRANSFORM_PARALLELISM.key(),
+                            PipelineOptions.PIPELINE_SOURCE_PARALLELISM.key(),
+                            transformParallelism,
+                            sourceParallelism));
+        }
 
         // O ---> Source
         DataStream<Event> stream =
@@ -177,8 +204,17 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         pipelineDef.getSource(),
                         dataSource,
                         env,
-                        parallelism,
+                        sourceParallelism,
                         operatorUidGenerator);
+        int upstreamParallelism = sourceParallelism;
+
+        if (hasTransforms) {
+            // Source ---(shuffled by table)---> PreTransform
+            if (transformParallelism != upstreamParallelism) {
+                stream = partitioningTranslator.translateByTableId(stream);
+            }
+            upstreamParallelism = transformParallelism;
+        }
 
         // Source ---> PreTransform
         stream =
@@ -187,7 +223,8 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         pipelineDef.getTransforms(),
                         pipelineDef.getUdfs(),
                         pipelineDef.getModels(),
-                        dataSource.supportedMetadataColumns());
+                        dataSource.supportedMetadataColumns(),
+                        transformParallelism);
 
         // PreTransform ---> PostTransform
         stream =
@@ -198,6 +235,9 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         pipelineDef.getUdfs(),
                         pipelineDef.getModels(),
                         dataSource.supportedMetadataColumns(),
+                        transformParallelism,
+                        pipelineDefConfig.get(
+                                PipelineOptions.PIPELINE_TRANSFORM_UDF_RESULT_CACHE_MAX_SIZE),
                         operatorUidGenerator);
 
         if (isParallelMetadataSource) {
@@ -206,15 +246,17 @@ public class FlinkPipelineComposer implements PipelineComposer {
             DataStream<PartitioningEvent> partitionedStream =
                     partitioningTranslator.translateDistributed(
                             stream,
-                            parallelism,
-                            parallelism,
-                            dataSink.getDataChangeEventHashFunctionProvider(parallelism));
+                            upstreamParallelism,
+                            sinkParallelism,
+                            dataSink.getDataChangeEventHashFunctionProvider(sinkParallelism),
+                            pipelineDefConfig.get(
+                                    PipelineOptions.PIPELINE_PARTITION_UNKEYED_TABLE_STRATEGY));
 
             // Partitioning -> Schema Operator
             stream =
                     schemaOperatorTranslator.translateDistributed(
                             partitionedStream,
-                            parallelism,
+                            sinkParallelism,
                             dataSink.getMetadataApplier()
                                     .setAcceptedSchemaEvolutionTypes(
                                             pipelineDef
@@ -224,11 +266,16 @@ public class FlinkPipelineComposer implements PipelineComposer {
 
         } else {
             // Translate a regular topology for sources without distributed tables
+            // PostTransform ---(shuffled by table)---> Schema Operator
+            if (sinkParallelism != upstreamParallelism) {
+                stream = partitioningTranslator.translateByTableId(stream);
+            }
+
             // PostTransform ---> Schema Operator
             stream =
                     schemaOperatorTranslator.translateRegular(
                             stream,
-                            parallelism,
+                            sinkParallelism,
                             isBatchMode,
                             dataSink.getMetadataApplier()
                                     .setAcceptedSchemaEvolutionTypes(
@@ -241,11 +288,13 @@ public class FlinkPipelineComposer implements PipelineComposer {
             stream =
                     partitioningTranslator.translateRegular(
                             stream,
-                            parallelism,
-                            parallelism,
+                            sinkParallelism,
+                            sinkParallelism,
                             isBatchMode,
                             schemaOperatorIDGenerator.generate(),
-                            dataSink.getDataChangeEventHashFunctionProvider(parallelism),
+                            dataSink.getDataChangeEventHashFunctionProvider(sinkParallelism),
+                            pipelineDefConfig.get(
+                                    PipelineOptions.PIPELINE_PARTITION_UNKEYED_TABLE_STRATEGY),
                             operatorUidGenerator);
         }
 
@@ -259,6 +308,22 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 operatorUidGenerator);
     }
 
+    private static int getStageParallelism(
+            Configuration pipelineDefConfig, ConfigOption<Integer> stageParallelismOption) {
+        ConfigOption<Integer> effectiveOption =
+                pipelineDefConfig.getOptional(stageParallelismOption).isPresent()
+                        ? stageParallelismOption
+                        : PipelineOptions.PIPELINE_PARALLELISM;
+        int parallelism = pipelineDefConfig.get(effectiveOption);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "%s must be positive, but got %s.",
+                            effectiveOption.key(), parallelism));
+        }
+        return parallelism;
+    }
+
     private void addFrameworkJars() {
         try {
             Set<URI> frameworkJars = new HashSet<>();
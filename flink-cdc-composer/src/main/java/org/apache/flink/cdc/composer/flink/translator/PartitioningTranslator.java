@@ -21,6 +21,7 @@ import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.pipeline.UnkeyedTablePartitionStrategy;
 import org.apache.flink.cdc.runtime.partitioning.BatchRegularPrePartitionOperator;
 import org.apache.flink.cdc.runtime.partitioning.DistributedPrePartitionOperator;
 import org.apache.flink.cdc.runtime.partitioning.EventPartitioner;
@@ -28,6 +29,8 @@ import org.apache.flink.cdc.runtime.partitioning.PartitioningEvent;
 import org.apache.flink.cdc.runtime.partitioning.PartitioningEventKeySelector;
 import org.apache.flink.cdc.runtime.partitioning.PostPartitionProcessor;
 import org.apache.flink.cdc.runtime.partitioning.RegularPrePartitionOperator;
+import org.apache.flink.cdc.runtime.partitioning.TableIdKeySelector;
+import org.apache.flink.cdc.runtime.partitioning.TableIdPartitioner;
 import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.cdc.runtime.typeutils.PartitioningEventTypeInfo;
 import org.apache.flink.runtime.jobgraph.OperatorID;
@@ -67,17 +70,40 @@ public class PartitioningTranslator {
             OperatorID schemaOperatorID,
             HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
             OperatorUidGenerator operatorUidGenerator) {
+        return translateRegular(
+                input,
+                upstreamParallelism,
+                downstreamParallelism,
+                isBatchMode,
+                schemaOperatorID,
+                hashFunctionProvider,
+                UnkeyedTablePartitionStrategy.TABLE_ID,
+                operatorUidGenerator);
+    }
+
+    public DataStream<Event> translateRegular(
+            DataStream<Event> input,
+            int upstreamParallelism,
+            int downstreamParallelism,
+            boolean isBatchMode,
+            OperatorID schemaOperatorID,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
+            UnkeyedTablePartitionStrategy unkeyedTableStrategy,
+            OperatorUidGenerator operatorUidGenerator) {
         SingleOutputStreamOperator<Event> singleOutputStreamOperator =
                 input.transform(
                                 isBatchMode ? "BatchPrePartition" : "PrePartition",
                                 new PartitioningEventTypeInfo(),
                                 isBatchMode
                                         ? new BatchRegularPrePartitionOperator(
-                                                downstreamParallelism, hashFunctionProvider)
+                                                downstreamParallelism,
+                                                hashFunctionProvider,
+                                                unkeyedTableStrategy)
                                         : new RegularPrePartitionOperator(
                                                 schemaOperatorID,
                                                 downstreamParallelism,
-                                                hashFunctionProvider))
+                                                hashFunctionProvider,
+                                                unkeyedTableStrategy))
                         .uid(operatorUidGenerator.generateUid("pre-partition"))
                         .setParallelism(upstreamParallelism)
                         .partitionCustom(new EventPartitioner(), new PartitioningEventKeySelector())
@@ -94,12 +120,34 @@ public class PartitioningTranslator {
             int upstreamParallelism,
             int downstreamParallelism,
             HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
+        return translateDistributed(
+                input,
+                upstreamParallelism,
+                downstreamParallelism,
+                hashFunctionProvider,
+                UnkeyedTablePartitionStrategy.TABLE_ID);
+    }
+
+    public DataStream<PartitioningEvent> translateDistributed(
+            DataStream<Event> input,
+            int upstreamParallelism,
+            int downstreamParallelism,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
+            UnkeyedTablePartitionStrategy unkeyedTableStrategy) {
         return input.transform(
                         "Partitioning",
                         new PartitioningEventTypeInfo(),
                         new DistributedPrePartitionOperator(
-                                downstreamParallelism, hashFunctionProvider))
+                                downstreamParallelism, hashFunctionProvider, unkeyedTableStrategy))
                 .setParallelism(upstreamParallelism)
                 .partitionCustom(new EventPartitioner(), new PartitioningEventKeySelector());
     }
+
+    /**
+     * Repartitions events by their table ID, so that a downstream stage running with a different
+     * parallelism still receives all schema and data change events of one table in order.
+     */
+    public DataStream<Event> translateByTableId(DataStream<Event> input) {
+        return input.partitionCustom(new TableIdPartitioner(), new TableIdKeySelector());
+    }
 }
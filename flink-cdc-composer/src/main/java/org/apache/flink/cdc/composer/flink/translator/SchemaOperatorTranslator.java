@@ -43,16 +43,27 @@ public class SchemaOperatorTranslator {
     private final String schemaOperatorUid;
     private final Duration rpcTimeOut;
     private final String timezone;
+    private final boolean tableLevelBlocking;
 
     public SchemaOperatorTranslator(
             SchemaChangeBehavior schemaChangeBehavior,
             String schemaOperatorUid,
             Duration rpcTimeOut,
             String timezone) {
+        this(schemaChangeBehavior, schemaOperatorUid, rpcTimeOut, timezone, false);
+    }
+
+    public SchemaOperatorTranslator(
+            SchemaChangeBehavior schemaChangeBehavior,
+            String schemaOperatorUid,
+            Duration rpcTimeOut,
+            String timezone,
+            boolean tableLevelBlocking) {
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.schemaOperatorUid = schemaOperatorUid;
         this.rpcTimeOut = rpcTimeOut;
         this.timezone = timezone;
+        this.tableLevelBlocking = tableLevelBlocking;
     }
 
     public DataStream<Event> translateRegular(
@@ -120,7 +131,8 @@ public class SchemaOperatorTranslator {
                                 routingRules,
                                 rpcTimeOut,
                                 schemaChangeBehavior,
-                                timezone));
+                                timezone,
+                                tableLevelBlocking));
         stream.uid(schemaOperatorUid).setParallelism(parallelism);
         return stream;
     }
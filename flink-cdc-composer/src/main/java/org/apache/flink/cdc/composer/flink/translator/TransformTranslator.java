@@ -50,14 +50,17 @@ public class TransformTranslator {
             List<TransformDef> transforms,
             List<UdfDef> udfFunctions,
             List<ModelDef> models,
-            SupportedMetadataColumn[] supportedMetadataColumns) {
+            SupportedMetadataColumn[] supportedMetadataColumns,
+            int parallelism) {
         if (transforms.isEmpty()) {
             return input;
         }
         return input.transform(
-                "Transform:Schema",
-                new EventTypeInfo(),
-                generatePreTransform(transforms, udfFunctions, models, supportedMetadataColumns));
+                        "Transform:Schema",
+                        new EventTypeInfo(),
+                        generatePreTransform(
+                                transforms, udfFunctions, models, supportedMetadataColumns))
+                .setParallelism(parallelism);
     }
 
     private PreTransformOperator generatePreTransform(
@@ -97,6 +100,8 @@ public class TransformTranslator {
             List<UdfDef> udfFunctions,
             List<ModelDef> models,
             SupportedMetadataColumn[] supportedMetadataColumns,
+            int parallelism,
+            long udfResultCacheMaxSize,
             OperatorUidGenerator operatorUidGenerator) {
         if (transforms.isEmpty()) {
             return input;
@@ -118,13 +123,15 @@ public class TransformTranslator {
             }
         }
         postTransformFunctionBuilder.addTimezone(timezone);
+        postTransformFunctionBuilder.addUdfResultCacheMaxSize(udfResultCacheMaxSize);
         postTransformFunctionBuilder.addUdfFunctions(
                 udfFunctions.stream().map(this::udfDefToUDFTuple).collect(Collectors.toList()));
         postTransformFunctionBuilder.addUdfFunctions(
                 models.stream().map(this::modelToUDFTuple).collect(Collectors.toList()));
         return input.transform(
                         "Transform:Data", new EventTypeInfo(), postTransformFunctionBuilder.build())
-                .uid(operatorUidGenerator.generateUid("post-transform"));
+                .uid(operatorUidGenerator.generateUid("post-transform"))
+                .setParallelism(parallelism);
     }
 
     private Tuple3<String, String, Map<String, String>> modelToUDFTuple(ModelDef model) {
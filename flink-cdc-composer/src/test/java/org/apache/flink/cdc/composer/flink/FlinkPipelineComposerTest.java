@@ -36,6 +36,7 @@ import org.apache.flink.cdc.connectors.values.factory.ValuesDataFactory;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSource;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceHelper;
 import org.apache.flink.configuration.DeploymentOptions;
+import org.apache.flink.streaming.api.graph.StreamNode;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
 
@@ -45,9 +46,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -188,7 +192,17 @@ class FlinkPipelineComposerTest {
         configuration1.set(PipelineOptions.PIPELINE_OPERATOR_UID_PREFIX, "junit");
         configuration1.set(PipelineOptions.PIPELINE_SCHEMA_OPERATOR_UID, "schema-operator");
 
-        return Stream.of(Arguments.of(configuration1));
+        Configuration configuration2 = new Configuration();
+        configuration2.set(PipelineOptions.PIPELINE_SINK_PARALLELISM, 0);
+
+        Configuration configuration3 = new Configuration();
+        configuration3.set(PipelineOptions.PIPELINE_PARALLELISM, -1);
+        configuration3.set(PipelineOptions.PIPELINE_SINK_PARALLELISM, 1);
+
+        return Stream.of(
+                Arguments.of(configuration1),
+                Arguments.of(configuration2),
+                Arguments.of(configuration3));
     }
 
     @ParameterizedTest
@@ -208,10 +222,44 @@ class FlinkPipelineComposerTest {
         Configuration configuration3 = new Configuration();
         configuration3.set(PipelineOptions.PIPELINE_OPERATOR_UID_PREFIX, "junit");
 
+        Configuration configuration4 = new Configuration();
+        configuration4.set(PipelineOptions.PIPELINE_SOURCE_PARALLELISM, 1);
+        configuration4.set(PipelineOptions.PIPELINE_SINK_PARALLELISM, 2);
+
         return Stream.of(
                 Arguments.of(configuration1),
                 Arguments.of(configuration2),
-                Arguments.of(configuration3));
+                Arguments.of(configuration3),
+                Arguments.of(configuration4));
+    }
+
+    @Test
+    void testStageParallelism() {
+        Configuration pipelineConfig = new Configuration();
+        pipelineConfig.set(PipelineOptions.PIPELINE_PARALLELISM, 4);
+        pipelineConfig.set(PipelineOptions.PIPELINE_SOURCE_PARALLELISM, 1);
+        pipelineConfig.set(PipelineOptions.PIPELINE_SINK_PARALLELISM, 3);
+
+        FlinkPipelineComposer composer = FlinkPipelineComposer.ofMiniCluster();
+        composer.compose(buildPipelineDefinitionFromConfiguration(pipelineConfig));
+
+        Collection<StreamNode> streamNodes = composer.getEnv().getStreamGraph().getStreamNodes();
+        Map<String, Integer> parallelismByOperator =
+                streamNodes.stream()
+                        .collect(
+                                Collectors.toMap(
+                                        StreamNode::getOperatorName,
+                                        StreamNode::getParallelism,
+                                        (first, second) -> first));
+        Assertions.assertThat(parallelismByOperator)
+                .containsEntry("SchemaOperator", 3)
+                .containsEntry("PrePartition", 3)
+                .containsEntry("PostPartition", 3);
+        Assertions.assertThat(
+                        streamNodes.stream()
+                                .filter(node -> node.getInEdges().isEmpty())
+                                .map(StreamNode::getParallelism))
+                .containsOnly(1);
     }
 
     PipelineDef buildPipelineDefinitionFromConfiguration(Configuration pipelineConfig) {
@@ -38,6 +38,7 @@ package org.apache.flink.cdc.connectors.maxcompute.sink;
 
 import org.apache.flink.api.connector.sink2.Sink;
 import org.apache.flink.api.connector.sink2.SinkWriter;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
@@ -59,6 +60,8 @@ import org.apache.flink.cdc.connectors.maxcompute.writer.MaxComputeWriter;
 import org.apache.flink.cdc.runtime.operators.schema.common.CoordinationResponseUtils;
 import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
 import org.apache.flink.util.Preconditions;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
+import org.apache.flink.util.function.FunctionWithException;
 
 import com.aliyun.odps.data.ArrayRecord;
 import org.slf4j.Logger;
@@ -70,6 +73,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 /** a {@link SinkWriter} for {@link Event} for MaxCompute. */
@@ -80,8 +85,15 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
     private final MaxComputeOptions options;
     private final MaxComputeWriteOptions writeOptions;
     private final Map<String, MaxComputeWriter> writerMap;
+    private final Map<TableId, MaxComputeWriter> nonPartitionedWriterMap;
     private final Map<TableId, Schema> schemaCache;
 
+    /**
+     * Flushes sessions concurrently on checkpoint. Bounded by the same thread number as commits in
+     * the coordinator, so that at most that many sessions are uploading at the same time.
+     */
+    private final ExecutorService flushExecutor;
+
     public MaxComputeEventWriter(
             MaxComputeOptions options,
             MaxComputeWriteOptions writeOptions,
@@ -91,32 +103,20 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
         this.writeOptions = writeOptions;
 
         this.writerMap = new HashMap<>();
+        this.nonPartitionedWriterMap = new HashMap<>();
         this.schemaCache = new HashMap<>();
+        this.flushExecutor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, writeOptions.getNumCommitThread()),
+                        new ExecutorThreadFactory(
+                                "maxcompute-session-flusher-" + context.getSubtaskId()));
     }
 
     @Override
     public void write(Event element, Context context) throws IOException {
         if (element instanceof DataChangeEvent) {
             DataChangeEvent dataChangeEvent = (DataChangeEvent) element;
-            String sessionId = dataChangeEvent.meta().get(Constant.TUNNEL_SESSION_ID);
-            String partitionName = dataChangeEvent.meta().get(Constant.MAXCOMPUTE_PARTITION_NAME);
-            if (!writerMap.containsKey(sessionId)) {
-                LOG.info(
-                        "Sink writer {} start to create session {}.",
-                        this.context.getSubtaskId(),
-                        sessionId);
-                SessionIdentifier sessionIdentifier =
-                        SessionIdentifier.of(
-                                options.getProject(),
-                                MaxComputeUtils.getSchema(options, dataChangeEvent.tableId()),
-                                dataChangeEvent.tableId().getTableName(),
-                                partitionName,
-                                sessionId);
-                writerMap.put(
-                        sessionId,
-                        MaxComputeWriter.batchWriter(options, writeOptions, sessionIdentifier));
-            }
-            MaxComputeWriter writer = writerMap.get(sessionId);
+            MaxComputeWriter writer = getOrCreateWriter(dataChangeEvent);
             ArrayRecord record = writer.newElement();
 
             if (dataChangeEvent.op() != OperationType.DELETE) {
@@ -144,6 +144,43 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
         }
     }
 
+    /**
+     * Returns the session writer of the given record. Non-partitioned tables write to a single
+     * session until the next flush, so their writer is looked up by table id without reading the
+     * record metadata; otherwise the session id put by {@link SessionManageOperator} is used, and
+     * the partition name is only read when a new session writer has to be created.
+     */
+    private MaxComputeWriter getOrCreateWriter(DataChangeEvent dataChangeEvent)
+            throws IOException {
+        TableId tableId = dataChangeEvent.tableId();
+        MaxComputeWriter writer = nonPartitionedWriterMap.get(tableId);
+        if (writer != null) {
+            return writer;
+        }
+        String sessionId = dataChangeEvent.meta().get(Constant.TUNNEL_SESSION_ID);
+        writer = writerMap.get(sessionId);
+        if (writer == null) {
+            String partitionName = dataChangeEvent.meta().get(Constant.MAXCOMPUTE_PARTITION_NAME);
+            LOG.info(
+                    "Sink writer {} start to create session {}.",
+                    this.context.getSubtaskId(),
+                    sessionId);
+            SessionIdentifier sessionIdentifier =
+                    SessionIdentifier.of(
+                            options.getProject(),
+                            MaxComputeUtils.getSchema(options, tableId),
+                            tableId.getTableName(),
+                            partitionName,
+                            sessionId);
+            writer = MaxComputeWriter.batchWriter(options, writeOptions, sessionIdentifier);
+            writerMap.put(sessionId, writer);
+            if (partitionName == null) {
+                nonPartitionedWriterMap.put(tableId, writer);
+            }
+        }
+        return writer;
+    }
+
     @Override
     public void flush(boolean endOfInput) throws IOException, InterruptedException {
         SessionManageOperator operator = SessionManageOperator.instance;
@@ -151,23 +188,20 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
                 operator,
                 "SessionManageOperator cannot be null, please setting 'pipeline.operator-chaining' to true to avoid this issue.");
         LOG.info("Sink writer {} start to flush.", context.getSubtaskId());
-        List<Future<CoordinationResponse>> responces = new ArrayList<>(writerMap.size() + 1);
-        writerMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(
-                        entry -> {
-                            try {
-                                entry.getValue().flush();
-                                Future<CoordinationResponse> future =
-                                        operator.submitRequestToOperator(
-                                                new CommitSessionRequest(
-                                                        context.getSubtaskId(), entry.getKey()));
-                                responces.add(future);
-                            } catch (Exception e) {
-                                throw new RuntimeException(e);
-                            }
-                        });
+        List<Map.Entry<String, MaxComputeWriter>> sortedWriters =
+                new ArrayList<>(writerMap.entrySet());
+        sortedWriters.sort(Map.Entry.comparingByKey());
+
+        List<Future<CoordinationResponse>> responces =
+                flushAndRequestCommits(
+                        flushExecutor,
+                        sortedWriters,
+                        sessionId ->
+                                operator.submitRequestToOperator(
+                                        new CommitSessionRequest(
+                                                context.getSubtaskId(), sessionId)));
         writerMap.clear();
+        nonPartitionedWriterMap.clear();
         Future<CoordinationResponse> future =
                 operator.submitRequestToOperator(
                         new CommitSessionRequest(context.getSubtaskId(), Constant.END_OF_SESSION));
@@ -187,8 +221,44 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
         LOG.info("Sink writer {} flush success.", context.getSubtaskId());
     }
 
+    /**
+     * Flushes the given sessions concurrently on the executor. Commit requests are still sent in
+     * the order of the given sessions, each as soon as the corresponding session has been flushed.
+     * If a flush fails, the remaining flushes are cancelled and no more commit is requested.
+     */
+    @VisibleForTesting
+    static List<Future<CoordinationResponse>> flushAndRequestCommits(
+            ExecutorService flushExecutor,
+            List<Map.Entry<String, MaxComputeWriter>> sortedWriters,
+            FunctionWithException<String, Future<CoordinationResponse>, IOException>
+                    commitRequester)
+            throws IOException, InterruptedException {
+        List<Future<?>> flushFutures = new ArrayList<>(sortedWriters.size());
+        for (Map.Entry<String, MaxComputeWriter> entry : sortedWriters) {
+            MaxComputeWriter writer = entry.getValue();
+            flushFutures.add(
+                    flushExecutor.submit(
+                            () -> {
+                                writer.flush();
+                                return null;
+                            }));
+        }
+
+        List<Future<CoordinationResponse>> responces = new ArrayList<>(sortedWriters.size() + 1);
+        try {
+            for (int i = 0; i < sortedWriters.size(); i++) {
+                flushFutures.get(i).get();
+                responces.add(commitRequester.apply(sortedWriters.get(i).getKey()));
+            }
+        } catch (ExecutionException e) {
+            flushFutures.forEach(future -> future.cancel(false));
+            throw new IOException(e.getCause());
+        }
+        return responces;
+    }
+
     @Override
     public void close() throws Exception {
-        // do nothing
+        flushExecutor.shutdownNow();
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.maxcompute.sink;
+
+import org.apache.flink.cdc.connectors.maxcompute.common.SessionIdentifier;
+import org.apache.flink.cdc.connectors.maxcompute.writer.MaxComputeWriter;
+import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
+
+import com.aliyun.odps.data.ArrayRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Unit tests for {@link MaxComputeEventWriter}. */
+class MaxComputeEventWriterTest {
+
+    private ExecutorService flushExecutor;
+    private List<String> events;
+
+    @BeforeEach
+    void setUp() {
+        flushExecutor = Executors.newFixedThreadPool(3);
+        events = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushExecutor.shutdownNow();
+    }
+
+    @Test
+    void testCommitsAreRequestedInSessionOrder() throws Exception {
+        // Later sessions finish flushing first, commits must still follow the session order
+        CountDownLatch flushedLast = new CountDownLatch(1);
+        CountDownLatch flushedMiddle = new CountDownLatch(1);
+        List<Map.Entry<String, MaxComputeWriter>> writers = new ArrayList<>();
+        writers.add(writer("session-1", flushedMiddle, null, null));
+        writers.add(writer("session-2", flushedLast, flushedMiddle, null));
+        writers.add(writer("session-3", null, flushedLast, null));
+
+        List<Future<CoordinationResponse>> responses =
+                MaxComputeEventWriter.flushAndRequestCommits(
+                        flushExecutor, writers, this::requestCommit);
+
+        assertThat(responses).hasSize(3);
+        assertThat(events)
+                .containsSubsequence(
+                        "flush session-3",
+                        "flush session-2",
+                        "flush session-1",
+                        "commit session-1")
+                .containsSubsequence("commit session-1", "commit session-2", "commit session-3")
+                .hasSize(6);
+    }
+
+    @Test
+    void testFailedFlushStopsCommitRequests() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        List<Map.Entry<String, MaxComputeWriter>> writers = new ArrayList<>();
+        writers.add(writer("session-1", null, null, null));
+        writers.add(writer("session-2", null, null, new IOException("Flush failed.")));
+        writers.add(writer("session-3", failed, null, null));
+
+        assertThatThrownBy(
+                        () ->
+                                MaxComputeEventWriter.flushAndRequestCommits(
+                                        flushExecutor, writers, this::requestCommit))
+                .isExactlyInstanceOf(IOException.class)
+                .hasCauseExactlyInstanceOf(IOException.class)
+                .cause()
+                .hasMessage("Flush failed.");
+
+        // Waits for the pending flush so that the recorded events are complete
+        failed.countDown();
+        flushExecutor.shutdown();
+        assertThat(flushExecutor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(events)
+                .contains("commit session-1")
+                .doesNotContain("commit session-2", "commit session-3");
+    }
+
+    private Future<CoordinationResponse> requestCommit(String sessionId) {
+        events.add("commit " + sessionId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Creates a session writer whose flush waits for {@code awaited}, then records itself, counts
+     * down {@code flushed}, and finally throws {@code failure} if given.
+     */
+    private Map.Entry<String, MaxComputeWriter> writer(
+            String sessionId,
+            CountDownLatch awaited,
+            CountDownLatch flushed,
+            IOException failure) {
+        return new AbstractMap.SimpleEntry<>(
+                sessionId,
+                new TestingMaxComputeWriter(sessionId) {
+                    @Override
+                    public void flush() throws IOException {
+                        try {
+                            if (awaited != null) {
+                                awaited.await();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(e);
+                        }
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        events.add("flush " + sessionId);
+                        if (flushed != null) {
+                            flushed.countDown();
+                        }
+                    }
+                });
+    }
+
+    /** A {@link MaxComputeWriter} that does not connect to MaxCompute. */
+    private static class TestingMaxComputeWriter implements MaxComputeWriter {
+
+        private final String sessionId;
+
+        TestingMaxComputeWriter(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public SessionIdentifier getSessionIdentifier() {
+            return SessionIdentifier.of("project", null, "table", null, sessionId);
+        }
+
+        @Override
+        public ArrayRecord newElement() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(ArrayRecord record) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(ArrayRecord record) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void flush() throws IOException {}
+
+        @Override
+        public void commit() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getId() {
+            return sessionId;
+        }
+    }
+}
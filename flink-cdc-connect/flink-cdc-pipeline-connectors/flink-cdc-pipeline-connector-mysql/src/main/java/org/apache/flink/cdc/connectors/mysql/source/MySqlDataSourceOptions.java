@@ -330,4 +330,12 @@ public class MySqlDataSourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in change log reading phase instead of being merged into the snapshot.WARNING: Skipping backfill might lead to data inconsistency because some change log events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed change log events should be handled specially.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED =
+            ConfigOptions.key("scan.incremental.snapshot.backfill.shared.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether snapshot split readers in the same TaskManager share one binlog reader for backfill in snapshot reading phase, instead of each snapshot split reading the binlog between its low and high watermark with its own binlog connection. The shared binlog reader is started when a snapshot split begins and stops once no snapshot split is waiting for backfill. It has no effect if backfill is skipped.");
 }
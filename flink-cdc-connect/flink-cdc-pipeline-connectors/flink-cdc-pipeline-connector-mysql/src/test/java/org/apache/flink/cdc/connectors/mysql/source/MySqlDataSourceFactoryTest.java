@@ -41,6 +41,7 @@ import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOption
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.PASSWORD;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.PORT;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_BINLOG_NEWLY_ADDED_TABLE_ENABLED;
+import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.TABLES;
@@ -262,6 +263,7 @@ class MySqlDataSourceFactoryTest extends MySqlSourceTestBase {
         options.put(TREAT_TINYINT1_AS_BOOLEAN_ENABLED.key(), "false");
         options.put(PARSE_ONLINE_SCHEMA_CHANGES.key(), "true");
         options.put(SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.key(), "true");
+        options.put(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED.key(), "true");
 
         Factory.Context context = new MockContext(Configuration.fromMap(options));
         MySqlDataSourceFactory factory = new MySqlDataSourceFactory();
@@ -269,12 +271,14 @@ class MySqlDataSourceFactoryTest extends MySqlSourceTestBase {
                 .contains(
                         TREAT_TINYINT1_AS_BOOLEAN_ENABLED,
                         PARSE_ONLINE_SCHEMA_CHANGES,
-                        SCAN_BINLOG_NEWLY_ADDED_TABLE_ENABLED);
+                        SCAN_BINLOG_NEWLY_ADDED_TABLE_ENABLED,
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED);
 
         MySqlDataSource dataSource = (MySqlDataSource) factory.createDataSource(context);
         assertThat(dataSource.getSourceConfig().isTreatTinyInt1AsBoolean()).isFalse();
         assertThat(dataSource.getSourceConfig().isParseOnLineSchemaChanges()).isTrue();
         assertThat(dataSource.getSourceConfig().isAssignUnboundedChunkFirst()).isTrue();
+        assertThat(dataSource.getSourceConfig().isSharedSnapshotBackfill()).isTrue();
     }
 
     @Test
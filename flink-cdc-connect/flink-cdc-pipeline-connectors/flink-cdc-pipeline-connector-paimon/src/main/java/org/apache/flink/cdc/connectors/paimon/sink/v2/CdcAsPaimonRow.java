@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.core.memory.MemorySegment;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Blob;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.InternalArray;
+import org.apache.paimon.data.InternalMap;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.variant.Variant;
+import org.apache.paimon.types.RowKind;
+
+/**
+ * Wraps a CDC {@link BinaryRecordData} as a Paimon {@link InternalRow} without copying its fields.
+ *
+ * <p>{@link BinaryRecordData} shares the binary format of Paimon's {@link BinaryRow}, so fields are
+ * read by a {@link BinaryRow} pointing to the memory of the record, e.g. strings are read as {@link
+ * BinaryString}s of the same bytes. Only timestamps are read from the record and converted, as
+ * {@link BinaryRecordData} stores them with nanoseconds regardless of their precision.
+ */
+public class CdcAsPaimonRow implements InternalRow {
+
+    private final BinaryRecordData cdcRecord;
+
+    private final BinaryRow paimonRow;
+
+    /** Types of the fields of the record, used to read timestamps. */
+    private final DataType[] fieldTypes;
+
+    private RowKind rowKind;
+
+    private CdcAsPaimonRow(BinaryRecordData cdcRecord, DataType[] fieldTypes, RowKind rowKind) {
+        this.cdcRecord = cdcRecord;
+        this.fieldTypes = fieldTypes;
+        this.rowKind = rowKind;
+        this.paimonRow = new BinaryRow(cdcRecord.getArity());
+        paimonRow.pointTo(
+                toPaimonSegments(cdcRecord.getSegments()),
+                cdcRecord.getOffset(),
+                cdcRecord.getSizeInBytes());
+    }
+
+    public static CdcAsPaimonRow of(
+            BinaryRecordData cdcRecord, DataType[] fieldTypes, RowKind rowKind) {
+        return new CdcAsPaimonRow(cdcRecord, fieldTypes, rowKind);
+    }
+
+    /** Wraps the heap memory of the segments, and only copies off-heap segments. */
+    private static org.apache.paimon.memory.MemorySegment[] toPaimonSegments(
+            MemorySegment[] segments) {
+        org.apache.paimon.memory.MemorySegment[] paimonSegments =
+                new org.apache.paimon.memory.MemorySegment[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            MemorySegment segment = segments[i];
+            byte[] bytes;
+            if (segment.isOffHeap()) {
+                bytes = new byte[segment.size()];
+                segment.get(0, bytes);
+            } else {
+                bytes = segment.getArray();
+            }
+            paimonSegments[i] = org.apache.paimon.memory.MemorySegment.wrap(bytes);
+        }
+        return paimonSegments;
+    }
+
+    @Override
+    public int getFieldCount() {
+        return paimonRow.getFieldCount();
+    }
+
+    @Override
+    public RowKind getRowKind() {
+        return rowKind;
+    }
+
+    @Override
+    public void setRowKind(RowKind rowKind) {
+        this.rowKind = rowKind;
+    }
+
+    @Override
+    public boolean isNullAt(int pos) {
+        return paimonRow.isNullAt(pos);
+    }
+
+    @Override
+    public boolean getBoolean(int pos) {
+        return paimonRow.getBoolean(pos);
+    }
+
+    @Override
+    public byte getByte(int pos) {
+        return paimonRow.getByte(pos);
+    }
+
+    @Override
+    public short getShort(int pos) {
+        return paimonRow.getShort(pos);
+    }
+
+    @Override
+    public int getInt(int pos) {
+        return paimonRow.getInt(pos);
+    }
+
+    @Override
+    public long getLong(int pos) {
+        return paimonRow.getLong(pos);
+    }
+
+    @Override
+    public float getFloat(int pos) {
+        return paimonRow.getFloat(pos);
+    }
+
+    @Override
+    public double getDouble(int pos) {
+        return paimonRow.getDouble(pos);
+    }
+
+    @Override
+    public BinaryString getString(int pos) {
+        return paimonRow.getString(pos);
+    }
+
+    @Override
+    public Decimal getDecimal(int pos, int precision, int scale) {
+        return paimonRow.getDecimal(pos, precision, scale);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int pos, int precision) {
+        switch (fieldTypes[pos].getTypeRoot()) {
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+            case TIMESTAMP_WITH_TIME_ZONE:
+                LocalZonedTimestampData localZonedTimestamp =
+                        cdcRecord.getLocalZonedTimestampData(pos, precision);
+                return Timestamp.fromEpochMillis(
+                        localZonedTimestamp.getEpochMillisecond(),
+                        localZonedTimestamp.getEpochNanoOfMillisecond());
+            default:
+                TimestampData timestamp = cdcRecord.getTimestamp(pos, precision);
+                return Timestamp.fromEpochMillis(
+                        timestamp.getMillisecond(), timestamp.getNanoOfMillisecond());
+        }
+    }
+
+    @Override
+    public byte[] getBinary(int pos) {
+        return paimonRow.getBinary(pos);
+    }
+
+    @Override
+    public Variant getVariant(int pos) {
+        return paimonRow.getVariant(pos);
+    }
+
+    @Override
+    public Blob getBlob(int pos) {
+        return paimonRow.getBlob(pos);
+    }
+
+    @Override
+    public InternalArray getArray(int pos) {
+        return paimonRow.getArray(pos);
+    }
+
+    @Override
+    public InternalMap getMap(int pos) {
+        return paimonRow.getMap(pos);
+    }
+
+    @Override
+    public InternalRow getRow(int pos, int numFields) {
+        return paimonRow.getRow(pos, numFields);
+    }
+}
@@ -18,7 +18,7 @@
 package org.apache.flink.cdc.connectors.paimon.sink.v2;
 
 import org.apache.paimon.catalog.Identifier;
-import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
 
 import java.util.List;
 
@@ -29,32 +29,31 @@ public class PaimonEvent {
     Identifier tableId;
 
     // The actual records to be written to Paimon table, contains full changelog(before/after).
-    List<GenericRow> genericRows;
+    List<InternalRow> rows;
 
-    // if true, means that table schema has changed right before this genericRow.
+    // if true, means that table schema has changed right before these rows.
     boolean shouldRefreshSchema;
     int bucket;
 
-    public PaimonEvent(Identifier tableId, List<GenericRow> genericRows) {
+    public PaimonEvent(Identifier tableId, List<InternalRow> rows) {
         this.tableId = tableId;
-        this.genericRows = genericRows;
+        this.rows = rows;
         this.shouldRefreshSchema = false;
     }
 
-    public PaimonEvent(
-            Identifier tableId, List<GenericRow> genericRows, boolean shouldRefreshSchema) {
+    public PaimonEvent(Identifier tableId, List<InternalRow> rows, boolean shouldRefreshSchema) {
         this.tableId = tableId;
-        this.genericRows = genericRows;
+        this.rows = rows;
         this.shouldRefreshSchema = shouldRefreshSchema;
     }
 
     public PaimonEvent(
             Identifier tableId,
-            List<GenericRow> genericRows,
+            List<InternalRow> rows,
             boolean shouldRefreshSchema,
             int bucket) {
         this.tableId = tableId;
-        this.genericRows = genericRows;
+        this.rows = rows;
         this.shouldRefreshSchema = shouldRefreshSchema;
         this.bucket = bucket;
     }
@@ -75,12 +74,12 @@ public class PaimonEvent {
         this.shouldRefreshSchema = shouldRefreshSchema;
     }
 
-    public List<GenericRow> getGenericRows() {
-        return genericRows;
+    public List<InternalRow> getRows() {
+        return rows;
     }
 
-    public void setGenericRows(List<GenericRow> genericRows) {
-        this.genericRows = genericRows;
+    public void setRows(List<InternalRow> rows) {
+        this.rows = rows;
     }
 
     public int getBucket() {
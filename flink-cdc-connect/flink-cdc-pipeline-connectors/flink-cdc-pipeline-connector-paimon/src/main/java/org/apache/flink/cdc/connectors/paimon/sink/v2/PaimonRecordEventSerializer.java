@@ -28,7 +28,7 @@ import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.bucket.BucketWrapperChangeEvent;
 
 import org.apache.paimon.catalog.Identifier;
-import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
 
 import java.time.ZoneId;
 import java.util.HashMap;
@@ -81,12 +81,9 @@ public class PaimonRecordEventSerializer implements PaimonRecordSerializer<Event
         } else if (event instanceof DataChangeEvent) {
             DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
             TableSchemaInfo schemaInfo = schemaMaps.get(dataChangeEvent.tableId());
-            List<GenericRow> genericRows =
-                    PaimonWriterHelper.convertEventToFullGenericRows(
-                            dataChangeEvent,
-                            schemaInfo.getFieldGetters(),
-                            schemaInfo.hasPrimaryKey());
-            return new PaimonEvent(tableId, genericRows, false, bucket);
+            List<InternalRow> rows =
+                    PaimonWriterHelper.convertEventToFullRows(dataChangeEvent, schemaInfo);
+            return new PaimonEvent(tableId, rows, false, bucket);
         } else {
             throw new IllegalArgumentException(
                     "failed to convert Input into PaimonEvent, unsupported event: " + event);
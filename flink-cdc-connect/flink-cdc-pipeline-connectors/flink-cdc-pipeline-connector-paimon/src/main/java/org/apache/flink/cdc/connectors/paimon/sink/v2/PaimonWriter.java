@@ -29,7 +29,7 @@ import org.apache.flink.streaming.api.operators.StreamOperator;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
-import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.flink.FlinkCatalogFactory;
 import org.apache.paimon.flink.sink.MultiTableCommittable;
 import org.apache.paimon.flink.sink.StoreSinkWrite;
@@ -151,7 +151,7 @@ public class PaimonWriter<InputT>
                 throw new RuntimeException(e);
             }
         }
-        if (paimonEvent.getGenericRows() != null) {
+        if (paimonEvent.getRows() != null) {
             FileStoreTable table;
             table = getTable(tableId);
             if (memoryPoolFactory == null) {
@@ -189,8 +189,8 @@ public class PaimonWriter<InputT>
                                 return storeSinkWrite;
                             });
             try {
-                for (GenericRow genericRow : paimonEvent.getGenericRows()) {
-                    write.write(genericRow, paimonEvent.getBucket());
+                for (InternalRow row : paimonEvent.getRows()) {
+                    write.write(row, paimonEvent.getBucket());
                 }
             } catch (Exception e) {
                 throw new IOException(e);
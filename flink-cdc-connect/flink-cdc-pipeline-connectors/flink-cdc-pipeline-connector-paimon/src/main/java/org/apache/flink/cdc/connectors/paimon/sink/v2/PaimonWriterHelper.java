@@ -220,48 +220,49 @@ public class PaimonWriterHelper {
         return genericRow;
     }
 
-    /** create full {@link GenericRow}s from a {@link DataChangeEvent} for {@link PaimonWriter}. */
-    public static List<GenericRow> convertEventToFullGenericRows(
-            DataChangeEvent dataChangeEvent,
-            List<RecordData.FieldGetter> fieldGetters,
-            boolean hasPrimaryKey) {
-        List<GenericRow> fullGenericRows = new ArrayList<>();
+    /**
+     * create full {@link InternalRow}s from a {@link DataChangeEvent} for {@link PaimonWriter}.
+     * {@link BinaryRecordData}s are wrapped as {@link CdcAsPaimonRow}s without copying fields.
+     */
+    public static List<InternalRow> convertEventToFullRows(
+            DataChangeEvent dataChangeEvent, TableSchemaInfo schemaInfo) {
+        List<InternalRow> fullRows = new ArrayList<>();
         switch (dataChangeEvent.op()) {
             case INSERT:
                 {
-                    fullGenericRows.add(
-                            convertRecordDataToGenericRow(
-                                    dataChangeEvent.after(), fieldGetters, RowKind.INSERT));
+                    fullRows.add(
+                            convertRecordDataToRow(
+                                    dataChangeEvent.after(), schemaInfo, RowKind.INSERT));
                     break;
                 }
             case UPDATE:
             case REPLACE:
                 {
-                    if (hasPrimaryKey) {
-                        fullGenericRows.add(
-                                convertRecordDataToGenericRow(
+                    if (schemaInfo.hasPrimaryKey()) {
+                        fullRows.add(
+                                convertRecordDataToRow(
                                         dataChangeEvent.before(),
-                                        fieldGetters,
+                                        schemaInfo,
                                         RowKind.UPDATE_BEFORE));
                     }
-                    fullGenericRows.add(
-                            convertRecordDataToGenericRow(
-                                    dataChangeEvent.after(), fieldGetters, RowKind.UPDATE_AFTER));
+                    fullRows.add(
+                            convertRecordDataToRow(
+                                    dataChangeEvent.after(), schemaInfo, RowKind.UPDATE_AFTER));
                     break;
                 }
             case DELETE:
                 {
-                    if (hasPrimaryKey) {
-                        fullGenericRows.add(
-                                convertRecordDataToGenericRow(
-                                        dataChangeEvent.before(), fieldGetters, RowKind.DELETE));
+                    if (schemaInfo.hasPrimaryKey()) {
+                        fullRows.add(
+                                convertRecordDataToRow(
+                                        dataChangeEvent.before(), schemaInfo, RowKind.DELETE));
                     }
                     break;
                 }
             default:
                 throw new IllegalArgumentException("don't support type of " + dataChangeEvent.op());
         }
-        return fullGenericRows;
+        return fullRows;
     }
 
     /**
@@ -290,6 +291,15 @@ public class PaimonWriterHelper {
         return builder.build();
     }
 
+    private static InternalRow convertRecordDataToRow(
+            RecordData recordData, TableSchemaInfo schemaInfo, RowKind rowKind) {
+        if (recordData instanceof BinaryRecordData) {
+            return CdcAsPaimonRow.of(
+                    (BinaryRecordData) recordData, schemaInfo.getFieldTypes(), rowKind);
+        }
+        return convertRecordDataToGenericRow(recordData, schemaInfo.getFieldGetters(), rowKind);
+    }
+
     private static GenericRow convertRecordDataToGenericRow(
             RecordData recordData, List<RecordData.FieldGetter> fieldGetters, RowKind rowKind) {
         GenericRow genericRow = new GenericRow(rowKind, recordData.getArity());
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.paimon.sink.v2;
 
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
 
 import java.time.ZoneId;
 import java.util.List;
@@ -30,11 +31,14 @@ public class TableSchemaInfo {
 
     private final List<RecordData.FieldGetter> fieldGetters;
 
+    private final DataType[] fieldTypes;
+
     private final boolean hasPrimaryKey;
 
     public TableSchemaInfo(Schema schema, ZoneId zoneId) {
         this.schema = schema;
         this.fieldGetters = PaimonWriterHelper.createFieldGetters(schema, zoneId);
+        this.fieldTypes = schema.getColumnDataTypes().toArray(new DataType[0]);
         this.hasPrimaryKey = !schema.primaryKeys().isEmpty();
     }
 
@@ -46,6 +50,10 @@ public class TableSchemaInfo {
         return fieldGetters;
     }
 
+    public DataType[] getFieldTypes() {
+        return fieldTypes;
+    }
+
     public boolean hasPrimaryKey() {
         return hasPrimaryKey;
     }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimeData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.types.RowKind;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+/** Tests for {@link CdcAsPaimonRow}. */
+class CdcAsPaimonRowTest {
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("boolean", DataTypes.BOOLEAN())
+                    .physicalColumn("bytes", DataTypes.BYTES())
+                    .physicalColumn("tinyint", DataTypes.TINYINT())
+                    .physicalColumn("smallint", DataTypes.SMALLINT())
+                    .physicalColumn("bigint", DataTypes.BIGINT())
+                    .physicalColumn("float", DataTypes.FLOAT())
+                    .physicalColumn("double", DataTypes.DOUBLE())
+                    .physicalColumn("compact_decimal", DataTypes.DECIMAL(6, 3))
+                    .physicalColumn("decimal", DataTypes.DECIMAL(25, 5))
+                    .physicalColumn("short_string", DataTypes.STRING())
+                    .physicalColumn("long_string", DataTypes.VARCHAR(100))
+                    .physicalColumn("date", DataTypes.DATE())
+                    .physicalColumn("time", DataTypes.TIME())
+                    .physicalColumn("timestamp", DataTypes.TIMESTAMP(3))
+                    .physicalColumn("precise_timestamp", DataTypes.TIMESTAMP(9))
+                    .physicalColumn("timestamp_ltz", DataTypes.TIMESTAMP_LTZ(3))
+                    .physicalColumn("null_string", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final BinaryRecordData RECORD =
+            new BinaryRecordDataGenerator((RowType) SCHEMA.toRowDataType())
+                    .generate(
+                            new Object[] {
+                                1,
+                                true,
+                                new byte[] {1, 2, 3},
+                                (byte) 4,
+                                (short) 5,
+                                6L,
+                                7.1f,
+                                8.2,
+                                DecimalData.fromBigDecimal(new BigDecimal("9.123"), 6, 3),
+                                DecimalData.fromBigDecimal(
+                                        new BigDecimal("12345678901234567890.12345"), 25, 5),
+                                BinaryStringData.fromString("short"),
+                                BinaryStringData.fromString("a string longer than seven bytes"),
+                                DateData.fromEpochDay(100),
+                                TimeData.fromMillisOfDay(200),
+                                TimestampData.fromTimestamp(
+                                        java.sql.Timestamp.valueOf("2023-01-01 00:00:00.123")),
+                                TimestampData.fromTimestamp(
+                                        java.sql.Timestamp.valueOf(
+                                                "2023-01-01 00:00:00.123456789")),
+                                LocalZonedTimestampData.fromInstant(
+                                        Instant.parse("2023-01-01T00:00:00.123Z")),
+                                null
+                            });
+
+    @Test
+    void testReadFieldsAsGenericRow() {
+        TableSchemaInfo schemaInfo = new TableSchemaInfo(SCHEMA, ZoneId.of("UTC+8"));
+        GenericRow genericRow =
+                PaimonWriterHelper.convertEventToGenericRow(
+                        DataChangeEvent.insertEvent(TableId.parse("database.table"), RECORD),
+                        schemaInfo.getFieldGetters());
+        InternalRow row =
+                CdcAsPaimonRow.of(RECORD, schemaInfo.getFieldTypes(), RowKind.INSERT);
+
+        Assertions.assertThat(row.getFieldCount()).isEqualTo(genericRow.getFieldCount());
+        Assertions.assertThat(row.getRowKind()).isEqualTo(RowKind.INSERT);
+        Assertions.assertThat(row.getInt(0)).isEqualTo(genericRow.getInt(0));
+        Assertions.assertThat(row.getBoolean(1)).isEqualTo(genericRow.getBoolean(1));
+        Assertions.assertThat(row.getBinary(2)).isEqualTo(genericRow.getBinary(2));
+        Assertions.assertThat(row.getByte(3)).isEqualTo(genericRow.getByte(3));
+        Assertions.assertThat(row.getShort(4)).isEqualTo(genericRow.getShort(4));
+        Assertions.assertThat(row.getLong(5)).isEqualTo(genericRow.getLong(5));
+        Assertions.assertThat(row.getFloat(6)).isEqualTo(genericRow.getFloat(6));
+        Assertions.assertThat(row.getDouble(7)).isEqualTo(genericRow.getDouble(7));
+        Assertions.assertThat(row.getDecimal(8, 6, 3)).isEqualTo(genericRow.getDecimal(8, 6, 3));
+        Assertions.assertThat(row.getDecimal(9, 25, 5))
+                .isEqualTo(genericRow.getDecimal(9, 25, 5));
+        Assertions.assertThat(row.getString(10)).isEqualTo(genericRow.getString(10));
+        Assertions.assertThat(row.getString(11)).isEqualTo(genericRow.getString(11));
+        Assertions.assertThat(row.getInt(12)).isEqualTo(genericRow.getInt(12));
+        Assertions.assertThat(row.getInt(13)).isEqualTo(genericRow.getInt(13));
+        Assertions.assertThat(row.getTimestamp(14, 3))
+                .isEqualTo(genericRow.getTimestamp(14, 3));
+        Assertions.assertThat(row.getTimestamp(15, 9))
+                .isEqualTo(genericRow.getTimestamp(15, 9));
+        Assertions.assertThat(row.getTimestamp(16, 3))
+                .isEqualTo(genericRow.getTimestamp(16, 3));
+        for (int i = 0; i < row.getFieldCount(); i++) {
+            Assertions.assertThat(row.isNullAt(i)).isEqualTo(genericRow.isNullAt(i));
+        }
+    }
+
+    @Test
+    void testConvertEventToFullRows() {
+        TableSchemaInfo schemaInfo = new TableSchemaInfo(SCHEMA, ZoneId.systemDefault());
+        TableId tableId = TableId.parse("database.table");
+
+        List<InternalRow> rows =
+                PaimonWriterHelper.convertEventToFullRows(
+                        DataChangeEvent.updateEvent(tableId, RECORD, RECORD), schemaInfo);
+        Assertions.assertThat(rows).hasSize(2).allMatch(row -> row instanceof CdcAsPaimonRow);
+        Assertions.assertThat(rows.get(0).getRowKind()).isEqualTo(RowKind.UPDATE_BEFORE);
+        Assertions.assertThat(rows.get(1).getRowKind()).isEqualTo(RowKind.UPDATE_AFTER);
+
+        rows =
+                PaimonWriterHelper.convertEventToFullRows(
+                        DataChangeEvent.deleteEvent(tableId, RECORD), schemaInfo);
+        Assertions.assertThat(rows).hasSize(1);
+        Assertions.assertThat(rows.get(0).getRowKind()).isEqualTo(RowKind.DELETE);
+        Assertions.assertThat(rows.get(0).getString(11).toString())
+                .isEqualTo("a string longer than seven bytes");
+    }
+}
@@ -69,9 +69,12 @@ import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSource
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
+import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CTID_CHUNKING_ENABLED;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_LSN_COMMIT_CHECKPOINTS_DELAY;
+import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_REPLICATION_SLOT_PARTITIONS;
+import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_SNAPSHOT_COPY_BINARY_ENABLED;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SCAN_STARTUP_MODE;
 import static org.apache.flink.cdc.connectors.postgres.source.PostgresDataSourceOptions.SERVER_TIME_ZONE;
@@ -129,12 +132,16 @@ public class PostgresDataSourceFactory implements DataSourceFactory {
         int connectionPoolSize = config.get(CONNECTION_POOL_SIZE);
         boolean skipSnapshotBackfill = config.get(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
         int lsnCommitCheckpointsDelay = config.get(SCAN_LSN_COMMIT_CHECKPOINTS_DELAY);
+        boolean snapshotCopyBinaryEnabled = config.get(SCAN_SNAPSHOT_COPY_BINARY_ENABLED);
+        boolean ctidChunkingEnabled = config.get(SCAN_INCREMENTAL_SNAPSHOT_CTID_CHUNKING_ENABLED);
+        int replicationSlotPartitions = config.get(SCAN_REPLICATION_SLOT_PARTITIONS);
 
         validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE, splitSize, 1);
         validateIntegerOption(CHUNK_META_GROUP_SIZE, splitMetaGroupSize, 1);
         validateIntegerOption(SCAN_SNAPSHOT_FETCH_SIZE, fetchSize, 1);
         validateIntegerOption(CONNECTION_POOL_SIZE, connectionPoolSize, 1);
         validateIntegerOption(CONNECT_MAX_RETRIES, connectMaxRetries, 0);
+        validateIntegerOption(SCAN_REPLICATION_SLOT_PARTITIONS, replicationSlotPartitions, 1);
         validateDistributionFactorUpper(distributionFactorUpper);
         validateDistributionFactorLower(distributionFactorLower);
 
@@ -169,6 +176,9 @@ public class PostgresDataSourceFactory implements DataSourceFactory {
                         .skipSnapshotBackfill(skipSnapshotBackfill)
                         .lsnCommitCheckpointsDelay(lsnCommitCheckpointsDelay)
                         .assignUnboundedChunkFirst(isAssignUnboundedChunkFirst)
+                        .snapshotCopyBinaryEnabled(snapshotCopyBinaryEnabled)
+                        .ctidChunkingEnabled(ctidChunkingEnabled)
+                        .replicationSlotPartitions(replicationSlotPartitions)
                         .getConfigFactory();
 
         List<TableId> tableIds = PostgresSchemaUtils.listTables(configFactory.create(0), null);
@@ -257,6 +267,9 @@ public class PostgresDataSourceFactory implements DataSourceFactory {
         options.add(SCAN_LSN_COMMIT_CHECKPOINTS_DELAY);
         options.add(METADATA_LIST);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED);
+        options.add(SCAN_SNAPSHOT_COPY_BINARY_ENABLED);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CTID_CHUNKING_ENABLED);
+        options.add(SCAN_REPLICATION_SLOT_PARTITIONS);
         return options;
     }
 
@@ -264,4 +264,39 @@ public class PostgresDataSourceOptions {
                             .defaultValue(false)
                             .withDescription(
                                     "Whether to assign the unbounded chunks first during snapshot reading phase. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when taking a snapshot of the largest unbounded chunk.  Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_SNAPSHOT_COPY_BINARY_ENABLED =
+            ConfigOptions.key("scan.snapshot.copy-binary.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read snapshot splits with COPY (SELECT ...) TO STDOUT (FORMAT binary) instead of a JDBC query, "
+                                    + "which avoids the text encoding and parsing of every value. Tables containing column types "
+                                    + "which can not be decoded from the binary format, or split keys which can not be inlined as literals, "
+                                    + "are still read by a JDBC query. Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_CTID_CHUNKING_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.ctid-chunking.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split tables without usable split key into chunks of ctid block ranges. "
+                                    + "A table has no usable split key if it has neither a primary key nor the configured chunk key column, "
+                                    + "or if its split key is not a numeric column, e.g. UUID keys. The chunk boundaries are computed from "
+                                    + "pg_relation_size, so the chunks are evenly sized and read sequentially without index scans. "
+                                    + "This requires 'scan.incremental.snapshot.backfill.skip' to be true. Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_REPLICATION_SLOT_PARTITIONS =
+            ConfigOptions.key("scan.replication-slot.partitions")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of replication slots the stream phase is partitioned into for stream-only startup modes. "
+                                    + "The captured tables are distributed to the partitions, and each partition is read by a separate "
+                                    + "stream split from the slot '<slot.name>_p<partition>' through the publication '<publication.name>_p<partition>', "
+                                    + "so the decoding and reading of changes scale with the source parallelism. "
+                                    + "Tables created after the partitioning are not captured. Defaults to 1.");
 }
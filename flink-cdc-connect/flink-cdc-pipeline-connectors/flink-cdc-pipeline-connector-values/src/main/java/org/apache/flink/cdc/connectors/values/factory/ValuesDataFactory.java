@@ -33,6 +33,7 @@ import org.apache.flink.cdc.connectors.values.sink.ValuesDataSinkOptions;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSource;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceHelper;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceOptions;
+import org.apache.flink.cdc.connectors.values.source.ValuesGeneratorConfig;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -52,7 +53,29 @@ public class ValuesDataFactory implements DataSourceFactory, DataSinkFactory {
         int failAtPos =
                 context.getFactoryConfiguration()
                         .get(ValuesDataSourceOptions.FAILURE_INJECTION_INDEX);
-        return new ValuesDataSource(eventType, failAtPos);
+        ValuesGeneratorConfig generatorConfig = null;
+        if (eventType == ValuesDataSourceHelper.EventSetId.SYNTHETIC_GENERATOR) {
+            generatorConfig = createGeneratorConfig(context.getFactoryConfiguration());
+        }
+        return new ValuesDataSource(eventType, failAtPos, generatorConfig);
+    }
+
+    private ValuesGeneratorConfig createGeneratorConfig(Configuration config) {
+        return ValuesGeneratorConfig.newBuilder()
+                .tableCount(config.get(ValuesDataSourceOptions.GENERATOR_TABLE_COUNT))
+                .splitCount(config.get(ValuesDataSourceOptions.GENERATOR_SPLIT_COUNT))
+                .columnCount(config.get(ValuesDataSourceOptions.GENERATOR_COLUMN_COUNT))
+                .columnTypes(config.get(ValuesDataSourceOptions.GENERATOR_COLUMN_TYPES))
+                .stringLength(config.get(ValuesDataSourceOptions.GENERATOR_STRING_LENGTH))
+                .updateRatio(config.get(ValuesDataSourceOptions.GENERATOR_UPDATE_RATIO))
+                .deleteRatio(config.get(ValuesDataSourceOptions.GENERATOR_DELETE_RATIO))
+                .keySkew(config.get(ValuesDataSourceOptions.GENERATOR_KEY_SKEW))
+                .maxLiveKeys(config.get(ValuesDataSourceOptions.GENERATOR_MAX_LIVE_KEYS))
+                .schemaChangeInterval(
+                        config.get(ValuesDataSourceOptions.GENERATOR_SCHEMA_CHANGE_INTERVAL))
+                .eventsPerSecond(config.get(ValuesDataSourceOptions.GENERATOR_EVENTS_PER_SECOND))
+                .numberOfEvents(config.get(ValuesDataSourceOptions.GENERATOR_NUMBER_OF_EVENTS))
+                .build();
     }
 
     private void verifyRuntimeMode(Context context) {
@@ -109,6 +132,18 @@ public class ValuesDataFactory implements DataSourceFactory, DataSinkFactory {
         options.add(ValuesDataSourceOptions.EVENT_SET_ID);
         options.add(ValuesDataSourceOptions.FAILURE_INJECTION_INDEX);
         options.add(ValuesDataSourceOptions.BATCH_MODE_ENABLED);
+        options.add(ValuesDataSourceOptions.GENERATOR_TABLE_COUNT);
+        options.add(ValuesDataSourceOptions.GENERATOR_SPLIT_COUNT);
+        options.add(ValuesDataSourceOptions.GENERATOR_COLUMN_COUNT);
+        options.add(ValuesDataSourceOptions.GENERATOR_COLUMN_TYPES);
+        options.add(ValuesDataSourceOptions.GENERATOR_STRING_LENGTH);
+        options.add(ValuesDataSourceOptions.GENERATOR_UPDATE_RATIO);
+        options.add(ValuesDataSourceOptions.GENERATOR_DELETE_RATIO);
+        options.add(ValuesDataSourceOptions.GENERATOR_KEY_SKEW);
+        options.add(ValuesDataSourceOptions.GENERATOR_MAX_LIVE_KEYS);
+        options.add(ValuesDataSourceOptions.GENERATOR_SCHEMA_CHANGE_INTERVAL);
+        options.add(ValuesDataSourceOptions.GENERATOR_EVENTS_PER_SECOND);
+        options.add(ValuesDataSourceOptions.GENERATOR_NUMBER_OF_EVENTS);
         options.add(ValuesDataSinkOptions.MATERIALIZED_IN_MEMORY);
         options.add(ValuesDataSinkOptions.PRINT_ENABLED);
         options.add(ValuesDataSinkOptions.SINK_API);
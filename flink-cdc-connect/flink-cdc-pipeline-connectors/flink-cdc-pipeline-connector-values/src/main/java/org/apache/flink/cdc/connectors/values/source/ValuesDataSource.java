@@ -42,6 +42,8 @@ import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.apache.flink.table.api.TableException;
 
+import javax.annotation.Nullable;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -60,18 +62,35 @@ public class ValuesDataSource implements DataSource {
     /** index for {@link EventIteratorReader} to fail when reading. */
     private final int failAtPos;
 
+    /** configurations of {@link ValuesGeneratorSource}, only used in the generator mode. */
+    @Nullable private final ValuesGeneratorConfig generatorConfig;
+
     public ValuesDataSource(ValuesDataSourceHelper.EventSetId eventSetId) {
-        this.eventSetId = eventSetId;
-        this.failAtPos = Integer.MAX_VALUE;
+        this(eventSetId, Integer.MAX_VALUE);
     }
 
     public ValuesDataSource(ValuesDataSourceHelper.EventSetId eventSetId, int failAtPos) {
+        this(eventSetId, failAtPos, null);
+    }
+
+    public ValuesDataSource(
+            ValuesDataSourceHelper.EventSetId eventSetId,
+            int failAtPos,
+            @Nullable ValuesGeneratorConfig generatorConfig) {
         this.eventSetId = eventSetId;
         this.failAtPos = failAtPos;
+        this.generatorConfig = generatorConfig;
     }
 
     @Override
     public EventSourceProvider getEventSourceProvider() {
+        if (eventSetId == ValuesDataSourceHelper.EventSetId.SYNTHETIC_GENERATOR) {
+            return FlinkSourceProvider.of(
+                    new ValuesGeneratorSource(
+                            generatorConfig != null
+                                    ? generatorConfig
+                                    : ValuesGeneratorConfig.newBuilder().build()));
+        }
         ValuesDataSourceHelper.setSourceEvents(eventSetId);
         return FlinkSourceProvider.of(new ValuesSource(failAtPos, eventSetId, false));
     }
@@ -61,7 +61,8 @@ public class ValuesDataSourceHelper {
         SINGLE_SPLIT_SINGLE_BATCH_TABLE,
         SINGLE_SPLIT_MULTI_BATCH_TABLE,
         MULTI_SPLITS_SINGLE_BATCH_TABLE,
-        TRANSFORM_BATCH_TABLE;
+        TRANSFORM_BATCH_TABLE,
+        SYNTHETIC_GENERATOR;
 
         public boolean isBatchEvent() {
             switch (this) {
@@ -132,6 +133,7 @@ public class ValuesDataSourceHelper {
                     break;
                 }
             case CUSTOM_SOURCE_EVENTS:
+            case SYNTHETIC_GENERATOR:
                 {
                     break;
                 }
@@ -22,6 +22,8 @@ import org.apache.flink.cdc.common.configuration.ConfigOptions;
 import org.apache.flink.cdc.common.configuration.description.Description;
 import org.apache.flink.cdc.common.configuration.description.ListElement;
 
+import java.util.List;
+
 import static org.apache.flink.cdc.common.configuration.description.TextElement.text;
 
 /** Configurations for {@link ValuesDataSource}. */
@@ -47,7 +49,9 @@ public class ValuesDataSourceOptions {
                                                     text(
                                                             "MULTI_SPLITS_SINGLE_TABLE: A predetermined case. Creating schema changes of single table and put them into multiple splits."),
                                                     text(
-                                                            "CUSTOM_SOURCE_EVENTS: Passed change events by the user through calling `setSourceEvents` method.")))
+                                                            "CUSTOM_SOURCE_EVENTS: Passed change events by the user through calling `setSourceEvents` method."),
+                                                    text(
+                                                            "SYNTHETIC_GENERATOR: Continuously generating change events of synthetic tables in parallel splits, configured by `generator.*` options.")))
                                     .build());
 
     public static final ConfigOption<Integer> FAILURE_INJECTION_INDEX =
@@ -62,4 +66,106 @@ public class ValuesDataSourceOptions {
                     .booleanType()
                     .defaultValue(false)
                     .withDescription("Provide bounded data in batch mode.");
+
+    public static final ConfigOption<Integer> GENERATOR_TABLE_COUNT =
+            ConfigOptions.key("generator.table-count")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription("Number of tables generated in SYNTHETIC_GENERATOR mode.");
+
+    public static final ConfigOption<Integer> GENERATOR_SPLIT_COUNT =
+            ConfigOptions.key("generator.split-count")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Number of splits generating events in parallel in SYNTHETIC_GENERATOR mode. "
+                                    + "Falls back to the source parallelism if not set. Tables are distributed to splits "
+                                    + "round-robin, and a table is shared by several splits with disjoint keys if there "
+                                    + "are more splits than tables. In unbounded mode, it should not exceed the source "
+                                    + "parallelism, as each subtask keeps reading its first split.");
+
+    public static final ConfigOption<Integer> GENERATOR_COLUMN_COUNT =
+            ConfigOptions.key("generator.column-count")
+                    .intType()
+                    .defaultValue(8)
+                    .withDescription(
+                            "Number of columns of each generated table, including the BIGINT primary key column.");
+
+    public static final ConfigOption<List<ValuesGeneratorConfig.ColumnType>>
+            GENERATOR_COLUMN_TYPES =
+                    ConfigOptions.key("generator.column-types")
+                            .enumType(ValuesGeneratorConfig.ColumnType.class)
+                            .asList()
+                            .defaultValues(
+                                    ValuesGeneratorConfig.ColumnType.BIGINT,
+                                    ValuesGeneratorConfig.ColumnType.STRING,
+                                    ValuesGeneratorConfig.ColumnType.DOUBLE,
+                                    ValuesGeneratorConfig.ColumnType.DECIMAL,
+                                    ValuesGeneratorConfig.ColumnType.TIMESTAMP)
+                            .withDescription(
+                                    "Types of the non-key columns of generated tables, used in a round-robin manner. "
+                                            + "Supported types are INT, BIGINT, DOUBLE, DECIMAL, BOOLEAN, STRING and TIMESTAMP.");
+
+    public static final ConfigOption<Integer> GENERATOR_STRING_LENGTH =
+            ConfigOptions.key("generator.string-length")
+                    .intType()
+                    .defaultValue(32)
+                    .withDescription("Length of generated values of STRING columns.");
+
+    public static final ConfigOption<Double> GENERATOR_UPDATE_RATIO =
+            ConfigOptions.key("generator.update-ratio")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "Ratio of update events among generated data change events, between 0 and 1.");
+
+    public static final ConfigOption<Double> GENERATOR_DELETE_RATIO =
+            ConfigOptions.key("generator.delete-ratio")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "Ratio of delete events among generated data change events, between 0 and 1. "
+                                    + "The rest of data change events are inserts.");
+
+    public static final ConfigOption<Double> GENERATOR_KEY_SKEW =
+            ConfigOptions.key("generator.key-skew")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "Skew of keys picked by update and delete events. 0 picks keys uniformly from "
+                                    + "inserted and not yet deleted keys, higher values concentrate changes on fewer hot keys.");
+
+    public static final ConfigOption<Integer> GENERATOR_MAX_LIVE_KEYS =
+            ConfigOptions.key("generator.max-live-keys")
+                    .intType()
+                    .defaultValue(100_000)
+                    .withDescription(
+                            "Max number of inserted and not yet deleted keys of a table that a split keeps "
+                                    + "as before images of updates and deletes. Once it is reached, inserts of "
+                                    + "the table are replaced by deletes, which keeps the state of the source bounded.");
+
+    public static final ConfigOption<Long> GENERATOR_SCHEMA_CHANGE_INTERVAL =
+            ConfigOptions.key("generator.schema-change.interval")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Number of events of a table after which a column is added to it. "
+                                    + "Set it to 0 to disable schema changes. Requires that each table is written "
+                                    + "by a single split, i.e. the split count does not exceed the table count.");
+
+    public static final ConfigOption<Long> GENERATOR_EVENTS_PER_SECOND =
+            ConfigOptions.key("generator.events-per-second")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Target rate of data change events of all splits in total. "
+                                    + "Set it to 0 to generate events as fast as possible.");
+
+    public static final ConfigOption<Long> GENERATOR_NUMBER_OF_EVENTS =
+            ConfigOptions.key("generator.number-of-events")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Total number of data change events to generate. "
+                                    + "The source is unbounded if not set.");
 }
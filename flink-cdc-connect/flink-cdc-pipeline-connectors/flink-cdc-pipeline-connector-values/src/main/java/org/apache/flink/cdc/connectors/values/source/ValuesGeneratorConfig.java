@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.utils.Preconditions.checkArgument;
+
+/**
+ * Configurations of the {@link ValuesDataSourceHelper.EventSetId#SYNTHETIC_GENERATOR} mode, see
+ * {@link ValuesGeneratorSource}.
+ */
+@Internal
+public class ValuesGeneratorConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Types of non-key columns of generated tables. */
+    public enum ColumnType {
+        INT(DataTypes.INT()),
+        BIGINT(DataTypes.BIGINT()),
+        DOUBLE(DataTypes.DOUBLE()),
+        DECIMAL(DataTypes.DECIMAL(18, 4)),
+        BOOLEAN(DataTypes.BOOLEAN()),
+        STRING(DataTypes.STRING()),
+        TIMESTAMP(DataTypes.TIMESTAMP(3));
+
+        private final DataType dataType;
+
+        ColumnType(DataType dataType) {
+            this.dataType = dataType;
+        }
+
+        public DataType getDataType() {
+            return dataType;
+        }
+    }
+
+    private final int tableCount;
+    @Nullable private final Integer splitCount;
+    private final int columnCount;
+    private final List<ColumnType> columnTypes;
+    private final int stringLength;
+    private final double updateRatio;
+    private final double deleteRatio;
+    private final double keySkew;
+    private final int maxLiveKeys;
+    private final long schemaChangeInterval;
+    private final long eventsPerSecond;
+    @Nullable private final Long numberOfEvents;
+
+    private ValuesGeneratorConfig(Builder builder) {
+        this.tableCount = builder.tableCount;
+        this.splitCount = builder.splitCount;
+        this.columnCount = builder.columnCount;
+        this.columnTypes = builder.columnTypes;
+        this.stringLength = builder.stringLength;
+        this.updateRatio = builder.updateRatio;
+        this.deleteRatio = builder.deleteRatio;
+        this.keySkew = builder.keySkew;
+        this.maxLiveKeys = builder.maxLiveKeys;
+        this.schemaChangeInterval = builder.schemaChangeInterval;
+        this.eventsPerSecond = builder.eventsPerSecond;
+        this.numberOfEvents = builder.numberOfEvents;
+    }
+
+    public int getTableCount() {
+        return tableCount;
+    }
+
+    /**
+     * Returns the configured number of splits. Falls back to the given parallelism if not
+     * configured, but not more than the table count if schema changes are enabled.
+     */
+    public int getSplitCount(int parallelism) {
+        if (splitCount != null) {
+            return splitCount;
+        }
+        int fallback = Math.max(1, parallelism);
+        return schemaChangeInterval > 0 ? Math.min(fallback, tableCount) : fallback;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public List<ColumnType> getColumnTypes() {
+        return columnTypes;
+    }
+
+    public int getStringLength() {
+        return stringLength;
+    }
+
+    public double getUpdateRatio() {
+        return updateRatio;
+    }
+
+    public double getDeleteRatio() {
+        return deleteRatio;
+    }
+
+    public double getKeySkew() {
+        return keySkew;
+    }
+
+    /** Returns the max number of inserted and not yet deleted keys of a table in a split. */
+    public int getMaxLiveKeys() {
+        return maxLiveKeys;
+    }
+
+    public long getSchemaChangeInterval() {
+        return schemaChangeInterval;
+    }
+
+    public long getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    public boolean isBounded() {
+        return numberOfEvents != null;
+    }
+
+    /** Returns the number of data change events to generate in total, if bounded. */
+    public long getNumberOfEvents() {
+        return numberOfEvents != null ? numberOfEvents : Long.MAX_VALUE;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /** Builder for {@link ValuesGeneratorConfig}. */
+    public static class Builder {
+        private int tableCount = 1;
+        @Nullable private Integer splitCount;
+        private int columnCount = 8;
+        private List<ColumnType> columnTypes = new ArrayList<>();
+        private int stringLength = 32;
+        private double updateRatio;
+        private double deleteRatio;
+        private double keySkew;
+        private int maxLiveKeys = 100_000;
+        private long schemaChangeInterval;
+        private long eventsPerSecond;
+        @Nullable private Long numberOfEvents;
+
+        public Builder tableCount(int tableCount) {
+            this.tableCount = tableCount;
+            return this;
+        }
+
+        public Builder splitCount(@Nullable Integer splitCount) {
+            this.splitCount = splitCount;
+            return this;
+        }
+
+        public Builder columnCount(int columnCount) {
+            this.columnCount = columnCount;
+            return this;
+        }
+
+        public Builder columnTypes(List<ColumnType> columnTypes) {
+            this.columnTypes = new ArrayList<>(columnTypes);
+            return this;
+        }
+
+        public Builder stringLength(int stringLength) {
+            this.stringLength = stringLength;
+            return this;
+        }
+
+        public Builder updateRatio(double updateRatio) {
+            this.updateRatio = updateRatio;
+            return this;
+        }
+
+        public Builder deleteRatio(double deleteRatio) {
+            this.deleteRatio = deleteRatio;
+            return this;
+        }
+
+        public Builder keySkew(double keySkew) {
+            this.keySkew = keySkew;
+            return this;
+        }
+
+        public Builder maxLiveKeys(int maxLiveKeys) {
+            this.maxLiveKeys = maxLiveKeys;
+            return this;
+        }
+
+        public Builder schemaChangeInterval(long schemaChangeInterval) {
+            this.schemaChangeInterval = schemaChangeInterval;
+            return this;
+        }
+
+        public Builder eventsPerSecond(long eventsPerSecond) {
+            this.eventsPerSecond = eventsPerSecond;
+            return this;
+        }
+
+        public Builder numberOfEvents(@Nullable Long numberOfEvents) {
+            this.numberOfEvents = numberOfEvents;
+            return this;
+        }
+
+        public ValuesGeneratorConfig build() {
+            checkArgument(tableCount > 0, "Table count must be positive, but is %s.", tableCount);
+            checkArgument(
+                    splitCount == null || splitCount > 0,
+                    "Split count must be positive, but is %s.",
+                    splitCount);
+            checkArgument(
+                    columnCount > 0, "Column count must be positive, but is %s.", columnCount);
+            checkArgument(
+                    columnCount == 1 || !columnTypes.isEmpty(),
+                    "Column types must not be empty if there are non-key columns.");
+            checkArgument(
+                    stringLength >= 0, "String length must not be negative, but is %s.", stringLength);
+            checkArgument(
+                    updateRatio >= 0 && deleteRatio >= 0 && updateRatio + deleteRatio <= 1,
+                    "Update ratio and delete ratio must not be negative and must not exceed 1 in total, but are %s and %s.",
+                    updateRatio,
+                    deleteRatio);
+            checkArgument(keySkew >= 0, "Key skew must not be negative, but is %s.", keySkew);
+            checkArgument(
+                    maxLiveKeys > 0, "Max live keys must be positive, but is %s.", maxLiveKeys);
+            checkArgument(
+                    schemaChangeInterval >= 0,
+                    "Schema change interval must not be negative, but is %s.",
+                    schemaChangeInterval);
+            checkArgument(
+                    schemaChangeInterval == 0 || splitCount == null || splitCount <= tableCount,
+                    "Schema changes require each table to be written by a single split, "
+                            + "but split count %s exceeds table count %s.",
+                    splitCount,
+                    tableCount);
+            checkArgument(
+                    eventsPerSecond >= 0,
+                    "Events per second must not be negative, but is %s.",
+                    eventsPerSecond);
+            checkArgument(
+                    numberOfEvents == null || numberOfEvents >= 0,
+                    "Number of events must not be negative, but is %s.",
+                    numberOfEvents);
+            return new ValuesGeneratorConfig(this);
+        }
+    }
+}
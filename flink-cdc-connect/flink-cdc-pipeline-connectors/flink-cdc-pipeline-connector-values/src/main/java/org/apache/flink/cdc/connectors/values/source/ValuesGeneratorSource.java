@@ -0,0 +1,746 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.connector.source.lib.util.IteratorSourceEnumerator;
+import org.apache.flink.api.connector.source.lib.util.IteratorSourceReader;
+import org.apache.flink.api.connector.source.lib.util.IteratorSourceSplit;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.table.api.TableException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * A flink {@link Source} generating synthetic change events for load tests, see {@link
+ * ValuesGeneratorConfig} for the available knobs.
+ *
+ * <p>Each split emits a {@link CreateTableEvent} for every table it writes, followed by data change
+ * events of these tables in a round-robin manner. Tables are distributed to splits round-robin. If
+ * there are more splits than tables, a table is shared by several splits, which write disjoint
+ * keys. The progress of every split is kept in the split itself, so that no key is inserted twice
+ * after restoring from a checkpoint. Updates and deletes only pick keys that are still present, and
+ * carry the last written row as before image; the present keys are therefore part of the split
+ * state. Their number is bounded by {@link ValuesGeneratorConfig#getMaxLiveKeys()} per table, as
+ * inserts are replaced by deletes once it is reached.
+ */
+@Internal
+public class ValuesGeneratorSource
+        implements Source<
+                Event,
+                ValuesGeneratorSource.GeneratorSplit,
+                Collection<ValuesGeneratorSource.GeneratorSplit>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String NAMESPACE = "default_namespace";
+    private static final String SCHEMA_NAME = "default_schema";
+
+    private final ValuesGeneratorConfig config;
+
+    public ValuesGeneratorSource(ValuesGeneratorConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return config.isBounded() ? Boundedness.BOUNDED : Boundedness.CONTINUOUS_UNBOUNDED;
+    }
+
+    @Override
+    public SplitEnumerator<GeneratorSplit, Collection<GeneratorSplit>> createEnumerator(
+            SplitEnumeratorContext<GeneratorSplit> enumContext) {
+        int splitCount = config.getSplitCount(enumContext.currentParallelism());
+        List<GeneratorSplit> splits = new ArrayList<>(splitCount);
+        for (int i = 0; i < splitCount; i++) {
+            GeneratorSplit split = GeneratorSplit.initial(config, i, splitCount);
+            if (split.ownedTables.length > 0) {
+                splits.add(split);
+            }
+        }
+        return new IteratorSourceEnumerator<>(enumContext, splits);
+    }
+
+    @Override
+    public SplitEnumerator<GeneratorSplit, Collection<GeneratorSplit>> restoreEnumerator(
+            SplitEnumeratorContext<GeneratorSplit> enumContext,
+            Collection<GeneratorSplit> checkpoint) {
+        return new IteratorSourceEnumerator<>(enumContext, checkpoint);
+    }
+
+    @Override
+    public SourceReader<Event, GeneratorSplit> createReader(SourceReaderContext readerContext) {
+        return new IteratorSourceReader<>(readerContext);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<GeneratorSplit> getSplitSerializer() {
+        return new GeneratorSplitSerializer(config);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<Collection<GeneratorSplit>>
+            getEnumeratorCheckpointSerializer() {
+        return new GeneratorEnumeratorSerializer(config);
+    }
+
+    /** Returns the id of the generated table with the given index. */
+    public static TableId tableId(int tableIndex) {
+        return TableId.tableId(NAMESPACE, SCHEMA_NAME, "generated_table_" + tableIndex);
+    }
+
+    /** Returns the schema of a generated table, after the given number of added columns. */
+    @VisibleForTesting
+    static Schema schemaOf(ValuesGeneratorConfig config, int addedColumns) {
+        Schema.Builder builder =
+                Schema.newBuilder().physicalColumn("id", DataTypes.BIGINT().notNull());
+        for (int i = 1; i < config.getColumnCount(); i++) {
+            builder.physicalColumn("col_" + i, columnType(config, i));
+        }
+        for (int i = 1; i <= addedColumns; i++) {
+            builder.physicalColumn(addedColumnName(i), DataTypes.STRING());
+        }
+        return builder.primaryKey("id").build();
+    }
+
+    private static DataType columnType(ValuesGeneratorConfig config, int column) {
+        List<ValuesGeneratorConfig.ColumnType> columnTypes = config.getColumnTypes();
+        return columnTypes.get((column - 1) % columnTypes.size()).getDataType();
+    }
+
+    private static String addedColumnName(int index) {
+        return "extra_col_" + index;
+    }
+
+    // ------------------------------------------------------------------------
+    //  Splits
+    // ------------------------------------------------------------------------
+
+    /** A split generating events of the tables owned by it. */
+    public static class GeneratorSplit implements IteratorSourceSplit<Event, GeneratorIterator> {
+
+        private final ValuesGeneratorConfig config;
+        private final int splitId;
+        private final int splitCount;
+
+        /** Indices of the tables written by this split. */
+        private final int[] ownedTables;
+
+        /** Number of data change events emitted by this split. */
+        private final long emittedEvents;
+
+        /** Number of owned tables whose {@link CreateTableEvent} has been emitted. */
+        private final int createdTables;
+
+        // Per owned table: data change events, inserted keys, present keys and added columns
+        private final long[] changeCounts;
+        private final long[] insertedCounts;
+        private final LiveKeys[] liveKeys;
+        private final int[] addedColumns;
+
+        private GeneratorSplit(
+                ValuesGeneratorConfig config,
+                int splitId,
+                int splitCount,
+                long emittedEvents,
+                int createdTables,
+                long[] changeCounts,
+                long[] insertedCounts,
+                LiveKeys[] liveKeys,
+                int[] addedColumns) {
+            this.config = config;
+            this.splitId = splitId;
+            this.splitCount = splitCount;
+            this.ownedTables = ownedTables(splitId, splitCount, config.getTableCount());
+            this.emittedEvents = emittedEvents;
+            this.createdTables = createdTables;
+            this.changeCounts = changeCounts;
+            this.insertedCounts = insertedCounts;
+            this.liveKeys = liveKeys;
+            this.addedColumns = addedColumns;
+        }
+
+        static GeneratorSplit initial(ValuesGeneratorConfig config, int splitId, int splitCount) {
+            int tables = ownedTables(splitId, splitCount, config.getTableCount()).length;
+            LiveKeys[] liveKeys = new LiveKeys[tables];
+            for (int i = 0; i < tables; i++) {
+                liveKeys[i] = new LiveKeys();
+            }
+            return new GeneratorSplit(
+                    config,
+                    splitId,
+                    splitCount,
+                    0,
+                    0,
+                    new long[tables],
+                    new long[tables],
+                    liveKeys,
+                    new int[tables]);
+        }
+
+        private static int[] ownedTables(int splitId, int splitCount, int tableCount) {
+            if (splitCount > tableCount) {
+                return new int[] {splitId % tableCount};
+            }
+            int[] tables = new int[(tableCount - splitId + splitCount - 1) / splitCount];
+            for (int i = 0; i < tables.length; i++) {
+                tables[i] = splitId + i * splitCount;
+            }
+            return tables;
+        }
+
+        /** Number of data change events this split generates in total. */
+        private long eventLimit() {
+            long total = config.getNumberOfEvents();
+            if (!config.isBounded()) {
+                return total;
+            }
+            return total / splitCount + (splitId < total % splitCount ? 1 : 0);
+        }
+
+        @Override
+        public GeneratorIterator getIterator() {
+            return new GeneratorIterator(this);
+        }
+
+        @Override
+        public IteratorSourceSplit<Event, GeneratorIterator> getUpdatedSplitForIterator(
+                GeneratorIterator iterator) {
+            return iterator.toSplit();
+        }
+
+        @Override
+        public String splitId() {
+            return "generator_split_" + splitId;
+        }
+    }
+
+    /** Iterator generating the events of a {@link GeneratorSplit}, and tracking its progress. */
+    public static class GeneratorIterator implements Iterator<Event> {
+
+        private static final int STRING_POOL_SIZE = 256;
+        private static final long TIMESTAMP_BASE = 1_700_000_000_000L;
+        private static final long MILLIS_PER_YEAR = 365L * 24 * 60 * 60 * 1000;
+        private static final long DECIMAL_BOUND = 100_000_000_000_000_000L;
+
+        private final GeneratorSplit split;
+        private final ValuesGeneratorConfig config;
+        private final long eventLimit;
+        private final long keyStride;
+        private final long keyOffset;
+
+        private long emittedEvents;
+        private int createdTables;
+        private final long[] changeCounts;
+        private final long[] insertedCounts;
+        private final LiveKeys[] liveKeys;
+        private final int[] addedColumns;
+
+        /** Types of the initial columns, added columns are always of STRING type. */
+        private final DataType[] columnTypes;
+
+        private final BinaryRecordDataGenerator[] generators;
+        private final BinaryStringData[] stringPool;
+        private final SplittableRandom random;
+
+        private final double nanosPerEvent;
+        private final long startNanos;
+        private long eventsSinceStart;
+
+        private GeneratorIterator(GeneratorSplit split) {
+            this.split = split;
+            this.config = split.config;
+            this.eventLimit = split.eventLimit();
+            int tableCount = config.getTableCount();
+            if (split.splitCount > tableCount) {
+                int table = split.splitId % tableCount;
+                this.keyStride = (split.splitCount - table + tableCount - 1) / tableCount;
+                this.keyOffset = split.splitId / tableCount;
+            } else {
+                this.keyStride = 1;
+                this.keyOffset = 0;
+            }
+            this.emittedEvents = split.emittedEvents;
+            this.createdTables = split.createdTables;
+            this.changeCounts = split.changeCounts.clone();
+            this.insertedCounts = split.insertedCounts.clone();
+            this.liveKeys = new LiveKeys[split.liveKeys.length];
+            for (int i = 0; i < liveKeys.length; i++) {
+                liveKeys[i] = split.liveKeys[i].copy();
+            }
+            this.addedColumns = split.addedColumns.clone();
+            this.columnTypes =
+                    schemaOf(config, 0).getColumnDataTypes().toArray(new DataType[0]);
+            this.generators = new BinaryRecordDataGenerator[split.ownedTables.length];
+            this.stringPool = createStringPool(split.splitId, config.getStringLength());
+            this.random = new SplittableRandom(mix(((long) split.splitId << 40) ^ emittedEvents));
+            this.nanosPerEvent =
+                    config.getEventsPerSecond() > 0
+                            ? 1_000_000_000.0 * split.splitCount / config.getEventsPerSecond()
+                            : 0;
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public boolean hasNext() {
+            int tables = split.ownedTables.length;
+            return tables > 0 && (createdTables < tables || emittedEvents < eventLimit);
+        }
+
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (createdTables < split.ownedTables.length) {
+                int local = createdTables++;
+                return new CreateTableEvent(
+                        tableId(split.ownedTables[local]), schemaOf(config, addedColumns[local]));
+            }
+
+            int local = (int) (emittedEvents % split.ownedTables.length);
+            TableId tableId = tableId(split.ownedTables[local]);
+            long interval = config.getSchemaChangeInterval();
+            if (interval > 0 && addedColumns[local] < changeCounts[local] / interval) {
+                int index = ++addedColumns[local];
+                generators[local] = null;
+                return new AddColumnEvent(
+                        tableId,
+                        Collections.singletonList(
+                                AddColumnEvent.last(
+                                        Column.physicalColumn(
+                                                addedColumnName(index), DataTypes.STRING()))));
+            }
+
+            throttle();
+            emittedEvents++;
+            long version = ++changeCounts[local];
+            LiveKeys keys = liveKeys[local];
+            double op = random.nextDouble();
+            boolean insert =
+                    keys.size() == 0 || op >= config.getUpdateRatio() + config.getDeleteRatio();
+            if (insert && keys.size() < config.getMaxLiveKeys()) {
+                long key = insertedCounts[local]++ * keyStride + keyOffset;
+                keys.add(key, version);
+                return DataChangeEvent.insertEvent(tableId, record(local, key, version));
+            }
+            int index = pickKey(keys.size());
+            long key = keys.key(index);
+            BinaryRecordData before = record(local, key, keys.version(index));
+            if (!insert && op < config.getUpdateRatio()) {
+                keys.setVersion(index, version);
+                return DataChangeEvent.updateEvent(tableId, before, record(local, key, version));
+            }
+            keys.remove(index);
+            return DataChangeEvent.deleteEvent(tableId, before);
+        }
+
+        /**
+         * Picks the index of one of the present keys, the higher the skew the more likely the
+         * oldest keys.
+         */
+        private int pickKey(int size) {
+            double u = random.nextDouble();
+            double skew = config.getKeySkew();
+            int index = (int) (size * (skew == 0 ? u : Math.pow(u, 1 + skew)));
+            return Math.min(index, size - 1);
+        }
+
+        private BinaryRecordData record(int local, long key, long version) {
+            if (generators[local] == null) {
+                generators[local] =
+                        new BinaryRecordDataGenerator(
+                                schemaOf(config, addedColumns[local])
+                                        .getColumnDataTypes()
+                                        .toArray(new DataType[0]));
+            }
+            Object[] fields = new Object[columnTypes.length + addedColumns[local]];
+            fields[0] = key;
+            for (int i = 1; i < fields.length; i++) {
+                long hash = mix(key * 31 + i + (version << 20));
+                fields[i] =
+                        i < columnTypes.length
+                                ? valueOf(columnTypes[i], hash)
+                                : stringPool[(int) ((hash >>> 1) % STRING_POOL_SIZE)];
+            }
+            return generators[local].generate(fields);
+        }
+
+        private Object valueOf(DataType type, long hash) {
+            switch (type.getTypeRoot()) {
+                case INTEGER:
+                    return (int) hash;
+                case BIGINT:
+                    return hash;
+                case DOUBLE:
+                    return (hash >>> 11) * 0x1.0p-53 * 1_000_000;
+                case DECIMAL:
+                    return DecimalData.fromUnscaledLong(hash % DECIMAL_BOUND, 18, 4);
+                case BOOLEAN:
+                    return (hash & 1) == 0;
+                case VARCHAR:
+                    return stringPool[(int) ((hash >>> 1) % STRING_POOL_SIZE)];
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    return TimestampData.fromMillis(
+                            TIMESTAMP_BASE + (hash >>> 1) % MILLIS_PER_YEAR);
+                default:
+                    throw new IllegalArgumentException("Unsupported generated type " + type);
+            }
+        }
+
+        private void throttle() {
+            if (nanosPerEvent <= 0) {
+                return;
+            }
+            long expected = startNanos + (long) (eventsSinceStart++ * nanosPerEvent);
+            long waitMillis = (expected - System.nanoTime()) / 1_000_000;
+            if (waitMillis > 0) {
+                try {
+                    Thread.sleep(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private GeneratorSplit toSplit() {
+            return new GeneratorSplit(
+                    config,
+                    split.splitId,
+                    split.splitCount,
+                    emittedEvents,
+                    createdTables,
+                    changeCounts.clone(),
+                    insertedCounts.clone(),
+                    Arrays.stream(liveKeys).map(LiveKeys::copy).toArray(LiveKeys[]::new),
+                    addedColumns.clone());
+        }
+
+        private static BinaryStringData[] createStringPool(int seed, int length) {
+            SplittableRandom random = new SplittableRandom(seed);
+            BinaryStringData[] pool = new BinaryStringData[STRING_POOL_SIZE];
+            char[] chars = new char[length];
+            for (int i = 0; i < STRING_POOL_SIZE; i++) {
+                for (int j = 0; j < length; j++) {
+                    chars[j] = (char) ('a' + random.nextInt(26));
+                }
+                pool[i] = BinaryStringData.fromString(new String(chars));
+            }
+            return pool;
+        }
+
+        /** The finalizer of SplitMix64, spreading bits of the given value. */
+        private static long mix(long value) {
+            value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+            value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return value ^ (value >>> 33);
+        }
+    }
+
+    /**
+     * The keys of a table that have been inserted and not deleted yet, together with the version
+     * of their last written row. Keys are kept in insertion order, except that a removed key is
+     * replaced by the last one, so that removal takes constant time.
+     *
+     * <p>Entries are stored in fixed-size chunks, which are shared by {@link #copy()} and only
+     * copied once they are modified. Taking a copy for a checkpoint therefore does not copy the
+     * keys themselves.
+     */
+    @VisibleForTesting
+    static class LiveKeys {
+
+        private static final int CHUNK_SHIFT = 12;
+        private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+        private long[][] keys;
+        private long[][] versions;
+
+        /** Whether a chunk may be referenced by a copy, and must be copied before modification. */
+        private boolean[] shared;
+
+        private int size;
+
+        LiveKeys() {
+            this(new long[1][], new long[1][], new boolean[1], 0);
+        }
+
+        private LiveKeys(long[][] keys, long[][] versions, boolean[] shared, int size) {
+            this.keys = keys;
+            this.versions = versions;
+            this.shared = shared;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long key(int index) {
+            return keys[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        long version(int index) {
+            return versions[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        void setVersion(int index, long version) {
+            int chunk = ownChunk(index >>> CHUNK_SHIFT);
+            versions[chunk][index & CHUNK_MASK] = version;
+        }
+
+        void add(long key, long version) {
+            int chunk = size >>> CHUNK_SHIFT;
+            if (chunk == keys.length) {
+                int capacity = keys.length * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                versions = Arrays.copyOf(versions, capacity);
+                shared = Arrays.copyOf(shared, capacity);
+            }
+            if (keys[chunk] == null) {
+                keys[chunk] = new long[CHUNK_SIZE];
+                versions[chunk] = new long[CHUNK_SIZE];
+                shared[chunk] = false;
+            } else {
+                ownChunk(chunk);
+            }
+            keys[chunk][size & CHUNK_MASK] = key;
+            versions[chunk][size & CHUNK_MASK] = version;
+            size++;
+        }
+
+        void remove(int index) {
+            size--;
+            if (index != size) {
+                int chunk = ownChunk(index >>> CHUNK_SHIFT);
+                keys[chunk][index & CHUNK_MASK] = key(size);
+                versions[chunk][index & CHUNK_MASK] = version(size);
+            }
+            if ((size & CHUNK_MASK) == 0) {
+                // release the chunk which has become empty
+                int chunk = size >>> CHUNK_SHIFT;
+                keys[chunk] = null;
+                versions[chunk] = null;
+                shared[chunk] = false;
+            }
+        }
+
+        /** Returns a copy sharing the chunks with this instance, until either one modifies them. */
+        LiveKeys copy() {
+            Arrays.fill(shared, true);
+            return new LiveKeys(keys.clone(), versions.clone(), shared.clone(), size);
+        }
+
+        /** Copies the given chunk if it is shared, so that it can be modified. */
+        private int ownChunk(int chunk) {
+            if (shared[chunk]) {
+                keys[chunk] = keys[chunk].clone();
+                versions[chunk] = versions[chunk].clone();
+                shared[chunk] = false;
+            }
+            return chunk;
+        }
+
+        private void serialize(DataOutputViewStreamWrapper view) throws IOException {
+            view.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                view.writeLong(key(i));
+                view.writeLong(version(i));
+            }
+        }
+
+        private static LiveKeys deserialize(DataInputViewStreamWrapper view) throws IOException {
+            int size = view.readInt();
+            LiveKeys liveKeys = new LiveKeys();
+            for (int i = 0; i < size; i++) {
+                liveKeys.add(view.readLong(), view.readLong());
+            }
+            return liveKeys;
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    //  Serializers
+    // ------------------------------------------------------------------------
+
+    private static void serializeSplit(DataOutputViewStreamWrapper view, GeneratorSplit split)
+            throws IOException {
+        view.writeInt(split.splitId);
+        view.writeInt(split.splitCount);
+        view.writeLong(split.emittedEvents);
+        view.writeInt(split.createdTables);
+        view.writeInt(split.ownedTables.length);
+        for (int i = 0; i < split.ownedTables.length; i++) {
+            view.writeLong(split.changeCounts[i]);
+            view.writeLong(split.insertedCounts[i]);
+            split.liveKeys[i].serialize(view);
+            view.writeInt(split.addedColumns[i]);
+        }
+    }
+
+    private static GeneratorSplit deserializeSplit(
+            DataInputViewStreamWrapper view, ValuesGeneratorConfig config) throws IOException {
+        int splitId = view.readInt();
+        int splitCount = view.readInt();
+        long emittedEvents = view.readLong();
+        int createdTables = view.readInt();
+        int tables = view.readInt();
+        long[] changeCounts = new long[tables];
+        long[] insertedCounts = new long[tables];
+        LiveKeys[] liveKeys = new LiveKeys[tables];
+        int[] addedColumns = new int[tables];
+        for (int i = 0; i < tables; i++) {
+            changeCounts[i] = view.readLong();
+            insertedCounts[i] = view.readLong();
+            liveKeys[i] = LiveKeys.deserialize(view);
+            addedColumns[i] = view.readInt();
+        }
+        return new GeneratorSplit(
+                config,
+                splitId,
+                splitCount,
+                emittedEvents,
+                createdTables,
+                changeCounts,
+                insertedCounts,
+                liveKeys,
+                addedColumns);
+    }
+
+    private static void checkVersion(int version, int expectedVersion) {
+        if (version != expectedVersion) {
+            throw new TableException(
+                    String.format(
+                            "Can't serialized data with version %d because the serializer version is %d.",
+                            version, expectedVersion));
+        }
+    }
+
+    /** A serializer for {@link GeneratorSplit}. */
+    private static class GeneratorSplitSerializer
+            implements SimpleVersionedSerializer<GeneratorSplit> {
+
+        private static final int SPLIT_VERSION = 1;
+
+        private final ValuesGeneratorConfig config;
+
+        private GeneratorSplitSerializer(ValuesGeneratorConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public int getVersion() {
+            return SPLIT_VERSION;
+        }
+
+        @Override
+        public byte[] serialize(GeneratorSplit split) throws IOException {
+            try (ByteArrayOutputStream bao = new ByteArrayOutputStream(256)) {
+                DataOutputViewStreamWrapper view = new DataOutputViewStreamWrapper(bao);
+                serializeSplit(view, split);
+                return bao.toByteArray();
+            }
+        }
+
+        @Override
+        public GeneratorSplit deserialize(int version, byte[] serialized) throws IOException {
+            checkVersion(version, SPLIT_VERSION);
+            try (ByteArrayInputStream bis = new ByteArrayInputStream(serialized)) {
+                return deserializeSplit(new DataInputViewStreamWrapper(bis), config);
+            }
+        }
+    }
+
+    /** A serializer for the unassigned {@link GeneratorSplit}s of the enumerator. */
+    private static class GeneratorEnumeratorSerializer
+            implements SimpleVersionedSerializer<Collection<GeneratorSplit>> {
+
+        private static final int ENUMERATOR_VERSION = 1;
+
+        private final ValuesGeneratorConfig config;
+
+        private GeneratorEnumeratorSerializer(ValuesGeneratorConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public int getVersion() {
+            return ENUMERATOR_VERSION;
+        }
+
+        @Override
+        public byte[] serialize(Collection<GeneratorSplit> splits) throws IOException {
+            try (ByteArrayOutputStream bao = new ByteArrayOutputStream(256);
+                    DataOutputViewStreamWrapper view = new DataOutputViewStreamWrapper(bao)) {
+                view.writeInt(splits.size());
+                for (GeneratorSplit split : splits) {
+                    serializeSplit(view, split);
+                }
+                return bao.toByteArray();
+            }
+        }
+
+        @Override
+        public Collection<GeneratorSplit> deserialize(int version, byte[] serialized)
+                throws IOException {
+            checkVersion(version, ENUMERATOR_VERSION);
+            try (ByteArrayInputStream bis = new ByteArrayInputStream(serialized);
+                    DataInputViewStreamWrapper view = new DataInputViewStreamWrapper(bis)) {
+                int size = view.readInt();
+                List<GeneratorSplit> splits = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    splits.add(deserializeSplit(view, config));
+                }
+                return splits;
+            }
+        }
+    }
+}
@@ -20,10 +20,12 @@ package org.apache.flink.cdc.connectors.values.source;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.api.common.restartstrategy.RestartStrategies;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.OperationType;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.source.FlinkSourceProvider;
@@ -42,7 +44,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Integration tests for {@link org.apache.flink.cdc.connectors.values.source.ValuesDataSource} in
@@ -179,4 +184,57 @@ class ValuesDataSourceITCase {
                                 TableId.parse("default_namespace.default_schema.table1")))
                 .isEqualTo(results);
     }
+
+    @Test
+    void testSyntheticGenerator() throws Exception {
+        ValuesGeneratorConfig config =
+                ValuesGeneratorConfig.newBuilder()
+                        .tableCount(3)
+                        .splitCount(2)
+                        .columnCount(8)
+                        .columnTypes(Arrays.asList(ValuesGeneratorConfig.ColumnType.values()))
+                        .updateRatio(0.3)
+                        .deleteRatio(0.1)
+                        .keySkew(1.0)
+                        .schemaChangeInterval(100)
+                        .numberOfEvents(1000L)
+                        .build();
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        env.setParallelism(2);
+        env.setRestartStrategy(RestartStrategies.noRestart());
+        FlinkSourceProvider sourceProvider =
+                (FlinkSourceProvider)
+                        new ValuesDataSource(
+                                        ValuesDataSourceHelper.EventSetId.SYNTHETIC_GENERATOR,
+                                        Integer.MAX_VALUE,
+                                        config)
+                                .getEventSourceProvider();
+        List<Event> events = new ArrayList<>();
+        env.fromSource(
+                        sourceProvider.getSource(),
+                        WatermarkStrategy.noWatermarks(),
+                        ValuesDataFactory.IDENTIFIER,
+                        new EventTypeInfo())
+                .executeAndCollect()
+                .forEachRemaining(events::add);
+
+        Assertions.assertThat(events.stream().filter(e -> e instanceof CreateTableEvent))
+                .hasSize(3);
+        // Split 0 writes 250 events to table 0 and 2 each, split 1 writes 500 events to table 1
+        Assertions.assertThat(events.stream().filter(e -> e instanceof AddColumnEvent)).hasSize(8);
+        Assertions.assertThat(events.stream().filter(e -> e instanceof DataChangeEvent))
+                .hasSize(1000);
+
+        Set<String> insertedKeys = new HashSet<>();
+        for (Event event : events) {
+            if (event instanceof DataChangeEvent
+                    && ((DataChangeEvent) event).op() == OperationType.INSERT) {
+                DataChangeEvent insert = (DataChangeEvent) event;
+                Assertions.assertThat(
+                                insertedKeys.add(
+                                        insert.tableId() + ":" + insert.after().getLong(0)))
+                        .isTrue();
+            }
+        }
+    }
 }
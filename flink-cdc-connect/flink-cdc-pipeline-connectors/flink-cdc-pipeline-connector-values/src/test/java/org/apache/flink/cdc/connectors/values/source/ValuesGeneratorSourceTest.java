@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/** Unit tests for {@link ValuesGeneratorSource}. */
+class ValuesGeneratorSourceTest {
+
+    private static final ValuesGeneratorConfig CONFIG =
+            ValuesGeneratorConfig.newBuilder()
+                    .tableCount(2)
+                    .splitCount(1)
+                    .columnCount(4)
+                    .columnTypes(Arrays.asList(ValuesGeneratorConfig.ColumnType.values()))
+                    .updateRatio(0.4)
+                    .deleteRatio(0.3)
+                    .keySkew(1.0)
+                    .numberOfEvents(5000L)
+                    .build();
+
+    @Test
+    void testUpdatesAndDeletesOnlyPresentKeys() {
+        Map<String, RecordData> rows = new HashMap<>();
+        ValuesGeneratorSource.GeneratorIterator iterator =
+                ValuesGeneratorSource.GeneratorSplit.initial(CONFIG, 0, 1).getIterator();
+
+        Assertions.assertThat(replay(iterator, Integer.MAX_VALUE, rows)).isEqualTo(5002);
+        Assertions.assertThat(rows).isNotEmpty();
+    }
+
+    @Test
+    void testRestoredSplitKeepsPresentKeys() throws Exception {
+        Map<String, RecordData> rows = new HashMap<>();
+        ValuesGeneratorSource.GeneratorSplit split =
+                ValuesGeneratorSource.GeneratorSplit.initial(CONFIG, 0, 1);
+        ValuesGeneratorSource.GeneratorIterator iterator = split.getIterator();
+        Assertions.assertThat(replay(iterator, 2000, rows)).isEqualTo(2000);
+
+        SimpleVersionedSerializer<ValuesGeneratorSource.GeneratorSplit> serializer =
+                new ValuesGeneratorSource(CONFIG).getSplitSerializer();
+        ValuesGeneratorSource.GeneratorSplit restored =
+                serializer.deserialize(
+                        serializer.getVersion(),
+                        serializer.serialize(
+                                (ValuesGeneratorSource.GeneratorSplit)
+                                        split.getUpdatedSplitForIterator(iterator)));
+
+        Assertions.assertThat(replay(restored.getIterator(), Integer.MAX_VALUE, rows))
+                .isEqualTo(3002);
+    }
+
+    @Test
+    void testLiveKeysAreBounded() {
+        ValuesGeneratorConfig config =
+                ValuesGeneratorConfig.newBuilder()
+                        .tableCount(2)
+                        .splitCount(1)
+                        .columnCount(2)
+                        .columnTypes(Arrays.asList(ValuesGeneratorConfig.ColumnType.values()))
+                        .maxLiveKeys(10)
+                        .numberOfEvents(1000L)
+                        .build();
+        Map<String, RecordData> rows = new HashMap<>();
+        ValuesGeneratorSource.GeneratorIterator iterator =
+                ValuesGeneratorSource.GeneratorSplit.initial(config, 0, 1).getIterator();
+
+        // inserts are replaced by deletes at the limit, which is reached by each table
+        while (iterator.hasNext()) {
+            replay(iterator, 1, rows);
+            Assertions.assertThat(rows).hasSizeLessThanOrEqualTo(20);
+        }
+        Assertions.assertThat(rows).hasSizeGreaterThanOrEqualTo(18);
+    }
+
+    @Test
+    void testCopiedLiveKeysAreIndependent() {
+        ValuesGeneratorSource.LiveKeys keys = new ValuesGeneratorSource.LiveKeys();
+        for (int i = 0; i < 10_000; i++) {
+            keys.add(i, i);
+        }
+        ValuesGeneratorSource.LiveKeys copy = keys.copy();
+
+        keys.setVersion(0, -1);
+        keys.remove(1);
+        for (int i = 0; i < 5_000; i++) {
+            keys.remove(keys.size() - 1);
+        }
+        keys.add(20_000, 20_000);
+        Assertions.assertThat(keys.size()).isEqualTo(5_000);
+        Assertions.assertThat(keys.version(0)).isEqualTo(-1);
+        Assertions.assertThat(keys.key(1)).isEqualTo(9_999);
+        Assertions.assertThat(keys.key(4_999)).isEqualTo(20_000);
+
+        Assertions.assertThat(copy.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertThat(copy.key(i)).isEqualTo(i);
+            Assertions.assertThat(copy.version(i)).isEqualTo(i);
+        }
+
+        // the copy modifies its own chunks, too
+        copy.setVersion(2, -2);
+        Assertions.assertThat(keys.version(2)).isEqualTo(2);
+    }
+
+    /**
+     * Applies at most {@code limit} generated events to the given rows, checking that inserts only
+     * write absent keys, and that updates and deletes only change present keys with the last
+     * written row as before image.
+     */
+    private static int replay(Iterator<Event> iterator, int limit, Map<String, RecordData> rows) {
+        int count = 0;
+        while (count < limit && iterator.hasNext()) {
+            Event event = iterator.next();
+            count++;
+            if (event instanceof CreateTableEvent) {
+                continue;
+            }
+            DataChangeEvent change = (DataChangeEvent) event;
+            switch (change.op()) {
+                case INSERT:
+                    Assertions.assertThat(rows.put(keyOf(change, change.after()), change.after()))
+                            .isNull();
+                    break;
+                case UPDATE:
+                    Assertions.assertThat(rows.put(keyOf(change, change.after()), change.after()))
+                            .isEqualTo(change.before());
+                    break;
+                case DELETE:
+                    Assertions.assertThat(rows.remove(keyOf(change, change.before())))
+                            .isEqualTo(change.before());
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected operation " + change.op());
+            }
+        }
+        return count;
+    }
+
+    private static String keyOf(DataChangeEvent change, RecordData row) {
+        return change.tableId() + ":" + row.getLong(0);
+    }
+}
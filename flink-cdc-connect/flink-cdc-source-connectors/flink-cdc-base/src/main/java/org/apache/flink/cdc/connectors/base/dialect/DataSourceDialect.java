@@ -23,6 +23,7 @@ import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitt
 import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
 import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 
 import io.debezium.relational.TableId;
@@ -31,6 +32,7 @@ import io.debezium.relational.history.TableChanges;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -75,6 +77,25 @@ public interface DataSourceDialect<C extends SourceConfig> extends Serializable,
 
     ChunkSplitter createChunkSplitter(C sourceConfig, ChunkSplitterState chunkSplitterState);
 
+    /**
+     * Returns the maximum number of stream splits which {@link #partitionStreamSplit} creates. As
+     * every stream split is read by a dedicated reader until the job ends, it must not exceed the
+     * source parallelism.
+     */
+    default int getStreamSplitPartitions(C sourceConfig) {
+        return 1;
+    }
+
+    /**
+     * Partitions the stream split of a stream-only startup into several stream splits which are
+     * read independently by different readers. The ids of the partitioned stream splits are
+     * created by {@link StreamSplit#partitionedSplitId(int, int)}. By default, the whole change
+     * log is read through the given single stream split.
+     */
+    default List<StreamSplit> partitionStreamSplit(C sourceConfig, StreamSplit streamSplit) {
+        return Collections.singletonList(streamSplit);
+    }
+
     /** The fetch task used to fetch data of a snapshot split or stream split. */
     FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase);
 
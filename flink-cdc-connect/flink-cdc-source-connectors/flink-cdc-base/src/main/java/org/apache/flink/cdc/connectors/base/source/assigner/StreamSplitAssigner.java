@@ -32,6 +32,9 @@ import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.metrics.SourceEnumeratorMetrics;
 import org.apache.flink.util.CollectionUtil;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,15 +44,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.apache.flink.util.Preconditions.checkArgument;
+
 /** Assigner for stream split. */
 public class StreamSplitAssigner implements SplitAssigner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(StreamSplitAssigner.class);
+
     private static final String STREAM_SPLIT_ID = "stream-split";
 
     private final SourceConfig sourceConfig;
 
     private boolean isStreamSplitAssigned;
 
+    /** The partitioned stream splits which are waiting to be assigned to readers. */
+    private final List<StreamSplit> remainingStreamSplits;
+
     private final DataSourceDialect dialect;
     private final OffsetFactory offsetFactory;
 
@@ -61,7 +71,7 @@ public class StreamSplitAssigner implements SplitAssigner {
             DataSourceDialect dialect,
             OffsetFactory offsetFactory,
             SplitEnumeratorContext<? extends SourceSplit> enumeratorContext) {
-        this(sourceConfig, false, dialect, offsetFactory, enumeratorContext);
+        this(sourceConfig, false, new ArrayList<>(), dialect, offsetFactory, enumeratorContext);
     }
 
     public StreamSplitAssigner(
@@ -73,6 +83,7 @@ public class StreamSplitAssigner implements SplitAssigner {
         this(
                 sourceConfig,
                 checkpoint.isStreamSplitAssigned(),
+                checkpoint.getRemainingStreamSplits(),
                 dialect,
                 offsetFactory,
                 enumeratorContext);
@@ -81,14 +92,36 @@ public class StreamSplitAssigner implements SplitAssigner {
     private StreamSplitAssigner(
             SourceConfig sourceConfig,
             boolean isStreamSplitAssigned,
+            List<StreamSplit> remainingStreamSplits,
             DataSourceDialect dialect,
             OffsetFactory offsetFactory,
             SplitEnumeratorContext<? extends SourceSplit> enumeratorContext) {
         this.sourceConfig = sourceConfig;
         this.isStreamSplitAssigned = isStreamSplitAssigned;
+        this.remainingStreamSplits = new ArrayList<>(remainingStreamSplits);
         this.dialect = dialect;
         this.offsetFactory = offsetFactory;
         this.enumeratorContext = enumeratorContext;
+        checkStreamSplitPartitions();
+    }
+
+    /**
+     * Every partitioned stream split is read by a dedicated reader until the job ends, so a stream
+     * split which exceeds the source parallelism would never be assigned. The check must happen
+     * before partitioning, as partitioning may allocate resources in the database for every
+     * partition, e.g. replication slots.
+     */
+    private void checkStreamSplitPartitions() {
+        int partitions = dialect.getStreamSplitPartitions(sourceConfig);
+        for (StreamSplit streamSplit : remainingStreamSplits) {
+            partitions = Math.max(partitions, streamSplit.getNumberOfPartitions());
+        }
+        checkArgument(
+                partitions <= enumeratorContext.currentParallelism(),
+                "The stream split is partitioned into %s stream splits, which exceeds the source parallelism %s. "
+                        + "Please decrease the number of partitions or increase the parallelism.",
+                partitions,
+                enumeratorContext.currentParallelism());
     }
 
     @Override
@@ -103,13 +136,21 @@ public class StreamSplitAssigner implements SplitAssigner {
 
     @Override
     public Optional<SourceSplitBase> getNext() {
-        if (isStreamSplitAssigned) {
-            return Optional.empty();
-        } else {
+        if (!isStreamSplitAssigned) {
             isStreamSplitAssigned = true;
             enumeratorMetrics.enterStreamReading();
-            return Optional.of(createStreamSplit());
+            List<StreamSplit> streamSplits =
+                    dialect.partitionStreamSplit(sourceConfig, createStreamSplit());
+            if (streamSplits.size() == 1) {
+                return Optional.of(streamSplits.get(0));
+            }
+            LOG.info("The stream split is partitioned into {} stream splits.", streamSplits.size());
+            remainingStreamSplits.addAll(streamSplits);
+        }
+        if (remainingStreamSplits.isEmpty()) {
+            return Optional.empty();
         }
+        return Optional.of(remainingStreamSplits.remove(0));
     }
 
     @Override
@@ -129,14 +170,26 @@ public class StreamSplitAssigner implements SplitAssigner {
 
     @Override
     public void addSplits(Collection<SourceSplitBase> splits) {
-        // we don't store the split, but will re-create stream split later
-        isStreamSplitAssigned = false;
-        enumeratorMetrics.exitStreamReading();
+        List<StreamSplit> partitionedSplits = new ArrayList<>();
+        for (SourceSplitBase split : splits) {
+            if (split.isStreamSplit() && split.asStreamSplit().isPartitioned()) {
+                partitionedSplits.add(split.asStreamSplit());
+            }
+        }
+        if (partitionedSplits.isEmpty()) {
+            // we don't store the split, but will re-create stream split later
+            isStreamSplitAssigned = false;
+            enumeratorMetrics.exitStreamReading();
+        } else {
+            // the partitioned stream splits can not be re-created independently, reassign them
+            remainingStreamSplits.addAll(partitionedSplits);
+        }
     }
 
     @Override
     public PendingSplitsState snapshotState(long checkpointId) {
-        return new StreamPendingSplitsState(isStreamSplitAssigned);
+        return new StreamPendingSplitsState(
+                isStreamSplitAssigned, new ArrayList<>(remainingStreamSplits));
     }
 
     @Override
@@ -157,7 +210,7 @@ public class StreamSplitAssigner implements SplitAssigner {
 
     @Override
     public boolean noMoreSplits() {
-        return isStreamSplitAssigned;
+        return isStreamSplitAssigned && remainingStreamSplits.isEmpty();
     }
 
     @Override
@@ -159,6 +159,11 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
         }
     }
 
+    /** Returns the JDBC connection which is opened by this splitter. */
+    protected JdbcConnection getJdbcConnection() {
+        return jdbcConnection;
+    }
+
     /**
      * Query the maximum value of the next chunk, and the next chunk must be greater than or equal
      * to <code>includedLowerBound</code> value [min_1, max_1), [min_2, max_2),... [min_n, null).
@@ -260,6 +265,23 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
         return JdbcChunkUtils.getSplitColumn(table, chunkKeyColumn);
     }
 
+    /**
+     * Splits the table into all its chunks at once without querying the values of the split
+     * column, e.g. from the storage metadata of the table. The chunks must be in ascending order
+     * and cover the whole range of the split column, i.e. the first chunk starts and the last chunk
+     * ends with {@code null}.
+     *
+     * @return the chunks, or empty to split the table by the values of the split column
+     */
+    protected Optional<List<ChunkRange>> trySplitAllChunksFromMetadata(
+            JdbcConnection jdbc,
+            TableId tableId,
+            Column splitColumn,
+            long approximateRowCnt,
+            int chunkSize) {
+        return Optional.empty();
+    }
+
     /** ChunkEnd less than or equal to max. */
     protected boolean isChunkEndLeMax(
             @Nullable JdbcConnection jdbc, Object chunkEnd, Object max, Column splitColumn)
@@ -341,6 +363,14 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
         }
 
         final int chunkSize = sourceConfig.getSplitSize();
+        Optional<List<ChunkRange>> metadataChunks =
+                trySplitAllChunksFromMetadata(
+                        jdbcConnection, tableId, splitColumn, approximateRowCnt, chunkSize);
+        if (metadataChunks.isPresent()) {
+            LOG.debug("finish splitting table {} into chunks from metadata", tableId);
+            return Optional.of(createSnapshotSplit(tableId, metadataChunks.get()));
+        }
+
         final int dynamicChunkSize =
                 getDynamicChunkSize(tableId, splitColumn, min, max, chunkSize, approximateRowCnt);
         if (dynamicChunkSize != -1) {
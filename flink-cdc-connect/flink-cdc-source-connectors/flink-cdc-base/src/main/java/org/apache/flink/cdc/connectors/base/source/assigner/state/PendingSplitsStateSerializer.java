@@ -23,6 +23,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.split.SchemalessSnapshot
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitSerializer;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.utils.SerializerUtils;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
@@ -53,10 +54,13 @@ import static org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplit
  *
  * <p>The modification of 8th version: add ChunkSplitterState to SnapshotPendingSplitsState, which
  * contains the asynchronously splitting chunk info.
+ *
+ * <p>The modification of 9th version: add the remaining partitioned stream splits to
+ * StreamPendingSplitsState.
  */
 public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<PendingSplitsState> {
 
-    private static final int VERSION = 8;
+    private static final int VERSION = 9;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -123,6 +127,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             case 6:
             case 7:
             case 8:
+            case 9:
                 return deserializePendingSplitsState(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -156,7 +161,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
             return deserializeHybridPendingSplitsState(version, splitVersion, in);
         } else if (stateFlag == STREAM_PENDING_SPLITS_STATE_FLAG) {
-            return deserializeStreamPendingSplitsState(in);
+            return deserializeStreamPendingSplitsState(version, splitVersion, in);
         } else {
             throw new IOException(
                     "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
@@ -204,6 +209,8 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
     private void serializeStreamPendingSplitsState(
             StreamPendingSplitsState state, DataOutputSerializer out) throws IOException {
         out.writeBoolean(state.isStreamSplitAssigned());
+        // The modification of 9th version: add the remaining partitioned stream splits.
+        writeRemainingSplits(state.getRemainingStreamSplits(), out);
     }
 
     // ------------------------------------------------------------------------------------------
@@ -352,6 +359,19 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         return new StreamPendingSplitsState(in.readBoolean());
     }
 
+    private StreamPendingSplitsState deserializeStreamPendingSplitsState(
+            int version, int splitVersion, DataInputDeserializer in) throws IOException {
+        boolean isStreamSplitAssigned = in.readBoolean();
+        List<StreamSplit> remainingStreamSplits = new ArrayList<>();
+        if (version >= 9) {
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                remainingStreamSplits.add(readSnapshotSplit(splitVersion, in).asStreamSplit());
+            }
+        }
+        return new StreamPendingSplitsState(isStreamSplitAssigned, remainingStreamSplits);
+    }
+
     // ------------------------------------------------------------------------------------------
     // Utilities
     // ------------------------------------------------------------------------------------------
@@ -17,6 +17,10 @@
 
 package org.apache.flink.cdc.connectors.base.source.assigner.state;
 
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /** A {@link PendingSplitsState} for pending stream splits. */
@@ -24,14 +28,30 @@ public class StreamPendingSplitsState extends PendingSplitsState {
 
     private final boolean isStreamSplitAssigned;
 
+    /**
+     * The partitioned stream splits which have been created but not yet assigned to any reader,
+     * empty if the change log is read through a single stream split.
+     */
+    private final List<StreamSplit> remainingStreamSplits;
+
     public StreamPendingSplitsState(boolean isStreamSplitAssigned) {
+        this(isStreamSplitAssigned, new ArrayList<>());
+    }
+
+    public StreamPendingSplitsState(
+            boolean isStreamSplitAssigned, List<StreamSplit> remainingStreamSplits) {
         this.isStreamSplitAssigned = isStreamSplitAssigned;
+        this.remainingStreamSplits = remainingStreamSplits;
     }
 
     public boolean isStreamSplitAssigned() {
         return isStreamSplitAssigned;
     }
 
+    public List<StreamSplit> getRemainingStreamSplits() {
+        return remainingStreamSplits;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -41,16 +61,22 @@ public class StreamPendingSplitsState extends PendingSplitsState {
             return false;
         }
         StreamPendingSplitsState that = (StreamPendingSplitsState) o;
-        return isStreamSplitAssigned == that.isStreamSplitAssigned;
+        return isStreamSplitAssigned == that.isStreamSplitAssigned
+                && Objects.equals(remainingStreamSplits, that.remainingStreamSplits);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isStreamSplitAssigned);
+        return Objects.hash(isStreamSplitAssigned, remainingStreamSplits);
     }
 
     @Override
     public String toString() {
-        return "StreamPendingSplitsState{" + "isStreamSplitAssigned=" + isStreamSplitAssigned + '}';
+        return "StreamPendingSplitsState{"
+                + "isStreamSplitAssigned="
+                + isStreamSplitAssigned
+                + ", remainingStreamSplits="
+                + remainingStreamSplits
+                + '}';
     }
 }
@@ -33,13 +33,20 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static org.apache.flink.util.Preconditions.checkState;
+
 /** The split to describe the change log of database table(s). */
 public class StreamSplit extends SourceSplitBase {
     private static final Logger LOG = LoggerFactory.getLogger(StreamSplit.class);
     public static final String STREAM_SPLIT_ID = "stream-split";
 
+    private static final Pattern PARTITIONED_STREAM_SPLIT_ID_PATTERN =
+            Pattern.compile(Pattern.quote(STREAM_SPLIT_ID) + "-(\\d+)-of-(\\d+)");
+
     private final Offset startingOffset;
     private final Offset endingOffset;
     private final List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos;
@@ -125,6 +132,30 @@ public class StreamSplit extends SourceSplitBase {
         return isSnapshotCompleted;
     }
 
+    /**
+     * Whether this split is one of the stream splits which the stream split of a stream-only
+     * startup has been partitioned into, see {@link #partitionedSplitId(int, int)}.
+     */
+    public boolean isPartitioned() {
+        return PARTITIONED_STREAM_SPLIT_ID_PATTERN.matcher(splitId).matches();
+    }
+
+    /** Returns the index of the partition read by this partitioned stream split. */
+    public int getPartition() {
+        return Integer.parseInt(matchPartitionedSplitId().group(1));
+    }
+
+    /** Returns the number of partitions the stream split has been partitioned into. */
+    public int getNumberOfPartitions() {
+        return Integer.parseInt(matchPartitionedSplitId().group(2));
+    }
+
+    private Matcher matchPartitionedSplitId() {
+        Matcher matcher = PARTITIONED_STREAM_SPLIT_ID_PATTERN.matcher(splitId);
+        checkState(matcher.matches(), "The stream split %s is not partitioned.", splitId);
+        return matcher;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -178,6 +209,12 @@ public class StreamSplit extends SourceSplitBase {
 
     // -------------------------------------------------------------------
     // factory utils to build new StreamSplit instance
+
+    /** Returns the split id of the {@code partition}-th of {@code partitions} stream splits. */
+    public static String partitionedSplitId(int partition, int partitions) {
+        return String.format("%s-%d-of-%d", STREAM_SPLIT_ID, partition, partitions);
+    }
+
     // -------------------------------------------------------------------
     public static StreamSplit appendFinishedSplitInfos(
             StreamSplit streamSplit, List<FinishedSnapshotSplitInfo> splitInfos) {
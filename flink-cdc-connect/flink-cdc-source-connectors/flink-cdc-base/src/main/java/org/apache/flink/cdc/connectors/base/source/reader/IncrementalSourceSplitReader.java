@@ -191,6 +191,8 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             // (3) switch to snapshot split reading if there are newly added snapshot splits
             dataIt = currentFetcher.pollSplitRecords();
             if (dataIt != null) {
+                // the stream split may be one of several partitioned stream splits
+                final String streamSplitId = currentSplitId;
                 // try to switch to read snapshot split if there are new added snapshot
                 SnapshotSplit nextSplit = snapshotSplits.poll();
                 if (nextSplit != null) {
@@ -198,7 +200,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                     LOG.info("It's turn to switch next fetch reader to snapshot split reader");
                     submitSnapshotSplit(nextSplit);
                 }
-                return ChangeEventRecords.forRecords(STREAM_SPLIT_ID, dataIt);
+                return ChangeEventRecords.forRecords(streamSplitId, dataIt);
             } else {
                 // null will be returned after receiving suspend stream event
                 // finish current stream split reading
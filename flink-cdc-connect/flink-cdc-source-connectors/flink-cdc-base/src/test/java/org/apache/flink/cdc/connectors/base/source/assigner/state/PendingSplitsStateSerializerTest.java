@@ -107,6 +107,18 @@ class PendingSplitsStateSerializerTest {
                 .isEqualTo(state);
     }
 
+    @Test
+    void testSerializeStreamPendingSplitsState() throws Exception {
+        PendingSplitsStateSerializer serializer =
+                new PendingSplitsStateSerializer(constructSourceSplitSerializer());
+        PendingSplitsState state =
+                new StreamPendingSplitsState(
+                        true, new ArrayList<>(Collections.singletonList(constuctStreamSplit())));
+
+        assertThat(serializer.deserialize(serializer.getVersion(), serializer.serialize(state)))
+                .isEqualTo(state);
+    }
+
     private SourceSplitSerializer constructSourceSplitSerializer() {
         return new SourceSplitSerializer() {
             @Override
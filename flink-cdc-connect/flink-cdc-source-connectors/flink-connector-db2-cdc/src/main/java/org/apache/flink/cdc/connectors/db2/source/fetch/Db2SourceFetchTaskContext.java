@@ -129,6 +129,10 @@ public class Db2SourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                         .maxBatchSize(connectorConfig.getMaxBatchSize())
                         .maxQueueSize(queueSize)
                         .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .ringBuffer(
+                                connectorConfig
+                                        .getConfig()
+                                        .getBoolean(ChangeEventQueue.RING_BUFFER_ENABLED))
                         .loggingContextSupplier(
                                 () -> taskContext.configureLoggingContext("Db2-cdc-connector-task"))
                         // do not buffer any element, we use signal event
@@ -0,0 +1,432 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.connector.base;
+
+import org.apache.flink.cdc.debezium.internal.SpscRingBuffer;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.ConfigurationDefaults;
+import io.debezium.config.Field;
+import io.debezium.time.Temporals;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.LoggingContext.PreviousContext;
+import io.debezium.util.ObjectSizeCalculator;
+import io.debezium.util.Threads;
+import io.debezium.util.Threads.Timer;
+import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigDef.Width;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Copied from Debezium project(1.9.8.Final) to support handing over change events through a
+ * lock-free {@link SpscRingBuffer} instead of a queue guarded by a lock and conditions.
+ *
+ * <p>The ring buffer is enabled by {@link Builder#ringBuffer(boolean)}, see {@link
+ * #RING_BUFFER_ENABLED}. It requires that only one thread enqueues events at a time, which holds
+ * for the fetch tasks of the incremental snapshot framework. Batches are drained in one pass and
+ * {@link #poll()} returns as soon as the buffer runs empty after having drained some events,
+ * instead of waiting for a full batch until the poll interval expires.
+ *
+ * <p>A queue which serves as handover point between producer threads (e.g. MySQL's binlog reader
+ * thread) and the Kafka Connect polling loop.
+ *
+ * <p>The queue is configurable in different aspects, e.g. its maximum size and the time to sleep
+ * (block) between two subsequent poll calls. See the {@link Builder} for the different options. The
+ * queue applies back-pressure semantics, i.e. if it holds the maximum number of elements,
+ * subsequent calls to {@link #enqueue(Object)} will block until elements have been removed from
+ * the queue.
+ *
+ * <p>If an exception occurs on the producer side, the producer should make that exception known
+ * by calling {@link #producerException(RuntimeException)} before stopping its operation. Upon the
+ * next call to {@link #poll()}, that exception will be raised, causing Kafka Connect to stop the
+ * connector and mark it as {@code FAILED}.
+ *
+ * @param <T> the type of events in this queue. Usually {@code SourceRecord} is used, but in cases
+ *     where additional metadata must be passed from producers to the consumer, a custom type
+ *     wrapping source records may be used.
+ */
+@ThreadSafe
+public class ChangeEventQueue<T> implements ChangeEventQueueMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
+
+    public static final Field RING_BUFFER_ENABLED =
+            Field.create("queue.ring.buffer.enabled")
+                    .withDisplayName("Enable ring buffer queue")
+                    .withType(Type.BOOLEAN)
+                    .withWidth(Width.SHORT)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "Whether change events are handed over from the Debezium task to the reader "
+                                    + "through a lock-free single-producer/single-consumer ring buffer.")
+                    .withDefault(false);
+
+    private final Duration pollInterval;
+    private final int maxBatchSize;
+    private final int maxQueueSize;
+    private final long maxQueueSizeInBytes;
+
+    private final ReentrantLock lock;
+    private final Condition isFull;
+    private final Condition isNotFull;
+
+    private final Queue<T> queue;
+    private final Supplier<PreviousContext> loggingContextSupplier;
+    private final Queue<Long> sizeInBytesQueue;
+    private long currentQueueSizeInBytes = 0;
+    private boolean buffering;
+    private final AtomicReference<T> bufferedEvent = new AtomicReference<>();
+
+    private final SpscRingBuffer<T> ringBuffer;
+
+    private volatile RuntimeException producerException;
+
+    private ChangeEventQueue(
+            Duration pollInterval,
+            int maxQueueSize,
+            int maxBatchSize,
+            Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+            long maxQueueSizeInBytes,
+            boolean buffering,
+            boolean ringBuffer) {
+        this.pollInterval = pollInterval;
+        this.maxBatchSize = maxBatchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.lock = new ReentrantLock();
+        this.isFull = lock.newCondition();
+        this.isNotFull = lock.newCondition();
+        this.loggingContextSupplier = loggingContextSupplier;
+        this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+        this.buffering = buffering;
+        if (ringBuffer) {
+            this.queue = null;
+            this.sizeInBytesQueue = null;
+            this.ringBuffer = new SpscRingBuffer<>(maxQueueSize, maxQueueSizeInBytes);
+        } else {
+            this.queue = new ArrayDeque<>(maxQueueSize);
+            this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
+            this.ringBuffer = null;
+        }
+    }
+
+    /** Builder of {@link ChangeEventQueue}. */
+    public static class Builder<T> {
+
+        private Duration pollInterval;
+        private int maxQueueSize;
+        private int maxBatchSize;
+        private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
+        private long maxQueueSizeInBytes;
+        private boolean buffering;
+        private boolean ringBuffer;
+
+        public Builder<T> pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder<T> maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public Builder<T> maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder<T> loggingContextSupplier(
+                Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
+            this.loggingContextSupplier = loggingContextSupplier;
+            return this;
+        }
+
+        public Builder<T> maxQueueSizeInBytes(long maxQueueSizeInBytes) {
+            this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+            return this;
+        }
+
+        public Builder<T> buffering() {
+            this.buffering = true;
+            return this;
+        }
+
+        /**
+         * Whether to hand over events through a lock-free ring buffer. Only one thread may enqueue
+         * events at a time when enabled.
+         */
+        public Builder<T> ringBuffer(boolean ringBuffer) {
+            this.ringBuffer = ringBuffer;
+            return this;
+        }
+
+        public ChangeEventQueue<T> build() {
+            return new ChangeEventQueue<T>(
+                    pollInterval,
+                    maxQueueSize,
+                    maxBatchSize,
+                    loggingContextSupplier,
+                    maxQueueSizeInBytes,
+                    buffering,
+                    ringBuffer);
+        }
+    }
+
+    /**
+     * Enqueues a record so that it can be obtained via {@link #poll()}. This method will block if
+     * the queue is full.
+     *
+     * @param record the record to be enqueued
+     * @throws InterruptedException if this thread has been interrupted
+     */
+    public void enqueue(T record) throws InterruptedException {
+        if (record == null) {
+            return;
+        }
+
+        // The calling thread has been interrupted, let's abort
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        if (buffering) {
+            record = bufferedEvent.getAndSet(record);
+            if (record == null) {
+                // Can happen only for the first coming event
+                return;
+            }
+        }
+
+        doEnqueue(record);
+    }
+
+    /**
+     * Applies a function to the event and the buffer and adds it to the queue. Buffer is emptied.
+     *
+     * @param recordModifier
+     * @throws InterruptedException
+     */
+    public void flushBuffer(Function<T, T> recordModifier) throws InterruptedException {
+        assert buffering : "Unsuported for queues with disabled buffering";
+        T record = bufferedEvent.getAndSet(null);
+        if (record != null) {
+            doEnqueue(recordModifier.apply(record));
+        }
+    }
+
+    /**
+     * Disable buffering for the queue. Buffering is used for snapshot to mark the last event of
+     * snapshot, and disabled when the snapshot is completed.
+     */
+    public void disableBuffering() {
+        assert bufferedEvent.get() == null : "Buffer must be flushed";
+        buffering = false;
+    }
+
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Enqueuing source record '{}'", record);
+        }
+
+        if (ringBuffer != null) {
+            doEnqueueToRingBuffer(record);
+            return;
+        }
+
+        try {
+            this.lock.lock();
+
+            while (queue.size() >= maxQueueSize
+                    || (maxQueueSizeInBytes > 0
+                            && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to drain queue
+                this.isFull.signalAll();
+                // queue size or queue sizeInBytes threshold reached, so wait a bit
+                this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+
+            queue.add(record);
+            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in
+            // bytes feature
+            if (maxQueueSizeInBytes > 0) {
+                long messageSize = ObjectSizeCalculator.getObjectSize(record);
+                sizeInBytesQueue.add(messageSize);
+                currentQueueSizeInBytes += messageSize;
+            }
+
+            // batch size or queue sizeInBytes threshold reached
+            if (queue.size() >= maxBatchSize
+                    || (maxQueueSizeInBytes > 0
+                            && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to start draining queue and do not wait
+                this.isFull.signalAll();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void doEnqueueToRingBuffer(T record) throws InterruptedException {
+        long messageSize =
+                maxQueueSizeInBytes > 0 ? ObjectSizeCalculator.getObjectSize(record) : 0L;
+        int idleRounds = 0;
+        while (!ringBuffer.offer(record, messageSize)) {
+            // queue size or queue sizeInBytes threshold reached, so wait a bit
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            SpscRingBuffer.idle(idleRounds++);
+        }
+    }
+
+    /**
+     * Returns the next batch of elements from this queue. May be empty in case no elements have
+     * arrived in the maximum waiting time.
+     *
+     * @throws InterruptedException if this thread has been interrupted while waiting for more
+     *     elements to arrive
+     */
+    public List<T> poll() throws InterruptedException {
+        LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
+
+        try {
+            LOGGER.debug("polling records...");
+            final Timer timeout =
+                    Threads.timer(
+                            Clock.SYSTEM,
+                            Temporals.max(
+                                    pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            if (ringBuffer != null) {
+                return pollFromRingBuffer(timeout);
+            }
+            try {
+                this.lock.lock();
+                List<T> records = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
+                throwProducerExceptionIfPresent();
+                while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
+                        && (maxQueueSizeInBytes == 0
+                                || currentQueueSizeInBytes < maxQueueSizeInBytes)
+                        && !timeout.expired()) {
+                    throwProducerExceptionIfPresent();
+
+                    LOGGER.debug(
+                            "no records available or batch size not reached yet, "
+                                    + "sleeping a bit...");
+                    long remainingTimeoutMills = timeout.remaining().toMillis();
+                    if (remainingTimeoutMills > 0) {
+                        // signal doEnqueue() to add more records
+                        this.isNotFull.signalAll();
+                        // no records available or batch size not reached yet, so wait a bit
+                        this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
+                    }
+                    LOGGER.debug("checking for more records...");
+                }
+                // signal doEnqueue() to add more records
+                this.isNotFull.signalAll();
+                return records;
+            } finally {
+                this.lock.unlock();
+            }
+        } finally {
+            previousContext.restore();
+        }
+    }
+
+    private List<T> pollFromRingBuffer(Timer timeout) throws InterruptedException {
+        List<T> records = new ArrayList<>(Math.min(maxBatchSize, ringBuffer.size()));
+        int idleRounds = 0;
+        while (true) {
+            throwProducerExceptionIfPresent();
+            int drained = ringBuffer.drainTo(records, maxBatchSize - records.size());
+            if (records.size() >= maxBatchSize
+                    || (drained == 0 && !records.isEmpty())
+                    || ringBuffer.isSizeInBytesExceeded()
+                    || timeout.expired()) {
+                return records;
+            }
+            if (drained > 0) {
+                idleRounds = 0;
+            } else {
+                // no records available yet, so wait until the producer offers more
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                ringBuffer.awaitNotEmpty(idleRounds++, timeout.remaining().toNanos());
+            }
+        }
+    }
+
+    private long drainRecords(List<T> records, int maxElements) {
+        int queueSize = queue.size();
+        if (queueSize == 0) {
+            return records.size();
+        }
+        int recordsToDrain = Math.min(queueSize, maxElements);
+        for (int i = 0; i < recordsToDrain; i++) {
+            records.add(queue.poll());
+        }
+        if (maxQueueSizeInBytes > 0) {
+            for (int i = 0; i < recordsToDrain; i++) {
+                Long objectSize = sizeInBytesQueue.poll();
+                currentQueueSizeInBytes -= (objectSize == null ? 0L : objectSize);
+            }
+        }
+        return records.size();
+    }
+
+    public void producerException(final RuntimeException producerException) {
+        this.producerException = producerException;
+        if (ringBuffer != null) {
+            // do not let poll() wait for records which will not arrive
+            ringBuffer.wakeUpConsumer();
+        }
+    }
+
+    private void throwProducerExceptionIfPresent() {
+        if (producerException != null) {
+            throw producerException;
+        }
+    }
+
+    @Override
+    public int totalCapacity() {
+        return ringBuffer != null ? ringBuffer.capacity() : maxQueueSize;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        if (ringBuffer != null) {
+            return ringBuffer.remainingCapacity();
+        }
+        return maxQueueSize - queue.size();
+    }
+
+    @Override
+    public long maxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return ringBuffer != null ? ringBuffer.sizeInBytes() : currentQueueSizeInBytes;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * A bounded ring buffer to hand over elements from a <i>producer</i> thread to a <i>consumer</i>
+ * thread without locking.
+ *
+ * <p>Only one thread may offer elements at a time. The consumer drains elements in batches; a
+ * second thread draining concurrently (e.g. when closing the reader) gets no elements instead of
+ * corrupting the buffer. Besides the number of elements, the buffer can be bounded by the total
+ * size in bytes of the buffered elements, which is reported by the producer.
+ *
+ * <p>A consumer waiting for elements with {@link #awaitNotEmpty} is parked until the producer
+ * offers the next element, instead of waking up periodically to check the buffer.
+ */
+@ThreadSafe
+@Internal
+public class SpscRingBuffer<T> {
+
+    private static final int MAX_SPINS = 100;
+    private static final long MIN_PARK_NANOS = 1_000L;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final Object[] elements;
+    private final long[] elementSizes;
+    private final int mask;
+    private final int capacity;
+    private final long maxSizeInBytes;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final AtomicLong sizeInBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** Consumer index last seen by the producer, to avoid reading it on every offer. */
+    private long cachedConsumerIndex;
+
+    /** The consumer thread parked in {@link #awaitNotEmpty}, if any. */
+    private volatile Thread waitingConsumer;
+
+    /**
+     * Creates a ring buffer holding at least {@code capacity} elements.
+     *
+     * @param capacity the minimum number of elements, rounded up to the next power of two
+     * @param maxSizeInBytes the maximum total size of buffered elements, or 0 if unbounded
+     */
+    public SpscRingBuffer(int capacity, long maxSizeInBytes) {
+        checkArgument(capacity > 0 && capacity <= 1 << 30, "Illegal capacity: %s", capacity);
+        checkArgument(maxSizeInBytes >= 0, "Illegal max size in bytes: %s", maxSizeInBytes);
+        int actualCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[actualCapacity];
+        this.elementSizes = maxSizeInBytes > 0 ? new long[actualCapacity] : null;
+        this.mask = actualCapacity - 1;
+        this.capacity = actualCapacity;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Adds an element if the buffer is neither full nor exceeds its size in bytes. Must only be
+     * called by the producer.
+     *
+     * @param element the element to add
+     * @param size the size of the element in bytes, ignored if the size is unbounded
+     * @return whether the element was added
+     */
+    public boolean offer(T element, long size) {
+        long index = producerIndex.get();
+        if (index - cachedConsumerIndex >= capacity) {
+            cachedConsumerIndex = consumerIndex.get();
+            if (index - cachedConsumerIndex >= capacity) {
+                return false;
+            }
+        }
+        if (elementSizes != null && sizeInBytes.get() >= maxSizeInBytes) {
+            return false;
+        }
+        int offset = (int) index & mask;
+        elements[offset] = element;
+        if (elementSizes != null) {
+            elementSizes[offset] = size;
+            sizeInBytes.addAndGet(size);
+        }
+        // publishes the element to the consumer, ordered before reading the waiting consumer so
+        // that a consumer going to park either sees the element or gets unparked
+        producerIndex.set(index + 1);
+        wakeUpConsumer();
+        return true;
+    }
+
+    /** Unparks the consumer waiting in {@link #awaitNotEmpty}, if any. */
+    public void wakeUpConsumer() {
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} buffered elements to the target collection in FIFO order.
+     *
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        if (!draining.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            long index = consumerIndex.get();
+            int count = (int) Math.min(producerIndex.get() - index, maxElements);
+            if (count <= 0) {
+                return 0;
+            }
+            long drainedSize = 0L;
+            for (int i = 0; i < count; i++) {
+                int offset = (int) (index + i) & mask;
+                target.add((T) elements[offset]);
+                elements[offset] = null;
+                if (elementSizes != null) {
+                    drainedSize += elementSizes[offset];
+                }
+            }
+            // releases the slots to the producer
+            consumerIndex.lazySet(index + count);
+            if (drainedSize > 0) {
+                sizeInBytes.addAndGet(-drainedSize);
+            }
+            return count;
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0L, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    public long sizeInBytes() {
+        return sizeInBytes.get();
+    }
+
+    public long maxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    /** Whether the size in bytes of buffered elements has reached its bound. */
+    public boolean isSizeInBytesExceeded() {
+        return elementSizes != null && sizeInBytes.get() >= maxSizeInBytes;
+    }
+
+    /**
+     * Waits while the buffer is empty. Must only be called by the consumer. Spins at first, so that
+     * a busy buffer is handed over without delay, then parks the thread until the producer offers
+     * an element, {@link #wakeUpConsumer()} is called or the timeout elapses. The thread may also
+     * return spuriously, so callers must check the buffer again.
+     *
+     * @param idleRounds the number of consecutive rounds the caller has been waiting
+     * @param timeoutNanos the maximum time to park the thread
+     */
+    public void awaitNotEmpty(int idleRounds, long timeoutNanos) {
+        if (idleRounds < MAX_SPINS) {
+            Thread.yield();
+            return;
+        }
+        if (timeoutNanos <= 0) {
+            return;
+        }
+        waitingConsumer = Thread.currentThread();
+        try {
+            // checks again after publishing the waiting consumer, the producer may have offered an
+            // element without seeing it
+            if (isEmpty()) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+
+    /**
+     * Waits a little while the buffer is full or empty. Spins at first, then parks the thread for
+     * increasing periods, so that a busy buffer is handed over without delay while an idle one
+     * does not burn CPU.
+     *
+     * @param idleRounds the number of consecutive rounds the caller has been waiting
+     */
+    public static void idle(int idleRounds) {
+        if (idleRounds < MAX_SPINS) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(idleRounds - MAX_SPINS, 10);
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << shift, MAX_PARK_NANOS));
+        }
+    }
+}
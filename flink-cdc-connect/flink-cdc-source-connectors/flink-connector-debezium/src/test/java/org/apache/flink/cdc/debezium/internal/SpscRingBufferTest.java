@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link SpscRingBuffer}. */
+class SpscRingBufferTest {
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new SpscRingBuffer<>(1, 0).capacity()).isEqualTo(1);
+        assertThat(new SpscRingBuffer<>(5, 0).capacity()).isEqualTo(8);
+        assertThat(new SpscRingBuffer<>(8, 0).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void testOfferAndDrainInOrder() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4, 0);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i, 0)).isTrue();
+        }
+        assertThat(buffer.offer(4, 0)).isFalse();
+        assertThat(buffer.remainingCapacity()).isZero();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        // wraps around the end of the ring
+        assertThat(buffer.offer(4, 0)).isTrue();
+        assertThat(buffer.offer(5, 0)).isTrue();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testBoundedBySizeInBytes() {
+        SpscRingBuffer<String> buffer = new SpscRingBuffer<>(16, 100);
+        assertThat(buffer.offer("a", 60)).isTrue();
+        assertThat(buffer.offer("b", 60)).isTrue();
+        assertThat(buffer.isSizeInBytesExceeded()).isTrue();
+        assertThat(buffer.offer("c", 10)).isFalse();
+
+        List<String> drained = new ArrayList<>();
+        buffer.drainTo(drained, 1);
+        assertThat(buffer.sizeInBytes()).isEqualTo(60);
+        assertThat(buffer.offer("c", 10)).isTrue();
+    }
+
+    @Test
+    void testAwaitNotEmptyReturnsAfterTimeout() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4, 0);
+        long start = System.nanoTime();
+        buffer.awaitNotEmpty(Integer.MAX_VALUE, TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    void testAwaitNotEmptyIsWokenUpByOffer() throws Exception {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4, 0);
+        CountDownLatch awaited = new CountDownLatch(1);
+        Thread consumer =
+                new Thread(
+                        () -> {
+                            while (buffer.isEmpty()) {
+                                buffer.awaitNotEmpty(Integer.MAX_VALUE, Long.MAX_VALUE);
+                            }
+                            awaited.countDown();
+                        });
+        consumer.start();
+
+        // The consumer would stay parked forever without being woken up
+        Thread.sleep(100);
+        assertThat(awaited.getCount()).isOne();
+        assertThat(buffer.offer(1, 0)).isTrue();
+        assertThat(awaited.await(10, TimeUnit.SECONDS)).isTrue();
+        consumer.join();
+    }
+
+    @Test
+    void testHandoverBetweenThreads() throws Exception {
+        int numElements = 100_000;
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(64, 0);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int i = 0; i < numElements; i++) {
+                                    int idleRounds = 0;
+                                    while (!buffer.offer(i, 0)) {
+                                        SpscRingBuffer.idle(idleRounds++);
+                                    }
+                                }
+                            } catch (Throwable t) {
+                                error.set(t);
+                            }
+                        });
+        producer.start();
+
+        List<Integer> drained = new ArrayList<>(numElements);
+        int idleRounds = 0;
+        while (drained.size() < numElements && error.get() == null) {
+            if (buffer.drainTo(drained, 32) == 0) {
+                buffer.awaitNotEmpty(idleRounds++, TimeUnit.MILLISECONDS.toNanos(100));
+            } else {
+                idleRounds = 0;
+            }
+        }
+        producer.join();
+
+        assertThat(error.get()).isNull();
+        for (int i = 0; i < numElements; i++) {
+            assertThat(drained.get(i)).isEqualTo(i);
+        }
+    }
+}
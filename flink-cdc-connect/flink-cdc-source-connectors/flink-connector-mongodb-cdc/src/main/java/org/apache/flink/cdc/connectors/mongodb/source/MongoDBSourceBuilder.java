@@ -277,6 +277,15 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of stream splits the change stream is partitioned into when the {@link
+     * MongoDBSource} starts from the latest offset or a timestamp.
+     */
+    public MongoDBSourceBuilder<T> changeStreamPartitions(int changeStreamPartitions) {
+        this.configFactory.changeStreamPartitions(changeStreamPartitions);
+        return this;
+    }
+
     /**
      * Build the {@link MongoDBSource}.
      *
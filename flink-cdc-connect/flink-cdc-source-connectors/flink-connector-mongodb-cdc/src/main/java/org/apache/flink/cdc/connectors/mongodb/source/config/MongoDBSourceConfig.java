@@ -56,6 +56,7 @@ public class MongoDBSourceConfig implements SourceConfig {
     private final boolean skipSnapshotBackfill;
     private final boolean isScanNewlyAddedTableEnabled;
     private final boolean assignUnboundedChunkFirst;
+    private final int changeStreamPartitions;
 
     MongoDBSourceConfig(
             String scheme,
@@ -79,7 +80,8 @@ public class MongoDBSourceConfig implements SourceConfig {
             boolean disableCursorTimeout,
             boolean skipSnapshotBackfill,
             boolean isScanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int changeStreamPartitions) {
         this.scheme = checkNotNull(scheme);
         this.hosts = checkNotNull(hosts);
         this.username = username;
@@ -103,6 +105,7 @@ public class MongoDBSourceConfig implements SourceConfig {
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.isScanNewlyAddedTableEnabled = isScanNewlyAddedTableEnabled;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.changeStreamPartitions = changeStreamPartitions;
     }
 
     public String getScheme() {
@@ -207,6 +210,10 @@ public class MongoDBSourceConfig implements SourceConfig {
         return assignUnboundedChunkFirst;
     }
 
+    public int getChangeStreamPartitions() {
+        return changeStreamPartitions;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -226,6 +233,7 @@ public class MongoDBSourceConfig implements SourceConfig {
                 && splitSizeMB == that.splitSizeMB
                 && samplesPerChunk == that.samplesPerChunk
                 && closeIdleReaders == that.closeIdleReaders
+                && changeStreamPartitions == that.changeStreamPartitions
                 && Objects.equals(scheme, that.scheme)
                 && Objects.equals(hosts, that.hosts)
                 && Objects.equals(username, that.username)
@@ -258,6 +266,7 @@ public class MongoDBSourceConfig implements SourceConfig {
                 samplesPerChunk,
                 closeIdleReaders,
                 skipSnapshotBackfill,
-                isScanNewlyAddedTableEnabled);
+                isScanNewlyAddedTableEnabled,
+                changeStreamPartitions);
     }
 }
@@ -63,6 +63,8 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     protected boolean skipSnapshotBackfill = false;
     protected boolean scanNewlyAddedTableEnabled = false;
     protected boolean assignUnboundedChunkFirst = false;
+    private Integer changeStreamPartitions =
+            MongoDBSourceOptions.SCAN_CHANGE_STREAM_PARTITIONS.defaultValue();
 
     /** The protocol connected to MongoDB. For example mongodb or mongodb+srv. */
     public MongoDBSourceConfigFactory scheme(String scheme) {
@@ -280,10 +282,29 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * scan.change-stream.partitions
+     *
+     * <p>The number of stream splits the change stream is partitioned into for stream-only startup
+     * modes. Each partition watches a disjoint group of the captured collections and is read by a
+     * dedicated reader, so it must not exceed the source parallelism. Default: 1
+     */
+    public MongoDBSourceConfigFactory changeStreamPartitions(int changeStreamPartitions) {
+        checkArgument(changeStreamPartitions > 0);
+        this.changeStreamPartitions = changeStreamPartitions;
+        return this;
+    }
+
     /** Creates a new {@link MongoDBSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public MongoDBSourceConfig create(int subtaskId) {
         checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
+        checkArgument(
+                changeStreamPartitions == 1 || startupOptions.isStreamOnly(),
+                "Partitioned change stream reading is only supported for stream-only startup modes.");
+        checkArgument(
+                changeStreamPartitions == 1 || !scanNewlyAddedTableEnabled,
+                "Partitioned change stream reading is not supported when scanning newly added tables.");
         return new MongoDBSourceConfig(
                 scheme,
                 hosts,
@@ -306,6 +327,7 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 disableCursorTimeout,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                changeStreamPartitions);
     }
 }
@@ -178,4 +178,18 @@ public class MongoDBSourceOptions {
                     .defaultValue(true)
                     .withDescription(
                             "MongoDB server normally times out idle cursors after an inactivity period (10 minutes) to prevent excess memory use. Set this option to true to prevent that.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_CHANGE_STREAM_PARTITIONS =
+            ConfigOptions.key("scan.change-stream.partitions")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of stream splits the change stream is partitioned into when starting "
+                                    + "from the latest offset or a timestamp. Captured collections are distributed "
+                                    + "over the partitions by namespace, and each partition is read by an independent "
+                                    + "change stream with its own resume token. Every partition is read by a dedicated "
+                                    + "reader, so the number of partitions must not exceed the source parallelism. The "
+                                    + "watermark of the source is the minimum of the watermarks of the partitions, so the "
+                                    + "heartbeat should be enabled to let idle partitions progress. Defaults to 1.");
 }
@@ -22,6 +22,7 @@ import org.apache.flink.cdc.connectors.base.dialect.DataSourceDialect;
 import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
 import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 import org.apache.flink.cdc.connectors.mongodb.source.assigners.splitters.MongoDBChunkSplitter;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
@@ -30,6 +31,7 @@ import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
 import org.apache.flink.cdc.connectors.mongodb.source.reader.fetch.MongoDBFetchTaskContext;
 import org.apache.flink.cdc.connectors.mongodb.source.reader.fetch.MongoDBScanFetchTask;
 import org.apache.flink.cdc.connectors.mongodb.source.reader.fetch.MongoDBStreamFetchTask;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.ChangeStreamPartitionUtils;
 import org.apache.flink.cdc.connectors.mongodb.source.utils.CollectionDiscoveryUtils.CollectionDiscoveryInfo;
 import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils;
 
@@ -43,6 +45,7 @@ import org.bson.BsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -165,6 +168,23 @@ public class MongoDBDialect implements DataSourceDialect<MongoDBSourceConfig> {
         return createChunkSplitter(sourceConfig);
     }
 
+    @Override
+    public int getStreamSplitPartitions(MongoDBSourceConfig sourceConfig) {
+        return sourceConfig.getChangeStreamPartitions();
+    }
+
+    @Override
+    public List<StreamSplit> partitionStreamSplit(
+            MongoDBSourceConfig sourceConfig, StreamSplit streamSplit) {
+        int partitions = getStreamSplitPartitions(sourceConfig);
+        if (partitions <= 1) {
+            return Collections.singletonList(streamSplit);
+        }
+        LOG.info("Partitioning the change stream into {} stream splits.", partitions);
+        return ChangeStreamPartitionUtils.partitionStreamSplit(
+                streamSplit, discoverDataCollections(sourceConfig), partitions);
+    }
+
     @Override
     public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
         if (sourceSplitBase.isSnapshotSplit()) {
@@ -22,6 +22,7 @@ import io.debezium.relational.TableId;
 import javax.annotation.Nullable;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -38,15 +39,33 @@ public class ChangeStreamDescriptor implements Serializable {
 
     @Nullable private final Pattern namespaceRegex;
 
+    /** Namespaces that a partitioned change stream is restricted to. */
+    @Nullable private final List<String> includedNamespaces;
+
+    /** Namespaces that a partitioned change stream leaves to the other partitions. */
+    @Nullable private final List<String> excludedNamespaces;
+
     public ChangeStreamDescriptor(
             @Nullable String database,
             @Nullable String collection,
             @Nullable Pattern databaseRegex,
             @Nullable Pattern namespaceRegex) {
+        this(database, collection, databaseRegex, namespaceRegex, null, null);
+    }
+
+    public ChangeStreamDescriptor(
+            @Nullable String database,
+            @Nullable String collection,
+            @Nullable Pattern databaseRegex,
+            @Nullable Pattern namespaceRegex,
+            @Nullable List<String> includedNamespaces,
+            @Nullable List<String> excludedNamespaces) {
         this.database = database;
         this.collection = collection;
         this.databaseRegex = databaseRegex;
         this.namespaceRegex = namespaceRegex;
+        this.includedNamespaces = includedNamespaces;
+        this.excludedNamespaces = excludedNamespaces;
     }
 
     @Nullable
@@ -69,6 +88,32 @@ public class ChangeStreamDescriptor implements Serializable {
         return namespaceRegex;
     }
 
+    @Nullable
+    public List<String> getIncludedNamespaces() {
+        return includedNamespaces;
+    }
+
+    @Nullable
+    public List<String> getExcludedNamespaces() {
+        return excludedNamespaces;
+    }
+
+    public boolean isPartitioned() {
+        return includedNamespaces != null || excludedNamespaces != null;
+    }
+
+    /** Restricts this descriptor to the given namespaces. */
+    public ChangeStreamDescriptor withIncludedNamespaces(List<String> namespaces) {
+        return new ChangeStreamDescriptor(
+                database, collection, databaseRegex, namespaceRegex, namespaces, null);
+    }
+
+    /** Excludes the given namespaces from this descriptor. */
+    public ChangeStreamDescriptor withExcludedNamespaces(List<String> namespaces) {
+        return new ChangeStreamDescriptor(
+                database, collection, databaseRegex, namespaceRegex, null, namespaces);
+    }
+
     public static ChangeStreamDescriptor collection(TableId collectionId) {
         return collection(collectionId.catalog(), collectionId.table());
     }
@@ -110,12 +155,20 @@ public class ChangeStreamDescriptor implements Serializable {
         return Objects.equals(database, that.database)
                 && Objects.equals(collection, that.collection)
                 && Objects.equals(databaseRegex, that.databaseRegex)
-                && Objects.equals(namespaceRegex, that.namespaceRegex);
+                && Objects.equals(namespaceRegex, that.namespaceRegex)
+                && Objects.equals(includedNamespaces, that.includedNamespaces)
+                && Objects.equals(excludedNamespaces, that.excludedNamespaces);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(database, collection, databaseRegex, namespaceRegex);
+        return Objects.hash(
+                database,
+                collection,
+                databaseRegex,
+                namespaceRegex,
+                includedNamespaces,
+                excludedNamespaces);
     }
 
     @Override
@@ -131,6 +184,10 @@ public class ChangeStreamDescriptor implements Serializable {
                 + databaseRegex
                 + ", namespaceRegex="
                 + namespaceRegex
+                + ", includedNamespaces="
+                + includedNamespaces
+                + ", excludedNamespaces="
+                + excludedNamespaces
                 + '}';
     }
 }
@@ -25,6 +25,7 @@ import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
 import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamDescriptor;
 import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.ChangeStreamPartitionUtils;
 import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
 import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils;
 import org.apache.flink.util.FlinkRuntimeException;
@@ -96,7 +97,9 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
         MongoDBFetchTaskContext taskContext = (MongoDBFetchTaskContext) context;
         this.sourceConfig = taskContext.getSourceConfig();
 
-        ChangeStreamDescriptor descriptor = taskContext.getChangeStreamDescriptor();
+        ChangeStreamDescriptor descriptor =
+                ChangeStreamPartitionUtils.partitionDescriptor(
+                        taskContext.getChangeStreamDescriptor(), streamSplit);
         ChangeEventQueue<DataChangeEvent> queue = taskContext.getQueue();
 
         MongoClient mongoClient = clientFor(sourceConfig);
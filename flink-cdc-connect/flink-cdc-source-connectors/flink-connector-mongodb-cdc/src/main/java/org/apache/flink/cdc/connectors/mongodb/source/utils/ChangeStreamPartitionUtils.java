@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.utils;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.mongodb.source.dialect.MongoDBDialect;
+import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamDescriptor;
+
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class to partition the change stream of MongoDB into several stream splits.
+ *
+ * <p>Each partitioned stream split carries the collections captured at the time of partitioning
+ * as its table schemas, and a collection belongs to the partition selected by the hash of its
+ * namespace. Collections created afterward are captured by the first partition, so that every
+ * namespace is watched by exactly one partition regardless of restarts.
+ */
+public class ChangeStreamPartitionUtils {
+
+    private ChangeStreamPartitionUtils() {}
+
+    public static List<StreamSplit> partitionStreamSplit(
+            StreamSplit streamSplit, List<TableId> collections, int partitions) {
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        for (TableId collectionId : collections) {
+            tableSchemas.put(collectionId, MongoDBDialect.collectionSchema(collectionId));
+        }
+
+        List<StreamSplit> streamSplits = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            streamSplits.add(
+                    new StreamSplit(
+                            StreamSplit.partitionedSplitId(i, partitions),
+                            streamSplit.getStartingOffset(),
+                            streamSplit.getEndingOffset(),
+                            new ArrayList<>(),
+                            new HashMap<>(tableSchemas),
+                            0));
+        }
+        return streamSplits;
+    }
+
+    /**
+     * Restricts the given change stream descriptor to the namespaces of the partitioned stream
+     * split.
+     */
+    public static ChangeStreamDescriptor partitionDescriptor(
+            ChangeStreamDescriptor descriptor, StreamSplit streamSplit) {
+        if (!streamSplit.isPartitioned()) {
+            return descriptor;
+        }
+        int partition = streamSplit.getPartition();
+        int partitions = streamSplit.getNumberOfPartitions();
+
+        List<String> includedNamespaces = new ArrayList<>();
+        List<String> excludedNamespaces = new ArrayList<>();
+        for (TableId collectionId : streamSplit.getTableSchemas().keySet()) {
+            String namespace = collectionId.catalog() + "." + collectionId.table();
+            if (partitionOf(namespace, partitions) == partition) {
+                includedNamespaces.add(namespace);
+            } else {
+                excludedNamespaces.add(namespace);
+            }
+        }
+
+        // The first partition also watches the collections created after partitioning.
+        return partition == 0
+                ? descriptor.withExcludedNamespaces(excludedNamespaces)
+                : descriptor.withIncludedNamespaces(includedNamespaces);
+    }
+
+    static int partitionOf(String namespace, int partitions) {
+        return Math.floorMod(namespace.hashCode(), partitions);
+    }
+}
@@ -56,6 +56,8 @@ import java.util.regex.Pattern;
 import static com.mongodb.client.model.Aggregates.match;
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.nin;
 import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Filters.regex;
 import static com.mongodb.client.model.Projections.include;
@@ -183,10 +185,7 @@ public class MongoUtils {
             MongoDBSourceConfig sourceConfig, ChangeStreamDescriptor descriptor) {
         return getChangeStreamIterable(
                 clientFor(sourceConfig),
-                descriptor.getDatabase(),
-                descriptor.getCollection(),
-                descriptor.getDatabaseRegex(),
-                descriptor.getNamespaceRegex(),
+                descriptor,
                 sourceConfig.getBatchSize(),
                 sourceConfig.isUpdateLookup(),
                 sourceConfig.isFullDocPrePostImageEnabled());
@@ -204,6 +203,7 @@ public class MongoUtils {
                 descriptor.getCollection(),
                 descriptor.getDatabaseRegex(),
                 descriptor.getNamespaceRegex(),
+                namespacePartitionFilter(descriptor),
                 batchSize,
                 updateLookup,
                 fullDocPrePostImage);
@@ -218,12 +218,35 @@ public class MongoUtils {
             int batchSize,
             boolean updateLookup,
             boolean fullDocPrePostImage) {
+        return getChangeStreamIterable(
+                mongoClient,
+                database,
+                collection,
+                databaseRegex,
+                namespaceRegex,
+                null,
+                batchSize,
+                updateLookup,
+                fullDocPrePostImage);
+    }
+
+    public static ChangeStreamIterable<Document> getChangeStreamIterable(
+            MongoClient mongoClient,
+            @Nullable String database,
+            @Nullable String collection,
+            @Nullable Pattern databaseRegex,
+            @Nullable Pattern namespaceRegex,
+            @Nullable Bson namespacePartitionFilter,
+            int batchSize,
+            boolean updateLookup,
+            boolean fullDocPrePostImage) {
         ChangeStreamIterable<Document> changeStream;
         if (StringUtils.isNotEmpty(database) && StringUtils.isNotEmpty(collection)) {
             MongoCollection<Document> coll =
                     mongoClient.getDatabase(database).getCollection(collection);
             LOG.info("Preparing change stream for collection {}.{}", database, collection);
-            changeStream = coll.watch();
+            changeStream =
+                    coll.watch(withNamespacePartition(new ArrayList<>(), namespacePartitionFilter));
         } else if (StringUtils.isNotEmpty(database) && namespaceRegex != null) {
             MongoDatabase db = mongoClient.getDatabase(database);
             List<Bson> pipeline = new ArrayList<>();
@@ -235,11 +258,12 @@ public class MongoUtils {
                     "Preparing change stream for database {} with namespace regex filter {}",
                     database,
                     namespaceRegex);
-            changeStream = db.watch(pipeline);
+            changeStream = db.watch(withNamespacePartition(pipeline, namespacePartitionFilter));
         } else if (StringUtils.isNotEmpty(database)) {
             MongoDatabase db = mongoClient.getDatabase(database);
             LOG.info("Preparing change stream for database {}", database);
-            changeStream = db.watch();
+            changeStream =
+                    db.watch(withNamespacePartition(new ArrayList<>(), namespacePartitionFilter));
         } else if (namespaceRegex != null) {
             List<Bson> pipeline = new ArrayList<>();
             pipeline.add(CollectionDiscoveryUtils.ADD_NS_FIELD);
@@ -261,7 +285,8 @@ public class MongoUtils {
             }
 
             pipeline.add(match(nsFilter));
-            changeStream = mongoClient.watch(pipeline);
+            changeStream =
+                    mongoClient.watch(withNamespacePartition(pipeline, namespacePartitionFilter));
         } else if (databaseRegex != null) {
             List<Bson> pipeline = new ArrayList<>();
             pipeline.add(match(regex("ns.db", databaseRegex)));
@@ -269,10 +294,13 @@ public class MongoUtils {
             LOG.info(
                     "Preparing change stream for deployment  with database regex filter {}",
                     databaseRegex);
-            changeStream = mongoClient.watch(pipeline);
+            changeStream =
+                    mongoClient.watch(withNamespacePartition(pipeline, namespacePartitionFilter));
         } else {
             LOG.info("Preparing change stream for deployment");
-            changeStream = mongoClient.watch();
+            changeStream =
+                    mongoClient.watch(
+                            withNamespacePartition(new ArrayList<>(), namespacePartitionFilter));
         }
 
         if (batchSize > 0) {
@@ -298,6 +326,40 @@ public class MongoUtils {
         return changeStream;
     }
 
+    @Nullable
+    private static Bson namespacePartitionFilter(ChangeStreamDescriptor descriptor) {
+        Bson includeFilter =
+                descriptor.getIncludedNamespaces() == null
+                        ? null
+                        : in(
+                                CollectionDiscoveryUtils.ADD_NS_FIELD_NAME,
+                                descriptor.getIncludedNamespaces());
+        Bson excludeFilter =
+                descriptor.getExcludedNamespaces() == null
+                        ? null
+                        : nin(
+                                CollectionDiscoveryUtils.ADD_NS_FIELD_NAME,
+                                descriptor.getExcludedNamespaces());
+        if (includeFilter != null && excludeFilter != null) {
+            return and(includeFilter, excludeFilter);
+        }
+        return includeFilter != null ? includeFilter : excludeFilter;
+    }
+
+    private static List<Bson> withNamespacePartition(
+            List<Bson> pipeline, @Nullable Bson namespacePartitionFilter) {
+        if (namespacePartitionFilter != null) {
+            if (!pipeline.contains(CollectionDiscoveryUtils.ADD_NS_FIELD)) {
+                pipeline.add(CollectionDiscoveryUtils.ADD_NS_FIELD);
+            }
+            LOG.info(
+                    "Restricting change stream to namespace partition {}",
+                    namespacePartitionFilter);
+            pipeline.add(match(namespacePartitionFilter));
+        }
+        return pipeline;
+    }
+
     @Nullable
     public static BsonDocument getLatestResumeToken(
             MongoClient mongoClient, ChangeStreamDescriptor descriptor) {
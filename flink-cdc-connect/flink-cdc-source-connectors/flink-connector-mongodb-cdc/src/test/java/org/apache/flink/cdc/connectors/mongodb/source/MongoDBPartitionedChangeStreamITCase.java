@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source;
+
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.api.common.restartstrategy.RestartStrategies;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.mongodb.utils.TestTable;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.catalog.ResolvedSchema;
+import org.apache.flink.table.catalog.UniqueConstraint;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.util.CloseableIterator;
+
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import org.assertj.core.api.Assertions;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.cdc.connectors.mongodb.utils.MongoDBAssertUtils.assertEqualsInAnyOrder;
+import static org.apache.flink.cdc.connectors.mongodb.utils.MongoDBContainer.FLINK_USER;
+import static org.apache.flink.cdc.connectors.mongodb.utils.MongoDBContainer.FLINK_USER_PASSWORD;
+import static org.apache.flink.cdc.connectors.mongodb.utils.MongoDBTestUtils.fetchRowData;
+import static org.apache.flink.table.api.DataTypes.BIGINT;
+import static org.apache.flink.table.api.DataTypes.STRING;
+import static org.apache.flink.table.catalog.Column.physical;
+
+/** IT tests for {@link MongoDBSource} reading a partitioned change stream. */
+@Timeout(value = 300, unit = TimeUnit.SECONDS)
+class MongoDBPartitionedChangeStreamITCase extends MongoDBSourceTestBase {
+
+    private static final int CHANGE_STREAM_PARTITIONS = 2;
+
+    private static final String[] CAPTURED_COLLECTIONS = new String[] {"customers", "customers_1"};
+
+    @Test
+    void testReadPartitionedChangeStreamWithSingleParallelism() throws Exception {
+        String customerDatabase = MONGO_CONTAINER.executeCommandFileInSeparateDatabase("customer");
+
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        env.setParallelism(1);
+        env.setRestartStrategy(RestartStrategies.noRestart());
+
+        // the second stream split would never be assigned, so the source must fail early
+        Assertions.assertThatThrownBy(
+                        () -> {
+                            try (CloseableIterator<RowData> iterator =
+                                    env.fromSource(
+                                                    createSource(
+                                                            customerDatabase,
+                                                            System.currentTimeMillis()),
+                                                    WatermarkStrategy.noWatermarks(),
+                                                    "Partitioned Change Stream Source")
+                                            .executeAndCollect()) {
+                                iterator.hasNext();
+                            }
+                        })
+                .hasStackTraceContaining(
+                        "The stream split is partitioned into 2 stream splits, which exceeds the source parallelism 1.");
+    }
+
+    @Test
+    void testReadPartitionedChangeStreamWithMultipleParallelism() throws Exception {
+        String customerDatabase = MONGO_CONTAINER.executeCommandFileInSeparateDatabase("customer");
+        // the change stream starts at a timestamp in seconds, skip the initial data
+        Thread.sleep(1000L);
+        long startupTimestamp = System.currentTimeMillis();
+        Thread.sleep(1000L);
+        makeChangeStreamEvents(mongodbClient.getDatabase(customerDatabase));
+
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        env.setParallelism(CHANGE_STREAM_PARTITIONS);
+        env.enableCheckpointing(200L);
+        env.setRestartStrategy(RestartStrategies.noRestart());
+
+        List<String> expectedRecords =
+                Arrays.asList(
+                        "+I[3000, user_3000, Hangzhou, 123567891234]",
+                        "+U[101, user_1, Hangzhou, 123567891234]",
+                        "+I[3001, user_3001, Beijing, 123567891234]",
+                        "+U[101, user_1, Beijing, 123567891234]",
+                        "-D[0, null, null, null]",
+                        "-D[0, null, null, null]");
+        List<String> records = new ArrayList<>();
+        try (CloseableIterator<RowData> iterator =
+                env.fromSource(
+                                createSource(customerDatabase, startupTimestamp),
+                                WatermarkStrategy.noWatermarks(),
+                                "Partitioned Change Stream Source")
+                        .executeAndCollect()) {
+            records = fetchRowData(iterator, expectedRecords.size(), customerTable()::stringify);
+        }
+        assertEqualsInAnyOrder(expectedRecords, records);
+    }
+
+    private MongoDBSource<RowData> createSource(String customerDatabase, long startupTimestamp) {
+        String[] collectionList = new String[CAPTURED_COLLECTIONS.length];
+        for (int i = 0; i < CAPTURED_COLLECTIONS.length; i++) {
+            collectionList[i] = customerDatabase + "." + CAPTURED_COLLECTIONS[i];
+        }
+        return new MongoDBSourceBuilder<RowData>()
+                .hosts(MONGO_CONTAINER.getHostAndPort())
+                .databaseList(customerDatabase)
+                .username(FLINK_USER)
+                .password(FLINK_USER_PASSWORD)
+                .collectionList(collectionList)
+                .startupOptions(StartupOptions.timestamp(startupTimestamp))
+                .heartbeatIntervalMillis(500)
+                .changeStreamPartitions(CHANGE_STREAM_PARTITIONS)
+                .deserializer(customerTable().getDeserializer(false))
+                .build();
+    }
+
+    private static TestTable customerTable() {
+        ResolvedSchema customersSchema =
+                new ResolvedSchema(
+                        Arrays.asList(
+                                physical("cid", BIGINT().notNull()),
+                                physical("name", STRING()),
+                                physical("address", STRING()),
+                                physical("phone_number", STRING())),
+                        new ArrayList<>(),
+                        UniqueConstraint.primaryKey("pk", Collections.singletonList("cid")));
+        return new TestTable("customer", "customers", customersSchema);
+    }
+
+    private static void makeChangeStreamEvents(MongoDatabase database) {
+        String[] addresses = new String[] {"Hangzhou", "Beijing"};
+        for (int i = 0; i < CAPTURED_COLLECTIONS.length; i++) {
+            long cid = 3000L + i;
+            database.getCollection(CAPTURED_COLLECTIONS[i])
+                    .insertOne(
+                            new Document("cid", cid)
+                                    .append("name", "user_" + cid)
+                                    .append("address", addresses[i])
+                                    .append("phone_number", "123567891234"));
+            database.getCollection(CAPTURED_COLLECTIONS[i])
+                    .updateOne(Filters.eq("cid", 101L), Updates.set("address", addresses[i]));
+            database.getCollection(CAPTURED_COLLECTIONS[i]).deleteOne(Filters.eq("cid", cid));
+        }
+    }
+}
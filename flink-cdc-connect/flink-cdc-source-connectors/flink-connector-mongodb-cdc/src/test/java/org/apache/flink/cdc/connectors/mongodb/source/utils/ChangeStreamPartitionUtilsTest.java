@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.utils;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamDescriptor;
+import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/** Unit test for {@link ChangeStreamPartitionUtils}. */
+class ChangeStreamPartitionUtilsTest {
+
+    @Test
+    void testPartitionStreamSplit() {
+        StreamSplit streamSplit =
+                new StreamSplit(
+                        StreamSplit.STREAM_SPLIT_ID,
+                        new ChangeStreamOffset(new BsonTimestamp(1666689852, 1)),
+                        ChangeStreamOffset.NO_STOPPING_OFFSET,
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        0);
+        List<TableId> collections =
+                Arrays.asList(
+                        new TableId("db0", null, "coll0"),
+                        new TableId("db0", null, "coll1"),
+                        new TableId("db1", null, "coll0"),
+                        new TableId("db1", null, "coll1"),
+                        new TableId("db2", null, "coll0"));
+
+        List<StreamSplit> streamSplits =
+                ChangeStreamPartitionUtils.partitionStreamSplit(streamSplit, collections, 3);
+        Assertions.assertThat(streamSplits).hasSize(3);
+
+        Set<String> includedNamespaces = new HashSet<>();
+        for (int i = 0; i < streamSplits.size(); i++) {
+            StreamSplit partition = streamSplits.get(i);
+            Assertions.assertThat(partition.splitId())
+                    .isEqualTo(StreamSplit.partitionedSplitId(i, 3));
+            Assertions.assertThat(partition.isPartitioned()).isTrue();
+            Assertions.assertThat(partition.getPartition()).isEqualTo(i);
+            Assertions.assertThat(partition.getNumberOfPartitions()).isEqualTo(3);
+            Assertions.assertThat(partition.getStartingOffset())
+                    .isEqualTo(streamSplit.getStartingOffset());
+
+            ChangeStreamDescriptor descriptor =
+                    ChangeStreamPartitionUtils.partitionDescriptor(
+                            ChangeStreamDescriptor.deployment(), partition);
+            Assertions.assertThat(descriptor.isPartitioned()).isTrue();
+            if (i == 0) {
+                // the first partition watches all namespaces except those of other partitions
+                Assertions.assertThat(descriptor.getIncludedNamespaces()).isNull();
+                for (String namespace : descriptor.getExcludedNamespaces()) {
+                    Assertions.assertThat(ChangeStreamPartitionUtils.partitionOf(namespace, 3))
+                            .isNotEqualTo(0);
+                }
+            } else {
+                Assertions.assertThat(descriptor.getExcludedNamespaces()).isNull();
+                for (String namespace : descriptor.getIncludedNamespaces()) {
+                    Assertions.assertThat(includedNamespaces.add(namespace)).isTrue();
+                }
+            }
+        }
+
+        Assertions.assertThat(streamSplit.isPartitioned()).isFalse();
+        Assertions.assertThat(
+                        ChangeStreamPartitionUtils.partitionDescriptor(
+                                ChangeStreamDescriptor.deployment(), streamSplit))
+                .isEqualTo(ChangeStreamDescriptor.deployment());
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.connectors.mysql.debezium.EmbeddedFlinkDatabaseHistory;
+import org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
+import org.apache.flink.cdc.connectors.mysql.debezium.task.MySqlSharedBackfillReadTask;
+import org.apache.flink.cdc.connectors.mysql.debezium.task.context.StatefulTaskContext;
+import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.cdc.connectors.mysql.source.utils.SplitKeyUtils;
+import org.apache.flink.cdc.connectors.mysql.source.utils.TableDiscoveryUtils;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.mysql.MySqlPartition;
+import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.createBinaryClient;
+import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlConnection;
+import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.currentBinlogOffset;
+import static org.apache.flink.util.Preconditions.checkState;
+
+/**
+ * A binlog reader shared by the {@link SnapshotSplitReader}s of a MySQL source in the same JVM,
+ * which reads the binlog once for the backfill of all snapshot splits being read concurrently.
+ *
+ * <p>A snapshot split reader registers a {@link BackfillWindow} before the low watermark of its
+ * split is read, from then on the data change events of the split's table and key range are
+ * buffered in the window. Once the snapshot of the split is read, the reader waits in {@link
+ * #awaitBackfill} until the shared reader has read the binlog up to the high watermark, and gets
+ * the events after the low watermark and up to the high watermark of the split.
+ *
+ * <p>The binlog is read from the latest binlog position when a window is registered while no
+ * binlog is being read, and the binlog connection is closed as soon as no window is left. The
+ * binlog connection uses the server id of the snapshot split reader that created the shared reader,
+ * which is free as long as that reader reads snapshot splits.
+ */
+public class SharedBackfillBinlogReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedBackfillBinlogReader.class);
+
+    private static final String SHARED_BACKFILL_SPLIT_ID = "shared-backfill-binlog-split";
+    private static final long READER_CLOSE_TIMEOUT = 30L;
+
+    private static final Map<String, SharedBackfillBinlogReader> SHARED_READERS = new HashMap<>();
+
+    private final String key;
+    private final MySqlSourceConfig sourceConfig;
+    private final ExecutorService executorService;
+    private final long pollIntervalMillis;
+    private final Function<SharedBackfillBinlogReader, Session> sessionStarter;
+
+    /** The high watermark the binlog task signals the dispatcher thread at next. */
+    private final AtomicReference<BinlogOffset> nextHighWatermark = new AtomicReference<>();
+
+    // guarded by SHARED_READERS
+    private int referenceCount;
+
+    // guarded by this
+    private final Map<TableId, List<BackfillWindow>> windows = new HashMap<>();
+    private boolean closed;
+
+    @Nullable private volatile Session session;
+
+    private SharedBackfillBinlogReader(
+            String key,
+            MySqlSourceConfig sourceConfig,
+            Function<SharedBackfillBinlogReader, Session> sessionStarter) {
+        this.key = key;
+        this.sessionStarter = sessionStarter;
+        String instanceName =
+                sourceConfig
+                        .getDbzConfiguration()
+                        .getString(EmbeddedFlinkDatabaseHistory.DATABASE_HISTORY_INSTANCE_NAME);
+        Properties dbzPropertyOverrides = new Properties();
+        // the database history is registered by instance name, so use an instance of our own
+        dbzPropertyOverrides.setProperty(
+                EmbeddedFlinkDatabaseHistory.DATABASE_HISTORY_INSTANCE_NAME,
+                instanceName + "_shared_backfill");
+        dbzPropertyOverrides.setProperty(Heartbeat.HEARTBEAT_INTERVAL.name(), "0");
+        // binlog end events are enqueued by the waiting snapshot split readers as well
+        dbzPropertyOverrides.setProperty(ChangeEventQueue.RING_BUFFER_ENABLED.name(), "false");
+        this.sourceConfig = sourceConfig.withDbzProperties(dbzPropertyOverrides);
+        this.pollIntervalMillis =
+                this.sourceConfig.getMySqlConnectorConfig().getPollInterval().toMillis();
+        this.executorService =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("debezium-shared-backfill-reader-%d")
+                                .build());
+    }
+
+    /**
+     * Returns the shared backfill binlog reader for the MySQL source of the given config, which
+     * must be released by {@link #release()} once it is not used anymore.
+     */
+    public static SharedBackfillBinlogReader acquire(MySqlSourceConfig sourceConfig) {
+        return acquire(sourceConfig, SharedBackfillBinlogReader::startBinlogSession);
+    }
+
+    @VisibleForTesting
+    static SharedBackfillBinlogReader acquire(
+            MySqlSourceConfig sourceConfig,
+            Function<SharedBackfillBinlogReader, Session> sessionStarter) {
+        String key = sharedReaderKey(sourceConfig);
+        synchronized (SHARED_READERS) {
+            SharedBackfillBinlogReader reader =
+                    SHARED_READERS.computeIfAbsent(
+                            key,
+                            k -> new SharedBackfillBinlogReader(k, sourceConfig, sessionStarter));
+            reader.referenceCount++;
+            return reader;
+        }
+    }
+
+    /** Releases the shared reader, which is closed once it is released by all its users. */
+    public void release() {
+        synchronized (SHARED_READERS) {
+            if (--referenceCount > 0) {
+                return;
+            }
+            SHARED_READERS.remove(key);
+        }
+        close();
+    }
+
+    /**
+     * Registers a backfill window for the given snapshot split, which must happen before the low
+     * watermark of the split is read. Starts reading the binlog if it is not being read yet.
+     */
+    public synchronized BackfillWindow register(
+            MySqlSnapshotSplit split, SchemaNameAdjuster nameAdjuster) {
+        checkState(!closed, "The shared backfill binlog reader is already closed.");
+        if (session == null) {
+            session = sessionStarter.apply(this);
+        }
+        BackfillWindow window = new BackfillWindow(split, nameAdjuster);
+        windows.computeIfAbsent(window.tableId, tableId -> new ArrayList<>()).add(window);
+        return window;
+    }
+
+    /**
+     * Sets the watermarks of the given window and waits until the binlog has been read up to the
+     * high watermark.
+     *
+     * @return the data change events of the window's split after the low watermark and up to the
+     *     high watermark, in binlog order.
+     */
+    public List<SourceRecord> awaitBackfill(
+            BackfillWindow window, BinlogOffset lowWatermark, BinlogOffset highWatermark)
+            throws Exception {
+        synchronized (this) {
+            window.setWatermarks(lowWatermark, highWatermark);
+            updateNextHighWatermark();
+        }
+        while (true) {
+            // The binlog task only signals the next high watermark it observes, so the waiting
+            // reader signals its own high watermark if the binlog task has passed it already.
+            // Signals are enqueued after all events read so far, and redundant signals are no-op.
+            Session current = session;
+            if (current != null && !window.future.isDone()) {
+                BinlogOffset position = current.position();
+                if (position != null && position.isAtOrAfter(highWatermark)) {
+                    current.dispatchBackfillEnd(position);
+                }
+            }
+            try {
+                return window.future.get(pollIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check again whether the high watermark has been passed
+            } catch (ExecutionException e) {
+                throw new FlinkRuntimeException(
+                        String.format(
+                                "Failed to backfill snapshot split %s from the shared binlog reader.",
+                                window.splitId),
+                        e.getCause());
+            }
+        }
+    }
+
+    /** Unregisters the given window, which stops reading the binlog if no window is left. */
+    public synchronized void unregister(BackfillWindow window) {
+        List<BackfillWindow> tableWindows = windows.get(window.tableId);
+        if (tableWindows != null && tableWindows.remove(window)) {
+            if (tableWindows.isEmpty()) {
+                windows.remove(window.tableId);
+            }
+            window.future.cancel(false);
+            updateNextHighWatermark();
+            stopIfIdle();
+        }
+    }
+
+    private Session startBinlogSession() {
+        final StatefulTaskContext context =
+                new StatefulTaskContext(
+                        sourceConfig,
+                        createBinaryClient(sourceConfig.getDbzConfiguration()),
+                        createMySqlConnection(sourceConfig));
+        try {
+            BinlogOffset startingOffset = currentBinlogOffset(context.getConnection());
+            Map<TableId, TableChange> tableSchemas =
+                    TableDiscoveryUtils.discoverSchemaForCapturedTables(
+                            new MySqlPartition(
+                                    sourceConfig.getMySqlConnectorConfig().getLogicalName()),
+                            sourceConfig,
+                            context.getConnection());
+            MySqlBinlogSplit binlogSplit =
+                    new MySqlBinlogSplit(
+                            SHARED_BACKFILL_SPLIT_ID,
+                            startingOffset,
+                            BinlogOffset.ofNonStopping(),
+                            new ArrayList<>(),
+                            tableSchemas,
+                            0);
+            context.configure(binlogSplit);
+            LOG.info("Start reading binlog for shared backfill from {}.", startingOffset);
+            BinlogSession newSession = new BinlogSession(context, binlogSplit);
+            executorService.execute(newSession::readBinlog);
+            executorService.execute(newSession::dispatchEvents);
+            return newSession;
+        } catch (Exception e) {
+            closeContext(context);
+            throw new FlinkRuntimeException(
+                    "Failed to start the shared backfill binlog reader.", e);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized void dispatch(Session source, List<DataChangeEvent> events) {
+        if (session != source) {
+            return;
+        }
+        for (DataChangeEvent event : events) {
+            SourceRecord record = event.getRecord();
+            if (RecordUtils.isEndWatermarkEvent(record)) {
+                completeWindows(RecordUtils.getWatermark(record));
+            } else if (RecordUtils.isDataChangeRecord(record)) {
+                List<BackfillWindow> tableWindows = windows.get(RecordUtils.getTableId(record));
+                if (tableWindows != null) {
+                    for (BackfillWindow window : tableWindows) {
+                        window.add(record);
+                    }
+                }
+            }
+        }
+    }
+
+    private void completeWindows(BinlogOffset binlogEnd) {
+        Iterator<List<BackfillWindow>> tableWindowsIterator = windows.values().iterator();
+        while (tableWindowsIterator.hasNext()) {
+            List<BackfillWindow> tableWindows = tableWindowsIterator.next();
+            Iterator<BackfillWindow> windowIterator = tableWindows.iterator();
+            while (windowIterator.hasNext()) {
+                BackfillWindow window = windowIterator.next();
+                if (window.highWatermark != null && !window.highWatermark.isAfter(binlogEnd)) {
+                    window.complete();
+                    windowIterator.remove();
+                }
+            }
+            if (tableWindows.isEmpty()) {
+                tableWindowsIterator.remove();
+            }
+        }
+        updateNextHighWatermark();
+        stopIfIdle();
+    }
+
+    @VisibleForTesting
+    synchronized void fail(Session source, Throwable throwable) {
+        if (session != source) {
+            return;
+        }
+        LOG.error("Failed to read binlog for shared backfill.", throwable);
+        for (List<BackfillWindow> tableWindows : windows.values()) {
+            for (BackfillWindow window : tableWindows) {
+                window.future.completeExceptionally(throwable);
+            }
+        }
+        windows.clear();
+        nextHighWatermark.set(null);
+        source.stop();
+        session = null;
+    }
+
+    private void updateNextHighWatermark() {
+        BinlogOffset next = null;
+        for (List<BackfillWindow> tableWindows : windows.values()) {
+            for (BackfillWindow window : tableWindows) {
+                if (window.highWatermark != null
+                        && (next == null || window.highWatermark.isBefore(next))) {
+                    next = window.highWatermark;
+                }
+            }
+        }
+        nextHighWatermark.set(next);
+    }
+
+    private void stopIfIdle() {
+        if (windows.isEmpty() && session != null) {
+            LOG.info("Stop reading binlog for shared backfill as no snapshot split is waiting.");
+            session.stop();
+            session = null;
+        }
+    }
+
+    private void close() {
+        synchronized (this) {
+            closed = true;
+            for (List<BackfillWindow> tableWindows : windows.values()) {
+                for (BackfillWindow window : tableWindows) {
+                    window.future.cancel(false);
+                }
+            }
+            windows.clear();
+            stopIfIdle();
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(READER_CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+                LOG.warn(
+                        "Failed to close the shared backfill binlog reader in {} seconds.",
+                        READER_CLOSE_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeContext(StatefulTaskContext context) {
+        try {
+            context.close();
+        } catch (Exception e) {
+            LOG.warn("Failed to close the shared backfill binlog reader.", e);
+        }
+    }
+
+    private static String sharedReaderKey(MySqlSourceConfig sourceConfig) {
+        return String.join(
+                "|",
+                sourceConfig.getHostname(),
+                String.valueOf(sourceConfig.getPort()),
+                sourceConfig.getUsername(),
+                String.valueOf(sourceConfig.getDatabaseList()),
+                String.valueOf(sourceConfig.getTableList()),
+                String.valueOf(sourceConfig.getExcludeTableList()),
+                String.valueOf(sourceConfig.getServerIdRange()));
+    }
+
+    /** One run of reading the binlog, from the first registered window until no window is left. */
+    @VisibleForTesting
+    interface Session {
+
+        /** Returns the latest binlog position read, or null if no event has been read yet. */
+        @Nullable
+        BinlogOffset position();
+
+        /** Signals the end of the backfill at the given binlog position after all events read. */
+        void dispatchBackfillEnd(BinlogOffset binlogEnd) throws InterruptedException;
+
+        /** Stops reading the binlog. */
+        void stop();
+    }
+
+    /** A {@link Session} reading the binlog with its own binlog connection. */
+    private final class BinlogSession implements Session {
+
+        private final StatefulTaskContext context;
+        private final MySqlBinlogSplit binlogSplit;
+        private final StoppableChangeEventSourceContext sourceContext =
+                new StoppableChangeEventSourceContext();
+
+        private volatile boolean running = true;
+        @Nullable private volatile BinlogOffset position;
+
+        private BinlogSession(StatefulTaskContext context, MySqlBinlogSplit binlogSplit) {
+            this.context = context;
+            this.binlogSplit = binlogSplit;
+        }
+
+        private void readBinlog() {
+            try {
+                new MySqlSharedBackfillReadTask(
+                                context.getConnectorConfig(),
+                                context.getConnection(),
+                                context.getDispatcher(),
+                                context.getSignalEventDispatcher(),
+                                context.getErrorHandler(),
+                                StatefulTaskContext.getClock(),
+                                context.getTaskContext(),
+                                (MySqlStreamingChangeEventSourceMetrics)
+                                        context.getStreamingChangeEventSourceMetrics(),
+                                binlogSplit,
+                                this::onBinlogPosition)
+                        .execute(
+                                sourceContext,
+                                context.getMySqlPartition(),
+                                context.getOffsetContext());
+            } catch (Throwable t) {
+                fail(this, t);
+            }
+        }
+
+        private void dispatchEvents() {
+            try {
+                while (running) {
+                    dispatch(this, context.getQueue().poll());
+                }
+            } catch (Throwable t) {
+                fail(this, t);
+            } finally {
+                closeContext(context);
+            }
+        }
+
+        private void onBinlogPosition(BinlogOffset currentPosition) {
+            position = currentPosition;
+            BinlogOffset highWatermark = nextHighWatermark.get();
+            if (highWatermark != null
+                    && currentPosition.isAtOrAfter(highWatermark)
+                    && nextHighWatermark.compareAndSet(highWatermark, null)) {
+                try {
+                    dispatchBackfillEnd(currentPosition);
+                } catch (InterruptedException e) {
+                    LOG.error("Send signal event error.", e);
+                    context.getErrorHandler()
+                            .setProducerThrowable(
+                                    new DebeziumException(
+                                            "Error processing binlog signal event", e));
+                }
+            }
+        }
+
+        @Nullable
+        @Override
+        public BinlogOffset position() {
+            return position;
+        }
+
+        @Override
+        public void dispatchBackfillEnd(BinlogOffset binlogEnd) throws InterruptedException {
+            context.getSignalEventDispatcher()
+                    .dispatchWatermarkEvent(
+                            binlogSplit, binlogEnd, SignalEventDispatcher.WatermarkKind.BINLOG_END);
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+            sourceContext.stopChangeEventSource();
+        }
+    }
+
+    /** The binlog events of a snapshot split that are buffered for its backfill. */
+    public static final class BackfillWindow {
+
+        private final String splitId;
+        private final TableId tableId;
+        private final RowType splitKeyType;
+        private final Object[] splitStart;
+        private final Object[] splitEnd;
+        private final SchemaNameAdjuster nameAdjuster;
+        private final List<SourceRecord> records = new ArrayList<>();
+        private final CompletableFuture<List<SourceRecord>> future = new CompletableFuture<>();
+
+        @Nullable private BinlogOffset lowWatermark;
+        @Nullable private BinlogOffset highWatermark;
+
+        private BackfillWindow(MySqlSnapshotSplit split, SchemaNameAdjuster nameAdjuster) {
+            this.splitId = split.splitId();
+            this.tableId = split.getTableId();
+            this.splitKeyType = split.getSplitKeyType();
+            this.splitStart = split.getSplitStart();
+            this.splitEnd = split.getSplitEnd();
+            this.nameAdjuster = nameAdjuster;
+        }
+
+        private void add(SourceRecord record) {
+            if (lowWatermark != null && !isAfterLowWatermark(record)) {
+                return;
+            }
+            if (SplitKeyUtils.splitKeyRangeContains(
+                    SplitKeyUtils.getSplitKey(
+                            splitKeyType,
+                            nameAdjuster,
+                            RecordUtils.getStructContainsChunkKey(record)),
+                    splitStart,
+                    splitEnd)) {
+                records.add(record);
+            }
+        }
+
+        private void setWatermarks(BinlogOffset lowWatermark, BinlogOffset highWatermark) {
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+            // drop the events buffered between registering and reading the low watermark
+            records.removeIf(record -> !isAfterLowWatermark(record));
+        }
+
+        private void complete() {
+            records.removeIf(
+                    record -> RecordUtils.getBinlogPosition(record).isAfter(highWatermark));
+            future.complete(new ArrayList<>(records));
+        }
+
+        private boolean isAfterLowWatermark(SourceRecord record) {
+            return RecordUtils.getBinlogPosition(record).isAfter(lowWatermark);
+        }
+    }
+}
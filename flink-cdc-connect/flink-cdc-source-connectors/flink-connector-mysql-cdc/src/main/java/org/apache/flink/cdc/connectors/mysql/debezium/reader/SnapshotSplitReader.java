@@ -80,10 +80,12 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private final StatefulTaskContext statefulTaskContext;
     private final ExecutorService executorService;
     private final SnapshotPhaseHooks hooks;
+    @Nullable private final SharedBackfillBinlogReader sharedBackfillReader;
 
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile boolean currentTaskRunning;
     private volatile Throwable readException;
+    @Nullable private volatile SharedBackfillBinlogReader.BackfillWindow backfillWindow;
 
     // task to read snapshot for current split
     private MySqlSnapshotSplitReadTask splitSnapshotReadTask;
@@ -119,6 +121,11 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                         .build();
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.hooks = hooks;
+        MySqlSourceConfig sourceConfig = statefulTaskContext.getSourceConfig();
+        this.sharedBackfillReader =
+                sourceConfig.isSharedSnapshotBackfill() && !sourceConfig.isSkipSnapshotBackfill()
+                        ? SharedBackfillBinlogReader.acquire(sourceConfig)
+                        : null;
         this.currentTaskRunning = false;
         this.hasNextElement = new AtomicBoolean(false);
         this.reachEnd = new AtomicBoolean(false);
@@ -157,15 +164,28 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                         final SnapshotSplitChangeEventSourceContextImpl sourceContext =
                                 new SnapshotSplitChangeEventSourceContextImpl();
 
+                        // Step 0: start buffering binlog events of the split in the shared
+                        // backfill binlog reader before reading the low watermark
+                        if (sharedBackfillReader != null) {
+                            backfillWindow =
+                                    sharedBackfillReader.register(
+                                            currentSnapshotSplit, nameAdjuster);
+                        }
+
                         // Step 1: execute snapshot read task
                         SnapshotResult<MySqlOffsetContext> snapshotResult = snapshot(sourceContext);
 
                         // Step 2: read binlog events between low and high watermark and backfill
                         // changes into snapshot
-                        backfill(snapshotResult, sourceContext);
+                        if (sharedBackfillReader != null) {
+                            backfillFromSharedReader(snapshotResult, sourceContext);
+                        } else {
+                            backfill(snapshotResult, sourceContext);
+                        }
                     } catch (Exception e) {
                         setReadException(e);
                     } finally {
+                        unregisterBackfillWindow();
                         stopCurrentTask();
                     }
                 });
@@ -211,6 +231,36 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
         }
     }
 
+    private void backfillFromSharedReader(
+            SnapshotResult<MySqlOffsetContext> snapshotResult,
+            SnapshotSplitChangeEventSourceContextImpl sourceContext)
+            throws Exception {
+        final MySqlBinlogSplit backfillBinlogSplit = createBackfillBinlogSplit(sourceContext);
+        if (!snapshotResult.isCompletedOrSkipped()) {
+            throw new IllegalStateException(
+                    String.format("Read snapshot for mysql split %s fail", currentSnapshotSplit));
+        }
+        if (isBackfillRequired(backfillBinlogSplit)) {
+            final List<SourceRecord> backfillRecords =
+                    sharedBackfillReader.awaitBackfill(
+                            backfillWindow,
+                            backfillBinlogSplit.getStartingOffset(),
+                            backfillBinlogSplit.getEndingOffset());
+            for (SourceRecord record : backfillRecords) {
+                queue.enqueue(new DataChangeEvent(record));
+            }
+        }
+        dispatchBinlogEndEvent(backfillBinlogSplit);
+    }
+
+    private void unregisterBackfillWindow() {
+        final SharedBackfillBinlogReader.BackfillWindow window = backfillWindow;
+        if (window != null) {
+            sharedBackfillReader.unregister(window);
+            backfillWindow = null;
+        }
+    }
+
     private boolean isBackfillRequired(MySqlBinlogSplit backfillBinlogSplit) {
         return !statefulTaskContext.getSourceConfig().isSkipSnapshotBackfill()
                 && backfillBinlogSplit
@@ -419,6 +469,11 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             if (statefulTaskContext != null) {
                 statefulTaskContext.close();
             }
+            if (sharedBackfillReader != null) {
+                // stop waiting for the backfill of the current split
+                unregisterBackfillWindow();
+                sharedBackfillReader.release();
+            }
             if (executorService != null) {
                 executorService.shutdown();
                 if (!executorService.awaitTermination(READER_CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.task;
+
+import org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl;
+import org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import io.debezium.connector.mysql.MySqlConnection;
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.connector.mysql.MySqlOffsetContext;
+import io.debezium.connector.mysql.MySqlPartition;
+import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
+import io.debezium.connector.mysql.MySqlTaskContext;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+
+import java.util.function.Consumer;
+
+/**
+ * Task to read the binlog for the backfill of all snapshot splits being read concurrently, which
+ * reports the binlog position after each handled event to the given {@code positionListener}.
+ */
+public class MySqlSharedBackfillReadTask extends MySqlBinlogSplitReadTask {
+
+    private final Consumer<BinlogOffset> positionListener;
+
+    public MySqlSharedBackfillReadTask(
+            MySqlConnectorConfig connectorConfig,
+            MySqlConnection connection,
+            EventDispatcherImpl<TableId> dispatcher,
+            SignalEventDispatcher signalEventDispatcher,
+            ErrorHandler errorHandler,
+            Clock clock,
+            MySqlTaskContext taskContext,
+            MySqlStreamingChangeEventSourceMetrics metrics,
+            MySqlBinlogSplit binlogSplit,
+            Consumer<BinlogOffset> positionListener) {
+        super(
+                connectorConfig,
+                connection,
+                dispatcher,
+                signalEventDispatcher,
+                errorHandler,
+                clock,
+                taskContext,
+                metrics,
+                binlogSplit,
+                event -> true);
+        this.positionListener = positionListener;
+    }
+
+    @Override
+    protected void handleEvent(
+            MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) {
+        super.handleEvent(partition, offsetContext, event);
+        positionListener.accept(RecordUtils.getBinlogPosition(offsetContext.getOffset()));
+    }
+}
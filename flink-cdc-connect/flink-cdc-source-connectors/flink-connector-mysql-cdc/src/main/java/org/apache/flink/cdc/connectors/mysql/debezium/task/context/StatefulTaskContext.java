@@ -142,6 +142,10 @@ public class StatefulTaskContext implements AutoCloseable {
                         .maxBatchSize(connectorConfig.getMaxBatchSize())
                         .maxQueueSize(queueSize)
                         .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .ringBuffer(
+                                connectorConfig
+                                        .getConfig()
+                                        .getBoolean(ChangeEventQueue.RING_BUFFER_ENABLED))
                         .loggingContextSupplier(
                                 () ->
                                         taskContext.configureLoggingContext(
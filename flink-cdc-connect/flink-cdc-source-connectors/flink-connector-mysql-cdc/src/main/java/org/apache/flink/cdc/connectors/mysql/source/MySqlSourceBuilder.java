@@ -253,6 +253,16 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether snapshot split readers in the same JVM share one binlog reader for backfill instead
+     * of reading the binlog between the low and high watermark of each snapshot split with their
+     * own binlog connection. Has no effect if backfill is skipped.
+     */
+    public MySqlSourceBuilder<T> sharedSnapshotBackfill(boolean sharedSnapshotBackfill) {
+        this.configFactory.sharedSnapshotBackfill(sharedSnapshotBackfill);
+        return this;
+    }
+
     /**
      * Whether to use legacy json format. The default value is true, which means there is no
      * whitespace before value and after comma in json format.
@@ -67,6 +67,7 @@ public class MySqlSourceConfig implements Serializable {
     private final Properties jdbcProperties;
     private final Map<ObjectPath, String> chunkKeyColumns;
     private final boolean skipSnapshotBackfill;
+    private final boolean sharedSnapshotBackfill;
     private final boolean parseOnLineSchemaChanges;
     public static boolean useLegacyJsonFormat = true;
     private final boolean assignUnboundedChunkFirst;
@@ -105,6 +106,7 @@ public class MySqlSourceConfig implements Serializable {
             Properties jdbcProperties,
             Map<ObjectPath, String> chunkKeyColumns,
             boolean skipSnapshotBackfill,
+            boolean sharedSnapshotBackfill,
             boolean parseOnLineSchemaChanges,
             boolean treatTinyInt1AsBoolean,
             boolean useLegacyJsonFormat,
@@ -148,12 +150,54 @@ public class MySqlSourceConfig implements Serializable {
         this.jdbcProperties = jdbcProperties;
         this.chunkKeyColumns = chunkKeyColumns;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.sharedSnapshotBackfill = sharedSnapshotBackfill;
         this.parseOnLineSchemaChanges = parseOnLineSchemaChanges;
         this.treatTinyInt1AsBoolean = treatTinyInt1AsBoolean;
         this.useLegacyJsonFormat = useLegacyJsonFormat;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
     }
 
+    /**
+     * Creates a copy of this config whose Debezium properties are overridden by the given {@code
+     * dbzPropertyOverrides}.
+     */
+    public MySqlSourceConfig withDbzProperties(Properties dbzPropertyOverrides) {
+        Properties props = new Properties();
+        props.putAll(dbzProperties);
+        props.putAll(dbzPropertyOverrides);
+        return new MySqlSourceConfig(
+                hostname,
+                port,
+                username,
+                password,
+                databaseList,
+                tableList,
+                excludeTableList,
+                serverIdRange,
+                startupOptions,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                serverTimeZone,
+                connectTimeout,
+                connectMaxRetries,
+                connectionPoolSize,
+                distributionFactorUpper,
+                distributionFactorLower,
+                includeSchemaChanges,
+                scanNewlyAddedTableEnabled,
+                closeIdleReaders,
+                props,
+                jdbcProperties,
+                chunkKeyColumns,
+                skipSnapshotBackfill,
+                sharedSnapshotBackfill,
+                parseOnLineSchemaChanges,
+                treatTinyInt1AsBoolean,
+                useLegacyJsonFormat,
+                assignUnboundedChunkFirst);
+    }
+
     public String getHostname() {
         return hostname;
     }
@@ -178,6 +222,11 @@ public class MySqlSourceConfig implements Serializable {
         return tableList;
     }
 
+    @Nullable
+    public String getExcludeTableList() {
+        return excludeTableList;
+    }
+
     @Nullable
     public ServerIdRange getServerIdRange() {
         return serverIdRange;
@@ -282,6 +331,10 @@ public class MySqlSourceConfig implements Serializable {
         return skipSnapshotBackfill;
     }
 
+    public boolean isSharedSnapshotBackfill() {
+        return sharedSnapshotBackfill;
+    }
+
     public boolean isTreatTinyInt1AsBoolean() {
         return treatTinyInt1AsBoolean;
     }
@@ -70,6 +70,7 @@ public class MySqlSourceConfigFactory implements Serializable {
     private Properties dbzProperties;
     private Map<ObjectPath, String> chunkKeyColumns = new HashMap<>();
     private boolean skipSnapshotBackfill = false;
+    private boolean sharedSnapshotBackfill = false;
     private boolean parseOnLineSchemaChanges = false;
     private boolean treatTinyInt1AsBoolean = true;
     private boolean useLegacyJsonFormat = true;
@@ -280,6 +281,16 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * Whether snapshot split readers in the same JVM share one binlog reader for backfill instead
+     * of reading the binlog between the low and high watermark of each snapshot split with their
+     * own binlog connection. Has no effect if backfill is skipped. Defaults to false.
+     */
+    public MySqlSourceConfigFactory sharedSnapshotBackfill(boolean sharedSnapshotBackfill) {
+        this.sharedSnapshotBackfill = sharedSnapshotBackfill;
+        return this;
+    }
+
     /**
      * Whether to use legacy json format. The default value is true, which means there is no
      * whitespace before value and after comma in json format.
@@ -418,6 +429,7 @@ public class MySqlSourceConfigFactory implements Serializable {
                 jdbcProperties,
                 chunkKeyColumns,
                 skipSnapshotBackfill,
+                sharedSnapshotBackfill,
                 parseOnLineSchemaChanges,
                 treatTinyInt1AsBoolean,
                 useLegacyJsonFormat,
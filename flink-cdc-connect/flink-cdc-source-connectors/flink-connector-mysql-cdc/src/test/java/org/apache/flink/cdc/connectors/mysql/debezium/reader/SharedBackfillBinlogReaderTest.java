@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.debezium.reader.SharedBackfillBinlogReader.BackfillWindow;
+import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import io.debezium.data.Envelope;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.debezium.connector.AbstractSourceInfo.DATABASE_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.TABLE_NAME_KEY;
+import static org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.SIGNAL_EVENT_VALUE_SCHEMA_NAME;
+import static org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.SPLIT_ID_KEY;
+import static org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WATERMARK_KIND;
+
+/** Unit tests for {@link SharedBackfillBinlogReader}. */
+class SharedBackfillBinlogReaderTest {
+
+    private static final String BINLOG_FILE = "mysql-bin.000001";
+    private static final TableId PRODUCTS = new TableId("inventory", null, "products");
+    private static final TableId ORDERS = new TableId("inventory", null, "orders");
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.INT())).getLogicalType();
+    private static final SchemaNameAdjuster NAME_ADJUSTER = SchemaNameAdjuster.create();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct().optional().field("id", Schema.INT32_SCHEMA).build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .field(TABLE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .build();
+    private static final Schema CHANGE_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(Envelope.FieldName.BEFORE, ROW_SCHEMA)
+                    .field(Envelope.FieldName.AFTER, ROW_SCHEMA)
+                    .field(Envelope.FieldName.SOURCE, SOURCE_SCHEMA)
+                    .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                    .build();
+    private static final Schema WATERMARK_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(SIGNAL_EVENT_VALUE_SCHEMA_NAME)
+                    .field(SPLIT_ID_KEY, Schema.STRING_SCHEMA)
+                    .field(WATERMARK_KIND, Schema.STRING_SCHEMA)
+                    .build();
+
+    private final List<TestingSession> sessions = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private MySqlSourceConfig sourceConfig;
+    @Nullable private SharedBackfillBinlogReader reader;
+
+    @BeforeEach
+    void before() {
+        Properties dbzProperties = new Properties();
+        // check whether the high watermark has been passed without waiting long
+        dbzProperties.setProperty("poll.interval.ms", "10");
+        sourceConfig =
+                new MySqlSourceConfigFactory()
+                        .startupOptions(StartupOptions.initial())
+                        .databaseList(PRODUCTS.catalog())
+                        .tableList(PRODUCTS.toString(), ORDERS.toString())
+                        .hostname("localhost")
+                        .port(3306)
+                        .username("fakeUser")
+                        .password("fakePw")
+                        .serverTimeZone("UTC")
+                        .debeziumProperties(dbzProperties)
+                        .createConfig(0);
+        reader = acquireReader();
+    }
+
+    @AfterEach
+    void after() {
+        if (reader != null) {
+            reader.release();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBackfillWindowBounds() throws Exception {
+        BackfillWindow window = reader.register(split(0, 10, 20), NAME_ADJUSTER);
+        TestingSession session = sessions.get(0);
+
+        reader.dispatch(
+                session,
+                Arrays.asList(
+                        // before the low watermark
+                        change(PRODUCTS, 150, 15),
+                        // at the low watermark
+                        change(PRODUCTS, 200, 16),
+                        change(PRODUCTS, 250, 17),
+                        // out of the key range of the split
+                        change(PRODUCTS, 260, 25),
+                        // of another table
+                        change(ORDERS, 270, 18),
+                        // at the high watermark
+                        change(PRODUCTS, 300, 19),
+                        // after the high watermark
+                        change(PRODUCTS, 350, 11)));
+        session.position = offset(350);
+
+        Assertions.assertThat(keysOf(reader.awaitBackfill(window, offset(200), offset(300))))
+                .containsExactly(17, 19);
+        Assertions.assertThat(session.stopped).isTrue();
+    }
+
+    @Test
+    void testConcurrentSplitsOfSameTable() throws Exception {
+        BackfillWindow first = reader.register(split(0, null, 10), NAME_ADJUSTER);
+        BackfillWindow second = reader.register(split(1, 10, null), NAME_ADJUSTER);
+        Assertions.assertThat(sessions).hasSize(1);
+        TestingSession session = sessions.get(0);
+
+        Future<List<SourceRecord>> firstBackfill =
+                executor.submit(() -> reader.awaitBackfill(first, offset(100), offset(300)));
+        Future<List<SourceRecord>> secondBackfill =
+                executor.submit(() -> reader.awaitBackfill(second, offset(200), offset(400)));
+
+        reader.dispatch(
+                session,
+                Arrays.asList(
+                        change(PRODUCTS, 110, 5),
+                        change(PRODUCTS, 120, 15),
+                        change(PRODUCTS, 210, 6),
+                        change(PRODUCTS, 220, 16),
+                        change(PRODUCTS, 310, 7),
+                        change(PRODUCTS, 320, 17),
+                        change(PRODUCTS, 410, 8),
+                        change(PRODUCTS, 420, 18)));
+        session.position = offset(420);
+
+        Assertions.assertThat(keysOf(firstBackfill.get(30, TimeUnit.SECONDS)))
+                .containsExactly(5, 6);
+        Assertions.assertThat(keysOf(secondBackfill.get(30, TimeUnit.SECONDS)))
+                .containsExactly(16, 17);
+        Assertions.assertThat(session.stopped).isTrue();
+        Assertions.assertThat(sessions).hasSize(1);
+    }
+
+    @Test
+    void testFailurePropagatedToAllWaitingSplits() throws Exception {
+        List<BackfillWindow> windows =
+                Arrays.asList(
+                        reader.register(split(0, null, 10), NAME_ADJUSTER),
+                        reader.register(split(1, 10, null), NAME_ADJUSTER),
+                        reader.register(
+                                new MySqlSnapshotSplit(
+                                        ORDERS,
+                                        0,
+                                        SPLIT_KEY_TYPE,
+                                        null,
+                                        null,
+                                        null,
+                                        new HashMap<>()),
+                                NAME_ADJUSTER));
+        TestingSession session = sessions.get(0);
+        List<Future<List<SourceRecord>>> backfills = new ArrayList<>();
+        for (BackfillWindow window : windows) {
+            backfills.add(
+                    executor.submit(() -> reader.awaitBackfill(window, offset(100), offset(300))));
+        }
+
+        IOException failure = new IOException("Binlog connection lost.");
+        reader.fail(session, failure);
+
+        for (Future<List<SourceRecord>> backfill : backfills) {
+            Assertions.assertThatThrownBy(() -> backfill.get(30, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(FlinkRuntimeException.class)
+                    .hasMessageContaining("from the shared binlog reader")
+                    .hasCause(failure);
+        }
+        Assertions.assertThat(session.stopped).isTrue();
+
+        // events of the failed session are ignored, and a new window reads the binlog again
+        reader.dispatch(session, Collections.singletonList(change(PRODUCTS, 110, 5)));
+        reader.register(split(2, null, null), NAME_ADJUSTER);
+        Assertions.assertThat(sessions).hasSize(2);
+    }
+
+    @Test
+    void testReleaseStopsSession() {
+        BackfillWindow window = reader.register(split(0, null, null), NAME_ADJUSTER);
+        TestingSession session = sessions.get(0);
+
+        SharedBackfillBinlogReader other = acquireReader();
+        Assertions.assertThat(other).isSameAs(reader);
+        other.release();
+        Assertions.assertThat(session.stopped).isFalse();
+
+        reader.release();
+        reader = null;
+        Assertions.assertThat(session.stopped).isTrue();
+        Assertions.assertThatThrownBy(
+                        () -> other.awaitBackfill(window, offset(100), offset(300)))
+                .isInstanceOf(CancellationException.class);
+        Assertions.assertThatThrownBy(() -> other.register(split(1, null, null), NAME_ADJUSTER))
+                .isInstanceOf(IllegalStateException.class);
+
+        // the released reader is not shared anymore
+        reader = acquireReader();
+        Assertions.assertThat(reader).isNotSameAs(other);
+    }
+
+    private SharedBackfillBinlogReader acquireReader() {
+        return SharedBackfillBinlogReader.acquire(
+                sourceConfig,
+                sharedReader -> {
+                    TestingSession session = new TestingSession(sharedReader);
+                    sessions.add(session);
+                    return session;
+                });
+    }
+
+    private static MySqlSnapshotSplit split(
+            int chunkId, @Nullable Integer splitStart, @Nullable Integer splitEnd) {
+        return new MySqlSnapshotSplit(
+                PRODUCTS,
+                chunkId,
+                SPLIT_KEY_TYPE,
+                splitStart == null ? null : new Object[] {splitStart},
+                splitEnd == null ? null : new Object[] {splitEnd},
+                null,
+                new HashMap<>());
+    }
+
+    private static BinlogOffset offset(long position) {
+        return BinlogOffset.ofBinlogFilePosition(BINLOG_FILE, position);
+    }
+
+    private static DataChangeEvent change(TableId tableId, long position, int key) {
+        Struct source = new Struct(SOURCE_SCHEMA);
+        source.put(DATABASE_NAME_KEY, tableId.catalog());
+        source.put(TABLE_NAME_KEY, tableId.table());
+        Struct after = new Struct(ROW_SCHEMA);
+        after.put("id", key);
+        Struct value = new Struct(CHANGE_VALUE_SCHEMA);
+        value.put(Envelope.FieldName.AFTER, after);
+        value.put(Envelope.FieldName.SOURCE, source);
+        value.put(Envelope.FieldName.OPERATION, Envelope.Operation.CREATE.code());
+        return new DataChangeEvent(
+                new SourceRecord(
+                        Collections.emptyMap(),
+                        offset(position).getOffset(),
+                        "test",
+                        CHANGE_VALUE_SCHEMA,
+                        value));
+    }
+
+    private static DataChangeEvent binlogEnd(BinlogOffset binlogEnd) {
+        Struct value = new Struct(WATERMARK_VALUE_SCHEMA);
+        value.put(SPLIT_ID_KEY, "shared-backfill-binlog-split");
+        value.put(WATERMARK_KIND, "BINLOG_END");
+        return new DataChangeEvent(
+                new SourceRecord(
+                        Collections.emptyMap(),
+                        binlogEnd.getOffset(),
+                        "test",
+                        WATERMARK_VALUE_SCHEMA,
+                        value));
+    }
+
+    private static List<Integer> keysOf(List<SourceRecord> records) {
+        return records.stream()
+                .map(
+                        record ->
+                                ((Struct) record.value())
+                                        .getStruct(Envelope.FieldName.AFTER)
+                                        .getInt32("id"))
+                .collect(Collectors.toList());
+    }
+
+    /** A {@link SharedBackfillBinlogReader.Session} driven by the test instead of the binlog. */
+    private static class TestingSession implements SharedBackfillBinlogReader.Session {
+
+        private final SharedBackfillBinlogReader reader;
+
+        @Nullable private volatile BinlogOffset position;
+        private volatile boolean stopped;
+
+        private TestingSession(SharedBackfillBinlogReader reader) {
+            this.reader = reader;
+        }
+
+        @Nullable
+        @Override
+        public BinlogOffset position() {
+            return position;
+        }
+
+        @Override
+        public void dispatchBackfillEnd(BinlogOffset binlogEnd) {
+            // the signal follows all events dispatched so far, like an enqueued signal event
+            reader.dispatch(this, Collections.singletonList(binlogEnd(binlogEnd)));
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
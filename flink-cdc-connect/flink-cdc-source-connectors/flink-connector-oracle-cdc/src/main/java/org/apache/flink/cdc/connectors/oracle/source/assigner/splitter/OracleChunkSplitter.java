@@ -20,6 +20,7 @@ package org.apache.flink.cdc.connectors.oracle.source.assigner.splitter;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.dialect.JdbcDataSourceDialect;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkRange;
 import org.apache.flink.cdc.connectors.base.source.assigner.splitter.JdbcSourceChunkSplitter;
 import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
 import org.apache.flink.cdc.connectors.base.source.utils.JdbcChunkUtils;
@@ -27,6 +28,7 @@ import org.apache.flink.cdc.connectors.base.utils.ObjectUtils;
 import org.apache.flink.cdc.connectors.oracle.source.utils.OracleTypeUtils;
 import org.apache.flink.cdc.connectors.oracle.source.utils.OracleUtils;
 import org.apache.flink.cdc.connectors.oracle.util.ChunkUtils;
+import org.apache.flink.cdc.connectors.oracle.util.RowIdChunkUtils;
 import org.apache.flink.table.types.DataType;
 
 import io.debezium.jdbc.JdbcConnection;
@@ -34,10 +36,16 @@ import io.debezium.relational.Column;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import oracle.sql.ROWID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * The {@code ChunkSplitter} used to split Oracle table into a set of chunks for JDBC data source.
@@ -45,6 +53,8 @@ import java.sql.SQLException;
 @Internal
 public class OracleChunkSplitter extends JdbcSourceChunkSplitter {
 
+    private static final Logger LOG = LoggerFactory.getLogger(OracleChunkSplitter.class);
+
     public OracleChunkSplitter(
             JdbcSourceConfig sourceConfig,
             JdbcDataSourceDialect dialect,
@@ -104,6 +114,65 @@ public class OracleChunkSplitter extends JdbcSourceChunkSplitter {
         return super.isEvenlySplitColumn(splitColumn);
     }
 
+    /**
+     * Splits the ROWID range of the table into chunks of evenly many blocks from the extents of its
+     * segments, which avoids querying the next chunk end for every chunk. Falls back to split the
+     * table by ROWID values if the extents can't be queried.
+     */
+    @Override
+    protected Optional<List<ChunkRange>> trySplitAllChunksFromMetadata(
+            JdbcConnection jdbc,
+            TableId tableId,
+            Column splitColumn,
+            long approximateRowCnt,
+            int chunkSize) {
+        if (!splitColumn.name().equals(ROWID.class.getSimpleName())) {
+            return Optional.empty();
+        }
+        if (approximateRowCnt <= chunkSize) {
+            // there is no more than one chunk, return full table as a chunk
+            return Optional.of(Collections.singletonList(ChunkRange.all()));
+        }
+        try {
+            List<RowIdChunkUtils.Extent> extents = RowIdChunkUtils.queryExtents(jdbc, tableId);
+            if (extents.isEmpty()) {
+                return Optional.empty();
+            }
+            long totalBlocks = 0;
+            for (RowIdChunkUtils.Extent extent : extents) {
+                totalBlocks += extent.getBlocks();
+            }
+            long chunkCount = (approximateRowCnt + chunkSize - 1) / chunkSize;
+            long blocksPerChunk = Math.max((totalBlocks + chunkCount - 1) / chunkCount, 1);
+            List<String> boundaries =
+                    RowIdChunkUtils.splitRowIdBoundaries(extents, blocksPerChunk);
+            LOG.info(
+                    "Use extent-based ROWID ranges for table {}, the approximate row count is {}, "
+                            + "{} blocks in {} extents are split into chunks of {} blocks",
+                    tableId,
+                    approximateRowCnt,
+                    totalBlocks,
+                    extents.size(),
+                    blocksPerChunk);
+
+            List<ChunkRange> chunks = new ArrayList<>(boundaries.size() + 1);
+            Object chunkStart = null;
+            for (String boundary : boundaries) {
+                ROWID chunkEnd = new ROWID(boundary);
+                chunks.add(ChunkRange.of(chunkStart, chunkEnd));
+                chunkStart = chunkEnd;
+            }
+            chunks.add(ChunkRange.of(chunkStart, null));
+            return Optional.of(chunks);
+        } catch (SQLException e) {
+            LOG.warn(
+                    "Failed to query the extents of table {}, split it by ROWID values instead.",
+                    tableId,
+                    e);
+            return Optional.empty();
+        }
+    }
+
     /** ChunkEnd less than or equal to max. */
     @Override
     protected boolean isChunkEndLeMax(
@@ -68,7 +68,21 @@ public class EventProcessorFactory {
             StreamSplit redoLogSplit) {
         final OracleConnectorConfig.LogMiningBufferType bufferType =
                 connectorConfig.getLogMiningBufferType();
-        if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)) {
+        if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)
+                && SpillableMemoryLogMinerEventProcessor.getSpillThreshold(connectorConfig) > 0) {
+            return new SpillableMemoryLogMinerEventProcessor(
+                    context,
+                    connectorConfig,
+                    jdbcConnection,
+                    eventDispatcher,
+                    watermarkDispatcher,
+                    partition,
+                    offsetContext,
+                    schema,
+                    metrics,
+                    errorHandler,
+                    redoLogSplit);
+        } else if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)) {
             return new CDCMemoryLogMinerEventProcessor(
                     context,
                     connectorConfig,
@@ -130,6 +130,10 @@ public class OracleSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                         .maxBatchSize(connectorConfig.getMaxBatchSize())
                         .maxQueueSize(queueSize)
                         .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .ringBuffer(
+                                connectorConfig
+                                        .getConfig()
+                                        .getBoolean(ChangeEventQueue.RING_BUFFER_ENABLED))
                         .loggingContextSupplier(
                                 () ->
                                         taskContext.configureLoggingContext(
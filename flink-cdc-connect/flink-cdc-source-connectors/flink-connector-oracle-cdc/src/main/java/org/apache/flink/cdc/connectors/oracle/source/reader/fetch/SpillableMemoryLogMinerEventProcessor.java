@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.base.WatermarkDispatcher;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.relational.TableId;
+import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigDef.Width;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A {@link EventProcessorFactory.CDCMemoryLogMinerEventProcessor} that spills the events of large
+ * transactions to {@link SpilledTransactionEvents memory-mapped files}.
+ *
+ * <p>Events are buffered on heap until a transaction exceeds {@link
+ * #LOG_MINING_BUFFER_SPILL_THRESHOLD} events. Then its buffered events and all its further events
+ * are written to a file in {@link #LOG_MINING_BUFFER_SPILL_DIRECTORY}, which is deleted once the
+ * transaction is committed, rolled back or abandoned. This bounds the heap usage of long running
+ * batch transactions without the external dependencies of the Infinispan buffers.
+ */
+@Internal
+public class SpillableMemoryLogMinerEventProcessor
+        extends EventProcessorFactory.CDCMemoryLogMinerEventProcessor {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(SpillableMemoryLogMinerEventProcessor.class);
+
+    public static final Field LOG_MINING_BUFFER_SPILL_THRESHOLD =
+            Field.create("log.mining.buffer.spill.threshold.events")
+                    .withDisplayName("Spill threshold of the memory buffer")
+                    .withType(Type.INT)
+                    .withWidth(Width.SHORT)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "The number of events of a transaction buffered on heap by the memory buffer, "
+                                    + "further events of the transaction are spilled to a memory-mapped file. "
+                                    + "Set it to 0 to disable spilling.")
+                    .withDefault(0);
+
+    public static final Field LOG_MINING_BUFFER_SPILL_DIRECTORY =
+            Field.create("log.mining.buffer.spill.directory")
+                    .withDisplayName("Spill directory of the memory buffer")
+                    .withType(Type.STRING)
+                    .withWidth(Width.MEDIUM)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "The directory the memory buffer spills events of large transactions to. "
+                                    + "Defaults to the temporary directory of the JVM.");
+
+    private final OracleStreamingChangeEventSourceMetrics metrics;
+    private final int spillThreshold;
+    private final Path spillDirectory;
+    private final Map<String, SpilledTransactionEvents> spilledTransactions = new HashMap<>();
+
+    public SpillableMemoryLogMinerEventProcessor(
+            ChangeEventSource.ChangeEventSourceContext context,
+            OracleConnectorConfig connectorConfig,
+            OracleConnection jdbcConnection,
+            EventDispatcher<OraclePartition, TableId> eventDispatcher,
+            WatermarkDispatcher watermarkDispatcher,
+            OraclePartition partition,
+            OracleOffsetContext offsetContext,
+            OracleDatabaseSchema schema,
+            OracleStreamingChangeEventSourceMetrics metrics,
+            ErrorHandler errorHandler,
+            StreamSplit redoLogSplit) {
+        super(
+                context,
+                connectorConfig,
+                jdbcConnection,
+                eventDispatcher,
+                watermarkDispatcher,
+                partition,
+                offsetContext,
+                schema,
+                metrics,
+                errorHandler,
+                redoLogSplit);
+        this.metrics = metrics;
+        this.spillThreshold = getSpillThreshold(connectorConfig);
+        this.spillDirectory =
+                Paths.get(
+                        connectorConfig
+                                .getConfig()
+                                .getString(
+                                        LOG_MINING_BUFFER_SPILL_DIRECTORY,
+                                        System.getProperty("java.io.tmpdir")));
+    }
+
+    /** Returns the spill threshold of the given config, 0 if spilling is disabled. */
+    public static int getSpillThreshold(OracleConnectorConfig connectorConfig) {
+        return Math.max(
+                0, connectorConfig.getConfig().getInteger(LOG_MINING_BUFFER_SPILL_THRESHOLD));
+    }
+
+    @Override
+    public Scn process(OraclePartition partition, Scn startScn, Scn endScn)
+            throws SQLException, InterruptedException {
+        try {
+            return super.process(partition, startScn, endScn);
+        } finally {
+            // transactions may also leave the cache without their events being removed,
+            // e.g. when they are abandoned or when a commit is interrupted
+            Iterator<Map.Entry<String, SpilledTransactionEvents>> iterator =
+                    spilledTransactions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, SpilledTransactionEvents> entry = iterator.next();
+                if (!getTransactionCache().containsKey(entry.getKey())) {
+                    iterator.remove();
+                    closeQuietly(entry.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void addToTransaction(
+            String transactionId, LogMinerEventRow row, Supplier<LogMinerEvent> eventSupplier) {
+        SpilledTransactionEvents spilled = spilledTransactions.get(transactionId);
+        MemoryTransaction transaction = getTransactionCache().get(transactionId);
+        if (spilled == null || transaction == null) {
+            super.addToTransaction(transactionId, row, eventSupplier);
+            transaction = getTransactionCache().get(transactionId);
+            if (transaction != null && transaction.getEvents().size() > spillThreshold) {
+                spill(transaction);
+            }
+            return;
+        }
+
+        int eventId = transaction.getNextEventId();
+        if (getTransactionEventCount(transaction) <= eventId) {
+            // Add new event at eventId offset
+            append(spilled, eventSupplier.get());
+            metrics.calculateLagMetrics(row.getChangeTime());
+        }
+        metrics.setActiveTransactions(getTransactionCache().size());
+    }
+
+    @Override
+    protected int getTransactionEventCount(MemoryTransaction transaction) {
+        SpilledTransactionEvents spilled = spilledTransactions.get(transaction.getTransactionId());
+        return super.getTransactionEventCount(transaction) + (spilled == null ? 0 : spilled.size());
+    }
+
+    @Override
+    protected Iterator<LogMinerEvent> getTransactionEventIterator(MemoryTransaction transaction) {
+        SpilledTransactionEvents spilled = spilledTransactions.get(transaction.getTransactionId());
+        // once a transaction is spilled, all its events are in the spill file
+        return spilled == null
+                ? super.getTransactionEventIterator(transaction)
+                : spilled.iterator();
+    }
+
+    @Override
+    protected void removeEventWithRowId(LogMinerEventRow row) {
+        String transactionId = row.getTransactionId();
+        SpilledTransactionEvents spilled = spilledTransactions.get(transactionId);
+        if (spilled != null) {
+            if (spilled.removeLastEventWithRowId(row.getRowId())) {
+                return;
+            }
+        } else if (isTransactionIdWithNoSequence(transactionId)) {
+            String prefix = getTransactionIdPrefix(transactionId);
+            for (Map.Entry<String, SpilledTransactionEvents> entry :
+                    spilledTransactions.entrySet()) {
+                if (entry.getKey().startsWith(prefix)
+                        && entry.getValue().removeLastEventWithRowId(row.getRowId())) {
+                    return;
+                }
+            }
+        }
+        super.removeEventWithRowId(row);
+    }
+
+    @Override
+    protected void removeTransactionAndEventsFromCache(MemoryTransaction transaction) {
+        super.removeTransactionAndEventsFromCache(transaction);
+        closeSpilledTransaction(transaction.getTransactionId());
+    }
+
+    @Override
+    protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {
+        super.finalizeTransactionRollback(transactionId, rollbackScn);
+        closeSpilledTransaction(transactionId);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            super.close();
+        } finally {
+            spilledTransactions.values().forEach(this::closeQuietly);
+            spilledTransactions.clear();
+        }
+    }
+
+    private void spill(MemoryTransaction transaction) {
+        String transactionId = transaction.getTransactionId();
+        try {
+            SpilledTransactionEvents spilled =
+                    new SpilledTransactionEvents(spillDirectory, transactionId);
+            LOG.info(
+                    "Transaction {} exceeds {} buffered events, spilling its events to {}.",
+                    transactionId,
+                    spillThreshold,
+                    spilled.getFile());
+            spilledTransactions.put(transactionId, spilled);
+            for (LogMinerEvent event : transaction.getEvents()) {
+                append(spilled, event);
+            }
+            transaction.getEvents().clear();
+        } catch (IOException e) {
+            throw new DebeziumException(
+                    "Failed to spill events of transaction " + transactionId, e);
+        }
+    }
+
+    private void append(SpilledTransactionEvents spilled, LogMinerEvent event) {
+        try {
+            spilled.append(event);
+        } catch (IOException e) {
+            throw new DebeziumException("Failed to spill event to " + spilled.getFile(), e);
+        }
+    }
+
+    private void closeSpilledTransaction(String transactionId) {
+        SpilledTransactionEvents spilled = spilledTransactions.remove(transactionId);
+        if (spilled != null) {
+            closeQuietly(spilled);
+        }
+    }
+
+    private void closeQuietly(SpilledTransactionEvents spilled) {
+        try {
+            spilled.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to delete spill file {}.", spilled.getFile(), e);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The events of an uncommitted transaction that are spilled to a memory-mapped file, in the order
+ * they were appended.
+ *
+ * <p>Insert, update and delete events whose column values are all strings, which is what the
+ * LogMiner DML parser produces, are stored in a compact binary encoding. Other events, e.g. LOB
+ * events or events with unavailable column values, are kept on heap and only referenced from the
+ * file, so that the order of all events is preserved.
+ *
+ * <p>The file is deleted when the events are closed. Instances are not thread-safe.
+ */
+@Internal
+public class SpilledTransactionEvents implements Closeable {
+
+    private static final int SEGMENT_SIZE = 4 * 1024 * 1024;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+
+    private static final byte ENCODED_EVENT = 0;
+    private static final byte HEAP_EVENT = 1;
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<LogMinerEvent> heapEvents = new ArrayList<>();
+    private final BitSet removedEvents = new BitSet();
+    private final EncodingBuffer encodingBuffer = new EncodingBuffer();
+
+    /** The segment index (upper 32 bits) and the position in the segment of each event. */
+    private long[] eventLocations = new long[1024];
+
+    private int eventCount;
+    private int removedEventCount;
+    private long mappedSize;
+
+    public SpilledTransactionEvents(Path directory, String transactionId) throws IOException {
+        Files.createDirectories(directory);
+        this.file =
+                Files.createTempFile(directory, "logminer-transaction-" + transactionId, ".spill");
+        this.channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    /** Appends the given event after all previously appended events. */
+    public void append(LogMinerEvent event) throws IOException {
+        encodingBuffer.clear();
+        byte kind;
+        if (isEncodable(event)) {
+            kind = ENCODED_EVENT;
+            encode((DmlEvent) event, encodingBuffer);
+        } else {
+            kind = HEAP_EVENT;
+            encodingBuffer.writeInt(heapEvents.size());
+            heapEvents.add(event);
+        }
+
+        MappedByteBuffer segment = segmentFor(RECORD_HEADER_SIZE + encodingBuffer.size());
+        if (eventCount == eventLocations.length) {
+            eventLocations = Arrays.copyOf(eventLocations, eventCount * 2);
+        }
+        eventLocations[eventCount++] = ((long) (segments.size() - 1) << 32) | segment.position();
+        segment.putInt(encodingBuffer.size());
+        segment.put(kind);
+        segment.put(encodingBuffer.bytes, 0, encodingBuffer.size());
+    }
+
+    /**
+     * Removes the last event that changed the row with the given row id.
+     *
+     * @return true if an event was removed, false if there is no such event
+     */
+    public boolean removeLastEventWithRowId(String rowId) {
+        for (int i = eventCount - 1; i >= 0; i--) {
+            if (!removedEvents.get(i) && rowId.equals(read(i).getRowId())) {
+                removedEvents.set(i);
+                removedEventCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the number of events, excluding removed events. */
+    public int size() {
+        return eventCount - removedEventCount;
+    }
+
+    /** Returns an iterator over the events in the order they were appended. */
+    public Iterator<LogMinerEvent> iterator() {
+        return new Iterator<LogMinerEvent>() {
+            private int next = removedEvents.nextClearBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < eventCount;
+            }
+
+            @Override
+            public LogMinerEvent next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                LogMinerEvent event = read(next);
+                next = removedEvents.nextClearBit(next + 1);
+                return event;
+            }
+        };
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        segments.clear();
+        heapEvents.clear();
+        // the file is deleted on close, mapped segments stay valid until they are collected
+        channel.close();
+    }
+
+    private MappedByteBuffer segmentFor(int recordSize) throws IOException {
+        MappedByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < recordSize) {
+            // records never span segments, the remaining space of the last segment is skipped
+            int segmentSize = Math.max(SEGMENT_SIZE, recordSize);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, mappedSize, segmentSize);
+            mappedSize += segmentSize;
+            segments.add(segment);
+        }
+        return segment;
+    }
+
+    private LogMinerEvent read(int index) {
+        long location = eventLocations[index];
+        ByteBuffer record = segments.get((int) (location >>> 32)).duplicate();
+        record.position((int) location);
+        int length = record.getInt();
+        byte kind = record.get();
+        if (kind == HEAP_EVENT) {
+            return heapEvents.get(record.getInt());
+        }
+        ByteBuffer payload = record.slice();
+        payload.limit(length);
+        return decode(payload);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Encoding
+    // --------------------------------------------------------------------------------------------
+
+    private static boolean isEncodable(LogMinerEvent event) {
+        if (event.getClass() != DmlEvent.class) {
+            return false;
+        }
+        LogMinerDmlEntry entry = ((DmlEvent) event).getDmlEntry();
+        switch (entry.getEventType()) {
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+                return isEncodable(entry.getNewValues()) && isEncodable(entry.getOldValues());
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isEncodable(Object[] values) {
+        if (values == null) {
+            return false;
+        }
+        for (Object value : values) {
+            if (value != null && !(value instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void encode(DmlEvent event, EncodingBuffer out) {
+        out.writeByte(event.getEventType().ordinal());
+        out.writeString(event.getScn().toString());
+        out.writeString(event.getTableId().catalog());
+        out.writeString(event.getTableId().schema());
+        out.writeString(event.getTableId().table());
+        out.writeString(event.getRowId());
+        out.writeString(event.getRsId());
+        Instant changeTime = event.getChangeTime();
+        out.writeByte(changeTime == null ? 0 : 1);
+        if (changeTime != null) {
+            out.writeLong(changeTime.getEpochSecond());
+            out.writeInt(changeTime.getNano());
+        }
+        LogMinerDmlEntry entry = event.getDmlEntry();
+        out.writeByte(entry.getEventType().ordinal());
+        out.writeString(entry.getObjectOwner());
+        out.writeString(entry.getObjectName());
+        out.writeValues(entry.getNewValues());
+        out.writeValues(entry.getOldValues());
+    }
+
+    private static DmlEvent decode(ByteBuffer in) {
+        EventType eventType = EVENT_TYPES[in.get()];
+        Scn scn = Scn.valueOf(readString(in));
+        TableId tableId = new TableId(readString(in), readString(in), readString(in));
+        String rowId = readString(in);
+        String rsId = readString(in);
+        Instant changeTime =
+                in.get() == 0 ? null : Instant.ofEpochSecond(in.getLong(), in.getInt());
+        EventType entryType = EVENT_TYPES[in.get()];
+        String objectOwner = readString(in);
+        String objectName = readString(in);
+        Object[] newValues = readValues(in);
+        Object[] oldValues = readValues(in);
+
+        LogMinerDmlEntry entry;
+        switch (entryType) {
+            case INSERT:
+                entry = LogMinerDmlEntryImpl.forInsert(newValues);
+                break;
+            case UPDATE:
+                entry = LogMinerDmlEntryImpl.forUpdate(newValues, oldValues);
+                break;
+            case DELETE:
+                entry = LogMinerDmlEntryImpl.forDelete(oldValues);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected spilled DML event type " + entryType);
+        }
+        entry.setObjectOwner(objectOwner);
+        entry.setObjectName(objectName);
+        return new DmlEvent(eventType, scn, tableId, rowId, rsId, changeTime, entry);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (in.hasArray()) {
+            value =
+                    new String(
+                            in.array(),
+                            in.arrayOffset() + in.position(),
+                            length,
+                            StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.duplicate().get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static Object[] readValues(ByteBuffer in) {
+        Object[] values = new Object[in.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+
+    /** A growable byte buffer an event is encoded into before it is written to a segment. */
+    private static final class EncodingBuffer {
+
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        void clear() {
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        void writeValues(Object[] values) {
+            writeInt(values.length);
+            for (Object value : values) {
+                writeString((String) value);
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
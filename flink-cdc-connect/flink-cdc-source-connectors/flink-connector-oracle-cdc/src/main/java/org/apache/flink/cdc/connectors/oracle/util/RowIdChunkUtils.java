@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.util;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.TableId;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilities to split the ROWID range of a table into chunks from the extents of its segments.
+ *
+ * <p>Extended ROWIDs are ordered by the data object number, the relative file number, the block
+ * number and the row number. So the extents of the segments of a table, ordered the same way, can
+ * be cut into contiguous ROWID ranges of an even number of blocks without reading the table.
+ */
+public class RowIdChunkUtils {
+
+    private static final String EXTENTS_QUERY =
+            "SELECT o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID, e.BLOCKS "
+                    + "FROM DBA_EXTENTS e JOIN DBA_OBJECTS o "
+                    + "ON o.OWNER = e.OWNER AND o.OBJECT_NAME = e.SEGMENT_NAME "
+                    + "AND NVL(o.SUBOBJECT_NAME, ' ') = NVL(e.PARTITION_NAME, ' ') "
+                    + "WHERE e.OWNER = ? AND e.SEGMENT_NAME = ? "
+                    + "AND e.SEGMENT_TYPE LIKE 'TABLE%' AND o.OBJECT_TYPE LIKE 'TABLE%' "
+                    + "AND o.DATA_OBJECT_ID IS NOT NULL "
+                    + "ORDER BY o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID";
+
+    /** The relative file number of the data files of bigfile tablespaces. */
+    private static final long BIGFILE_RELATIVE_FNO = 1024;
+
+    private static final char[] BASE64_DIGITS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private RowIdChunkUtils() {}
+
+    /** Queries the extents of all segments of the given table, in ROWID order. */
+    public static List<Extent> queryExtents(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        return jdbc.prepareQueryAndMap(
+                EXTENTS_QUERY,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> {
+                    List<Extent> extents = new ArrayList<>();
+                    while (rs.next()) {
+                        extents.add(
+                                new Extent(
+                                        rs.getLong(1),
+                                        rs.getLong(2),
+                                        rs.getLong(3),
+                                        rs.getLong(4)));
+                    }
+                    return extents;
+                });
+    }
+
+    /**
+     * Cuts the given extents into ranges of {@code blocksPerChunk} blocks.
+     *
+     * @return the ROWIDs at the boundaries between the ranges, in ascending order
+     */
+    public static List<String> splitRowIdBoundaries(List<Extent> extents, long blocksPerChunk) {
+        List<String> boundaries = new ArrayList<>();
+        long chunkBlocks = 0;
+        for (Extent extent : extents) {
+            if (chunkBlocks >= blocksPerChunk) {
+                boundaries.add(extent.rowIdAt(0));
+                chunkBlocks = 0;
+            }
+            long offset = 0;
+            while (chunkBlocks + extent.blocks - offset > blocksPerChunk) {
+                offset += blocksPerChunk - chunkBlocks;
+                boundaries.add(extent.rowIdAt(offset));
+                chunkBlocks = 0;
+            }
+            chunkBlocks += extent.blocks - offset;
+        }
+        return boundaries;
+    }
+
+    /** Returns the extended ROWID of the given row, like {@code DBMS_ROWID.ROWID_CREATE}. */
+    public static String toRowId(
+            long dataObjectId, long relativeFno, long blockNumber, long rowNumber) {
+        StringBuilder rowId = new StringBuilder(18);
+        appendBase64(rowId, dataObjectId, 6);
+        if (relativeFno == BIGFILE_RELATIVE_FNO) {
+            // the block number of bigfile tablespaces also takes the bits of the file number
+            appendBase64(rowId, 0, 3);
+        } else {
+            appendBase64(rowId, relativeFno, 3);
+        }
+        appendBase64(rowId, blockNumber, 6);
+        appendBase64(rowId, rowNumber, 3);
+        return rowId.toString();
+    }
+
+    private static void appendBase64(StringBuilder sb, long value, int digits) {
+        for (int shift = (digits - 1) * 6; shift >= 0; shift -= 6) {
+            sb.append(BASE64_DIGITS[(int) ((value >>> shift) & 0x3F)]);
+        }
+    }
+
+    /** An extent of a table segment, i.e. a range of contiguous blocks in a data file. */
+    public static class Extent {
+
+        private final long dataObjectId;
+        private final long relativeFno;
+        private final long blockId;
+        private final long blocks;
+
+        public Extent(long dataObjectId, long relativeFno, long blockId, long blocks) {
+            this.dataObjectId = dataObjectId;
+            this.relativeFno = relativeFno;
+            this.blockId = blockId;
+            this.blocks = blocks;
+        }
+
+        public long getBlocks() {
+            return blocks;
+        }
+
+        private String rowIdAt(long blockOffset) {
+            return toRowId(dataObjectId, relativeFno, blockId + blockOffset, 0);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SpilledTransactionEvents}. */
+class SpilledTransactionEventsTest {
+
+    private static final TableId TABLE_ID = new TableId("ORCLCDB", "DEBEZIUM", "PRODUCTS");
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void testAppendAndIterate() throws Exception {
+        List<LogMinerEvent> events = new ArrayList<>();
+        events.add(dmlEvent(1, LogMinerDmlEntryImpl.forInsert(new Object[] {"1", "scooter"})));
+        events.add(
+                dmlEvent(
+                        2,
+                        LogMinerDmlEntryImpl.forUpdate(
+                                new Object[] {"1", "car"}, new Object[] {"1", null})));
+        // values that are not strings are kept on heap
+        events.add(dmlEvent(3, LogMinerDmlEntryImpl.forInsert(new Object[] {"2", 42})));
+        events.add(dmlEvent(4, LogMinerDmlEntryImpl.forDelete(new Object[] {"1", "car"})));
+
+        try (SpilledTransactionEvents spilled =
+                new SpilledTransactionEvents(tempDir, "0a001b00c3450000")) {
+            for (LogMinerEvent event : events) {
+                spilled.append(event);
+            }
+
+            assertThat(spilled.size()).isEqualTo(4);
+            List<LogMinerEvent> actual = toList(spilled.iterator());
+            assertThat(actual).hasSize(4);
+            for (int i = 0; i < events.size(); i++) {
+                assertEqual((DmlEvent) actual.get(i), (DmlEvent) events.get(i));
+            }
+            assertThat(actual.get(2)).isSameAs(events.get(2));
+        }
+    }
+
+    @Test
+    void testRemoveLastEventWithRowId() throws Exception {
+        try (SpilledTransactionEvents spilled =
+                new SpilledTransactionEvents(tempDir, "0a001b00c3450000")) {
+            spilled.append(dmlEvent(1, "AAAA", LogMinerDmlEntryImpl.forInsert(new Object[] {"1"})));
+            spilled.append(dmlEvent(2, "AAAB", LogMinerDmlEntryImpl.forInsert(new Object[] {"2"})));
+            spilled.append(dmlEvent(3, "AAAA", LogMinerDmlEntryImpl.forDelete(new Object[] {"1"})));
+
+            assertThat(spilled.removeLastEventWithRowId("AAAA")).isTrue();
+            assertThat(spilled.size()).isEqualTo(2);
+            assertThat(toList(spilled.iterator()))
+                    .extracting(LogMinerEvent::getScn)
+                    .containsExactly(Scn.valueOf(1), Scn.valueOf(2));
+
+            assertThat(spilled.removeLastEventWithRowId("AAAC")).isFalse();
+            assertThat(spilled.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testEventsSpanningSegments() throws Exception {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 64 * 1024; i++) {
+            value.append('x');
+        }
+        int eventCount = 100;
+        try (SpilledTransactionEvents spilled =
+                new SpilledTransactionEvents(tempDir, "0a001b00c3450000")) {
+            for (int i = 0; i < eventCount; i++) {
+                spilled.append(
+                        dmlEvent(
+                                i,
+                                LogMinerDmlEntryImpl.forInsert(
+                                        new Object[] {String.valueOf(i), value.toString()})));
+            }
+
+            List<LogMinerEvent> actual = toList(spilled.iterator());
+            assertThat(actual).hasSize(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                DmlEvent event = (DmlEvent) actual.get(i);
+                assertThat(event.getScn()).isEqualTo(Scn.valueOf(i));
+                assertThat(event.getDmlEntry().getNewValues())
+                        .containsExactly(String.valueOf(i), value.toString());
+            }
+        }
+    }
+
+    @Test
+    void testDeleteFileOnClose() throws Exception {
+        SpilledTransactionEvents spilled =
+                new SpilledTransactionEvents(tempDir, "0a001b00c3450000");
+        spilled.append(dmlEvent(1, LogMinerDmlEntryImpl.forInsert(new Object[] {"1"})));
+        assertThat(spilled.getFile()).exists();
+
+        spilled.close();
+        assertThat(Files.exists(spilled.getFile())).isFalse();
+    }
+
+    private static DmlEvent dmlEvent(long scn, LogMinerDmlEntry entry) {
+        return dmlEvent(scn, "AAAR" + scn, entry);
+    }
+
+    private static DmlEvent dmlEvent(long scn, String rowId, LogMinerDmlEntry entry) {
+        entry.setObjectOwner(TABLE_ID.schema());
+        entry.setObjectName(TABLE_ID.table());
+        return new DmlEvent(
+                entry.getEventType(),
+                Scn.valueOf(scn),
+                TABLE_ID,
+                rowId,
+                "0x0000a1.00012b3c.0010",
+                Instant.ofEpochSecond(1700000000L + scn, 123),
+                entry);
+    }
+
+    private static void assertEqual(DmlEvent actual, DmlEvent expected) {
+        assertThat(actual.getEventType()).isEqualTo(expected.getEventType());
+        assertThat(actual.getScn()).isEqualTo(expected.getScn());
+        assertThat(actual.getTableId()).isEqualTo(expected.getTableId());
+        assertThat(actual.getRowId()).isEqualTo(expected.getRowId());
+        assertThat(actual.getRsId()).isEqualTo(expected.getRsId());
+        assertThat(actual.getChangeTime()).isEqualTo(expected.getChangeTime());
+        assertThat(actual.getDmlEntry()).isEqualTo(expected.getDmlEntry());
+    }
+
+    private static List<LogMinerEvent> toList(Iterator<LogMinerEvent> iterator) {
+        List<LogMinerEvent> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+        return events;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link RowIdChunkUtils}. */
+class RowIdChunkUtilsTest {
+
+    @Test
+    void testToRowId() {
+        assertThat(RowIdChunkUtils.toRowId(209437, 138, 5506, 0)).isEqualTo("AAAzIdACKAAABWCAAA");
+        assertThat(RowIdChunkUtils.toRowId(1, 1, 1, 0)).isEqualTo("AAAAABAABAAAAABAAA");
+        // bigfile tablespaces use the bits of the file number for the block number
+        assertThat(RowIdChunkUtils.toRowId(1, 1024, 1L << 31, 0))
+                .isEqualTo("AAAAABAAACAAAAAAAA");
+    }
+
+    @Test
+    void testSplitRowIdBoundaries() {
+        RowIdChunkUtils.Extent first = new RowIdChunkUtils.Extent(100, 4, 128, 8);
+        RowIdChunkUtils.Extent second = new RowIdChunkUtils.Extent(100, 4, 256, 20);
+        RowIdChunkUtils.Extent third = new RowIdChunkUtils.Extent(101, 5, 16, 4);
+
+        assertThat(RowIdChunkUtils.splitRowIdBoundaries(Arrays.asList(first, second, third), 8))
+                .containsExactly(
+                        RowIdChunkUtils.toRowId(100, 4, 256, 0),
+                        RowIdChunkUtils.toRowId(100, 4, 264, 0),
+                        RowIdChunkUtils.toRowId(100, 4, 272, 0));
+
+        // blocks of an exactly filled last chunk don't start a new chunk
+        assertThat(RowIdChunkUtils.splitRowIdBoundaries(Arrays.asList(first, second), 14))
+                .containsExactly(RowIdChunkUtils.toRowId(100, 4, 262, 0));
+
+        assertThat(RowIdChunkUtils.splitRowIdBoundaries(Collections.singletonList(first), 16))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql.connection;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Converts column values sent by pgoutput in binary format, i.e. the output of the {@code typsend}
+ * functions, to the text format of the {@code typoutput} functions.
+ *
+ * <p>The text is what the pgoutput message decoder of Debezium resolves column values from, so
+ * the server can skip the text output functions while the values are still resolved the same way.
+ * Only built-in types with a cheap conversion are supported.
+ */
+public class PgOutputBinaryValues {
+
+    private static final int BOOL_OID = 16;
+    private static final int BYTEA_OID = 17;
+    private static final int NAME_OID = 19;
+    private static final int INT8_OID = 20;
+    private static final int INT2_OID = 21;
+    private static final int INT4_OID = 23;
+    private static final int TEXT_OID = 25;
+    private static final int OID_OID = 26;
+    private static final int JSON_OID = 114;
+    private static final int FLOAT4_OID = 700;
+    private static final int FLOAT8_OID = 701;
+    private static final int BPCHAR_OID = 1042;
+    private static final int VARCHAR_OID = 1043;
+    private static final int DATE_OID = 1082;
+    private static final int TIME_OID = 1083;
+    private static final int TIMESTAMP_OID = 1114;
+    private static final int TIMESTAMPTZ_OID = 1184;
+    private static final int NUMERIC_OID = 1700;
+    private static final int UUID_OID = 2950;
+    private static final int JSONB_OID = 3802;
+
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime POSTGRES_EPOCH = POSTGRES_EPOCH_DATE.atStartOfDay();
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+
+    private static final short NUMERIC_NEG = 0x4000;
+    private static final short NUMERIC_NAN = (short) 0xC000;
+    private static final short NUMERIC_PINF = (short) 0xD000;
+    private static final short NUMERIC_NINF = (short) 0xF000;
+    private static final BigInteger NBASE = BigInteger.valueOf(10000);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private PgOutputBinaryValues() {}
+
+    /** Returns whether binary values of the type can be converted to the text format. */
+    public static boolean isSupported(int typeOid) {
+        switch (typeOid) {
+            case BOOL_OID:
+            case BYTEA_OID:
+            case NAME_OID:
+            case INT8_OID:
+            case INT2_OID:
+            case INT4_OID:
+            case TEXT_OID:
+            case OID_OID:
+            case JSON_OID:
+            case FLOAT4_OID:
+            case FLOAT8_OID:
+            case BPCHAR_OID:
+            case VARCHAR_OID:
+            case DATE_OID:
+            case TIME_OID:
+            case TIMESTAMP_OID:
+            case TIMESTAMPTZ_OID:
+            case NUMERIC_OID:
+            case UUID_OID:
+            case JSONB_OID:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Converts the binary value of the given length at the current position of the buffer to the
+     * text format, and advances the buffer past the value.
+     */
+    public static byte[] toText(int typeOid, ByteBuffer buffer, int length) {
+        switch (typeOid) {
+            case TEXT_OID:
+            case NAME_OID:
+            case BPCHAR_OID:
+            case VARCHAR_OID:
+            case JSON_OID:
+                // the binary format of character types is the text itself
+                return readBytes(buffer, length);
+            case JSONB_OID:
+                // skip the version number of the jsonb binary format
+                buffer.get();
+                return readBytes(buffer, length - 1);
+            case BOOL_OID:
+                return ascii(buffer.get() != 0 ? "t" : "f");
+            case INT2_OID:
+                return ascii(Short.toString(buffer.getShort()));
+            case INT4_OID:
+                return ascii(Integer.toString(buffer.getInt()));
+            case INT8_OID:
+                return ascii(Long.toString(buffer.getLong()));
+            case OID_OID:
+                return ascii(Integer.toUnsignedString(buffer.getInt()));
+            case FLOAT4_OID:
+                return ascii(Float.toString(buffer.getFloat()));
+            case FLOAT8_OID:
+                return ascii(Double.toString(buffer.getDouble()));
+            case UUID_OID:
+                return ascii(new UUID(buffer.getLong(), buffer.getLong()).toString());
+            case BYTEA_OID:
+                return byteaToText(buffer, length);
+            case NUMERIC_OID:
+                return ascii(numericToText(buffer));
+            case DATE_OID:
+                return ascii(dateToText(buffer.getInt()));
+            case TIME_OID:
+                return ascii(timeToText(buffer.getLong()));
+            case TIMESTAMP_OID:
+                return ascii(timestampToText(buffer.getLong(), false));
+            case TIMESTAMPTZ_OID:
+                return ascii(timestampToText(buffer.getLong(), true));
+            default:
+                throw new IllegalArgumentException(
+                        "Binary values of type " + typeOid + " are not supported.");
+        }
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] byteaToText(ByteBuffer buffer, int length) {
+        // the hex format of bytea_output, e.g. \x0aff
+        byte[] text = new byte[2 + length * 2];
+        text[0] = '\\';
+        text[1] = 'x';
+        for (int i = 0; i < length; i++) {
+            int b = buffer.get() & 0xFF;
+            text[2 + i * 2] = (byte) HEX_DIGITS[b >>> 4];
+            text[3 + i * 2] = (byte) HEX_DIGITS[b & 0x0F];
+        }
+        return text;
+    }
+
+    static String numericToText(ByteBuffer buffer) {
+        int ndigits = buffer.getShort();
+        int weight = buffer.getShort();
+        short sign = buffer.getShort();
+        int dscale = buffer.getShort();
+        if (sign == NUMERIC_NAN) {
+            return "NaN";
+        } else if (sign == NUMERIC_PINF) {
+            return "Infinity";
+        } else if (sign == NUMERIC_NINF) {
+            return "-Infinity";
+        }
+
+        // the value is the base-10000 digits scaled by 10000^(weight - ndigits + 1)
+        BigInteger unscaled = BigInteger.ZERO;
+        for (int i = 0; i < ndigits; i++) {
+            unscaled = unscaled.multiply(NBASE).add(BigInteger.valueOf(buffer.getShort()));
+        }
+        BigDecimal value =
+                new BigDecimal(unscaled)
+                        .scaleByPowerOfTen(4 * (weight - ndigits + 1))
+                        .setScale(dscale, RoundingMode.DOWN);
+        return (sign == NUMERIC_NEG ? value.negate() : value).toPlainString();
+    }
+
+    static String dateToText(int days) {
+        if (days == Integer.MAX_VALUE) {
+            return "infinity";
+        } else if (days == Integer.MIN_VALUE) {
+            return "-infinity";
+        }
+        LocalDate date = POSTGRES_EPOCH_DATE.plusDays(days);
+        StringBuilder text = new StringBuilder(16);
+        appendDate(text, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        return appendEra(text, date.getYear()).toString();
+    }
+
+    static String timeToText(long micros) {
+        if (micros == MICROS_PER_DAY) {
+            return "24:00:00";
+        }
+        LocalTime time = LocalTime.ofNanoOfDay(micros * 1000);
+        StringBuilder text = new StringBuilder(16);
+        appendTime(text, time, micros % 1_000_000);
+        return text.toString();
+    }
+
+    static String timestampToText(long micros, boolean withTimeZone) {
+        if (micros == Long.MAX_VALUE) {
+            return "infinity";
+        } else if (micros == Long.MIN_VALUE) {
+            return "-infinity";
+        }
+        LocalDateTime timestamp = POSTGRES_EPOCH.plus(micros, ChronoUnit.MICROS);
+        StringBuilder text = new StringBuilder(32);
+        appendDate(
+                text, timestamp.getYear(), timestamp.getMonthValue(), timestamp.getDayOfMonth());
+        text.append(' ');
+        appendTime(text, timestamp.toLocalTime(), timestamp.getNano() / 1000);
+        if (withTimeZone) {
+            // the binary value is always in UTC
+            text.append("+00");
+        }
+        return appendEra(text, timestamp.getYear()).toString();
+    }
+
+    private static void appendDate(StringBuilder text, int isoYear, int month, int day) {
+        // years before 1 AD are printed as BC years, there is no year 0
+        int year = isoYear > 0 ? isoYear : 1 - isoYear;
+        appendPadded(text, year, 4).append('-');
+        appendPadded(text, month, 2).append('-');
+        appendPadded(text, day, 2);
+    }
+
+    private static void appendTime(StringBuilder text, LocalTime time, long microsOfSecond) {
+        appendPadded(text, time.getHour(), 2).append(':');
+        appendPadded(text, time.getMinute(), 2).append(':');
+        appendPadded(text, time.getSecond(), 2);
+        if (microsOfSecond != 0) {
+            // trailing zeros of the fraction are not printed
+            long fraction = microsOfSecond;
+            int digits = 6;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            text.append('.');
+            appendPadded(text, fraction, digits);
+        }
+    }
+
+    private static StringBuilder appendEra(StringBuilder text, int isoYear) {
+        return isoYear > 0 ? text : text.append(" BC");
+    }
+
+    private static StringBuilder appendPadded(StringBuilder text, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            text.append('0');
+        }
+        return text.append(digits);
+    }
+}
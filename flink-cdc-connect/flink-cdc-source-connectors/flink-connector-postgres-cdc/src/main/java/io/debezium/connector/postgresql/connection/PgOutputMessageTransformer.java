@@ -0,0 +1,462 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql.connection;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigDef.Width;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Transforms the messages of the pgoutput protocol version 2 into the messages understood by the
+ * pgoutput message decoder of Debezium, which only supports protocol version 1 with text values.
+ *
+ * <p>With {@link #PGOUTPUT_STREAMING}, the server streams large in-progress transactions in blocks
+ * of messages instead of spilling them to disk until the commit. The messages of a streamed
+ * transaction are buffered locally as raw bytes in a {@link StreamedTransactionBuffer}, which
+ * spills them to a memory-mapped file once they exceed {@link
+ * #PGOUTPUT_STREAMING_SPILL_THRESHOLD}. They are replayed between a synthesized BEGIN and COMMIT
+ * message when the stream commit message arrives. Aborted (sub)transactions are discarded.
+ *
+ * <p>With {@link #PGOUTPUT_BINARY}, the server sends column values in binary format, which saves
+ * the text output functions on the server and reduces the network traffic of numeric and temporal
+ * values. The values are converted to the text format by {@link PgOutputBinaryValues} before the
+ * messages are handed to the Debezium decoder.
+ */
+public class PgOutputMessageTransformer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PgOutputMessageTransformer.class);
+
+    public static final Field PGOUTPUT_STREAMING =
+            Field.create("pgoutput.streaming")
+                    .withDisplayName("Stream in-progress transactions")
+                    .withType(Type.BOOLEAN)
+                    .withWidth(Width.SHORT)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "Whether to receive large in-progress transactions with the pgoutput protocol version 2. "
+                                    + "The changes of streamed transactions are buffered by the connector until the commit, "
+                                    + "and spilled to disk once they exceed 'pgoutput.streaming.spill.threshold.bytes'. "
+                                    + "Requires PostgreSQL 14 or later.")
+                    .withDefault(false);
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_THRESHOLD =
+            Field.create("pgoutput.streaming.spill.threshold.bytes")
+                    .withDisplayName("Spill threshold of streamed transactions")
+                    .withType(Type.LONG)
+                    .withWidth(Width.SHORT)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "The number of bytes of a streamed transaction buffered on heap. Once a streamed transaction exceeds it, "
+                                    + "its changes are spilled to a memory-mapped file until the commit. "
+                                    + "Set it to 0 to keep all changes on heap.")
+                    .withDefault(64L * 1024 * 1024);
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_DIRECTORY =
+            Field.create("pgoutput.streaming.spill.directory")
+                    .withDisplayName("Spill directory of streamed transactions")
+                    .withType(Type.STRING)
+                    .withWidth(Width.MEDIUM)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "The directory the changes of large streamed transactions are spilled to. "
+                                    + "Defaults to the temporary directory of the JVM.");
+
+    public static final Field PGOUTPUT_BINARY =
+            Field.create("pgoutput.binary")
+                    .withDisplayName("Receive binary values")
+                    .withType(Type.BOOLEAN)
+                    .withWidth(Width.SHORT)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "Whether to receive column values from pgoutput in binary format. "
+                                    + "Only tables with columns of common built-in types can be captured in binary format. "
+                                    + "Requires PostgreSQL 14 or later.")
+                    .withDefault(false);
+
+    /** Both streaming and binary values of pgoutput are supported since PostgreSQL 14. */
+    public static final int MINIMUM_SERVER_VERSION = 140000;
+
+    private static final char BEGIN = 'B';
+    private static final char COMMIT = 'C';
+    private static final char RELATION = 'R';
+    private static final char INSERT = 'I';
+    private static final char UPDATE = 'U';
+    private static final char DELETE = 'D';
+    private static final char STREAM_START = 'S';
+    private static final char STREAM_STOP = 'E';
+    private static final char STREAM_COMMIT = 'c';
+    private static final char STREAM_ABORT = 'A';
+
+    private final boolean streaming;
+    private final boolean binary;
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    /** The type OIDs of the columns of each relation, only tracked in binary mode. */
+    private final Map<Integer, int[]> relationColumnTypes = new HashMap<>();
+
+    /** The buffered messages of streamed transactions, keyed by the top-level transaction ID. */
+    private final Map<Integer, StreamedTransactionBuffer> streamedTransactions = new HashMap<>();
+
+    private boolean inStreamBlock;
+    private int streamBlockXid;
+
+    PgOutputMessageTransformer(
+            boolean streaming, boolean binary, long spillThreshold, Path spillDirectory) {
+        this.streaming = streaming;
+        this.binary = binary;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Creates a transformer if streaming or binary values are enabled for the pgoutput plugin and
+     * supported by the server, otherwise returns {@code null}.
+     */
+    public static PgOutputMessageTransformer create(
+            PostgresConnectorConfig connectorConfig,
+            PostgresConnectorConfig.LogicalDecoder plugin,
+            Function<Integer, Boolean> hasMinimumServerVersion) {
+        boolean streaming = connectorConfig.getConfig().getBoolean(PGOUTPUT_STREAMING);
+        boolean binary = connectorConfig.getConfig().getBoolean(PGOUTPUT_BINARY);
+        if (!streaming && !binary) {
+            return null;
+        }
+        if (!PostgresConnectorConfig.LogicalDecoder.PGOUTPUT.equals(plugin)) {
+            LOG.warn(
+                    "Options '{}' and '{}' are only supported by the pgoutput plugin, ignoring them.",
+                    PGOUTPUT_STREAMING.name(),
+                    PGOUTPUT_BINARY.name());
+            return null;
+        }
+        if (!hasMinimumServerVersion.apply(MINIMUM_SERVER_VERSION)) {
+            LOG.warn(
+                    "Options '{}' and '{}' require PostgreSQL 14 or later, ignoring them.",
+                    PGOUTPUT_STREAMING.name(),
+                    PGOUTPUT_BINARY.name());
+            return null;
+        }
+        long spillThreshold =
+                Math.max(
+                        0, connectorConfig.getConfig().getLong(PGOUTPUT_STREAMING_SPILL_THRESHOLD));
+        Path spillDirectory =
+                Paths.get(
+                        connectorConfig
+                                .getConfig()
+                                .getString(
+                                        PGOUTPUT_STREAMING_SPILL_DIRECTORY,
+                                        System.getProperty("java.io.tmpdir")));
+        return new PgOutputMessageTransformer(streaming, binary, spillThreshold, spillDirectory);
+    }
+
+    /** Adds the slot options of the enabled features to the replication stream. */
+    public ChainedLogicalStreamBuilder configure(ChainedLogicalStreamBuilder streamBuilder) {
+        if (streaming) {
+            streamBuilder =
+                    streamBuilder
+                            .withSlotOption("proto_version", 2)
+                            .withSlotOption("streaming", true);
+        }
+        if (binary) {
+            streamBuilder = streamBuilder.withSlotOption("binary", true);
+        }
+        return streamBuilder;
+    }
+
+    /**
+     * Transforms a message received from the server into the messages to pass to the Debezium
+     * decoder, which are empty while a streamed transaction is in progress.
+     */
+    public List<ByteBuffer> transform(ByteBuffer message) {
+        int start = message.position();
+        char type = (char) message.get(start);
+        switch (type) {
+            case STREAM_START:
+                inStreamBlock = true;
+                streamBlockXid = message.getInt(start + 1);
+                return Collections.emptyList();
+            case STREAM_STOP:
+                inStreamBlock = false;
+                return Collections.emptyList();
+            case STREAM_COMMIT:
+                return commitStreamedTransaction(message);
+            case STREAM_ABORT:
+                abortStreamedTransaction(message);
+                return Collections.emptyList();
+            default:
+                if (inStreamBlock) {
+                    bufferStreamedMessage(message);
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(convert(message));
+        }
+    }
+
+    /** Deletes the spill files of the streamed transactions that are still in progress. */
+    public void close() {
+        for (StreamedTransactionBuffer transaction : streamedTransactions.values()) {
+            closeQuietly(transaction);
+        }
+        streamedTransactions.clear();
+    }
+
+    private void bufferStreamedMessage(ByteBuffer message) {
+        // Stream Start carries the top-level transaction ID, while each message in the stream
+        // block carries the ID of the (sub)transaction it belongs to, which is stripped from the
+        // buffered message.
+        int start = message.position();
+        byte type = message.get(start);
+        int xid = message.getInt(start + 1);
+        ByteBuffer payload = message.duplicate();
+        payload.position(start + 5);
+        StreamedTransactionBuffer transaction =
+                streamedTransactions.computeIfAbsent(
+                        streamBlockXid,
+                        k -> new StreamedTransactionBuffer(k, spillThreshold, spillDirectory));
+        try {
+            transaction.append(xid, type, payload);
+        } catch (IOException e) {
+            throw new DebeziumException(
+                    String.format(
+                            "Failed to spill streamed transaction %d to %s. Please check '%s' or increase '%s'.",
+                            streamBlockXid,
+                            spillDirectory,
+                            PGOUTPUT_STREAMING_SPILL_DIRECTORY.name(),
+                            PGOUTPUT_STREAMING_SPILL_THRESHOLD.name()),
+                    e);
+        }
+    }
+
+    private List<ByteBuffer> commitStreamedTransaction(ByteBuffer message) {
+        ByteBuffer buffer = message.duplicate();
+        buffer.get(); // type
+        int xid = buffer.getInt();
+        byte flags = buffer.get();
+        long commitLsn = buffer.getLong();
+        long endLsn = buffer.getLong();
+        long commitTime = buffer.getLong();
+
+        final ByteBuffer begin =
+                (ByteBuffer)
+                        ByteBuffer.allocate(21)
+                                .put((byte) BEGIN)
+                                .putLong(commitLsn)
+                                .putLong(commitTime)
+                                .putInt(xid)
+                                .flip();
+        final ByteBuffer commit =
+                (ByteBuffer)
+                        ByteBuffer.allocate(26)
+                                .put((byte) COMMIT)
+                                .put(flags)
+                                .putLong(commitLsn)
+                                .putLong(endLsn)
+                                .putLong(commitTime)
+                                .flip();
+        StreamedTransactionBuffer transaction = streamedTransactions.remove(xid);
+        final List<ByteBuffer> buffered;
+        if (transaction == null) {
+            buffered = Collections.emptyList();
+        } else {
+            buffered = transaction.messages();
+            LOG.debug(
+                    "Replaying {} buffered messages of streamed transaction {}{}.",
+                    buffered.size(),
+                    xid,
+                    transaction.isSpilled() ? " from " + transaction.getFile() : "");
+            // the buffered messages stay readable after the spill file is deleted
+            closeQuietly(transaction);
+        }
+        // the buffered messages are read and converted one by one while they are replayed
+        return new AbstractList<ByteBuffer>() {
+            @Override
+            public ByteBuffer get(int index) {
+                if (index == 0) {
+                    return begin;
+                } else if (index == buffered.size() + 1) {
+                    return commit;
+                }
+                return convert(buffered.get(index - 1));
+            }
+
+            @Override
+            public int size() {
+                return buffered.size() + 2;
+            }
+        };
+    }
+
+    private void abortStreamedTransaction(ByteBuffer message) {
+        ByteBuffer buffer = message.duplicate();
+        buffer.get(); // type
+        int xid = buffer.getInt();
+        int subXid = buffer.getInt();
+        if (xid == subXid) {
+            StreamedTransactionBuffer transaction = streamedTransactions.remove(xid);
+            if (transaction != null) {
+                closeQuietly(transaction);
+            }
+            return;
+        }
+        StreamedTransactionBuffer transaction = streamedTransactions.get(xid);
+        if (transaction != null) {
+            transaction.abort(subXid);
+        }
+    }
+
+    private static void closeQuietly(StreamedTransactionBuffer transaction) {
+        try {
+            transaction.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to delete the spill file {}.", transaction.getFile(), e);
+        }
+    }
+
+    /** Converts the binary values of a message to text, and tracks the column types. */
+    private ByteBuffer convert(ByteBuffer message) {
+        if (!binary) {
+            return message;
+        }
+        char type = (char) message.get(message.position());
+        switch (type) {
+            case RELATION:
+                trackRelation(message.duplicate());
+                return message;
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+                return convertTuples(message);
+            default:
+                return message;
+        }
+    }
+
+    private void trackRelation(ByteBuffer buffer) {
+        buffer.get(); // type
+        int relationId = buffer.getInt();
+        String schemaName = readString(buffer);
+        String tableName = readString(buffer);
+        buffer.get(); // replica identity
+        short columnCount = buffer.getShort();
+        int[] columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get(); // flags
+            String columnName = readString(buffer);
+            columnTypes[i] = buffer.getInt();
+            buffer.getInt(); // type modifier
+            if (!PgOutputBinaryValues.isSupported(columnTypes[i])) {
+                throw new DebeziumException(
+                        String.format(
+                                "Column %s of table %s.%s has type %d, whose binary values are not supported. Please disable '%s'.",
+                                columnName,
+                                schemaName,
+                                tableName,
+                                columnTypes[i],
+                                PGOUTPUT_BINARY.name()));
+            }
+        }
+        relationColumnTypes.put(relationId, columnTypes);
+    }
+
+    private ByteBuffer convertTuples(ByteBuffer message) {
+        ByteBuffer buffer = message.duplicate();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(buffer.remaining() * 2);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(buffer.get()); // type
+            int relationId = buffer.getInt();
+            out.writeInt(relationId);
+            int[] columnTypes = relationColumnTypes.get(relationId);
+            while (buffer.hasRemaining()) {
+                // 'K', 'O' or 'N' followed by a tuple
+                out.writeByte(buffer.get());
+                convertTuple(buffer, out, columnTypes);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new DebeziumException("Failed to convert binary values of pgoutput", e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private static void convertTuple(ByteBuffer buffer, DataOutputStream out, int[] columnTypes)
+            throws IOException {
+        short columnCount = buffer.getShort();
+        out.writeShort(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.get();
+            switch (kind) {
+                case 't':
+                    int length = buffer.getInt();
+                    out.writeByte(kind);
+                    out.writeInt(length);
+                    byte[] value = new byte[length];
+                    buffer.get(value);
+                    out.write(value);
+                    break;
+                case 'b':
+                    if (columnTypes == null) {
+                        throw new DebeziumException(
+                                "Received binary values before the relation message");
+                    }
+                    byte[] text =
+                            PgOutputBinaryValues.toText(columnTypes[i], buffer, buffer.getInt());
+                    out.writeByte('t');
+                    out.writeInt(text.length);
+                    out.write(text);
+                    break;
+                default:
+                    // 'n' for null and 'u' for unchanged toasted values carry no data
+                    out.writeByte(kind);
+                    break;
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        while (buffer.get() != 0) {
+            // find the terminating zero
+        }
+        byte[] bytes = new byte[buffer.position() - start - 1];
+        ByteBuffer source = buffer.duplicate();
+        source.position(start);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
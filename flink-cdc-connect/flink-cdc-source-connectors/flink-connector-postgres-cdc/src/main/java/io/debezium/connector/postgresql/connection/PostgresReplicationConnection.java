@@ -34,8 +34,10 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -54,10 +56,13 @@ import static java.lang.Math.toIntExact;
  * <p>The {@link ReplicationConnection} created from {@code createReplicationStream} will hang when
  * the wal logs only contain the keepAliveMessage. Support to set an ending Lsn to stop hanging.
  *
- * <p>Line 83, 711~713 : add endingPos and its setter.
+ * <p>Line 88, 725~727 : add endingPos and its setter.
  *
- * <p>Line 571~576, 595~600: ReplicationStream from {@code createReplicationStream} will stop when
+ * <p>Line 579~584, 599~604: ReplicationStream from {@code createReplicationStream} will stop when
  * endingPos reached.
+ *
+ * <p>Line 90, 555, 615~628, 747~752: receive in-progress transactions and binary values of
+ * pgoutput through {@link PgOutputMessageTransformer} if enabled.
  */
 public class PostgresReplicationConnection extends JdbcConnection implements ReplicationConnection {
 
@@ -82,6 +87,8 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
 
     private Lsn endingPos;
 
+    private PgOutputMessageTransformer messageTransformer;
+
     /**
      * Creates a new replication connection with the given params.
      *
@@ -545,6 +552,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
         }
 
         final PGReplicationStream stream = s;
+        final PgOutputMessageTransformer transformer = messageTransformer;
 
         return new ReplicationStream() {
 
@@ -574,11 +582,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
                     processor.process(new ReplicationMessage.NoopMessage(null, null));
                     return;
                 }
-                if (messageDecoder.shouldMessageBeSkipped(
-                        read, lastReceiveLsn, startLsn, walPosition)) {
-                    return;
-                }
-                deserializeMessages(read, processor);
+                processMessages(read, lastReceiveLsn, processor);
             }
 
             @Override
@@ -603,16 +607,26 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
                     return false;
                 }
 
-                if (messageDecoder.shouldMessageBeSkipped(
-                        read, lastReceiveLsn, startLsn, walPosition)) {
-                    return true;
-                }
-
-                deserializeMessages(read, processor);
+                processMessages(read, lastReceiveLsn, processor);
 
                 return true;
             }
 
+            private void processMessages(
+                    ByteBuffer buffer, Lsn lastReceiveLsn, ReplicationMessageProcessor processor)
+                    throws SQLException, InterruptedException {
+                List<ByteBuffer> messages =
+                        transformer == null
+                                ? Collections.singletonList(buffer)
+                                : transformer.transform(buffer);
+                for (ByteBuffer message : messages) {
+                    if (!messageDecoder.shouldMessageBeSkipped(
+                            message, lastReceiveLsn, startLsn, walPosition)) {
+                        deserializeMessages(message, processor);
+                    }
+                }
+            }
+
             private void deserializeMessages(
                     ByteBuffer buffer, ReplicationMessageProcessor processor)
                     throws SQLException, InterruptedException {
@@ -625,6 +639,9 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
             public void close() throws SQLException {
                 processWarnings(true);
                 stream.close();
+                if (transformer != null) {
+                    transformer.close();
+                }
             }
 
             @Override
@@ -730,6 +747,12 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
                         .withStartPosition(lsn.asLogSequenceNumber())
                         .withSlotOptions(streamParams);
         streamBuilder = configurator.apply(streamBuilder, this::hasMinimumVersion);
+        // a new transformer for each stream, as in-progress transactions are streamed again
+        messageTransformer =
+                PgOutputMessageTransformer.create(connectorConfig, plugin, this::hasMinimumVersion);
+        if (messageTransformer != null) {
+            streamBuilder = messageTransformer.configure(streamBuilder);
+        }
 
         if (statusUpdateInterval != null && statusUpdateInterval.toMillis() > 0) {
             streamBuilder.withStatusInterval(
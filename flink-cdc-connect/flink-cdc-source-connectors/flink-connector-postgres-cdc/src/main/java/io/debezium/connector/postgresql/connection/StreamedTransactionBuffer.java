@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql.connection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The buffered messages of a streamed pgoutput transaction, in the order they were received.
+ *
+ * <p>The messages are kept on heap until their size exceeds the spill threshold. Then they are
+ * moved to a file written through memory-mapped segments, and the following messages of the
+ * transaction are appended to the file, so only the (sub)transaction ID and the location of each
+ * message stay on heap.
+ *
+ * <p>The file is deleted when the buffer is closed, while the messages returned by {@link
+ * #messages()} stay readable until they are collected. Instances are not thread-safe.
+ */
+class StreamedTransactionBuffer implements Closeable {
+
+    private static final int SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private final int xid;
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    /** The (sub)transaction ID of each message. */
+    private int[] messageXids = new int[16];
+
+    /** The segment index (upper 32 bits) and the position in the segment of spilled messages. */
+    private long[] messageLocations = new long[16];
+
+    private final List<byte[]> heapMessages = new ArrayList<>();
+    private final BitSet abortedMessages = new BitSet();
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    private int messageCount;
+    private long heapBytes;
+    private long mappedSize;
+    private FileChannel channel;
+    private Path file;
+
+    /**
+     * Creates a buffer for the given top-level transaction, which spills once the messages exceed
+     * the given number of bytes, or never if the threshold is not positive.
+     */
+    StreamedTransactionBuffer(int xid, long spillThreshold, Path spillDirectory) {
+        this.xid = xid;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /** Appends a message of the given (sub)transaction, consisting of its type and payload. */
+    void append(int subXid, byte type, ByteBuffer payload) throws IOException {
+        if (messageCount == messageXids.length) {
+            messageXids = Arrays.copyOf(messageXids, messageCount * 2);
+            messageLocations = Arrays.copyOf(messageLocations, messageCount * 2);
+        }
+        messageXids[messageCount] = subXid;
+        if (isSpilled()) {
+            spill(messageCount++, type, payload);
+            return;
+        }
+        byte[] bytes = new byte[1 + payload.remaining()];
+        bytes[0] = type;
+        payload.duplicate().get(bytes, 1, bytes.length - 1);
+        heapMessages.add(bytes);
+        heapBytes += bytes.length;
+        messageCount++;
+        if (spillThreshold > 0 && heapBytes > spillThreshold) {
+            spillHeapMessages();
+        }
+    }
+
+    /** Discards the messages of the given aborted subtransaction. */
+    void abort(int subXid) {
+        for (int i = 0; i < messageCount; i++) {
+            if (messageXids[i] == subXid && !abortedMessages.get(i)) {
+                abortedMessages.set(i);
+                if (!isSpilled()) {
+                    heapBytes -= heapMessages.get(i).length;
+                    heapMessages.set(i, null);
+                }
+            }
+        }
+    }
+
+    /** Returns the messages that are not aborted, which are read on access. */
+    List<ByteBuffer> messages() {
+        final int[] indexes = new int[messageCount - abortedMessages.cardinality()];
+        for (int i = abortedMessages.nextClearBit(0), j = 0;
+                i < messageCount;
+                i = abortedMessages.nextClearBit(i + 1)) {
+            indexes[j++] = i;
+        }
+        return new AbstractList<ByteBuffer>() {
+            @Override
+            public ByteBuffer get(int index) {
+                return read(indexes[index]);
+            }
+
+            @Override
+            public int size() {
+                return indexes.length;
+            }
+        };
+    }
+
+    boolean isSpilled() {
+        return channel != null;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            // the file is deleted on close, mapped segments stay valid until they are collected
+            channel.close();
+        }
+    }
+
+    private void spillHeapMessages() throws IOException {
+        Files.createDirectories(spillDirectory);
+        file = Files.createTempFile(spillDirectory, "pgoutput-transaction-" + xid, ".spill");
+        channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+        for (int i = 0; i < heapMessages.size(); i++) {
+            byte[] bytes = heapMessages.get(i);
+            if (bytes != null) {
+                spill(i, bytes[0], ByteBuffer.wrap(bytes, 1, bytes.length - 1));
+            }
+        }
+        heapMessages.clear();
+        heapBytes = 0;
+    }
+
+    private void spill(int index, byte type, ByteBuffer payload) throws IOException {
+        int length = 1 + payload.remaining();
+        MappedByteBuffer segment = segmentFor(Integer.BYTES + length);
+        messageLocations[index] = ((long) (segments.size() - 1) << 32) | segment.position();
+        segment.putInt(length);
+        segment.put(type);
+        segment.put(payload.duplicate());
+    }
+
+    private MappedByteBuffer segmentFor(int recordSize) throws IOException {
+        MappedByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < recordSize) {
+            // records never span segments, the remaining space of the last segment is skipped
+            int segmentSize = Math.max(SEGMENT_SIZE, recordSize);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, mappedSize, segmentSize);
+            mappedSize += segmentSize;
+            segments.add(segment);
+        }
+        return segment;
+    }
+
+    private ByteBuffer read(int index) {
+        if (!isSpilled()) {
+            return ByteBuffer.wrap(heapMessages.get(index));
+        }
+        long location = messageLocations[index];
+        ByteBuffer record = segments.get((int) (location >>> 32)).duplicate();
+        record.position((int) location);
+        int length = record.getInt();
+        ByteBuffer message = record.slice();
+        message.limit(length);
+        return message;
+    }
+}
@@ -21,23 +21,44 @@ import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.dialect.JdbcDataSourceDialect;
 import org.apache.flink.cdc.connectors.base.source.assigner.splitter.JdbcSourceChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkRange;
 import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import org.apache.flink.cdc.connectors.postgres.source.utils.ChunkUtils;
 import org.apache.flink.cdc.connectors.postgres.source.utils.PostgresQueryUtils;
 import org.apache.flink.cdc.connectors.postgres.source.utils.PostgresTypeUtils;
 import org.apache.flink.table.types.DataType;
+import org.apache.flink.table.types.logical.RowType;
 
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The splitter to split the table into chunks using primary-key (by default) or a given split key.
+ * If ctid chunking is enabled, tables without usable split key are split into chunks of {@code
+ * ctid} block ranges instead.
  */
 @Internal
 public class PostgresChunkSplitter extends JdbcSourceChunkSplitter {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresChunkSplitter.class);
+
+    /** The assumed number of rows per block for tables which have never been analyzed. */
+    private static final long DEFAULT_ROWS_PER_BLOCK = 50L;
+
     public PostgresChunkSplitter(
             JdbcSourceConfig sourceConfig,
             JdbcDataSourceDialect dialect,
@@ -45,6 +66,18 @@ public class PostgresChunkSplitter extends JdbcSourceChunkSplitter {
         super(sourceConfig, dialect, chunkSplitterState);
     }
 
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) throws Exception {
+        if (!hasNextChunk() && ((PostgresSourceConfig) sourceConfig).isCtidChunkingEnabled()) {
+            TableChanges.TableChange schema =
+                    dialect.queryTableSchema(getJdbcConnection(), tableId);
+            if (!hasUsableSplitKey(schema.getTable())) {
+                return splitCtidRangeChunks(tableId, schema);
+            }
+        }
+        return super.generateSplits(tableId);
+    }
+
     @Override
     public Object queryNextChunkMax(
             JdbcConnection jdbc,
@@ -76,6 +109,74 @@ public class PostgresChunkSplitter extends JdbcSourceChunkSplitter {
     // Utilities
     // --------------------------------------------------------------------------------------------
 
+    /**
+     * Checks whether the table has a split key which can be split into evenly sized chunks by
+     * value, the table is split by ctid otherwise.
+     */
+    private boolean hasUsableSplitKey(Table table) {
+        if (table.primaryKeyColumns().isEmpty() && sourceConfig.getChunkKeyColumn() == null) {
+            return false;
+        }
+        return isEvenlySplitColumn(getSplitColumn(table, sourceConfig.getChunkKeyColumn()));
+    }
+
+    /**
+     * Splits the table into chunks of consecutive blocks according to the relation size, each
+     * chunk holds about {@code splitSize} rows. The last chunk is unbounded to contain the rows
+     * appended after the splitting.
+     */
+    private List<SnapshotSplit> splitCtidRangeChunks(
+            TableId tableId, TableChanges.TableChange schema) throws SQLException {
+        final JdbcConnection jdbc = getJdbcConnection();
+        final long blockCnt = PostgresQueryUtils.queryRelationBlockCnt(jdbc, tableId);
+        final long approximateRowCnt = queryApproximateRowCnt(jdbc, tableId);
+        final long rowsPerBlock =
+                approximateRowCnt > 0 && blockCnt > 0
+                        ? Math.max(1L, (approximateRowCnt + blockCnt - 1) / blockCnt)
+                        : DEFAULT_ROWS_PER_BLOCK;
+        final long blocksPerChunk = Math.max(1L, sourceConfig.getSplitSize() / rowsPerBlock);
+        LOG.info(
+                "Use ctid block range chunks for table {}, the block count is {}, the approximate row count is {}, the blocks per chunk is {}",
+                tableId,
+                blockCnt,
+                approximateRowCnt,
+                blocksPerChunk);
+
+        final List<ChunkRange> chunks = new ArrayList<>();
+        if (blockCnt <= blocksPerChunk) {
+            chunks.add(ChunkRange.all());
+        } else {
+            Long chunkStart = null;
+            for (long chunkEnd = blocksPerChunk; chunkEnd < blockCnt; chunkEnd += blocksPerChunk) {
+                chunks.add(ChunkRange.of(chunkStart, chunkEnd));
+                chunkStart = chunkEnd;
+            }
+            chunks.add(ChunkRange.of(chunkStart, null));
+        }
+
+        final RowType splitType = ChunkUtils.getCtidSplitType();
+        final Map<TableId, TableChanges.TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(tableId, schema);
+        final List<SnapshotSplit> splits = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            ChunkRange chunk = chunks.get(i);
+            splits.add(
+                    new SnapshotSplit(
+                            tableId,
+                            i,
+                            splitType,
+                            chunk.getChunkStart() == null
+                                    ? null
+                                    : new Object[] {chunk.getChunkStart()},
+                            chunk.getChunkEnd() == null
+                                    ? null
+                                    : new Object[] {chunk.getChunkEnd()},
+                            null,
+                            tableSchemas));
+        }
+        return splits;
+    }
+
     @Override
     protected Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
             throws SQLException {
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.postgres.source;
 
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.options.StartupMode;
 import org.apache.flink.cdc.connectors.base.dialect.JdbcDataSourceDialect;
 import org.apache.flink.cdc.connectors.base.relational.connection.JdbcConnectionFactory;
 import org.apache.flink.cdc.connectors.base.relational.connection.JdbcConnectionPoolFactory;
@@ -25,6 +26,7 @@ import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitt
 import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
 import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 import org.apache.flink.cdc.connectors.base.source.reader.external.JdbcSourceFetchTaskContext;
 import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
@@ -32,6 +34,7 @@ import org.apache.flink.cdc.connectors.postgres.source.fetch.PostgresScanFetchTa
 import org.apache.flink.cdc.connectors.postgres.source.fetch.PostgresSourceFetchTaskContext;
 import org.apache.flink.cdc.connectors.postgres.source.fetch.PostgresStreamFetchTask;
 import org.apache.flink.cdc.connectors.postgres.source.utils.CustomPostgresSchema;
+import org.apache.flink.cdc.connectors.postgres.source.utils.ReplicationSlotPartitionUtils;
 import org.apache.flink.cdc.connectors.postgres.source.utils.TableDiscoveryUtils;
 import org.apache.flink.util.FlinkRuntimeException;
 
@@ -43,15 +46,20 @@ import io.debezium.connector.postgresql.PostgresTopicSelector;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.PostgresConnectionUtils;
 import io.debezium.connector.postgresql.connection.PostgresReplicationConnection;
+import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.history.TableChanges.TableChange;
 import io.debezium.schema.TopicSelector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -64,6 +72,7 @@ import static io.debezium.connector.postgresql.Utils.currentOffset;
 /** The dialect for Postgres. */
 public class PostgresDialect implements JdbcDataSourceDialect {
     private static final long serialVersionUID = 1L;
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresDialect.class);
     private static final String CONNECTION_NAME = "postgres-cdc-connector";
 
     private final PostgresSourceConfig sourceConfig;
@@ -103,8 +112,13 @@ public class PostgresDialect implements JdbcDataSourceDialect {
 
     public PostgresReplicationConnection openPostgresReplicationConnection(
             PostgresConnection jdbcConnection) {
+        return openPostgresReplicationConnection(
+                jdbcConnection, sourceConfig.getDbzConnectorConfig());
+    }
+
+    private PostgresReplicationConnection openPostgresReplicationConnection(
+            PostgresConnection jdbcConnection, PostgresConnectorConfig pgConnectorConfig) {
         try {
-            PostgresConnectorConfig pgConnectorConfig = sourceConfig.getDbzConnectorConfig();
             TopicSelector<TableId> topicSelector = PostgresTopicSelector.create(pgConnectorConfig);
             PostgresConnection.PostgresValueConverterBuilder valueConverterBuilder =
                     newPostgresValueConverterBuilder(pgConnectorConfig);
@@ -224,6 +238,89 @@ public class PostgresDialect implements JdbcDataSourceDialect {
         return schema.getTableSchema(tableIds);
     }
 
+    @Override
+    public int getStreamSplitPartitions(JdbcSourceConfig sourceConfig) {
+        return ((PostgresSourceConfig) sourceConfig).getReplicationSlotPartitions();
+    }
+
+    /**
+     * Partitions the stream split and creates the replication slot of every partition. The number
+     * of partitions has already been checked against the source parallelism when the enumerator
+     * was created, so no slot is created which would never be read and would retain WAL.
+     */
+    @Override
+    public List<StreamSplit> partitionStreamSplit(
+            JdbcSourceConfig sourceConfig, StreamSplit streamSplit) {
+        PostgresSourceConfig postgresSourceConfig = (PostgresSourceConfig) sourceConfig;
+        int partitions = getStreamSplitPartitions(sourceConfig);
+        if (partitions <= 1) {
+            return Collections.singletonList(streamSplit);
+        }
+        List<StreamSplit> streamSplits =
+                ReplicationSlotPartitionUtils.partitionStreamSplit(
+                        streamSplit, discoverDataCollectionSchemas(sourceConfig), partitions);
+        LOG.info("Partitioning the stream split into {} replication slots.", streamSplits.size());
+
+        List<StreamSplit> partitionedStreamSplits = new ArrayList<>(streamSplits.size());
+        for (StreamSplit split : streamSplits) {
+            if (split.isPartitioned()) {
+                partitionedStreamSplits.add(prepareSlotForPartition(postgresSourceConfig, split));
+            } else {
+                partitionedStreamSplits.add(split);
+            }
+        }
+        return partitionedStreamSplits;
+    }
+
+    /**
+     * Creates the slot and the publication of the partitioned stream split if absent, and resumes
+     * the partition from the confirmed LSN of its own slot for the committed-offset startup mode.
+     */
+    private StreamSplit prepareSlotForPartition(
+            PostgresSourceConfig sourceConfig, StreamSplit streamSplit) {
+        PostgresConnectorConfig partitionConnectorConfig =
+                new PostgresConnectorConfig(
+                        ReplicationSlotPartitionUtils.partitionConfiguration(
+                                sourceConfig.getDbzConfiguration(), streamSplit));
+        String partitionSlotName = partitionConnectorConfig.getConfig().getString(SLOT_NAME);
+        try (PostgresConnection connection = openJdbcConnection()) {
+            createSlotIfAbsent(connection, partitionConnectorConfig, partitionSlotName);
+            if (sourceConfig.getStartupOptions().startupMode != StartupMode.COMMITTED_OFFSETS) {
+                return streamSplit;
+            }
+            return new StreamSplit(
+                    streamSplit.splitId(),
+                    PostgresConnectionUtils.committedOffset(
+                            connection, partitionSlotName, getPluginName()),
+                    streamSplit.getEndingOffset(),
+                    new ArrayList<>(),
+                    streamSplit.getTableSchemas(),
+                    0);
+        } catch (Throwable t) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Fail to get or create slot for partitioned stream split %s, the slot name is %s.",
+                            streamSplit.splitId(), partitionSlotName),
+                    t);
+        }
+    }
+
+    private void createSlotIfAbsent(
+            PostgresConnection connection,
+            PostgresConnectorConfig pgConnectorConfig,
+            String slotName)
+            throws SQLException {
+        SlotState slotInfo = connection.getReplicationSlotState(slotName, getPluginName());
+        // skip creating the replication slot when the slot exists.
+        if (slotInfo != null) {
+            return;
+        }
+        PostgresReplicationConnection replicationConnection =
+                openPostgresReplicationConnection(connection, pgConnectorConfig);
+        replicationConnection.createReplicationSlot();
+        replicationConnection.close(false);
+    }
+
     @Override
     public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
         if (sourceSplitBase.isSnapshotSplit()) {
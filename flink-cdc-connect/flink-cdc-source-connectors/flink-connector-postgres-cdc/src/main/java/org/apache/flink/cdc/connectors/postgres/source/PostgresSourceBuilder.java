@@ -305,6 +305,36 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether to read snapshot splits with the binary {@code COPY} protocol instead of a JDBC
+     * query. Tables with column types that can not be decoded from the binary format are still
+     * read by a JDBC query.
+     */
+    public PostgresSourceBuilder<T> snapshotCopyBinaryEnabled(boolean snapshotCopyBinaryEnabled) {
+        this.configFactory.setSnapshotCopyBinaryEnabled(snapshotCopyBinaryEnabled);
+        return this;
+    }
+
+    /**
+     * Whether to split tables without usable split key, i.e. tables without primary key and chunk
+     * key column or whose split key is not numeric, into chunks of {@code ctid} block ranges. This
+     * requires the snapshot backfill to be skipped.
+     */
+    public PostgresSourceBuilder<T> ctidChunkingEnabled(boolean ctidChunkingEnabled) {
+        this.configFactory.setCtidChunkingEnabled(ctidChunkingEnabled);
+        return this;
+    }
+
+    /**
+     * The number of replication slots the stream phase is partitioned into for stream-only startup
+     * modes. Each partition reads a disjoint group of the captured tables from its own slot and
+     * publication, so it should not exceed the source parallelism. Default: 1
+     */
+    public PostgresSourceBuilder<T> replicationSlotPartitions(int replicationSlotPartitions) {
+        this.configFactory.setReplicationSlotPartitions(replicationSlotPartitions);
+        return this;
+    }
+
     /**
      * Build the {@link PostgresIncrementalSource}.
      *
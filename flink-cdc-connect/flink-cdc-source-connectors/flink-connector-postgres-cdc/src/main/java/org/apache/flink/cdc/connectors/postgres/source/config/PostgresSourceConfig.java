@@ -39,6 +39,9 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
     private final int subtaskId;
     private final int lsnCommitCheckpointsDelay;
     private final boolean includePartitionedTables;
+    private final boolean snapshotCopyBinaryEnabled;
+    private final boolean ctidChunkingEnabled;
+    private final int replicationSlotPartitions;
 
     public PostgresSourceConfig(
             int subtaskId,
@@ -69,7 +72,10 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
             boolean isScanNewlyAddedTableEnabled,
             int lsnCommitCheckpointsDelay,
             boolean assignUnboundedChunkFirst,
-            boolean includePartitionedTables) {
+            boolean includePartitionedTables,
+            boolean snapshotCopyBinaryEnabled,
+            boolean ctidChunkingEnabled,
+            int replicationSlotPartitions) {
         super(
                 startupOptions,
                 databaseList,
@@ -100,6 +106,9 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
         this.subtaskId = subtaskId;
         this.lsnCommitCheckpointsDelay = lsnCommitCheckpointsDelay;
         this.includePartitionedTables = includePartitionedTables;
+        this.snapshotCopyBinaryEnabled = snapshotCopyBinaryEnabled;
+        this.ctidChunkingEnabled = ctidChunkingEnabled;
+        this.replicationSlotPartitions = replicationSlotPartitions;
     }
 
     /**
@@ -129,6 +138,33 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
         return includePartitionedTables;
     }
 
+    /**
+     * Returns {@code snapshotCopyBinaryEnabled} value.
+     *
+     * @return whether to read snapshot splits with binary COPY
+     */
+    public boolean isSnapshotCopyBinaryEnabled() {
+        return snapshotCopyBinaryEnabled;
+    }
+
+    /**
+     * Returns {@code ctidChunkingEnabled} value.
+     *
+     * @return whether to split tables without usable split key by ctid block ranges
+     */
+    public boolean isCtidChunkingEnabled() {
+        return ctidChunkingEnabled;
+    }
+
+    /**
+     * Returns {@code replicationSlotPartitions} value.
+     *
+     * @return the number of replication slots the stream phase is partitioned into
+     */
+    public int getReplicationSlotPartitions() {
+        return replicationSlotPartitions;
+    }
+
     /**
      * Returns the slot name for backfill task.
      *
@@ -31,6 +31,7 @@ import java.util.Properties;
 import java.util.UUID;
 
 import static org.apache.flink.cdc.connectors.base.utils.EnvironmentUtils.checkSupportCheckpointsAfterTasksFinished;
+import static org.apache.flink.util.Preconditions.checkArgument;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /** Factory to create Configuration for Postgres source. */
@@ -54,10 +55,26 @@ public class PostgresSourceConfigFactory extends JdbcSourceConfigFactory {
 
     private boolean includePartitionedTables;
 
+    private boolean snapshotCopyBinaryEnabled;
+
+    private boolean ctidChunkingEnabled;
+
+    private int replicationSlotPartitions =
+            PostgresSourceOptions.SCAN_REPLICATION_SLOT_PARTITIONS.defaultValue();
+
     /** Creates a new {@link PostgresSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public PostgresSourceConfig create(int subtaskId) {
         checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
+        checkArgument(
+                !ctidChunkingEnabled || skipSnapshotBackfill,
+                "Splitting tables by ctid requires the snapshot backfill to be skipped, please set 'scan.incremental.snapshot.backfill.skip' to true.");
+        checkArgument(
+                replicationSlotPartitions == 1 || startupOptions.isStreamOnly(),
+                "Partitioned replication slot reading is only supported for stream-only startup modes.");
+        checkArgument(
+                replicationSlotPartitions == 1 || !scanNewlyAddedTableEnabled,
+                "Partitioned replication slot reading is not supported when scanning newly added tables.");
         Properties props = new Properties();
         props.setProperty("connector.class", PostgresConnector.class.getCanonicalName());
         props.setProperty("plugin.name", pluginName);
@@ -136,7 +153,10 @@ public class PostgresSourceConfigFactory extends JdbcSourceConfigFactory {
                 scanNewlyAddedTableEnabled,
                 lsnCommitCheckpointsDelay,
                 assignUnboundedChunkFirst,
-                includePartitionedTables);
+                includePartitionedTables,
+                snapshotCopyBinaryEnabled,
+                ctidChunkingEnabled,
+                replicationSlotPartitions);
     }
 
     /**
@@ -189,4 +209,25 @@ public class PostgresSourceConfigFactory extends JdbcSourceConfigFactory {
     public void setIncludePartitionedTables(boolean includePartitionedTables) {
         this.includePartitionedTables = includePartitionedTables;
     }
+
+    /** Enable reading snapshot splits with {@code COPY ... TO STDOUT (FORMAT binary)}. */
+    public void setSnapshotCopyBinaryEnabled(boolean snapshotCopyBinaryEnabled) {
+        this.snapshotCopyBinaryEnabled = snapshotCopyBinaryEnabled;
+    }
+
+    /**
+     * Enable splitting tables without usable split key into chunks of {@code ctid} block ranges.
+     */
+    public void setCtidChunkingEnabled(boolean ctidChunkingEnabled) {
+        this.ctidChunkingEnabled = ctidChunkingEnabled;
+    }
+
+    /**
+     * The number of replication slots the stream phase is partitioned into for stream-only startup
+     * modes. Each partition reads a disjoint group of the captured tables from its own slot.
+     */
+    public void setReplicationSlotPartitions(int replicationSlotPartitions) {
+        checkArgument(replicationSlotPartitions > 0);
+        this.replicationSlotPartitions = replicationSlotPartitions;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.config;
 
+import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.connectors.base.options.JdbcSourceOptions;
 import org.apache.flink.cdc.connectors.postgres.source.PostgresSourceBuilder;
 import org.apache.flink.cdc.debezium.table.DebeziumChangelogMode;
@@ -97,4 +98,39 @@ public class PostgresSourceOptions extends JdbcSourceOptions {
                                     + "If enabled:\n"
                                     + "(1) PUBLICATION must be created beforehand with parameter publish_via_partition_root=true\n"
                                     + "(2) Table list (regex or predefined list) should only match the parent table name, if table list matches both parent and child tables, snapshot data will be read twice.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_SNAPSHOT_COPY_BINARY_ENABLED =
+            ConfigOptions.key("scan.snapshot.copy-binary.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read snapshot splits with COPY (SELECT ...) TO STDOUT (FORMAT binary) instead of a JDBC query, "
+                                    + "which avoids the text encoding and parsing of every value. Tables containing column types "
+                                    + "which can not be decoded from the binary format, or split keys which can not be inlined as literals, "
+                                    + "are still read by a JDBC query. Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_CTID_CHUNKING_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.ctid-chunking.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split tables without usable split key into chunks of ctid block ranges. "
+                                    + "A table has no usable split key if it has neither a primary key nor the configured chunk key column, "
+                                    + "or if its split key is not a numeric column, e.g. UUID keys. The chunk boundaries are computed from "
+                                    + "pg_relation_size, so the chunks are evenly sized and read sequentially without index scans. "
+                                    + "This requires 'scan.incremental.snapshot.backfill.skip' to be true. Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_REPLICATION_SLOT_PARTITIONS =
+            ConfigOptions.key("scan.replication-slot.partitions")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of replication slots the stream phase is partitioned into for stream-only startup modes. "
+                                    + "The captured tables are distributed to the partitions, and each partition is read by a separate "
+                                    + "stream split from the slot '<slot.name>_p<partition>' through the publication '<publication.name>_p<partition>', "
+                                    + "so the decoding and reading of changes scale with the source parallelism. "
+                                    + "Tables created after the partitioning are not captured. Defaults to 1.");
 }
@@ -120,8 +120,15 @@ public class PostgresSourceEnumerator extends IncrementalSourceEnumerator {
      *
      * <p>Currently all startup modes need read the stream split. We need open the slot before
      * reading the globalStreamSplit to catch all data changes.
+     *
+     * <p>The slots of partitioned stream splits are created by {@link
+     * PostgresDialect#partitionStreamSplit} instead, so the global slot is not created if the
+     * stream split will be partitioned.
      */
     private void createSlotForGlobalStreamSplit() {
+        if (sourceConfig.getReplicationSlotPartitions() > 1) {
+            return;
+        }
         try (PostgresConnection connection = postgresDialect.openJdbcConnection()) {
             SlotState slotInfo =
                     connection.getReplicationSlotState(
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.fetch;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A reader which decodes the output of {@code COPY ... TO STDOUT (FORMAT binary)} into rows of
+ * the same Java objects returned by the PgJDBC {@code ResultSet#getObject}, so that the rows can be
+ * emitted through the Debezium value converters like rows read by a JDBC query.
+ *
+ * <p>The columns of the copied query must be the columns of the {@link Table} in their declared
+ * order. See https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4 for the binary
+ * format.
+ */
+public class PostgresCopyBinaryReader implements Closeable {
+
+    private static final byte[] SIGNATURE =
+            "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+
+    private static final int NUMERIC_NEG = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_PINF = 0xD000;
+    private static final int NUMERIC_NINF = 0xF000;
+    private static final BigInteger NBASE = BigInteger.valueOf(10000);
+
+    private static final Map<String, FieldDecoder> DECODERS = new HashMap<>();
+
+    static {
+        DECODERS.put("bool", (in, length) -> in.readByte() != 0);
+        DECODERS.put("int2", (in, length) -> (int) in.readShort());
+        DECODERS.put("smallserial", (in, length) -> (int) in.readShort());
+        DECODERS.put("int4", (in, length) -> in.readInt());
+        DECODERS.put("serial", (in, length) -> in.readInt());
+        DECODERS.put("int8", (in, length) -> in.readLong());
+        DECODERS.put("bigserial", (in, length) -> in.readLong());
+        DECODERS.put("float4", (in, length) -> in.readFloat());
+        DECODERS.put("float8", (in, length) -> in.readDouble());
+        DECODERS.put("numeric", PostgresCopyBinaryReader::decodeNumeric);
+        DECODERS.put("text", PostgresCopyBinaryReader::decodeString);
+        DECODERS.put("varchar", PostgresCopyBinaryReader::decodeString);
+        DECODERS.put("bpchar", PostgresCopyBinaryReader::decodeString);
+        DECODERS.put("name", PostgresCopyBinaryReader::decodeString);
+        DECODERS.put("bytea", PostgresCopyBinaryReader::readBytes);
+        DECODERS.put("uuid", (in, length) -> new UUID(in.readLong(), in.readLong()));
+    }
+
+    private final DataInputStream in;
+    private final FieldDecoder[] decoders;
+    private final int[] positions;
+    private final int rowSize;
+
+    public PostgresCopyBinaryReader(InputStream inputStream, Table table) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(inputStream));
+        List<Column> columns = table.columns();
+        this.decoders = new FieldDecoder[columns.size()];
+        this.positions = new int[columns.size()];
+        int greatestPosition = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            decoders[i] = DECODERS.get(column.typeName());
+            positions[i] = column.position() - 1;
+            greatestPosition = Math.max(greatestPosition, column.position());
+        }
+        this.rowSize = greatestPosition;
+        readHeader();
+    }
+
+    /** Returns whether all columns of the given table can be decoded from the binary format. */
+    public static boolean isSupported(Table table) {
+        return table.columns().stream()
+                .allMatch(column -> DECODERS.containsKey(column.typeName()));
+    }
+
+    /** Reads the next row, returns null when all rows have been read. */
+    @Nullable
+    public Object[] next() throws IOException {
+        short fieldCount = in.readShort();
+        if (fieldCount == -1) {
+            return null;
+        }
+        if (fieldCount != decoders.length) {
+            throw new IOException(
+                    String.format(
+                            "Unexpected field count %d of binary copy tuple, expected %d.",
+                            fieldCount, decoders.length));
+        }
+        Object[] row = new Object[rowSize];
+        for (int i = 0; i < fieldCount; i++) {
+            int length = in.readInt();
+            if (length >= 0) {
+                row[positions[i]] = decoders[i].decode(in, length);
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readHeader() throws IOException {
+        byte[] signature = new byte[SIGNATURE.length];
+        in.readFully(signature);
+        if (!Arrays.equals(SIGNATURE, signature)) {
+            throw new IOException("Invalid signature of binary copy output.");
+        }
+        // flags field
+        in.readInt();
+        int extensionLength = in.readInt();
+        if (in.skipBytes(extensionLength) != extensionLength) {
+            throw new EOFException("Unexpected end of binary copy header extension.");
+        }
+    }
+
+    private static Object decodeString(DataInputStream in, int length) throws IOException {
+        return new String(readBytes(in, length), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes the binary numeric format: digit count, weight of the first digit, sign and display
+     * scale followed by the base-10000 digits. Special values are returned as {@link Double} like
+     * PgJDBC does.
+     */
+    private static Object decodeNumeric(DataInputStream in, int length) throws IOException {
+        int ndigits = in.readShort();
+        int weight = in.readShort();
+        int sign = in.readShort() & 0xFFFF;
+        int dscale = in.readShort();
+        switch (sign) {
+            case NUMERIC_NAN:
+                return Double.NaN;
+            case NUMERIC_PINF:
+                return Double.POSITIVE_INFINITY;
+            case NUMERIC_NINF:
+                return Double.NEGATIVE_INFINITY;
+            default:
+                break;
+        }
+
+        BigInteger unscaled = BigInteger.ZERO;
+        for (int i = 0; i < ndigits; i++) {
+            unscaled = unscaled.multiply(NBASE).add(BigInteger.valueOf(in.readShort()));
+        }
+        BigDecimal value =
+                new BigDecimal(unscaled)
+                        .scaleByPowerOfTen(4 * (weight - ndigits + 1))
+                        .setScale(dscale, RoundingMode.DOWN);
+        return sign == NUMERIC_NEG ? value.negate() : value;
+    }
+
+    /** Decoder of a non-null field value with the given length. */
+    @FunctionalInterface
+    private interface FieldDecoder {
+        Object decode(DataInputStream in, int length) throws IOException;
+    }
+}
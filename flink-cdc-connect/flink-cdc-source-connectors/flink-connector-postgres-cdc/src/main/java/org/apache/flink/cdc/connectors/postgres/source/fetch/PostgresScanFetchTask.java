@@ -47,9 +47,12 @@ import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
 import io.debezium.util.Strings;
 import io.debezium.util.Threads;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -104,7 +107,9 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                         ctx.getOffsetContext(),
                         ctx.getEventDispatcher(),
                         ctx.getSnapshotChangeEventSourceMetrics(),
-                        snapshotSplit);
+                        snapshotSplit,
+                        ((PostgresSourceConfig) ctx.getSourceConfig())
+                                .isSnapshotCopyBinaryEnabled());
 
         StoppableChangeEventSourceContext changeEventSourceContext =
                 new StoppableChangeEventSourceContext();
@@ -220,6 +225,7 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
         private final PostgresOffsetContext offsetContext;
         private final PostgresSchema databaseSchema;
         private final SnapshotProgressListener<PostgresPartition> snapshotProgressListener;
+        private final boolean copyBinaryEnabled;
         private final Clock clock;
 
         public PostgresSnapshotSplitReadTask(
@@ -229,7 +235,8 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                 PostgresOffsetContext previousOffset,
                 PostgresEventDispatcher<TableId> eventDispatcher,
                 SnapshotProgressListener snapshotProgressListener,
-                SnapshotSplit snapshotSplit) {
+                SnapshotSplit snapshotSplit,
+                boolean copyBinaryEnabled) {
             super(connectorConfig, snapshotProgressListener);
             this.jdbcConnection = jdbcConnection;
             this.connectorConfig = connectorConfig;
@@ -238,6 +245,7 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
             this.eventDispatcher = eventDispatcher;
             this.snapshotSplit = snapshotSplit;
             this.offsetContext = previousOffset;
+            this.copyBinaryEnabled = copyBinaryEnabled;
             this.clock = Clock.SYSTEM;
         }
 
@@ -282,11 +290,25 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                     snapshotSplit.splitId(),
                     table.id());
 
+            // the ctid split key is a system column which is not contained in the table schema
             List<String> uuidFields =
                     snapshotSplit.getSplitKeyType().getFieldNames().stream()
-                            .filter(field -> table.columnWithName(field).typeName().equals("uuid"))
+                            .filter(
+                                    field ->
+                                            table.columnWithName(field) != null
+                                                    && PostgresQueryUtils.isUUID(
+                                                            table.columnWithName(field)))
                             .collect(Collectors.toList());
 
+            if (copyBinaryEnabled
+                    && PostgresCopyBinaryReader.isSupported(table)
+                    && PostgresQueryUtils.isInlinableSplitKey(snapshotSplit.getSplitStart())
+                    && PostgresQueryUtils.isInlinableSplitKey(snapshotSplit.getSplitEnd())) {
+                copyDataEventsForTable(
+                        snapshotContext, snapshotReceiver, table, uuidFields, exportStart);
+                return;
+            }
+
             final String selectSql =
                     PostgresQueryUtils.buildSplitScanQuery(
                             snapshotSplit.getTableId(),
@@ -322,23 +344,15 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                     for (int i = 0; i < columnArray.getColumns().length; i++) {
                         row[columnArray.getColumns()[i].position() - 1] = rs.getObject(i + 1);
                     }
-                    if (logTimer.expired()) {
-                        long stop = clock.currentTimeInMillis();
-                        LOG.info(
-                                "Exported {} records for split '{}' after {}",
-                                rows,
-                                snapshotSplit.splitId(),
-                                Strings.duration(stop - exportStart));
-                        snapshotProgressListener.rowsScanned(
-                                snapshotContext.partition, table.id(), rows);
-                        logTimer = getTableScanLogTimer();
-                    }
-                    snapshotContext.offset.event(table.id(), clock.currentTime());
-                    SnapshotChangeRecordEmitter<PostgresPartition> emitter =
-                            new SnapshotChangeRecordEmitter<>(
-                                    snapshotContext.partition, snapshotContext.offset, row, clock);
-                    eventDispatcher.dispatchSnapshotEvent(
-                            snapshotContext.partition, table.id(), emitter, snapshotReceiver);
+                    logTimer =
+                            dispatchRow(
+                                    snapshotContext,
+                                    snapshotReceiver,
+                                    table,
+                                    row,
+                                    rows,
+                                    exportStart,
+                                    logTimer);
                 }
                 LOG.info(
                         "Finished exporting {} records for split '{}', total duration '{}'",
@@ -351,6 +365,92 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
             }
         }
 
+        /**
+         * Dispatches the data change events for the records of a single table which are read by
+         * {@code COPY ... TO STDOUT (FORMAT binary)}.
+         */
+        private void copyDataEventsForTable(
+                PostgresSnapshotContext snapshotContext,
+                EventDispatcher.SnapshotReceiver<PostgresPartition> snapshotReceiver,
+                Table table,
+                List<String> uuidFields,
+                long exportStart)
+                throws InterruptedException {
+            final String copySql =
+                    PostgresQueryUtils.buildSplitCopyQuery(
+                            snapshotSplit.getTableId(),
+                            table.retrieveColumnNames(),
+                            snapshotSplit.getSplitKeyType(),
+                            snapshotSplit.getSplitStart(),
+                            snapshotSplit.getSplitEnd(),
+                            uuidFields);
+            LOG.debug(
+                    "For split '{}' of table {} using copy statement: '{}'",
+                    snapshotSplit.splitId(),
+                    table.id(),
+                    copySql);
+
+            try (PostgresCopyBinaryReader reader =
+                    new PostgresCopyBinaryReader(
+                            new PGCopyInputStream(
+                                    jdbcConnection.connection().unwrap(PGConnection.class),
+                                    copySql),
+                            table)) {
+                long rows = 0;
+                Threads.Timer logTimer = getTableScanLogTimer();
+
+                Object[] row;
+                while ((row = reader.next()) != null) {
+                    rows++;
+                    logTimer =
+                            dispatchRow(
+                                    snapshotContext,
+                                    snapshotReceiver,
+                                    table,
+                                    row,
+                                    rows,
+                                    exportStart,
+                                    logTimer);
+                }
+                LOG.info(
+                        "Finished copying {} records for split '{}', total duration '{}'",
+                        rows,
+                        snapshotSplit.splitId(),
+                        Strings.duration(clock.currentTimeInMillis() - exportStart));
+            } catch (SQLException | IOException e) {
+                throw new FlinkRuntimeException(
+                        "Snapshotting of table " + table.id() + " failed", e);
+            }
+        }
+
+        private Threads.Timer dispatchRow(
+                PostgresSnapshotContext snapshotContext,
+                EventDispatcher.SnapshotReceiver<PostgresPartition> snapshotReceiver,
+                Table table,
+                Object[] row,
+                long rows,
+                long exportStart,
+                Threads.Timer logTimer)
+                throws InterruptedException {
+            if (logTimer.expired()) {
+                long stop = clock.currentTimeInMillis();
+                LOG.info(
+                        "Exported {} records for split '{}' after {}",
+                        rows,
+                        snapshotSplit.splitId(),
+                        Strings.duration(stop - exportStart));
+                snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), rows);
+                logTimer = getTableScanLogTimer();
+            }
+            snapshotContext.offset.event(table.id(), clock.currentTime());
+            SnapshotChangeRecordEmitter<PostgresPartition> emitter =
+                    new SnapshotChangeRecordEmitter<>(
+                            snapshotContext.partition, snapshotContext.offset, row, clock);
+            eventDispatcher.dispatchSnapshotEvent(
+                    snapshotContext.partition, table.id(), emitter, snapshotReceiver);
+            return logTimer;
+        }
+
         private Threads.Timer getTableScanLogTimer() {
             return Threads.timer(clock, LOG_INTERVAL);
         }
@@ -31,6 +31,7 @@ import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffset;
 import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
 import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetUtils;
 import org.apache.flink.cdc.connectors.postgres.source.utils.ChunkUtils;
+import org.apache.flink.cdc.connectors.postgres.source.utils.ReplicationSlotPartitionUtils;
 import org.apache.flink.table.types.logical.RowType;
 
 import io.debezium.DebeziumException;
@@ -147,6 +148,14 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
         } else {
 
             Configuration.Builder builder = dbzConfig.getConfig().edit();
+            if (sourceSplitBase.asStreamSplit().isPartitioned()) {
+                // read the slot and the publication of the partition, only for its tables
+                builder =
+                        ReplicationSlotPartitionUtils.partitionConfiguration(
+                                        sourceConfig.getDbzConfiguration(),
+                                        sourceSplitBase.asStreamSplit())
+                                .edit();
+            }
             if (isBackFillSplit(sourceSplitBase)) {
                 // when backfilled split, only current table schema should be scan
                 builder.with(
@@ -219,6 +228,10 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                         .maxBatchSize(dbzConfig.getMaxBatchSize())
                         .maxQueueSize(dbzConfig.getMaxQueueSize())
                         .maxQueueSizeInBytes(dbzConfig.getMaxQueueSizeInBytes())
+                        .ringBuffer(
+                                dbzConfig
+                                        .getConfig()
+                                        .getBoolean(ChangeEventQueue.RING_BUFFER_ENABLED))
                         .loggingContextSupplier(
                                 () ->
                                         taskContext.configureLoggingContext(
@@ -383,6 +396,7 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
     private boolean isBackFillSplit(SourceSplitBase sourceSplitBase) {
         return sourceSplitBase.isStreamSplit()
                 && !StreamSplit.STREAM_SPLIT_ID.equalsIgnoreCase(
-                        sourceSplitBase.asStreamSplit().splitId());
+                        sourceSplitBase.asStreamSplit().splitId())
+                && !sourceSplitBase.asStreamSplit().isPartitioned();
     }
 }
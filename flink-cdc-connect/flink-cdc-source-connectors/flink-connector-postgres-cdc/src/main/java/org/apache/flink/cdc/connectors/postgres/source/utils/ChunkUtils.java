@@ -32,6 +32,10 @@ import java.util.stream.Collectors;
 
 /** Utilities to split chunks of table. */
 public class ChunkUtils {
+
+    /** The system column which is used as split key when splitting a table by physical pages. */
+    public static final String CTID_SPLIT_KEY = "ctid";
+
     public static RowType getSplitType(Column splitColumn) {
         return (RowType)
                 DataTypes.ROW(
@@ -70,4 +74,19 @@ public class ChunkUtils {
         // use first column of primary key columns as the chunk key column by default
         return primaryKeys.get(0);
     }
+
+    /**
+     * Returns the split key type of chunks split by {@code ctid} block ranges, the split key values
+     * are the block numbers of the chunk boundaries.
+     */
+    public static RowType getCtidSplitType() {
+        return (RowType)
+                DataTypes.ROW(DataTypes.FIELD(CTID_SPLIT_KEY, DataTypes.BIGINT())).getLogicalType();
+    }
+
+    /** Returns whether the chunks of the given split key type are split by {@code ctid}. */
+    public static boolean isCtidSplitType(RowType splitKeyType) {
+        return splitKeyType.getFieldCount() == 1
+                && CTID_SPLIT_KEY.equals(splitKeyType.getFieldNames().get(0));
+    }
 }
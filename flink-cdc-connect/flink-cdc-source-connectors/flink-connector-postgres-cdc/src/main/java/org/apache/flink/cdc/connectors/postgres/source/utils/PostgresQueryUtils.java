@@ -25,12 +25,14 @@ import io.debezium.relational.TableId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.apache.flink.cdc.connectors.base.utils.SourceRecordUtils.rowToArray;
@@ -91,6 +93,28 @@ public class PostgresQueryUtils {
                 });
     }
 
+    /**
+     * Query the number of blocks of the table from the size of its main relation fork, which is
+     * accurate even if the table has not been analyzed.
+     */
+    public static long queryRelationBlockCnt(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String query =
+                "SELECT pg_relation_size(?::regclass) / current_setting('block_size')::bigint";
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> ps.setString(1, quote(tableId)),
+                rs -> {
+                    if (!rs.next()) {
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", query));
+                    }
+                    LOG.info("queryRelationBlockCnt: {} => {}", query, rs.getLong(1));
+                    return rs.getLong(1);
+                });
+    }
+
     public static Object queryMin(
             JdbcConnection jdbc, TableId tableId, Column column, Object excludedLowerBound)
             throws SQLException {
@@ -213,6 +237,70 @@ public class PostgresQueryUtils {
         }
     }
 
+    /**
+     * Builds a {@code COPY (SELECT ...) TO STDOUT (FORMAT binary)} statement which reads the given
+     * columns of a snapshot split. The split boundaries are inlined as literals because COPY does
+     * not accept bind parameters, callers should check {@link #isInlinableSplitKey(Object[])}
+     * first.
+     */
+    public static String buildSplitCopyQuery(
+            TableId tableId,
+            List<String> columnNames,
+            RowType pkRowType,
+            Object[] splitStart,
+            Object[] splitEnd,
+            List<String> uuidFields) {
+        final String condition;
+        if (splitStart == null && splitEnd == null) {
+            condition = null;
+        } else if (splitStart == null) {
+            final StringBuilder sql = new StringBuilder();
+            addPrimaryKeyLiteralsToCondition(pkRowType, sql, " <= ", splitEnd, uuidFields);
+            sql.append(" AND NOT (");
+            addPrimaryKeyLiteralsToCondition(pkRowType, sql, " = ", splitEnd, uuidFields);
+            sql.append(")");
+            condition = sql.toString();
+        } else if (splitEnd == null) {
+            final StringBuilder sql = new StringBuilder();
+            addPrimaryKeyLiteralsToCondition(pkRowType, sql, " >= ", splitStart, uuidFields);
+            condition = sql.toString();
+        } else {
+            final StringBuilder sql = new StringBuilder();
+            addPrimaryKeyLiteralsToCondition(pkRowType, sql, " >= ", splitStart, uuidFields);
+            sql.append(" AND NOT (");
+            addPrimaryKeyLiteralsToCondition(pkRowType, sql, " = ", splitEnd, uuidFields);
+            sql.append(") AND ");
+            addPrimaryKeyLiteralsToCondition(pkRowType, sql, " <= ", splitEnd, uuidFields);
+            condition = sql.toString();
+        }
+
+        final String projection =
+                columnNames.stream()
+                        .map(PostgresQueryUtils::quote)
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "COPY (%s) TO STDOUT (FORMAT binary)",
+                buildSelectWithRowLimits(
+                        tableId, -1, projection, Optional.ofNullable(condition), Optional.empty()));
+    }
+
+    /** Returns whether the given split key values can be inlined as SQL literals. */
+    public static boolean isInlinableSplitKey(Object[] splitKey) {
+        if (splitKey == null) {
+            return true;
+        }
+        for (Object value : splitKey) {
+            if (!(value instanceof Number
+                    || value instanceof String
+                    || value instanceof Character
+                    || value instanceof Boolean
+                    || value instanceof UUID)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static PreparedStatement readTableSplitDataStatement(
             JdbcConnection jdbc,
             String sql,
@@ -270,6 +358,15 @@ public class PostgresQueryUtils {
         return String.format("(%s)::uuid", value);
     }
 
+    /** Casts a block number to the {@code tid} of the first tuple in the block. */
+    private static String castToCtid(String blockNumber) {
+        return String.format("('(' || %s || ',0)')::tid", blockNumber);
+    }
+
+    private static boolean isCtid(String fieldName) {
+        return ChunkUtils.CTID_SPLIT_KEY.equals(fieldName);
+    }
+
     private static String castToText(String value) {
         return String.format("(%s)::text", value);
     }
@@ -297,13 +394,52 @@ public class PostgresQueryUtils {
                 fieldNamesIt.hasNext(); ) {
             String fieldName = fieldNamesIt.next();
             boolean isUUID = uuidFields.contains(fieldName);
-            sql.append(quote(fieldName)).append(predicate).append(castParam(isUUID));
+            sql.append(quote(fieldName))
+                    .append(predicate)
+                    .append(isCtid(fieldName) ? castToCtid("?") : castParam(isUUID));
             if (fieldNamesIt.hasNext()) {
                 sql.append(" AND ");
             }
         }
     }
 
+    private static void addPrimaryKeyLiteralsToCondition(
+            RowType pkRowType,
+            StringBuilder sql,
+            String predicate,
+            Object[] values,
+            List<String> uuidFields) {
+        List<String> fieldNames = pkRowType.getFieldNames();
+        for (int i = 0; i < fieldNames.size(); i++) {
+            String fieldName = fieldNames.get(i);
+            String literal = toLiteral(values[i]);
+            if (isCtid(fieldName)) {
+                literal = castToCtid(literal);
+            } else if (uuidFields.contains(fieldName)) {
+                literal = castToUuid(literal);
+            }
+            sql.append(quote(fieldName)).append(predicate).append(literal);
+            if (i < fieldNames.size() - 1) {
+                sql.append(" AND ");
+            }
+        }
+    }
+
+    private static String toLiteral(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Number) {
+            return value.toString();
+        } else if (value instanceof String
+                || value instanceof Character
+                || value instanceof Boolean
+                || value instanceof UUID) {
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+        throw new IllegalArgumentException(
+                "Unsupported split key value type " + value.getClass().getName());
+    }
+
     private static String getPrimaryKeyColumnsProjection(RowType pkRowType) {
         StringBuilder sql = new StringBuilder();
         for (Iterator<String> fieldNamesIt = pkRowType.getFieldNames().iterator();
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.utils;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.AutoCreateMode;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.PUBLICATION_NAME;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.SLOT_NAME;
+
+/**
+ * Utility class to partition the stream split of Postgres into several stream splits, each reading
+ * its own replication slot.
+ *
+ * <p>The captured tables are assigned to the partitions in a round-robin manner, and each
+ * partitioned stream split carries the tables of its partition as its table schemas. The partition
+ * reads the slot {@code <slot.name>_p<partition>} through the publication {@code
+ * <publication.name>_p<partition>}, which only publishes the tables of the partition. So every
+ * change is decoded and emitted by exactly one partition, and the confirmed LSN of each slot only
+ * depends on the checkpointed offset of its own partition.
+ */
+public class ReplicationSlotPartitionUtils {
+
+    private ReplicationSlotPartitionUtils() {}
+
+    /**
+     * Partitions the stream split into at most {@code partitions} stream splits. No partition is
+     * created without tables, and the stream split is returned as it is if there are no tables to
+     * partition.
+     */
+    public static List<StreamSplit> partitionStreamSplit(
+            StreamSplit streamSplit, Map<TableId, TableChange> tableSchemas, int partitions) {
+        List<TableId> tableIds =
+                tableSchemas.keySet().stream().sorted().collect(Collectors.toList());
+        int actualPartitions = Math.min(partitions, tableIds.size());
+        if (actualPartitions == 0) {
+            List<StreamSplit> streamSplits = new ArrayList<>(1);
+            streamSplits.add(streamSplit);
+            return streamSplits;
+        }
+
+        List<Map<TableId, TableChange>> partitionTableSchemas = new ArrayList<>(actualPartitions);
+        for (int i = 0; i < actualPartitions; i++) {
+            partitionTableSchemas.add(new HashMap<>());
+        }
+        for (int i = 0; i < tableIds.size(); i++) {
+            TableId tableId = tableIds.get(i);
+            partitionTableSchemas.get(i % actualPartitions).put(tableId, tableSchemas.get(tableId));
+        }
+
+        List<StreamSplit> streamSplits = new ArrayList<>(actualPartitions);
+        for (int i = 0; i < actualPartitions; i++) {
+            streamSplits.add(
+                    new StreamSplit(
+                            StreamSplit.partitionedSplitId(i, actualPartitions),
+                            streamSplit.getStartingOffset(),
+                            streamSplit.getEndingOffset(),
+                            new ArrayList<>(),
+                            partitionTableSchemas.get(i),
+                            0));
+        }
+        return streamSplits;
+    }
+
+    /**
+     * Restricts the given Debezium configuration to the slot, the publication and the tables of
+     * the partitioned stream split.
+     */
+    public static Configuration partitionConfiguration(
+            Configuration configuration, StreamSplit streamSplit) {
+        if (!streamSplit.isPartitioned()) {
+            return configuration;
+        }
+        int partition = streamSplit.getPartition();
+
+        Configuration.Builder builder =
+                configuration
+                        .edit()
+                        .with(
+                                SLOT_NAME.name(),
+                                partitionName(configuration.getString(SLOT_NAME), partition))
+                        .with(
+                                PUBLICATION_NAME.name(),
+                                partitionName(configuration.getString(PUBLICATION_NAME), partition))
+                        .with("table.include.list", tableIncludeList(streamSplit));
+        // the publication of a partition must only publish the tables of the partition, unless
+        // the publications have been created by the user
+        AutoCreateMode autoCreateMode =
+                AutoCreateMode.parse(configuration.getString(PUBLICATION_AUTOCREATE_MODE));
+        if (autoCreateMode != AutoCreateMode.DISABLED) {
+            builder.with(PUBLICATION_AUTOCREATE_MODE.name(), AutoCreateMode.FILTERED.getValue());
+        }
+        return builder.build();
+    }
+
+    static String partitionName(String name, int partition) {
+        return name + "_p" + partition;
+    }
+
+    static String tableIncludeList(StreamSplit streamSplit) {
+        return streamSplit.getTableSchemas().keySet().stream()
+                .sorted()
+                .map(tableId -> Pattern.quote(tableId.toString()))
+                .collect(Collectors.joining(","));
+    }
+}
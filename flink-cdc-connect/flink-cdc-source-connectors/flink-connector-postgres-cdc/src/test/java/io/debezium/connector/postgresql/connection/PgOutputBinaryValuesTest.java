@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql.connection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Unit test for {@link PgOutputBinaryValues}. */
+class PgOutputBinaryValuesTest {
+
+    @Test
+    void testNumericToText() {
+        // 12345.678 = [1, 2345, 6780] with weight 1 and dscale 3
+        Assertions.assertThat(toText(1700, numeric(1, 0, 3, 1, 2345, 6780)))
+                .isEqualTo("12345.678");
+        // -0.0001 = [1] with weight -1 and dscale 4
+        Assertions.assertThat(toText(1700, numeric(-1, 0x4000, 4, 1))).isEqualTo("-0.0001");
+        // 20000 = [2] with weight 1 and dscale 0
+        Assertions.assertThat(toText(1700, numeric(1, 0, 0, 2))).isEqualTo("20000");
+        Assertions.assertThat(toText(1700, numeric(0, 0, 2))).isEqualTo("0.00");
+        Assertions.assertThat(toText(1700, numeric(0, 0xC000, 0))).isEqualTo("NaN");
+    }
+
+    @Test
+    void testTemporalToText() {
+        Assertions.assertThat(toText(1082, ByteBuffer.allocate(4).putInt(0, 7305)))
+                .isEqualTo("2020-01-01");
+        Assertions.assertThat(toText(1082, ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE)))
+                .isEqualTo("infinity");
+        // 0044-03-15 BC is 2043 years and some days before the epoch
+        Assertions.assertThat(PgOutputBinaryValues.dateToText(-746278)).endsWith(" BC");
+
+        long micros = 7305L * 86_400_000_000L + 3_723_450_000L;
+        Assertions.assertThat(PgOutputBinaryValues.timestampToText(micros, false))
+                .isEqualTo("2020-01-01 01:02:03.45");
+        Assertions.assertThat(PgOutputBinaryValues.timestampToText(micros, true))
+                .isEqualTo("2020-01-01 01:02:03.45+00");
+        Assertions.assertThat(PgOutputBinaryValues.timestampToText(-1, false))
+                .isEqualTo("1999-12-31 23:59:59.999999");
+        Assertions.assertThat(PgOutputBinaryValues.timeToText(3_723_000_000L))
+                .isEqualTo("01:02:03");
+    }
+
+    @Test
+    void testOtherTypesToText() {
+        Assertions.assertThat(toText(16, ByteBuffer.wrap(new byte[] {1}))).isEqualTo("t");
+        Assertions.assertThat(toText(20, ByteBuffer.allocate(8).putLong(0, -42L)))
+                .isEqualTo("-42");
+        Assertions.assertThat(toText(17, ByteBuffer.wrap(new byte[] {0x0a, (byte) 0xff})))
+                .isEqualTo("\\x0aff");
+        byte[] jsonb = "\u0001{\"a\": 1}".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThat(toText(3802, ByteBuffer.wrap(jsonb))).isEqualTo("{\"a\": 1}");
+        ByteBuffer uuid = ByteBuffer.allocate(16).putLong(0, 0x0123456789abcdefL).putLong(8, 1L);
+        Assertions.assertThat(toText(2950, uuid))
+                .isEqualTo("01234567-89ab-cdef-0000-000000000001");
+        Assertions.assertThat(PgOutputBinaryValues.isSupported(1186)).isFalse();
+    }
+
+    private static String toText(int typeOid, ByteBuffer value) {
+        ByteBuffer buffer = value.duplicate();
+        buffer.position(0);
+        byte[] text = PgOutputBinaryValues.toText(typeOid, buffer, buffer.remaining());
+        Assertions.assertThat(buffer.hasRemaining()).isFalse();
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer numeric(int weight, int sign, int dscale, int... digits) {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + digits.length * 2);
+        buffer.putShort((short) digits.length)
+                .putShort((short) weight)
+                .putShort((short) sign)
+                .putShort((short) dscale);
+        for (int digit : digits) {
+            buffer.putShort((short) digit);
+        }
+        return buffer;
+    }
+}
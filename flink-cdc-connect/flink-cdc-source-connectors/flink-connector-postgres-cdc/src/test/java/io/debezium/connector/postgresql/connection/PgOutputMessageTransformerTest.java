@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql.connection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Unit test for {@link PgOutputMessageTransformer}. */
+class PgOutputMessageTransformerTest {
+
+    @TempDir private Path spillDirectory;
+
+    @Test
+    void testReplayStreamedTransaction() {
+        PgOutputMessageTransformer transformer =
+                new PgOutputMessageTransformer(true, false, 0, spillDirectory);
+
+        Assertions.assertThat(transformer.transform(message('S', 7, (byte) 1))).isEmpty();
+        Assertions.assertThat(transformer.transform(message('I', 7, 1, (byte) 'N', (short) 0)))
+                .isEmpty();
+        Assertions.assertThat(transformer.transform(message('I', 8, 1, (byte) 'N', (short) 0)))
+                .isEmpty();
+        // the subtransaction 8 is rolled back
+        Assertions.assertThat(transformer.transform(message('A', 7, 8))).isEmpty();
+        Assertions.assertThat(transformer.transform(message('E'))).isEmpty();
+
+        // messages of other transactions are passed through between the stream blocks
+        ByteBuffer begin = message('B', 50L, 5L, 9);
+        Assertions.assertThat(transformer.transform(begin)).containsExactly(begin);
+
+        List<ByteBuffer> messages =
+                transformer.transform(message('c', 7, (byte) 0, 100L, 110L, 5L));
+        Assertions.assertThat(messages).hasSize(3);
+        Assertions.assertThat(messages.get(0)).isEqualTo(message('B', 100L, 5L, 7));
+        Assertions.assertThat(messages.get(1)).isEqualTo(message('I', 1, (byte) 'N', (short) 0));
+        Assertions.assertThat(messages.get(2))
+                .isEqualTo(message('C', (byte) 0, 100L, 110L, 5L));
+
+        // an aborted transaction is discarded
+        transformer.transform(message('S', 11, (byte) 1));
+        transformer.transform(message('I', 11, 1, (byte) 'N', (short) 0));
+        transformer.transform(message('E'));
+        Assertions.assertThat(transformer.transform(message('A', 11, 11))).isEmpty();
+        Assertions.assertThat(transformer.transform(message('c', 11, (byte) 0, 200L, 210L, 6L)))
+                .hasSize(2);
+    }
+
+    @Test
+    void testReplaySpilledTransaction() throws IOException {
+        // every streamed transaction is spilled with its first message
+        PgOutputMessageTransformer transformer =
+                new PgOutputMessageTransformer(true, false, 1, spillDirectory);
+
+        transformer.transform(message('S', 7, (byte) 1));
+        transformer.transform(message('I', 7, 1, (byte) 'N', (short) 0));
+        transformer.transform(message('I', 8, 2, (byte) 'N', (short) 0));
+        transformer.transform(message('I', 7, 3, (byte) 'N', (short) 0));
+        transformer.transform(message('A', 7, 8));
+        transformer.transform(message('E'));
+
+        List<ByteBuffer> messages =
+                transformer.transform(message('c', 7, (byte) 0, 100L, 110L, 5L));
+        Assertions.assertThat(messages)
+                .containsExactly(
+                        message('B', 100L, 5L, 7),
+                        message('I', 1, (byte) 'N', (short) 0),
+                        message('I', 3, (byte) 'N', (short) 0),
+                        message('C', (byte) 0, 100L, 110L, 5L));
+
+        // the spill files of aborted and in-progress transactions are deleted
+        transformer.transform(message('S', 11, (byte) 1));
+        transformer.transform(message('I', 11, 1, (byte) 'N', (short) 0));
+        transformer.transform(message('E'));
+        transformer.transform(message('S', 12, (byte) 1));
+        transformer.transform(message('I', 12, 1, (byte) 'N', (short) 0));
+        transformer.transform(message('E'));
+        transformer.transform(message('A', 11, 11));
+        transformer.close();
+        Assertions.assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    void testConvertBinaryValues() {
+        PgOutputMessageTransformer transformer =
+                new PgOutputMessageTransformer(false, true, 0, spillDirectory);
+
+        ByteBuffer relation =
+                message(
+                        'R', 1, "public", "t", (byte) 'd', (short) 2, (byte) 1, "id", 23, -1,
+                        (byte) 0, "v", 25, -1);
+        Assertions.assertThat(transformer.transform(relation)).containsExactly(relation);
+
+        ByteBuffer insert =
+                message(
+                        'I', 1, (byte) 'N', (short) 3, (byte) 'b', 4, 42, (byte) 't', 2,
+                        "ab".getBytes(StandardCharsets.UTF_8), (byte) 'n');
+        Assertions.assertThat(transformer.transform(insert))
+                .containsExactly(
+                        message(
+                                'I', 1, (byte) 'N', (short) 3, (byte) 't', 2,
+                                "42".getBytes(StandardCharsets.UTF_8), (byte) 't', 2,
+                                "ab".getBytes(StandardCharsets.UTF_8), (byte) 'n'));
+
+        ByteBuffer unsupported =
+                message('R', 2, "public", "u", (byte) 'd', (short) 1, (byte) 0, "i", 1186, -1);
+        Assertions.assertThatThrownBy(() -> transformer.transform(unsupported))
+                .hasMessageContaining("Column i of table public.u has type 1186");
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    /** Encodes a message of the given type with the fields in network byte order. */
+    private static ByteBuffer message(char type, Object... fields) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.put((byte) type);
+        for (Object field : fields) {
+            if (field instanceof Byte) {
+                buffer.put((Byte) field);
+            } else if (field instanceof Short) {
+                buffer.putShort((Short) field);
+            } else if (field instanceof Integer) {
+                buffer.putInt((Integer) field);
+            } else if (field instanceof Long) {
+                buffer.putLong((Long) field);
+            } else if (field instanceof String) {
+                buffer.put(((String) field).getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+            } else {
+                buffer.put((byte[]) field);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql.connection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** Unit tests for {@link StreamedTransactionBuffer}. */
+class StreamedTransactionBufferTest {
+
+    @TempDir private Path spillDirectory;
+
+    @Test
+    void testKeepMessagesOnHeap() throws IOException {
+        StreamedTransactionBuffer buffer = new StreamedTransactionBuffer(7, 0, spillDirectory);
+        buffer.append(7, (byte) 'I', payload("first"));
+        buffer.append(8, (byte) 'I', payload("aborted"));
+        buffer.append(7, (byte) 'U', payload("second"));
+        buffer.abort(8);
+
+        Assertions.assertThat(buffer.isSpilled()).isFalse();
+        Assertions.assertThat(toStrings(buffer.messages())).containsExactly("Ifirst", "Usecond");
+        buffer.close();
+    }
+
+    @Test
+    void testSpillMessagesOverThreshold() throws IOException {
+        StreamedTransactionBuffer buffer = new StreamedTransactionBuffer(7, 16, spillDirectory);
+        buffer.append(7, (byte) 'I', payload("first"));
+        buffer.append(8, (byte) 'I', payload("aborted"));
+        Assertions.assertThat(buffer.isSpilled()).isFalse();
+        buffer.abort(8);
+
+        // the heap messages are spilled once they exceed 16 bytes
+        buffer.append(9, (byte) 'I', payload("second"));
+        buffer.append(7, (byte) 'U', payload("third message"));
+        Assertions.assertThat(buffer.isSpilled()).isTrue();
+        Assertions.assertThat(buffer.getFile().getParent()).isEqualTo(spillDirectory);
+
+        // messages are aborted after being spilled as well
+        buffer.append(10, (byte) 'D', payload("aborted"));
+        buffer.abort(10);
+        // a message larger than a segment gets a segment of its own
+        char[] large = new char[5 * 1024 * 1024];
+        Arrays.fill(large, 'x');
+        buffer.append(7, (byte) 'I', payload(new String(large)));
+        buffer.append(7, (byte) 'D', payload("last"));
+
+        List<ByteBuffer> messages = buffer.messages();
+        buffer.close();
+        Assertions.assertThat(buffer.getFile()).doesNotExist();
+        // the spilled messages stay readable after the file is deleted
+        List<String> strings = toStrings(messages);
+        Assertions.assertThat(strings).hasSize(5);
+        Assertions.assertThat(strings.subList(0, 3))
+                .containsExactly("Ifirst", "Isecond", "Uthird message");
+        Assertions.assertThat(strings.get(3)).hasSize(large.length + 1).startsWith("Ixxx");
+        Assertions.assertThat(strings.get(4)).isEqualTo("Dlast");
+    }
+
+    private static ByteBuffer payload(String value) {
+        // the payload is read from its position on
+        ByteBuffer buffer = ByteBuffer.allocate(value.length() + 1);
+        buffer.put((byte) 0).put(value.getBytes(StandardCharsets.UTF_8)).flip();
+        buffer.get();
+        return buffer;
+    }
+
+    private static List<String> toStrings(List<ByteBuffer> messages) {
+        List<String> strings = new ArrayList<>();
+        for (ByteBuffer message : messages) {
+            byte[] bytes = new byte[message.remaining()];
+            message.duplicate().get(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return strings;
+    }
+}
@@ -17,8 +17,14 @@
 
 package org.apache.flink.cdc.connectors.postgres.source;
 
+import org.apache.flink.api.connector.source.mocks.MockSplitEnumeratorContext;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.base.source.assigner.StreamSplitAssigner;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.postgres.PostgresTestBase;
+import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
 import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfigFactory;
+import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
 import org.apache.flink.cdc.connectors.postgres.testutils.UniqueDatabase;
 
 import io.debezium.relational.TableId;
@@ -26,6 +32,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
 
 /** Tests for {@link PostgresDialect}. */
 class PostgresDialectTest extends PostgresTestBase {
@@ -115,4 +122,60 @@ class PostgresDialectTest extends PostgresTestBase {
         Assertions.assertThat(tableIdsOfInventoryPartitionedDatabase.get(0))
                 .hasToString("inventory_partitioned.products");
     }
+
+    @Test
+    void testPartitionStreamSplitWithinParallelism() throws Exception {
+        customDatabase.createAndInitialize();
+        String slotName = getSlotName();
+        PostgresSourceConfig sourceConfig =
+                getPartitionedSourceConfig(customDatabase, slotName, 2);
+        PostgresDialect dialect = new PostgresDialect(sourceConfig);
+
+        // no slot must be created for a partition which no reader would read
+        Assertions.assertThatThrownBy(
+                        () ->
+                                new StreamSplitAssigner(
+                                        sourceConfig,
+                                        dialect,
+                                        new PostgresOffsetFactory(),
+                                        new MockSplitEnumeratorContext<>(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds the source parallelism 1");
+        Assertions.assertThat(customDatabase.checkSlot(slotName + "_p0"))
+                .isEqualTo(String.format("Replication slot \"%s_p0\" does not exist", slotName));
+
+        StreamSplitAssigner streamSplitAssigner =
+                new StreamSplitAssigner(
+                        sourceConfig,
+                        dialect,
+                        new PostgresOffsetFactory(),
+                        new MockSplitEnumeratorContext<>(2));
+        streamSplitAssigner.open();
+        try {
+            for (int i = 0; i < 2; i++) {
+                Optional<SourceSplitBase> split = streamSplitAssigner.getNext();
+                Assertions.assertThat(split).isPresent();
+                Assertions.assertThat(split.get().asStreamSplit().getPartition()).isEqualTo(i);
+                Assertions.assertThat(customDatabase.checkSlot(slotName + "_p" + i))
+                        .isEqualTo(slotName + "_p" + i);
+            }
+            Assertions.assertThat(streamSplitAssigner.getNext()).isNotPresent();
+            Assertions.assertThat(streamSplitAssigner.noMoreSplits()).isTrue();
+        } finally {
+            streamSplitAssigner.close();
+            customDatabase.removeSlot(slotName + "_p0");
+            customDatabase.removeSlot(slotName + "_p1");
+        }
+    }
+
+    private PostgresSourceConfig getPartitionedSourceConfig(
+            UniqueDatabase database, String slotName, int partitions) {
+        PostgresSourceConfigFactory configFactory =
+                getMockPostgresSourceConfigFactory(database, "customer", "Customers", 10);
+        configFactory.tableList("customer.Customers", "customer.customers_1");
+        configFactory.startupOptions(StartupOptions.latest());
+        configFactory.slotName(slotName);
+        configFactory.setReplicationSlotPartitions(partitions);
+        return configFactory.create(0);
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.fetch;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/** Unit test for {@link PostgresCopyBinaryReader}. */
+class PostgresCopyBinaryReaderTest {
+
+    private static final Table TABLE =
+            Table.editor()
+                    .tableId(new TableId(null, "public", "products"))
+                    .addColumns(
+                            column("id", "int4", 1),
+                            column("name", "varchar", 2),
+                            column("price", "numeric", 3),
+                            column("uid", "uuid", 4),
+                            column("enabled", "bool", 5))
+                    .create();
+
+    @Test
+    void testReadRows() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeHeader(out);
+
+        out.writeShort(5);
+        out.writeInt(4);
+        out.writeInt(101);
+        byte[] name = "scooter".getBytes(StandardCharsets.UTF_8);
+        out.writeInt(name.length);
+        out.write(name);
+        // 12345.678 in base 10000 digits: 1 2345 6780
+        writeNumeric(out, 1, 0, 3, 1, 2345, 6780);
+        out.writeInt(16);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        out.writeInt(1);
+        out.writeByte(1);
+
+        out.writeShort(5);
+        out.writeInt(4);
+        out.writeInt(102);
+        out.writeInt(-1);
+        // -0.5
+        writeNumeric(out, -1, 0x4000, 1, 5000);
+        out.writeInt(-1);
+        out.writeInt(1);
+        out.writeByte(0);
+
+        out.writeShort(-1);
+
+        try (PostgresCopyBinaryReader reader =
+                new PostgresCopyBinaryReader(
+                        new ByteArrayInputStream(bytes.toByteArray()), TABLE)) {
+            Assertions.assertThat(reader.next())
+                    .containsExactly(101, "scooter", new BigDecimal("12345.678"), uuid, true);
+            Assertions.assertThat(reader.next())
+                    .containsExactly(102, null, new BigDecimal("-0.5"), null, false);
+            Assertions.assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void testIsSupported() {
+        Assertions.assertThat(PostgresCopyBinaryReader.isSupported(TABLE)).isTrue();
+        Table withTimestamp =
+                TABLE.edit().addColumn(column("created_at", "timestamp", 6)).create();
+        Assertions.assertThat(PostgresCopyBinaryReader.isSupported(withTimestamp)).isFalse();
+    }
+
+    private static Column column(String name, String typeName, int position) {
+        return Column.editor().name(name).type(typeName).position(position).create();
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.write("PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(0);
+        out.writeInt(0);
+    }
+
+    private static void writeNumeric(
+            DataOutputStream out, int weight, int sign, int dscale, int... digits)
+            throws IOException {
+        out.writeInt(8 + 2 * digits.length);
+        out.writeShort(digits.length);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(dscale);
+        for (int digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.utils;
+
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/** Unit test for {@link PostgresQueryUtils}. */
+class PostgresQueryUtilsTest {
+
+    private static final TableId TABLE_ID = new TableId(null, "inventory", "products");
+
+    @Test
+    void testBuildCtidSplitScanQuery() {
+        Assertions.assertThat(
+                        PostgresQueryUtils.buildSplitScanQuery(
+                                TABLE_ID,
+                                ChunkUtils.getCtidSplitType(),
+                                true,
+                                false,
+                                Collections.emptyList()))
+                .isEqualTo(
+                        "SELECT * FROM \"inventory\".\"products\" WHERE \"ctid\" <= ('(' || ? || ',0)')::tid"
+                                + " AND NOT (\"ctid\" = ('(' || ? || ',0)')::tid)");
+        Assertions.assertThat(
+                        PostgresQueryUtils.buildSplitScanQuery(
+                                TABLE_ID,
+                                ChunkUtils.getCtidSplitType(),
+                                false,
+                                true,
+                                Collections.emptyList()))
+                .isEqualTo(
+                        "SELECT * FROM \"inventory\".\"products\" WHERE \"ctid\" >= ('(' || ? || ',0)')::tid");
+    }
+
+    @Test
+    void testBuildCtidSplitCopyQuery() {
+        Assertions.assertThat(
+                        PostgresQueryUtils.buildSplitCopyQuery(
+                                TABLE_ID,
+                                Arrays.asList("id", "name"),
+                                ChunkUtils.getCtidSplitType(),
+                                new Object[] {128L},
+                                new Object[] {256L},
+                                Collections.emptyList()))
+                .isEqualTo(
+                        "COPY (SELECT \"id\", \"name\" FROM \"inventory\".\"products\""
+                                + " WHERE \"ctid\" >= ('(' || 128 || ',0)')::tid"
+                                + " AND NOT (\"ctid\" = ('(' || 256 || ',0)')::tid)"
+                                + " AND \"ctid\" <= ('(' || 256 || ',0)')::tid) TO STDOUT (FORMAT binary)");
+    }
+
+    @Test
+    void testIsInlinableSplitKey() {
+        Assertions.assertThat(PostgresQueryUtils.isInlinableSplitKey(null)).isTrue();
+        Assertions.assertThat(PostgresQueryUtils.isInlinableSplitKey(new Object[] {1L, "a'b"}))
+                .isTrue();
+        Assertions.assertThat(PostgresQueryUtils.isInlinableSplitKey(new Object[] {new Object()}))
+                .isFalse();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.utils;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** Unit test for {@link ReplicationSlotPartitionUtils}. */
+class ReplicationSlotPartitionUtilsTest {
+
+    private static final PostgresOffsetFactory OFFSET_FACTORY = new PostgresOffsetFactory();
+
+    @Test
+    void testPartitionStreamSplit() {
+        StreamSplit streamSplit = globalStreamSplit();
+        Map<TableId, TableChange> tableSchemas =
+                tableSchemas(
+                        new TableId("db", "public", "t0"),
+                        new TableId("db", "public", "t1"),
+                        new TableId("db", "public", "t2"),
+                        new TableId("db", "inventory", "t0"),
+                        new TableId("db", "inventory", "t1"));
+
+        List<StreamSplit> streamSplits =
+                ReplicationSlotPartitionUtils.partitionStreamSplit(streamSplit, tableSchemas, 3);
+        Assertions.assertThat(streamSplits).hasSize(3);
+
+        Set<TableId> partitionedTables = new HashSet<>();
+        for (int i = 0; i < streamSplits.size(); i++) {
+            StreamSplit partition = streamSplits.get(i);
+            Assertions.assertThat(partition.splitId())
+                    .isEqualTo(StreamSplit.partitionedSplitId(i, 3));
+            Assertions.assertThat(partition.isPartitioned()).isTrue();
+            Assertions.assertThat(partition.getPartition()).isEqualTo(i);
+            Assertions.assertThat(partition.getStartingOffset())
+                    .isEqualTo(streamSplit.getStartingOffset());
+            Assertions.assertThat(partition.getTableSchemas()).hasSizeBetween(1, 2);
+            for (TableId tableId : partition.getTableSchemas().keySet()) {
+                Assertions.assertThat(partitionedTables.add(tableId)).isTrue();
+            }
+        }
+        Assertions.assertThat(partitionedTables).isEqualTo(tableSchemas.keySet());
+        Assertions.assertThat(streamSplit.isPartitioned()).isFalse();
+    }
+
+    @Test
+    void testPartitionStreamSplitWithFewerTables() {
+        StreamSplit streamSplit = globalStreamSplit();
+
+        // no partition is created without tables
+        List<StreamSplit> streamSplits =
+                ReplicationSlotPartitionUtils.partitionStreamSplit(
+                        streamSplit, tableSchemas(new TableId("db", "public", "t0")), 4);
+        Assertions.assertThat(streamSplits).hasSize(1);
+        Assertions.assertThat(streamSplits.get(0).splitId())
+                .isEqualTo(StreamSplit.partitionedSplitId(0, 1));
+
+        // the stream split is not partitioned without tables
+        Assertions.assertThat(
+                        ReplicationSlotPartitionUtils.partitionStreamSplit(
+                                streamSplit, new HashMap<>(), 4))
+                .containsExactly(streamSplit);
+    }
+
+    @Test
+    void testPartitionConfiguration() {
+        Configuration configuration =
+                Configuration.create()
+                        .with("slot.name", "flink")
+                        .with("publication.name", "dbz_publication")
+                        .with("table.include.list", "public.*")
+                        .build();
+        List<StreamSplit> streamSplits =
+                ReplicationSlotPartitionUtils.partitionStreamSplit(
+                        globalStreamSplit(),
+                        tableSchemas(
+                                new TableId("db", "public", "t0"),
+                                new TableId("db", "public", "t1")),
+                        2);
+
+        Configuration partitionConfiguration =
+                ReplicationSlotPartitionUtils.partitionConfiguration(
+                        configuration, streamSplits.get(1));
+        Assertions.assertThat(partitionConfiguration.getString("slot.name")).isEqualTo("flink_p1");
+        Assertions.assertThat(partitionConfiguration.getString("publication.name"))
+                .isEqualTo("dbz_publication_p1");
+        Assertions.assertThat(partitionConfiguration.getString("publication.autocreate.mode"))
+                .isEqualTo("filtered");
+        Assertions.assertThat(partitionConfiguration.getString("table.include.list"))
+                .isEqualTo("\\Qdb.public.t1\\E");
+
+        // the user-created publications are not altered
+        Configuration disabledConfiguration =
+                ReplicationSlotPartitionUtils.partitionConfiguration(
+                        configuration
+                                .edit()
+                                .with("publication.autocreate.mode", "disabled")
+                                .build(),
+                        streamSplits.get(0));
+        Assertions.assertThat(disabledConfiguration.getString("publication.autocreate.mode"))
+                .isEqualTo("disabled");
+
+        Assertions.assertThat(
+                        ReplicationSlotPartitionUtils.partitionConfiguration(
+                                configuration, globalStreamSplit()))
+                .isSameAs(configuration);
+    }
+
+    private static StreamSplit globalStreamSplit() {
+        return new StreamSplit(
+                StreamSplit.STREAM_SPLIT_ID,
+                OFFSET_FACTORY.createInitialOffset(),
+                OFFSET_FACTORY.createNoStoppingOffset(),
+                new ArrayList<>(),
+                new HashMap<>(),
+                0);
+    }
+
+    private static Map<TableId, TableChange> tableSchemas(TableId... tableIds) {
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        for (TableId tableId : tableIds) {
+            tableSchemas.put(
+                    tableId,
+                    new TableChange(
+                            TableChangeType.CREATE, Table.editor().tableId(tableId).create()));
+        }
+        return tableSchemas;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.sqlserver;
+
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.connectors.sqlserver.source.utils.SqlServerConnectionUtils;
+import org.apache.flink.cdc.connectors.sqlserver.source.utils.SqlServerUtils;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
+import io.debezium.relational.TableId;
+import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigDef.Width;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Polls the change tables of a database for the {@link SqlServerStreamingChangeEventSource}.
+ *
+ * <p>By default all change tables are queried on the data connection of the streaming source, as
+ * Debezium does. With {@link #STREAMING_POLL_CONNECTIONS} greater than 1, the maximum LSNs of the
+ * change tables are read by one batched query first, and only the change tables with changes in the
+ * polled LSN range are queried. They are split into groups, which are queried in parallel on
+ * connections of their own. The result sets of all groups stay open until the streaming source has
+ * merged them in LSN order, so the order of the emitted changes is the same as before.
+ */
+public class SqlServerChangeTablePoller implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlServerChangeTablePoller.class);
+
+    public static final Field STREAMING_POLL_CONNECTIONS =
+            Field.create("streaming.poll.connections")
+                    .withDisplayName("Connections to poll change tables")
+                    .withType(Type.INT)
+                    .withWidth(Width.SHORT)
+                    .withImportance(Importance.LOW)
+                    .withDescription(
+                            "The number of connections to query change tables in parallel, including the data connection. "
+                                    + "When greater than 1, change tables without changes in the polled LSN range "
+                                    + "are skipped based on one batched query of their maximum LSNs.")
+                    .withDefault(1);
+
+    /** The max number of change tables whose maximum LSNs are read by one statement. */
+    private static final int MAX_LSN_QUERY_BATCH_SIZE = 500;
+
+    private final SqlServerConnectorConfig connectorConfig;
+    private final SqlServerConnection dataConnection;
+    private final int connections;
+
+    /** The connections besides the data connection, opened on demand. */
+    private final List<SqlServerConnection> pollConnections = new ArrayList<>();
+
+    private ExecutorService executorService;
+    private SqlServerChangeTable[] polledTables;
+
+    SqlServerChangeTablePoller(
+            SqlServerConnectorConfig connectorConfig,
+            SqlServerConnection dataConnection,
+            int connections) {
+        this.connectorConfig = connectorConfig;
+        this.dataConnection = dataConnection;
+        this.connections = connections;
+    }
+
+    /** Creates a poller querying all change tables on the data connection. */
+    public static SqlServerChangeTablePoller sequential(
+            SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection) {
+        return new SqlServerChangeTablePoller(connectorConfig, dataConnection, 1);
+    }
+
+    /** Creates a poller with the number of connections of {@link #STREAMING_POLL_CONNECTIONS}. */
+    public static SqlServerChangeTablePoller create(
+            SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection) {
+        int connections = connectorConfig.getConfig().getInteger(STREAMING_POLL_CONNECTIONS);
+        if (connections < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The value of option '%s' must be positive, but is %d.",
+                            STREAMING_POLL_CONNECTIONS.name(), connections));
+        }
+        if (connections > 1) {
+            LOG.info("Polling change tables in parallel on {} connections.", connections);
+        }
+        return new SqlServerChangeTablePoller(connectorConfig, dataConnection, connections);
+    }
+
+    /**
+     * Returns the change tables polled by the last call of {@link #getChangesForTables}, in the
+     * order of the result sets passed to its consumer.
+     */
+    public SqlServerChangeTable[] getPolledTables() {
+        return polledTables;
+    }
+
+    /**
+     * Queries the changes of the given change tables in the LSN range, like {@link
+     * SqlServerConnection#getChangesForTables}. The polled tables may be a subset of the given
+     * tables, see {@link #getPolledTables()}.
+     */
+    public void getChangesForTables(
+            String databaseName,
+            SqlServerChangeTable[] tables,
+            Lsn fromLsn,
+            Lsn toLsn,
+            BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        if (connections == 1) {
+            polledTables = tables;
+            dataConnection.getChangesForTables(databaseName, tables, fromLsn, toLsn, consumer);
+            return;
+        }
+        final SqlServerChangeTable[] tablesWithChanges =
+                tablesWithChanges(tables, getMaxLsns(databaseName, tables), fromLsn);
+        LOG.debug(
+                "Polling {} of {} change tables with changes since {}",
+                tablesWithChanges.length,
+                tables.length,
+                fromLsn);
+        if (tablesWithChanges.length == 0) {
+            polledTables = tablesWithChanges;
+            consumer.accept(new ResultSet[0]);
+            return;
+        }
+        // the connections are opened on this thread, and used by one group each
+        final SqlServerConnection[] groupConnections =
+                new SqlServerConnection[Math.min(connections, tablesWithChanges.length)];
+        for (int i = 0; i < groupConnections.length; i++) {
+            groupConnections[i] = getConnection(i);
+        }
+        getChangesInParallel(
+                tablesWithChanges,
+                (group, groupTables, groupConsumer) -> {
+                    final SqlServerConnection connection = groupConnections[group];
+                    connection.getChangesForTables(
+                            databaseName, groupTables, fromLsn, toLsn, groupConsumer);
+                    if (connection != dataConnection) {
+                        connection.rollback();
+                    }
+                },
+                consumer);
+    }
+
+    /** Reads the maximum LSN of each of the given change tables. */
+    private Lsn[] getMaxLsns(String databaseName, SqlServerChangeTable[] tables)
+            throws SQLException {
+        final Lsn[] maxLsns = new Lsn[tables.length];
+        for (int start = 0; start < tables.length; start += MAX_LSN_QUERY_BATCH_SIZE) {
+            final int offset = start;
+            final int end = Math.min(start + MAX_LSN_QUERY_BATCH_SIZE, tables.length);
+            final List<TableId> changeTableIds =
+                    Arrays.stream(tables, start, end)
+                            .map(SqlServerChangeTable::getChangeTableId)
+                            .collect(Collectors.toList());
+            dataConnection.query(
+                    maxLsnQuery(databaseName, changeTableIds),
+                    rs -> {
+                        while (rs.next()) {
+                            maxLsns[offset + rs.getInt(1)] = Lsn.valueOf(rs.getBytes(2));
+                        }
+                    });
+        }
+        return maxLsns;
+    }
+
+    /**
+     * Returns the change tables with changes in the polled LSN range starting at the given LSN,
+     * in the order of the given tables.
+     */
+    @VisibleForTesting
+    static SqlServerChangeTable[] tablesWithChanges(
+            SqlServerChangeTable[] tables, Lsn[] maxLsns, Lsn fromLsn) {
+        final List<SqlServerChangeTable> tablesWithChanges = new ArrayList<>();
+        for (int i = 0; i < tables.length; i++) {
+            if (maxLsns[i] != null && hasChanges(maxLsns[i], fromLsn)) {
+                tablesWithChanges.add(tables[i]);
+            }
+        }
+        return tablesWithChanges.toArray(new SqlServerChangeTable[0]);
+    }
+
+    /**
+     * Returns whether a change table with the given maximum LSN may have changes in the polled LSN
+     * range starting at the given LSN, which is inclusive.
+     */
+    @VisibleForTesting
+    static boolean hasChanges(Lsn maxLsn, Lsn fromLsn) {
+        // a change table has no changes in the polled range if it is empty or its maximum LSN is
+        // before the start of the range
+        return maxLsn.isAvailable() && (!fromLsn.isAvailable() || maxLsn.compareTo(fromLsn) >= 0);
+    }
+
+    /**
+     * Queries the changes of the given tables in groups of consecutive tables in parallel, and
+     * passes the result sets of all groups to the consumer in the order of the given tables.
+     */
+    @VisibleForTesting
+    void getChangesInParallel(
+            SqlServerChangeTable[] tables,
+            GroupQuery groupQuery,
+            BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        polledTables = tables;
+        final int groupCount = Math.min(connections, polledTables.length);
+        final List<CompletableFuture<ResultSet[]>> groupResultSets = new ArrayList<>(groupCount);
+        final List<Future<?>> groupTasks = new ArrayList<>(groupCount);
+        final CountDownLatch merged = new CountDownLatch(1);
+        for (int i = 0; i < groupCount; i++) {
+            final SqlServerChangeTable[] group =
+                    Arrays.copyOfRange(
+                            polledTables,
+                            groupStart(i, groupCount, polledTables.length),
+                            groupStart(i + 1, groupCount, polledTables.length));
+            final int groupIndex = i;
+            final CompletableFuture<ResultSet[]> resultSets = new CompletableFuture<>();
+            groupResultSets.add(resultSets);
+            groupTasks.add(
+                    getExecutorService()
+                            .submit(
+                                    () -> {
+                                        try {
+                                            groupQuery.getChangesForTables(
+                                                    groupIndex,
+                                                    group,
+                                                    rs -> {
+                                                        resultSets.complete(rs);
+                                                        // keep the result sets open until the
+                                                        // changes of all groups are merged
+                                                        merged.await();
+                                                    });
+                                        } catch (Throwable t) {
+                                            resultSets.completeExceptionally(t);
+                                        }
+                                        return null;
+                                    }));
+        }
+
+        try {
+            final ResultSet[] resultSets = new ResultSet[polledTables.length];
+            int position = 0;
+            for (CompletableFuture<ResultSet[]> groupResultSet : groupResultSets) {
+                final ResultSet[] group = groupResultSet.get();
+                System.arraycopy(group, 0, resultSets, position, group.length);
+                position += group.length;
+            }
+            consumer.accept(resultSets);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            throw new DebeziumException("Failed to poll change tables", cause);
+        } finally {
+            merged.countDown();
+            for (Future<?> groupTask : groupTasks) {
+                try {
+                    groupTask.get();
+                } catch (ExecutionException e) {
+                    LOG.warn("Failed to poll a group of change tables.", e);
+                }
+            }
+        }
+    }
+
+    private SqlServerConnection getConnection(int group) {
+        if (group == 0) {
+            return dataConnection;
+        }
+        while (pollConnections.size() < group) {
+            pollConnections.add(
+                    SqlServerConnectionUtils.createSqlServerConnection(connectorConfig));
+        }
+        return pollConnections.get(group - 1);
+    }
+
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService =
+                    Executors.newFixedThreadPool(
+                            connections,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("sqlserver-change-table-poller-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        return executorService;
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+        for (SqlServerConnection connection : pollConnections) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOG.warn("Failed to close the connection to poll change tables.", e);
+            }
+        }
+        pollConnections.clear();
+    }
+
+    /** Queries the changes of a group of change tables on the connection of the group. */
+    @FunctionalInterface
+    interface GroupQuery {
+        void getChangesForTables(
+                int group, SqlServerChangeTable[] tables, BlockingMultiResultSetConsumer consumer)
+                throws SQLException, InterruptedException;
+    }
+
+    /** Returns the index of the first table of a group, which consists of consecutive tables. */
+    static int groupStart(int group, int groupCount, int tableCount) {
+        return (int) ((long) group * tableCount / groupCount);
+    }
+
+    /**
+     * Builds the query of the maximum LSNs of the change tables, which returns the index of each
+     * change table along with its maximum LSN. The start LSN leads the clustered index of the
+     * change tables, so the maximum LSN of each change table is read by a single seek.
+     */
+    static String maxLsnQuery(String databaseName, List<TableId> changeTableIds) {
+        final StringBuilder query = new StringBuilder();
+        for (int i = 0; i < changeTableIds.size(); i++) {
+            if (i > 0) {
+                query.append(" UNION ALL ");
+            }
+            query.append("SELECT ")
+                    .append(i)
+                    .append(", MAX([__$start_lsn]) FROM ")
+                    .append(SqlServerUtils.quote(databaseName))
+                    .append('.')
+                    .append(SqlServerUtils.quote(changeTableIds.get(i)));
+        }
+        return query.toString();
+    }
+}
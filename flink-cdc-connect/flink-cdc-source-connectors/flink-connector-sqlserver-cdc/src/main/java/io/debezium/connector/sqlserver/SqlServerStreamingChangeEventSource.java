@@ -40,9 +40,9 @@ import java.util.stream.Collectors;
  * Copied from Debezium project(1.9.8.final) to add method {@link
  * SqlServerStreamingChangeEventSource#afterHandleLsn(SqlServerPartition, Lsn)}. Also implemented
  * {@link SqlServerStreamingChangeEventSource#execute(ChangeEventSourceContext, SqlServerPartition,
- * SqlServerOffsetContext)}. A {@link StreamingChangeEventSource} based on SQL Server change data
- * capture functionality. A main loop polls database DDL change and change data tables and turns
- * them into change events.
+ * SqlServerOffsetContext)}, which polls change tables through a {@link SqlServerChangeTablePoller}.
+ * A {@link StreamingChangeEventSource} based on SQL Server change data capture functionality. A
+ * main loop polls database DDL change and change data tables and turns them into change events.
  *
  * <p>The connector uses CDC functionality of SQL Server that is implemented as as a process that
  * monitors source table and write changes from the table into the change table.
@@ -94,6 +94,8 @@ public class SqlServerStreamingChangeEventSource
     private final Map<SqlServerPartition, SqlServerStreamingExecutionContext>
             streamingExecutionContexts;
 
+    private SqlServerChangeTablePoller changeTablePoller;
+
     public SqlServerStreamingChangeEventSource(
             SqlServerConnectorConfig connectorConfig,
             SqlServerConnection dataConnection,
@@ -122,6 +124,8 @@ public class SqlServerStreamingChangeEventSource
                                 : intervalBetweenCommitsBasedOnPoll.toMillis());
         this.pauseBetweenCommits.hasElapsed();
         this.streamingExecutionContexts = new HashMap<>();
+        this.changeTablePoller =
+                SqlServerChangeTablePoller.sequential(connectorConfig, dataConnection);
     }
 
     @Override
@@ -134,12 +138,21 @@ public class SqlServerStreamingChangeEventSource
 
         LOGGER.info("Starting streaming");
 
-        while (context.isRunning()) {
-            boolean streamedEvents = executeIteration(context, partition, offsetContext);
+        // Change tables are only polled in parallel here, as the connections of the poller can
+        // not be closed when the iterations are executed by the coordinator of Debezium.
+        changeTablePoller = SqlServerChangeTablePoller.create(connectorConfig, dataConnection);
+        try {
+            while (context.isRunning()) {
+                boolean streamedEvents = executeIteration(context, partition, offsetContext);
 
-            if (!streamedEvents) {
-                metronome.pause();
+                if (!streamedEvents) {
+                    metronome.pause();
+                }
             }
+        } finally {
+            changeTablePoller.close();
+            changeTablePoller =
+                    SqlServerChangeTablePoller.sequential(connectorConfig, dataConnection);
         }
 
         LOGGER.info("Finished streaming");
@@ -247,7 +260,7 @@ public class SqlServerStreamingChangeEventSource
                     tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn));
                 }
                 try {
-                    dataConnection.getChangesForTables(
+                    changeTablePoller.getChangesForTables(
                             databaseName,
                             tablesSlot.get(),
                             fromLsn,
@@ -257,7 +270,8 @@ public class SqlServerStreamingChangeEventSource
                                 final int tableCount = resultSets.length;
                                 final SqlServerChangeTablePointer[] changeTables =
                                         new SqlServerChangeTablePointer[tableCount];
-                                final SqlServerChangeTable[] tables = tablesSlot.get();
+                                final SqlServerChangeTable[] tables =
+                                        changeTablePoller.getPolledTables();
 
                                 for (int i = 0; i < tableCount; i++) {
                                     changeTables[i] =
@@ -139,6 +139,10 @@ public class SqlServerSourceFetchTaskContext extends JdbcSourceFetchTaskContext
                         .maxBatchSize(connectorConfig.getMaxBatchSize())
                         .maxQueueSize(queueSize)
                         .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .ringBuffer(
+                                connectorConfig
+                                        .getConfig()
+                                        .getBoolean(ChangeEventQueue.RING_BUFFER_ENABLED))
                         .loggingContextSupplier(
                                 () ->
                                         taskContext.configureLoggingContext(
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.sqlserver;
+
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/** Unit test for {@link SqlServerChangeTablePoller}. */
+class SqlServerChangeTablePollerTest {
+
+    @Test
+    void testMaxLsnQuery() {
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.maxLsnQuery(
+                                "inventory",
+                                Collections.singletonList(
+                                        new TableId("inventory", "cdc", "dbo_products_CT"))))
+                .isEqualTo(
+                        "SELECT 0, MAX([__$start_lsn]) FROM [inventory].[cdc].[dbo_products_CT]");
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.maxLsnQuery(
+                                "inventory",
+                                Arrays.asList(
+                                        new TableId("inventory", "cdc", "dbo_orders_CT"),
+                                        new TableId("inventory", "cdc", "dbo_order]s_CT"))))
+                .isEqualTo(
+                        "SELECT 0, MAX([__$start_lsn]) FROM [inventory].[cdc].[dbo_orders_CT]"
+                                + " UNION ALL "
+                                + "SELECT 1, MAX([__$start_lsn]) FROM [inventory].[cdc].[dbo_order]]s_CT]");
+    }
+
+    @Test
+    void testGroupStart() {
+        Assertions.assertThat(SqlServerChangeTablePoller.groupStart(0, 3, 10)).isZero();
+        Assertions.assertThat(SqlServerChangeTablePoller.groupStart(1, 3, 10)).isEqualTo(3);
+        Assertions.assertThat(SqlServerChangeTablePoller.groupStart(2, 3, 10)).isEqualTo(6);
+        Assertions.assertThat(SqlServerChangeTablePoller.groupStart(3, 3, 10)).isEqualTo(10);
+    }
+
+    @Test
+    void testHasChanges() {
+        Lsn fromLsn = Lsn.valueOf("00000027:00000758:0005");
+
+        // the start of the polled range is inclusive
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.hasChanges(
+                                Lsn.valueOf("00000027:00000758:0005"), fromLsn))
+                .isTrue();
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.hasChanges(
+                                Lsn.valueOf("00000027:00000758:0004"), fromLsn))
+                .isFalse();
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.hasChanges(
+                                Lsn.valueOf("00000027:00000758:0006"), fromLsn))
+                .isTrue();
+        // the maximum LSN of an empty change table is unavailable
+        Assertions.assertThat(SqlServerChangeTablePoller.hasChanges(Lsn.NULL, fromLsn)).isFalse();
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.hasChanges(
+                                Lsn.valueOf((byte[]) null), fromLsn))
+                .isFalse();
+        // every change table with changes is polled from an unavailable LSN
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.hasChanges(
+                                Lsn.valueOf("00000027:00000758:0004"), Lsn.NULL))
+                .isTrue();
+        Assertions.assertThat(SqlServerChangeTablePoller.hasChanges(Lsn.NULL, Lsn.NULL)).isFalse();
+    }
+
+    @Test
+    void testTablesWithChanges() {
+        SqlServerChangeTable[] tables = changeTables(4);
+        Lsn fromLsn = Lsn.valueOf("00000027:00000758:0005");
+
+        Assertions.assertThat(
+                        SqlServerChangeTablePoller.tablesWithChanges(
+                                tables,
+                                new Lsn[] {
+                                    Lsn.valueOf("00000027:00000758:0006"),
+                                    Lsn.valueOf("00000027:00000758:0004"),
+                                    Lsn.NULL,
+                                    Lsn.valueOf("00000027:00000758:0005")
+                                },
+                                fromLsn))
+                .containsExactly(tables[0], tables[3]);
+    }
+
+    @Test
+    void testPolledTablesMatchMergedResultSets() throws Exception {
+        SqlServerChangeTable[] tables = changeTables(5);
+        Map<SqlServerChangeTable, ResultSet> tableResultSets = new HashMap<>();
+        for (SqlServerChangeTable table : tables) {
+            tableResultSets.put(table, resultSet(table.getCaptureInstance()));
+        }
+
+        SqlServerChangeTablePoller poller = new SqlServerChangeTablePoller(null, null, 3);
+        // the groups deliver their result sets in the reverse order of the tables
+        CountDownLatch[] delivered = new CountDownLatch[3];
+        for (int i = 0; i < delivered.length; i++) {
+            delivered[i] = new CountDownLatch(1);
+        }
+        List<ResultSet> merged = new ArrayList<>();
+        try {
+            poller.getChangesInParallel(
+                    tables,
+                    (group, groupTables, consumer) -> {
+                        if (group + 1 < delivered.length) {
+                            delivered[group + 1].await();
+                        }
+                        delivered[group].countDown();
+                        consumer.accept(
+                                Arrays.stream(groupTables)
+                                        .map(tableResultSets::get)
+                                        .toArray(ResultSet[]::new));
+                    },
+                    resultSets -> merged.addAll(Arrays.asList(resultSets)));
+        } finally {
+            poller.close();
+        }
+
+        Assertions.assertThat(poller.getPolledTables()).containsExactly(tables);
+        Assertions.assertThat(merged)
+                .containsExactly(
+                        Arrays.stream(poller.getPolledTables())
+                                .map(tableResultSets::get)
+                                .toArray(ResultSet[]::new));
+    }
+
+    private static SqlServerChangeTable[] changeTables(int count) {
+        SqlServerChangeTable[] tables = new SqlServerChangeTable[count];
+        for (int i = 0; i < count; i++) {
+            tables[i] =
+                    new SqlServerChangeTable(
+                            new TableId("inventory", "dbo", "table" + i),
+                            "dbo_table" + i,
+                            i,
+                            Lsn.NULL,
+                            Lsn.NULL,
+                            Collections.emptyList());
+        }
+        return tables;
+    }
+
+    /** Returns a result set which only supports {@link Object#toString()}. */
+    private static ResultSet resultSet(String name) {
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        SqlServerChangeTablePollerTest.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "toString":
+                                    return name;
+                                case "hashCode":
+                                    return System.identityHashCode(proxy);
+                                case "equals":
+                                    return proxy == args[0];
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        });
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.model;
+
+import org.apache.flink.cdc.common.udf.BatchUserDefinedFunction;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Helper that implements the collecting protocol of {@link BatchUserDefinedFunction} for models.
+ * Collected inputs are deduplicated, split into batches of {@code batchSize} and sent with at most
+ * {@code maxInFlightRequests} concurrent requests.
+ */
+class BatchedModelEvaluator<OUT> implements AutoCloseable {
+
+    /** Function that evaluates a batch of inputs, returning results in the same order. */
+    @FunctionalInterface
+    interface BatchFunction<OUT> {
+        List<OUT> apply(List<String> inputs) throws Exception;
+    }
+
+    private final int batchSize;
+    private final int maxInFlightRequests;
+    private final BatchFunction<OUT> batchFunction;
+    private final ExecutorService executor;
+
+    private final Set<String> collectedInputs = new LinkedHashSet<>();
+    private final Map<String, OUT> evaluatedResults = new HashMap<>();
+    private boolean collecting;
+
+    BatchedModelEvaluator(
+            String modelName,
+            int batchSize,
+            int maxInFlightRequests,
+            BatchFunction<OUT> batchFunction) {
+        Preconditions.checkArgument(batchSize > 0, "Batch size must be positive.");
+        Preconditions.checkArgument(
+                maxInFlightRequests > 0, "Max in-flight requests must be positive.");
+        this.batchSize = batchSize;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.batchFunction = batchFunction;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor =
+                Executors.newFixedThreadPool(
+                        maxInFlightRequests,
+                        runnable -> {
+                            String threadName =
+                                    modelName + "-request-" + threadCount.getAndIncrement();
+                            Thread thread = new Thread(runnable, threadName);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /** Returns the max number of inputs to be buffered before evaluating them. */
+    int getMaxBufferedInputs() {
+        return batchSize * maxInFlightRequests;
+    }
+
+    /**
+     * Returns the evaluated result of given input. While collecting, the input is recorded and
+     * {@code null} is returned as a placeholder. Inputs that were not collected are evaluated
+     * synchronously by the given fallback function.
+     */
+    OUT eval(String input, Function<String, OUT> fallback) {
+        if (collecting) {
+            collectedInputs.add(input);
+            return null;
+        }
+        if (evaluatedResults.containsKey(input)) {
+            return evaluatedResults.get(input);
+        }
+        return fallback.apply(input);
+    }
+
+    void startCollecting() {
+        collecting = true;
+    }
+
+    void evalCollected() throws Exception {
+        collecting = false;
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>(batchSize);
+        for (String input : collectedInputs) {
+            batch.add(input);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        collectedInputs.clear();
+
+        List<Future<List<OUT>>> futures = new ArrayList<>(batches.size());
+        for (List<String> inputs : batches) {
+            futures.add(executor.submit(() -> batchFunction.apply(inputs)));
+        }
+        try {
+            for (int i = 0; i < batches.size(); i++) {
+                List<String> inputs = batches.get(i);
+                List<OUT> results = futures.get(i).get();
+                if (results.size() != inputs.size()) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Expected %s results for the batch, but got %s.",
+                                    inputs.size(), results.size()));
+                }
+                for (int j = 0; j < inputs.size(); j++) {
+                    evaluatedResults.put(inputs.get(j), results.get(j));
+                }
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    void clearCollected() {
+        collecting = false;
+        collectedInputs.clear();
+        evaluatedResults.clear();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
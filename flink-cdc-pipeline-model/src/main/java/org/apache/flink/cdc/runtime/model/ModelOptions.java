@@ -20,6 +20,8 @@ package org.apache.flink.cdc.runtime.model;
 import org.apache.flink.cdc.common.configuration.ConfigOption;
 import org.apache.flink.cdc.common.configuration.ConfigOptions;
 
+import java.time.Duration;
+
 /** Options of built-in model. */
 public class ModelOptions {
 
@@ -47,4 +49,29 @@ public class ModelOptions {
                     .stringType()
                     .noDefaultValue()
                     .withDescription("Prompt for chat using OpenAI.");
+
+    public static final ConfigOption<Integer> OPENAI_BATCH_SIZE =
+            ConfigOptions.key("openai.batch.size")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Max number of inputs sent to the Model server in one request. "
+                                    + "Inputs are evaluated row by row if both this option and "
+                                    + "openai.max-in-flight-requests are 1.");
+
+    public static final ConfigOption<Integer> OPENAI_MAX_IN_FLIGHT_REQUESTS =
+            ConfigOptions.key("openai.max-in-flight-requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Max number of concurrent requests sent to the Model server by each transform subtask.");
+
+    public static final ConfigOption<Duration> OPENAI_BATCH_TIMEOUT =
+            ConfigOptions.key("openai.batch.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(1))
+                    .withDescription(
+                            "Max time that rows are buffered by the transform operator before "
+                                    + "being sent to the Model server in batches, even if the "
+                                    + "batches are not full yet.");
 }
@@ -20,6 +20,7 @@ package org.apache.flink.cdc.runtime.model;
 import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.udf.BatchUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.Preconditions;
@@ -30,17 +31,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_API_KEY;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_SIZE;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_TIMEOUT;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_CHAT_PROMPT;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_HOST;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MODEL_NAME;
 
 /**
  * A {@link UserDefinedFunction} that use Model defined by OpenAI to generate text, refer to <a
  * href="https://docs.langchain4j.dev/integrations/language-models/open-ai/">docs</a>}.
  */
-public class OpenAIChatModel implements UserDefinedFunction {
+public class OpenAIChatModel implements BatchUserDefinedFunction {
 
     private static final Logger LOG = LoggerFactory.getLogger(OpenAIChatModel.class);
 
@@ -52,15 +58,23 @@ public class OpenAIChatModel implements UserDefinedFunction {
 
     private String prompt;
 
-    public String eval(String input) {
-        return chat(input);
-    }
+    // Evaluator of concurrent chat requests, which is null if batching is disabled.
+    private BatchedModelEvaluator<String> batchedEvaluator;
 
-    private String chat(String input) {
+    private long batchTimeoutMillis;
+
+    public String eval(String input) {
         if (input == null || input.trim().isEmpty()) {
             LOG.warn("Empty or null input provided for embedding.");
             return "";
         }
+        if (batchedEvaluator != null) {
+            return batchedEvaluator.eval(input, this::chat);
+        }
+        return chat(input);
+    }
+
+    private String chat(String input) {
         if (prompt != null) {
             input = prompt + ": " + input;
         }
@@ -70,6 +84,43 @@ public class OpenAIChatModel implements UserDefinedFunction {
                 .text();
     }
 
+    private List<String> chatAll(List<String> inputs) {
+        // Chat completion API accepts one conversation per request, batched inputs are sent
+        // one by one while batches are sent concurrently.
+        return inputs.stream().map(this::chat).collect(Collectors.toList());
+    }
+
+    @Override
+    public int getMaxBufferedInputs() {
+        return batchedEvaluator != null ? batchedEvaluator.getMaxBufferedInputs() : 1;
+    }
+
+    @Override
+    public long getMaxBufferedMillis() {
+        return batchTimeoutMillis;
+    }
+
+    @Override
+    public void startCollecting() {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.startCollecting();
+        }
+    }
+
+    @Override
+    public void evalCollected() throws Exception {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.evalCollected();
+        }
+    }
+
+    @Override
+    public void clearCollected() {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.clearCollected();
+        }
+    }
+
     @Override
     public DataType getReturnType() {
         return DataTypes.STRING();
@@ -88,10 +139,21 @@ public class OpenAIChatModel implements UserDefinedFunction {
         LOG.info("Opening OpenAIChatModel " + modelName + " " + host);
         this.chatModel =
                 OpenAiChatModel.builder().apiKey(apiKey).baseUrl(host).modelName(modelName).build();
+        int batchSize = modelOptions.get(OPENAI_BATCH_SIZE);
+        int maxInFlightRequests = modelOptions.get(OPENAI_MAX_IN_FLIGHT_REQUESTS);
+        this.batchTimeoutMillis = modelOptions.get(OPENAI_BATCH_TIMEOUT).toMillis();
+        if (batchSize * maxInFlightRequests > 1) {
+            this.batchedEvaluator =
+                    new BatchedModelEvaluator<>(
+                            modelName, batchSize, maxInFlightRequests, this::chatAll);
+        }
     }
 
     @Override
     public void close() {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.close();
+        }
         LOG.info("Closed OpenAIChatModel " + modelName + " " + host);
     }
 }
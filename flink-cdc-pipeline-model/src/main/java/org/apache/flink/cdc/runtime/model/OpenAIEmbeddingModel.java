@@ -22,6 +22,7 @@ import org.apache.flink.cdc.common.data.ArrayData;
 import org.apache.flink.cdc.common.data.GenericArrayData;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.udf.BatchUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.Preconditions;
@@ -33,18 +34,22 @@ import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_API_KEY;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_SIZE;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_TIMEOUT;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_HOST;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MODEL_NAME;
 
 /**
  * A {@link UserDefinedFunction} that use Model defined by OpenAI to generate vector data, refer to
  * <a href="https://docs.langchain4j.dev/integrations/language-models/open-ai/">docs</a>}.
  */
-public class OpenAIEmbeddingModel implements UserDefinedFunction {
+public class OpenAIEmbeddingModel implements BatchUserDefinedFunction {
 
     private static final Logger LOG = LoggerFactory.getLogger(OpenAIEmbeddingModel.class);
 
@@ -54,16 +59,23 @@ public class OpenAIEmbeddingModel implements UserDefinedFunction {
 
     private OpenAiEmbeddingModel embeddingModel;
 
-    public ArrayData eval(String input) {
-        return getEmbedding(input);
-    }
+    // Evaluator of batched embedding requests, which is null if batching is disabled.
+    private BatchedModelEvaluator<ArrayData> batchedEvaluator;
 
-    private ArrayData getEmbedding(String input) {
+    private long batchTimeoutMillis;
+
+    public ArrayData eval(String input) {
         if (input == null || input.trim().isEmpty()) {
             LOG.debug("Empty or null input provided for embedding.");
             return new GenericArrayData(new Float[0]);
         }
+        if (batchedEvaluator != null) {
+            return batchedEvaluator.eval(input, this::getEmbedding);
+        }
+        return getEmbedding(input);
+    }
 
+    private ArrayData getEmbedding(String input) {
         TextSegment textSegment = new TextSegment(input, new Metadata());
 
         List<Embedding> embeddings =
@@ -79,6 +91,58 @@ public class OpenAIEmbeddingModel implements UserDefinedFunction {
         }
     }
 
+    private List<ArrayData> getEmbeddings(List<String> inputs) {
+        List<TextSegment> textSegments = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            textSegments.add(new TextSegment(input, new Metadata()));
+        }
+
+        List<Embedding> embeddings = embeddingModel.embedAll(textSegments).content();
+
+        List<ArrayData> results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            if (embeddings != null && i < embeddings.size()) {
+                Float[] embeddingArray = embeddings.get(i).vectorAsList().toArray(new Float[0]);
+                results.add(new GenericArrayData(embeddingArray));
+            } else {
+                LOG.warn("No embedding results returned for input: {}", inputs.get(i));
+                results.add(new GenericArrayData(new Float[0]));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public int getMaxBufferedInputs() {
+        return batchedEvaluator != null ? batchedEvaluator.getMaxBufferedInputs() : 1;
+    }
+
+    @Override
+    public long getMaxBufferedMillis() {
+        return batchTimeoutMillis;
+    }
+
+    @Override
+    public void startCollecting() {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.startCollecting();
+        }
+    }
+
+    @Override
+    public void evalCollected() throws Exception {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.evalCollected();
+        }
+    }
+
+    @Override
+    public void clearCollected() {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.clearCollected();
+        }
+    }
+
     @Override
     public DataType getReturnType() {
         return DataTypes.ARRAY(DataTypes.FLOAT());
@@ -100,10 +164,21 @@ public class OpenAIEmbeddingModel implements UserDefinedFunction {
                         .baseUrl(host)
                         .modelName(modelName)
                         .build();
+        int batchSize = modelOptions.get(OPENAI_BATCH_SIZE);
+        int maxInFlightRequests = modelOptions.get(OPENAI_MAX_IN_FLIGHT_REQUESTS);
+        this.batchTimeoutMillis = modelOptions.get(OPENAI_BATCH_TIMEOUT).toMillis();
+        if (batchSize * maxInFlightRequests > 1) {
+            this.batchedEvaluator =
+                    new BatchedModelEvaluator<>(
+                            modelName, batchSize, maxInFlightRequests, this::getEmbeddings);
+        }
     }
 
     @Override
     public void close() {
+        if (batchedEvaluator != null) {
+            batchedEvaluator.close();
+        }
         LOG.info("Closed OpenAIEmbeddingModel " + modelName + " " + host);
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.model;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/** A test for {@link BatchedModelEvaluator}. */
+class BatchedModelEvaluatorTest {
+
+    @Test
+    void testEvalCollectedInputs() throws Exception {
+        List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger inFlightRequests = new AtomicInteger();
+        AtomicInteger maxInFlightRequests = new AtomicInteger();
+        try (BatchedModelEvaluator<String> evaluator =
+                new BatchedModelEvaluator<>(
+                        "test-model",
+                        3,
+                        2,
+                        inputs -> {
+                            int current = inFlightRequests.incrementAndGet();
+                            maxInFlightRequests.accumulateAndGet(current, Math::max);
+                            Thread.sleep(50);
+                            requests.add(inputs);
+                            inFlightRequests.decrementAndGet();
+                            return inputs.stream()
+                                    .map(String::toUpperCase)
+                                    .collect(Collectors.toList());
+                        })) {
+            Assertions.assertThat(evaluator.getMaxBufferedInputs()).isEqualTo(6);
+
+            evaluator.startCollecting();
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertThat(evaluator.eval("row-" + i, input -> "unexpected"))
+                        .isNull();
+            }
+            // Duplicated inputs are evaluated only once
+            Assertions.assertThat(evaluator.eval("row-0", input -> "unexpected")).isNull();
+            evaluator.evalCollected();
+
+            Assertions.assertThat(requests).hasSize(4);
+            Assertions.assertThat(requests.stream().map(List::size)).allMatch(size -> size <= 3);
+            Assertions.assertThat(maxInFlightRequests.get()).isLessThanOrEqualTo(2);
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertThat(evaluator.eval("row-" + i, input -> "unexpected"))
+                        .isEqualTo("ROW-" + i);
+            }
+
+            // Inputs not collected are evaluated by the fallback function
+            Assertions.assertThat(evaluator.eval("row-10", input -> "fallback"))
+                    .isEqualTo("fallback");
+
+            evaluator.clearCollected();
+            Assertions.assertThat(evaluator.eval("row-0", input -> "fallback"))
+                    .isEqualTo("fallback");
+        }
+    }
+
+    @Test
+    void testEvalCollectedInputsWithFailure() {
+        try (BatchedModelEvaluator<String> evaluator =
+                new BatchedModelEvaluator<>(
+                        "test-model",
+                        2,
+                        1,
+                        inputs -> {
+                            throw new IllegalStateException("Model server is unavailable.");
+                        })) {
+            evaluator.startCollecting();
+            evaluator.eval("row-0", input -> "unexpected");
+            Assertions.assertThatThrownBy(evaluator::evalCollected)
+                    .isExactlyInstanceOf(IllegalStateException.class)
+                    .hasMessage("Model server is unavailable.");
+        }
+    }
+}
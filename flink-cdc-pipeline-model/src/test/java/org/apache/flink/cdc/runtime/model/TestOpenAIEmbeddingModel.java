@@ -21,10 +21,23 @@ import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.data.ArrayData;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 
+import com.sun.net.httpserver.HttpServer;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 /** A test for {@link OpenAIEmbeddingModel}. */
 class TestOpenAIEmbeddingModel {
 
@@ -42,4 +55,76 @@ class TestOpenAIEmbeddingModel {
                 openAIEmbeddingModel.eval("Flink CDC is a streaming data integration tool");
         Assertions.assertThat(arrayData).isNotNull();
     }
+
+    @Test
+    void testBatchedEval() throws Exception {
+        Pattern inputPattern = Pattern.compile("row-(\\d+)");
+        AtomicInteger requestCount = new AtomicInteger();
+        // A local stand-in of the embedding endpoint, which returns [n] for input "row-n"
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    requestCount.incrementAndGet();
+                    String request;
+                    try (BufferedReader reader =
+                            new BufferedReader(
+                                    new InputStreamReader(
+                                            exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+                        request = reader.lines().collect(Collectors.joining("\n"));
+                    }
+                    Matcher matcher = inputPattern.matcher(request);
+                    List<String> data = new ArrayList<>();
+                    while (matcher.find()) {
+                        data.add(
+                                String.format(
+                                        "{\"object\":\"embedding\",\"index\":%d,\"embedding\":[%s]}",
+                                        data.size(), matcher.group(1)));
+                    }
+                    byte[] response =
+                            String.format(
+                                            "{\"object\":\"list\",\"model\":\"test-model\",\"data\":[%s],"
+                                                    + "\"usage\":{\"prompt_tokens\":1,\"total_tokens\":1}}",
+                                            String.join(",", data))
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, response.length);
+                    try (OutputStream outputStream = exchange.getResponseBody()) {
+                        outputStream.write(response);
+                    }
+                });
+        server.start();
+
+        OpenAIEmbeddingModel openAIEmbeddingModel = new OpenAIEmbeddingModel();
+        try {
+            Configuration configuration = new Configuration();
+            configuration.set(
+                    ModelOptions.OPENAI_HOST,
+                    "http://localhost:" + server.getAddress().getPort() + "/v1/");
+            configuration.set(ModelOptions.OPENAI_API_KEY, "test");
+            configuration.set(ModelOptions.OPENAI_MODEL_NAME, "test-model");
+            configuration.set(ModelOptions.OPENAI_BATCH_SIZE, 4);
+            configuration.set(ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS, 2);
+            openAIEmbeddingModel.open(() -> configuration);
+            Assertions.assertThat(openAIEmbeddingModel.getMaxBufferedInputs()).isEqualTo(8);
+
+            openAIEmbeddingModel.startCollecting();
+            for (int i = 0; i < 10; i++) {
+                openAIEmbeddingModel.eval("row-" + i);
+            }
+            openAIEmbeddingModel.evalCollected();
+            Assertions.assertThat(requestCount.get()).isEqualTo(3);
+
+            for (int i = 0; i < 10; i++) {
+                ArrayData arrayData = openAIEmbeddingModel.eval("row-" + i);
+                Assertions.assertThat(arrayData.size()).isEqualTo(1);
+                Assertions.assertThat(arrayData.getFloat(0)).isEqualTo((float) i);
+            }
+            Assertions.assertThat(requestCount.get()).isEqualTo(3);
+            openAIEmbeddingModel.clearCollected();
+        } finally {
+            openAIEmbeddingModel.close();
+            server.stop(0);
+        }
+    }
 }
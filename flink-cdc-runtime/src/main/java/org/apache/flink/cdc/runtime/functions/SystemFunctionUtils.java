@@ -23,7 +23,11 @@ import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
 import org.apache.flink.cdc.common.data.TimeData;
 import org.apache.flink.cdc.common.data.TimestampData;
 import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.types.DecimalType;
 import org.apache.flink.cdc.common.utils.DateTimeUtils;
+import org.apache.flink.cdc.common.utils.ThreadLocalCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,7 +40,6 @@ import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.regex.Matcher;
@@ -53,6 +56,25 @@ public class SystemFunctionUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(SystemFunctionUtils.class);
 
+    /**
+     * Regular expressions and date formats are almost always literals in transform expressions,
+     * so compiled instances are memoized per thread instead of being rebuilt for every record.
+     */
+    private static final ThreadLocalCache<String, Pattern> PATTERN_CACHE =
+            ThreadLocalCache.of(Pattern::compile);
+
+    private static final ThreadLocalCache<String, SimpleDateFormat> FORMATTER_CACHE =
+            ThreadLocalCache.of(SimpleDateFormat::new);
+
+    private static final MathContext[] MATH_CONTEXTS =
+            new MathContext[DecimalType.MAX_PRECISION + 1];
+
+    static {
+        for (int i = 0; i < MATH_CONTEXTS.length; i++) {
+            MATH_CONTEXTS[i] = new MathContext(i);
+        }
+    }
+
     public static LocalZonedTimestampData currentTimestamp(long epochTime) {
         return LocalZonedTimestampData.fromEpochMillis(epochTime);
     }
@@ -133,7 +155,7 @@ public class SystemFunctionUtils {
     }
 
     public static TimestampData toTimestamp(String str, String format, String timezone) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(format);
+        SimpleDateFormat dateFormat = FORMATTER_CACHE.get(format);
         dateFormat.setTimeZone(TimeZone.getTimeZone(timezone));
         try {
             return TimestampData.fromMillis(dateFormat.parse(str).getTime());
@@ -359,35 +381,44 @@ public class SystemFunctionUtils {
     }
 
     public static boolean in(String value, String... str) {
-        return Arrays.stream(str).anyMatch(item -> value.equals(item));
+        return contains(value, str);
     }
 
     public static boolean in(Short value, Short... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
     }
 
     public static boolean in(Integer value, Integer... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
     }
 
     public static boolean in(Long value, Long... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
     }
 
     public static boolean in(Float value, Float... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
     }
 
     public static boolean in(Double value, Double... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
     }
 
     public static boolean in(BigDecimal value, BigDecimal... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
     }
 
     public static boolean in(DecimalData value, DecimalData... values) {
-        return Arrays.stream(values).anyMatch(item -> value.equals(item));
+        return contains(value, values);
+    }
+
+    private static boolean contains(Object value, Object[] values) {
+        for (Object item : values) {
+            if (value.equals(item)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static boolean notIn(String value, String... values) {
@@ -426,10 +457,43 @@ public class SystemFunctionUtils {
         return str.length();
     }
 
+    /**
+     * Returns the number of UTF-16 code units like {@link #charLength(String)}, without decoding
+     * the UTF-8 bytes.
+     */
+    public static int charLength(BinaryStringData str) {
+        int length = 0;
+        for (int i = 0; i < str.getSizeInBytes(); i++) {
+            byte b = str.byteAt(i);
+            if ((b & 0xC0) != 0x80) {
+                // Supplementary characters are encoded by 4 bytes and take 2 UTF-16 code units
+                length += (b & 0xF8) == 0xF0 ? 2 : 1;
+            }
+        }
+        return length;
+    }
+
     public static String trim(String symbol, String target, String str) {
         return str.trim();
     }
 
+    /** Trims control characters and spaces like {@link String#trim()} from UTF-8 bytes. */
+    public static BinaryStringData trim(String symbol, String target, BinaryStringData str) {
+        int begin = 0;
+        int end = str.getSizeInBytes();
+        while (begin < end && (str.byteAt(begin) & 0xFF) <= ' ') {
+            begin++;
+        }
+        while (end > begin && (str.byteAt(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        if (begin == 0 && end == str.getSizeInBytes()) {
+            return str;
+        }
+        return BinaryStringData.fromAddress(
+                str.getSegments(), str.getOffset() + begin, end - begin);
+    }
+
     /**
      * Returns a string resulting from replacing all substrings that match the regular expression
      * with replacement.
@@ -439,7 +503,9 @@ public class SystemFunctionUtils {
             return null;
         }
         try {
-            return str.replaceAll(regex, Matcher.quoteReplacement(replacement));
+            return PATTERN_CACHE.get(regex)
+                    .matcher(str)
+                    .replaceAll(Matcher.quoteReplacement(replacement));
         } catch (Exception e) {
             LOG.error(
                     String.format(
@@ -455,8 +521,31 @@ public class SystemFunctionUtils {
         return String.join("", str);
     }
 
+    public static BinaryStringData concat(BinaryStringData... str) {
+        int sizeInBytes = 0;
+        for (BinaryStringData s : str) {
+            if (s == null) {
+                // Keeps the same result as concat(String...) for null arguments
+                String[] strings = new String[str.length];
+                for (int i = 0; i < str.length; i++) {
+                    strings[i] = str[i] == null ? null : str[i].toString();
+                }
+                return BinaryStringData.fromString(concat(strings));
+            }
+            sizeInBytes += s.getSizeInBytes();
+        }
+        byte[] bytes = new byte[sizeInBytes];
+        int offset = 0;
+        for (BinaryStringData s : str) {
+            BinarySegmentUtils.copyToBytes(
+                    s.getSegments(), s.getOffset(), bytes, offset, s.getSizeInBytes());
+            offset += s.getSizeInBytes();
+        }
+        return BinaryStringData.fromBytes(bytes);
+    }
+
     public static boolean like(String str, String regex) {
-        return Pattern.compile(regex).matcher(str).find();
+        return PATTERN_CACHE.get(regex).matcher(str).find();
     }
 
     public static boolean notLike(String str, String regex) {
@@ -471,6 +560,14 @@ public class SystemFunctionUtils {
         return substring(str, beginIndex, length);
     }
 
+    public static BinaryStringData substr(BinaryStringData str, int beginIndex) {
+        return substring(str, beginIndex);
+    }
+
+    public static BinaryStringData substr(BinaryStringData str, int beginIndex, int length) {
+        return substring(str, beginIndex, length);
+    }
+
     public static String substring(String str, int beginIndex) {
         return substring(str, beginIndex, Integer.MAX_VALUE);
     }
@@ -524,14 +621,55 @@ public class SystemFunctionUtils {
         return str.substring(startPos, endPos);
     }
 
+    public static BinaryStringData substring(BinaryStringData str, int beginIndex) {
+        return substring(str, beginIndex, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the same substring as {@link #substring(String, int, int)}, without decoding the
+     * UTF-8 bytes unless there are supplementary characters, whose indices differ between code
+     * points and UTF-16 code units.
+     */
+    public static BinaryStringData substring(BinaryStringData str, int beginIndex, int length) {
+        int numChars = str.numChars();
+        if (length < 0 || numChars != charLength(str)) {
+            return BinaryStringData.fromString(substring(str.toString(), beginIndex, length));
+        }
+
+        int startPos;
+        if (beginIndex > 0) {
+            startPos = beginIndex - 1;
+            if (startPos >= numChars) {
+                return BinaryStringData.EMPTY_UTF8;
+            }
+        } else if (beginIndex < 0) {
+            startPos = numChars + beginIndex;
+            if (startPos < 0) {
+                return BinaryStringData.EMPTY_UTF8;
+            }
+        } else {
+            startPos = 0;
+        }
+        int endPos = numChars - startPos < length ? numChars : startPos + length;
+        return str.substring(startPos, endPos);
+    }
+
     public static String upper(String str) {
         return str.toUpperCase();
     }
 
+    public static BinaryStringData upper(BinaryStringData str) {
+        return str.toUpperCase();
+    }
+
     public static String lower(String str) {
         return str.toLowerCase();
     }
 
+    public static BinaryStringData lower(BinaryStringData str) {
+        return str.toLowerCase();
+    }
+
     /** SQL <code>ABS</code> operator applied to byte values. */
     public static Byte abs(Byte value) {
         if (value == null) {
@@ -980,6 +1118,12 @@ public class SystemFunctionUtils {
         }
     }
 
+    private static MathContext getMathContext(int precision) {
+        return precision >= 0 && precision < MATH_CONTEXTS.length
+                ? MATH_CONTEXTS[precision]
+                : new MathContext(precision);
+    }
+
     public static BigDecimal castToBigDecimal(Object object, int precision, int scale) {
         if (object == null) {
             return null;
@@ -990,7 +1134,7 @@ public class SystemFunctionUtils {
 
         BigDecimal bigDecimal;
         try {
-            bigDecimal = new BigDecimal(castObjectIntoString(object), new MathContext(precision));
+            bigDecimal = new BigDecimal(castObjectIntoString(object), getMathContext(precision));
             bigDecimal = bigDecimal.setScale(scale, RoundingMode.HALF_UP);
         } catch (NumberFormatException ignored) {
             return null;
@@ -1014,7 +1158,7 @@ public class SystemFunctionUtils {
 
         BigDecimal bigDecimal;
         try {
-            bigDecimal = new BigDecimal(castObjectIntoString(object), new MathContext(precision));
+            bigDecimal = new BigDecimal(castObjectIntoString(object), getMathContext(precision));
             bigDecimal = bigDecimal.setScale(scale, RoundingMode.HALF_UP);
         } catch (NumberFormatException ignored) {
             return null;
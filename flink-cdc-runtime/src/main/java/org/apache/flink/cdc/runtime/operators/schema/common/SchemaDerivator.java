@@ -20,9 +20,11 @@ package org.apache.flink.cdc.runtime.operators.schema.common;
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.AlterColumnTypeEvent;
+import org.apache.flink.cdc.common.event.ChangeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.DropColumnEvent;
+import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.RenameColumnEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEventWithPreSchema;
@@ -149,7 +151,8 @@ public class SchemaDerivator {
 
     /**
      * Rewrite {@link SchemaChangeEvent}s by current {@link SchemaChangeBehavior} and include /
-     * exclude them by fine-grained schema change event configurations.
+     * exclude them by fine-grained schema change event configurations. Consecutive {@link
+     * AddColumnEvent}s are coalesced, so that they're applied to the external system at once.
      */
     public static List<SchemaChangeEvent> normalizeSchemaChangeEvents(
             Schema oldSchema,
@@ -177,7 +180,40 @@ public class SchemaDerivator {
                 LOG.info("Ignored schema change {}.", schemaChangeEvent);
             }
         }
-        return finalSchemaChangeEvents;
+        return coalesceAddColumnEvents(finalSchemaChangeEvents);
+    }
+
+    /**
+     * Merges {@link AddColumnEvent}s of the same table into the preceding one if no other event of
+     * that table comes in between. Added columns are applied in order, so the merged event results
+     * in the same schema as applying them one by one. Given events must be {@link ChangeEvent}s.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Event> List<T> coalesceAddColumnEvents(List<T> events) {
+        List<T> coalescedEvents = new ArrayList<>(events.size());
+        Map<TableId, Integer> lastAddColumnEventIndexes = new HashMap<>();
+        for (T event : events) {
+            TableId tableId = ((ChangeEvent) event).tableId();
+            Integer lastIndex = lastAddColumnEventIndexes.get(tableId);
+            if (event instanceof AddColumnEvent && lastIndex != null) {
+                AddColumnEvent lastEvent = (AddColumnEvent) coalescedEvents.get(lastIndex);
+                List<AddColumnEvent.ColumnWithPosition> addedColumns =
+                        new ArrayList<>(lastEvent.getAddedColumns());
+                addedColumns.addAll(((AddColumnEvent) event).getAddedColumns());
+                coalescedEvents.set(lastIndex, (T) new AddColumnEvent(tableId, addedColumns));
+                continue;
+            }
+            if (event instanceof AddColumnEvent) {
+                lastAddColumnEventIndexes.put(tableId, coalescedEvents.size());
+            } else {
+                lastAddColumnEventIndexes.remove(tableId);
+            }
+            coalescedEvents.add(event);
+        }
+        if (coalescedEvents.size() < events.size()) {
+            LOG.info("Coalesced {} events into {} events.", events.size(), coalescedEvents.size());
+        }
+        return coalescedEvents;
     }
 
     private static List<SchemaChangeEvent> rewriteSchemaChangeEvents(
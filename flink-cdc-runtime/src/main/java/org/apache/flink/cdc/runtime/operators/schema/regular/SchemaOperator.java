@@ -17,8 +17,11 @@
 
 package org.apache.flink.cdc.runtime.operators.schema.regular;
 
+import org.apache.flink.api.common.operators.MailboxExecutor;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.ChangeEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.FlushEvent;
@@ -49,13 +52,20 @@ import org.apache.flink.util.SerializedValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.apache.flink.cdc.common.pipeline.PipelineOptions.DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT;
 
@@ -63,6 +73,12 @@ import static org.apache.flink.cdc.common.pipeline.PipelineOptions.DEFAULT_SCHEM
  * The operator will evolve schemas in {@link
  * org.apache.flink.cdc.runtime.operators.schema.regular.SchemaCoordinator} for incoming {@link
  * SchemaChangeEvent}s and block the stream for tables before their schema changes finish.
+ *
+ * <p>By default, the whole subtask is blocked until a schema change request is finished. If
+ * table-level blocking is enabled, requests are sent asynchronously and only events of tables that
+ * are routed to the same sink tables as the evolving table are held back, while events of other
+ * tables keep flowing. Consecutive {@link AddColumnEvent}s of a table held back meanwhile are
+ * coalesced into one, so bursts of schema changes are applied with fewer requests.
  */
 @Internal
 public class SchemaOperator extends AbstractStreamOperator<Event>
@@ -76,6 +92,7 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     private final Duration rpcTimeout;
     private final SchemaChangeBehavior schemaChangeBehavior;
     private final List<RouteRule> routingRules;
+    private final boolean tableLevelBlocking;
 
     // Transient fields that are set during open()
     private transient int subTaskId;
@@ -86,6 +103,12 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     private transient TableIdRouter router;
     private transient SchemaDerivator derivator;
 
+    // Transient fields that are used in table-level blocking mode only
+    private transient MailboxExecutor mailboxExecutor;
+    @Nullable private transient PendingSchemaChange pendingSchemaChange;
+    private transient Set<TableId> blockedTables;
+    private transient List<Event> blockedEvents;
+
     @VisibleForTesting
     public SchemaOperator(List<RouteRule> routingRules) {
         this(routingRules, DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT);
@@ -109,11 +132,21 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
             Duration rpcTimeOut,
             SchemaChangeBehavior schemaChangeBehavior,
             String timezone) {
+        this(routingRules, rpcTimeOut, schemaChangeBehavior, timezone, false);
+    }
+
+    public SchemaOperator(
+            List<RouteRule> routingRules,
+            Duration rpcTimeOut,
+            SchemaChangeBehavior schemaChangeBehavior,
+            String timezone,
+            boolean tableLevelBlocking) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.rpcTimeout = rpcTimeOut;
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.timezone = timezone;
         this.routingRules = routingRules;
+        this.tableLevelBlocking = tableLevelBlocking;
     }
 
     @Override
@@ -123,6 +156,10 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
             Output<StreamRecord<Event>> output) {
         super.setup(containingTask, config, output);
         this.toCoordinator = containingTask.getEnvironment().getOperatorCoordinatorEventGateway();
+        if (tableLevelBlocking) {
+            this.mailboxExecutor =
+                    containingTask.getMailboxExecutorFactory().createExecutor(config.getChainIndex());
+        }
     }
 
     @Override
@@ -136,6 +173,21 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         this.evolvedSchemaMap = new HashMap<>();
         this.router = new TableIdRouter(routingRules);
         this.derivator = new SchemaDerivator();
+        this.blockedTables = new HashSet<>();
+        this.blockedEvents = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        super.prepareSnapshotPreBarrier(checkpointId);
+        // Held back events are not part of any state, so they must be emitted before the barrier
+        waitForPendingSchemaChanges();
+    }
+
+    @Override
+    public void finish() throws Exception {
+        waitForPendingSchemaChanges();
+        super.finish();
     }
 
     /**
@@ -144,7 +196,10 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     @Override
     public void processElement(StreamRecord<Event> streamRecord) throws Exception {
         Event event = streamRecord.getValue();
-        if (event instanceof SchemaChangeEvent) {
+        if (tableLevelBlocking) {
+            tryFinishPendingSchemaChange();
+            processEventWithTableLevelBlocking(event);
+        } else if (event instanceof SchemaChangeEvent) {
             handleSchemaChangeEvent((SchemaChangeEvent) event);
         } else if (event instanceof DataChangeEvent) {
             handleDataChangeEvent((DataChangeEvent) event);
@@ -154,6 +209,17 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     }
 
     private void handleSchemaChangeEvent(SchemaChangeEvent originalEvent) throws Exception {
+        TableId tableId = originalEvent.tableId();
+        beginSchemaChange(originalEvent);
+
+        LOG.info("{}> Going to request schema change...", subTaskId);
+
+        // Then, queue to request schema change to SchemaCoordinator.
+        SchemaChangeResponse response = requestSchemaChange(tableId, originalEvent);
+        finishSchemaChange(response);
+    }
+
+    private List<TableId> beginSchemaChange(SchemaChangeEvent originalEvent) {
         // First, update original schema map unconditionally and it will never fail
         TableId tableId = originalEvent.tableId();
         originalSchemaMap.compute(
@@ -166,12 +232,10 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         LOG.info("{}> Sending the FlushEvent.", subTaskId);
         output.collect(
                 new StreamRecord<>(new FlushEvent(subTaskId, sinkTables, originalEvent.getType())));
+        return sinkTables;
+    }
 
-        LOG.info("{}> Going to request schema change...", subTaskId);
-
-        // Then, queue to request schema change to SchemaCoordinator.
-        SchemaChangeResponse response = requestSchemaChange(tableId, originalEvent);
-
+    private void finishSchemaChange(SchemaChangeResponse response) {
         LOG.info(
                 "{}> Finished schema change events: {}",
                 subTaskId,
@@ -222,6 +286,116 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         }
     }
 
+    private void processEventWithTableLevelBlocking(Event event) throws Exception {
+        if (!(event instanceof SchemaChangeEvent) && !(event instanceof DataChangeEvent)) {
+            throw new RuntimeException("Unknown event type in Stream record: " + event);
+        }
+        TableId tableId = ((ChangeEvent) event).tableId();
+
+        // Only one schema change request is in flight per subtask, so following schema changes
+        // and all events of their tables are held back as well to keep per-table ordering.
+        if (blockedTables.contains(tableId)
+                || (pendingSchemaChange != null && event instanceof SchemaChangeEvent)) {
+            blockedTables.add(tableId);
+            blockedEvents.add(event);
+        } else if (event instanceof SchemaChangeEvent) {
+            requestSchemaChangeAsync((SchemaChangeEvent) event);
+        } else {
+            handleDataChangeEvent((DataChangeEvent) event);
+        }
+    }
+
+    private void requestSchemaChangeAsync(SchemaChangeEvent originalEvent) {
+        TableId tableId = originalEvent.tableId();
+        List<TableId> sinkTables = beginSchemaChange(originalEvent);
+
+        LOG.info("{}> Going to request schema change asynchronously...", subTaskId);
+        SchemaChangeRequest request = new SchemaChangeRequest(tableId, originalEvent, subTaskId);
+        CompletableFuture<CoordinationResponse> responseFuture;
+        try {
+            responseFuture =
+                    toCoordinator.sendRequestToCoordinator(
+                            getOperatorID(), new SerializedValue<>(request));
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Failed to send request to coordinator: " + request.toString(), e);
+        }
+        pendingSchemaChange =
+                new PendingSchemaChange(request, responseFuture, System.currentTimeMillis());
+
+        // Data records of tables sharing the same sink tables are coerced to the evolved schemas,
+        // so they have to wait for the refreshed evolved schemas as well.
+        blockedTables.add(tableId);
+        for (TableId originalTableId : originalSchemaMap.keySet()) {
+            if (!Collections.disjoint(router.route(originalTableId), sinkTables)) {
+                blockedTables.add(originalTableId);
+            }
+        }
+
+        responseFuture.whenComplete(
+                (response, throwable) ->
+                        mailboxExecutor.execute(
+                                this::tryFinishPendingSchemaChange,
+                                "Finish schema change request of %s",
+                                tableId));
+    }
+
+    /**
+     * Finishes the in-flight schema change request if its response has arrived, and releases held
+     * back events afterwards. This method is called from the mailbox thread only.
+     */
+    private void tryFinishPendingSchemaChange() throws Exception {
+        if (pendingSchemaChange == null) {
+            return;
+        }
+        SchemaChangeRequest request = pendingSchemaChange.request;
+        CompletableFuture<CoordinationResponse> responseFuture = pendingSchemaChange.responseFuture;
+        if (!responseFuture.isDone()) {
+            if (System.currentTimeMillis() - pendingSchemaChange.requestTimestamp
+                    > rpcTimeout.toMillis()) {
+                throw new IllegalStateException(
+                        "Failed to send request to coordinator: " + request.toString(),
+                        new TimeoutException(
+                                "Schema change request has not finished in " + rpcTimeout));
+            }
+            return;
+        }
+
+        pendingSchemaChange = null;
+        SchemaChangeResponse response;
+        try {
+            response = CoordinationResponseUtils.unwrap(responseFuture.get());
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Failed to send request to coordinator: " + request.toString(), e);
+        }
+        finishSchemaChange(response);
+
+        List<Event> releasedEvents = SchemaDerivator.coalesceAddColumnEvents(blockedEvents);
+        blockedEvents.clear();
+        blockedTables.clear();
+        for (Event event : releasedEvents) {
+            processEventWithTableLevelBlocking(event);
+        }
+    }
+
+    private void waitForPendingSchemaChanges() throws Exception {
+        while (pendingSchemaChange != null) {
+            try {
+                pendingSchemaChange
+                        .responseFuture
+                        .handle((response, throwable) -> null)
+                        .get(rpcTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException(
+                        "Failed to send request to coordinator: "
+                                + pendingSchemaChange.request.toString(),
+                        e);
+            }
+            tryFinishPendingSchemaChange();
+        }
+    }
+
     private SchemaChangeResponse requestSchemaChange(
             TableId tableId, SchemaChangeEvent schemaChangeEvent) {
         return sendRequestToCoordinator(
@@ -247,4 +421,25 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         originalSchemaMap.put(tableId, schema);
         evolvedSchemaMap.put(tableId, schema);
     }
+
+    @VisibleForTesting
+    void processPendingSchemaChange() throws Exception {
+        tryFinishPendingSchemaChange();
+    }
+
+    /** A schema change request that has been sent but not finished yet. */
+    private static class PendingSchemaChange {
+        private final SchemaChangeRequest request;
+        private final CompletableFuture<CoordinationResponse> responseFuture;
+        private final long requestTimestamp;
+
+        private PendingSchemaChange(
+                SchemaChangeRequest request,
+                CompletableFuture<CoordinationResponse> responseFuture,
+                long requestTimestamp) {
+            this.request = request;
+            this.responseFuture = responseFuture;
+            this.requestTimestamp = requestTimestamp;
+        }
+    }
 }
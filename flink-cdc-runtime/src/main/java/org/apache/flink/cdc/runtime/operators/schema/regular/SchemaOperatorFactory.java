@@ -49,7 +49,23 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
             Duration rpcTimeout,
             SchemaChangeBehavior schemaChangeBehavior,
             String timezone) {
-        super(new SchemaOperator(routingRules, rpcTimeout, schemaChangeBehavior, timezone));
+        this(metadataApplier, routingRules, rpcTimeout, schemaChangeBehavior, timezone, false);
+    }
+
+    public SchemaOperatorFactory(
+            MetadataApplier metadataApplier,
+            List<RouteRule> routingRules,
+            Duration rpcTimeout,
+            SchemaChangeBehavior schemaChangeBehavior,
+            String timezone,
+            boolean tableLevelBlocking) {
+        super(
+                new SchemaOperator(
+                        routingRules,
+                        rpcTimeout,
+                        schemaChangeBehavior,
+                        timezone,
+                        tableLevelBlocking));
         this.metadataApplier = metadataApplier;
         this.routingRules = routingRules;
         this.schemaChangeBehavior = schemaChangeBehavior;
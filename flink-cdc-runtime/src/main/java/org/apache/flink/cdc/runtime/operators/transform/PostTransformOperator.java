@@ -30,6 +30,7 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.schema.Selectors;
+import org.apache.flink.cdc.common.udf.BatchUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
@@ -40,7 +41,9 @@ import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
+import org.apache.flink.streaming.api.watermark.Watermark;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.runtime.tasks.ProcessingTimeService;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.HashBasedTable;
 import org.apache.flink.shaded.guava31.com.google.common.collect.Table;
@@ -76,11 +79,27 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     // Tuple3 items are: function name, class path, and extra options.
     private final List<Tuple3<String, String, Map<String, String>>> udfFunctions;
+    private final long udfResultCacheMaxSize;
 
     private transient List<PostTransformer> transformers;
     private transient List<UserDefinedFunctionDescriptor> udfDescriptors;
     private transient List<Object> udfFunctionInstances;
 
+    // UDFs that support batched evaluation, and data change events buffered for them.
+    private transient List<UserDefinedFunctionDescriptor> batchUdfDescriptors;
+    private transient List<BatchUserDefinedFunction> batchUdfInstances;
+    private transient List<StreamRecord<Event>> bufferedRecords;
+    private transient int maxBufferedRecords;
+    private transient long maxBufferedMillis;
+    private transient long bufferedRecordsDeadline;
+
+    // Cache of expressions invoking UDFs, which is null if disabled.
+    @Nullable private transient UdfResultCache udfResultCache;
+
+    // Effective post-transformers of each upstream TableId, which is evaluated once per table
+    // since matching selectors on every event is costly with many tables and transform rules.
+    private transient Map<TableId, List<PostTransformer>> effectiveTransformersCache;
+
     // Querying a TransformProjectionProcessor with an upstream TableId and effective
     // post-transformer.
     private transient Table<TableId, PostTransformer, TransformProjectionProcessor>
@@ -94,13 +113,15 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     PostTransformOperator(
             List<TransformRule> transformRules,
             String timezone,
-            List<Tuple3<String, String, Map<String, String>>> udfFunctions) {
+            List<Tuple3<String, String, Map<String, String>>> udfFunctions,
+            long udfResultCacheMaxSize) {
         this.timezone = timezone;
         this.transformRules = transformRules;
         this.hasAsteriskMap = new HashMap<>();
         this.projectedColumnsMap = new HashMap<>();
         this.postTransformInfoMap = new ConcurrentHashMap<>();
         this.udfFunctions = udfFunctions;
+        this.udfResultCacheMaxSize = udfResultCacheMaxSize;
     }
 
     @Override
@@ -110,6 +131,12 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         // Initialize multi-key lookup tables
         this.projectionProcessors = HashBasedTable.create();
         this.filterProcessors = HashBasedTable.create();
+        this.effectiveTransformersCache = new HashMap<>();
+        if (udfResultCacheMaxSize > 0) {
+            this.udfResultCache =
+                    new UdfResultCache(
+                            udfResultCacheMaxSize, getRuntimeContext().getMetricGroup());
+        }
 
         // Be sure to initialize UDF related fields before creating transformers
         initializeUdf();
@@ -117,15 +144,191 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         this.transformers = createTransformers();
     }
 
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        super.prepareSnapshotPreBarrier(checkpointId);
+        // Buffered events must be emitted before the checkpoint barrier
+        flushBufferedRecords();
+    }
+
+    @Override
+    public void finish() throws Exception {
+        flushBufferedRecords();
+        super.finish();
+    }
+
     @Override
     public void close() throws Exception {
         super.close();
         TransformExpressionCompiler.cleanUp();
+        if (udfResultCache != null) {
+            udfResultCache.invalidateAll();
+        }
         destroyUdf();
     }
 
     @Override
     public void processElement(StreamRecord<Event> element) throws Exception {
+        if (!batchUdfInstances.isEmpty()) {
+            if (element.getValue() instanceof DataChangeEvent) {
+                if (bufferedRecords.isEmpty() && maxBufferedMillis > 0) {
+                    ProcessingTimeService timeService = getProcessingTimeService();
+                    bufferedRecordsDeadline =
+                            timeService.getCurrentProcessingTime() + maxBufferedMillis;
+                    timeService.registerTimer(bufferedRecordsDeadline, this::onBufferTimeout);
+                }
+                bufferedRecords.add(element);
+                if (bufferedRecords.size() >= maxBufferedRecords) {
+                    flushBufferedRecords();
+                }
+                return;
+            }
+            // Keep the order between buffered data change events and other events
+            flushBufferedRecords();
+        }
+        processRecord(element);
+    }
+
+    @Override
+    public void processWatermark(Watermark mark) throws Exception {
+        // Buffered events must not be overtaken by the watermark
+        flushBufferedRecords();
+        super.processWatermark(mark);
+    }
+
+    private void onBufferTimeout(long timestamp) throws Exception {
+        // Timers registered for records that have been flushed already are ignored
+        if (!bufferedRecords.isEmpty() && timestamp >= bufferedRecordsDeadline) {
+            flushBufferedRecords();
+        }
+    }
+
+    /**
+     * Evaluates buffered data change events with batched UDFs. Arguments of batched UDFs are
+     * collected by a first pass that only evaluates expressions invoking batched UDFs, evaluated
+     * at once, and then consumed by the second pass which emits the results in order.
+     */
+    private void flushBufferedRecords() throws Exception {
+        if (bufferedRecords == null || bufferedRecords.isEmpty()) {
+            return;
+        }
+        try {
+            for (BatchUserDefinedFunction udf : batchUdfInstances) {
+                udf.startCollecting();
+            }
+            setUdfResultCacheWritable(false);
+            int numFailures = 0;
+            Exception firstFailure = null;
+            for (StreamRecord<Event> record : bufferedRecords) {
+                try {
+                    collectUdfArguments((DataChangeEvent) record.getValue());
+                } catch (Exception e) {
+                    // Expressions might fail with placeholder values returned by batched UDFs.
+                    // Arguments that are not collected will be evaluated one by one by the second
+                    // pass, which also reports real failures.
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    }
+                    numFailures++;
+                }
+            }
+            if (firstFailure != null) {
+                LOG.warn(
+                        "Failed to collect arguments of batched UDFs from {} of {} buffered "
+                                + "events, which will be evaluated without batching.",
+                        numFailures,
+                        bufferedRecords.size(),
+                        firstFailure);
+            }
+            setUdfResultCacheWritable(true);
+            for (BatchUserDefinedFunction udf : batchUdfInstances) {
+                udf.evalCollected();
+            }
+            for (StreamRecord<Event> record : bufferedRecords) {
+                processRecord(record);
+            }
+        } finally {
+            setUdfResultCacheWritable(true);
+            for (BatchUserDefinedFunction udf : batchUdfInstances) {
+                udf.clearCollected();
+            }
+            bufferedRecords.clear();
+        }
+    }
+
+    private void setUdfResultCacheWritable(boolean writable) {
+        if (udfResultCache != null) {
+            udfResultCache.setWritable(writable);
+        }
+    }
+
+    /**
+     * Evaluates expressions invoking batched UDFs to collect their arguments. Other expressions are
+     * skipped, so that non-batched UDFs are only invoked once by the second pass.
+     */
+    private void collectUdfArguments(DataChangeEvent event) {
+        TableId tableId = event.tableId();
+        List<PostTransformer> transformers = getEffectiveTransformers(tableId);
+        if (transformers.isEmpty()) {
+            return;
+        }
+        PostTransformChangeInfo info = checkNotNull(postTransformInfoMap.get(tableId));
+
+        TransformContext context = new TransformContext();
+        context.epochTime = System.currentTimeMillis();
+        context.meta = event.meta();
+
+        for (PostTransformer transformer : transformers) {
+            TransformProjectionProcessor projectionProcessor =
+                    getProjectionProcessor(tableId, transformer);
+            TransformFilterProcessor filterProcessor = getFilterProcessor(tableId, transformer);
+            // Filters without batched UDFs are not evaluated, thus arguments are collected for
+            // following transformers as well unless this transformer has no filter at all.
+            TransformFilterProcessor batchUdfFilter =
+                    filterProcessor.invokesAnyUdf(batchUdfDescriptors) ? filterProcessor : null;
+            if (event.before() != null) {
+                context.opType = event.opTypeString(false);
+                collectUdfArguments(
+                        event.before(), info, projectionProcessor, batchUdfFilter, context);
+            }
+            if (event.after() != null) {
+                context.opType = event.opTypeString(true);
+                collectUdfArguments(
+                        event.after(), info, projectionProcessor, batchUdfFilter, context);
+            }
+            if (filterProcessor.isNoOp()) {
+                break;
+            }
+        }
+    }
+
+    private void collectUdfArguments(
+            RecordData recordData,
+            PostTransformChangeInfo info,
+            TransformProjectionProcessor projectionProcessor,
+            @Nullable TransformFilterProcessor filterProcessor,
+            TransformContext context) {
+        RecordData.FieldGetter[] preFieldGetters = info.getPreTransformedFieldGetters();
+        Schema preSchema = info.getPreTransformedSchema();
+
+        Object[] preRow = new Object[preFieldGetters.length];
+        for (int i = 0; i < preFieldGetters.length; i++) {
+            Object field = preFieldGetters[i].getFieldOrNull(recordData);
+            preRow[i] =
+                    filterProcessor != null || projectionProcessor.isReferencedByExpression(i)
+                            ? DataTypeConverter.convertToOriginal(
+                                    field, preSchema.getColumnDataTypes().get(i))
+                            : field;
+        }
+        Object[] postRow =
+                projectionProcessor.projectBatchUdfInvocations(
+                        preRow, context, batchUdfDescriptors);
+        if (filterProcessor != null) {
+            filterProcessor.test(preRow, postRow, context);
+        }
+    }
+
+    private void processRecord(StreamRecord<Event> element) throws Exception {
         try {
             processElementInternal(element);
         } catch (Exception e) {
@@ -161,6 +364,9 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
         ChangeEvent changeEvent = (ChangeEvent) event;
         TableId tableId = changeEvent.tableId();
+        if (event instanceof CreateTableEvent) {
+            effectiveTransformersCache.remove(tableId);
+        }
         List<PostTransformer> transformers = getEffectiveTransformers(tableId);
 
         // Short-circuit if there's no effective transformers.
@@ -366,12 +572,24 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         Schema postSchema = info.getPostTransformedSchema();
         BinaryRecordDataGenerator postGenerator = info.getPostTransformedRecordDataGenerator();
 
+        // Filter expressions might refer to any upstream or projected column, so every column has
+        // to be converted in that case. Otherwise, only columns referenced by calculated
+        // projection expressions are converted, and forwarded columns are copied in their
+        // internal binary format without being decoded and encoded again. Other columns are kept
+        // in internal format, since some string functions accept BinaryStringData directly.
+        boolean convertAllColumns =
+                projectionProcessor == null
+                        || (filterProcessor != null && !filterProcessor.isNoOp());
+
+        Object[] preRowBinary = new Object[preFieldGetters.length];
         Object[] preRow = new Object[preFieldGetters.length];
         for (int i = 0; i < preFieldGetters.length; i++) {
+            preRowBinary[i] = preFieldGetters[i].getFieldOrNull(recordData);
             preRow[i] =
-                    DataTypeConverter.convertToOriginal(
-                            preFieldGetters[i].getFieldOrNull(recordData),
-                            preSchema.getColumnDataTypes().get(i));
+                    convertAllColumns || projectionProcessor.isReferencedByExpression(i)
+                            ? DataTypeConverter.convertToOriginal(
+                                    preRowBinary[i], preSchema.getColumnDataTypes().get(i))
+                            : preRowBinary[i];
         }
 
         Object[] postRow =
@@ -383,10 +601,19 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         boolean filterPassed =
                 filterProcessor == null || filterProcessor.test(preRow, postRow, context);
 
+        int[] forwardedColumnIndices =
+                projectionProcessor != null
+                        ? projectionProcessor.getForwardedColumnIndices()
+                        : null;
         Object[] postRowBinary = new Object[postSchema.getColumnCount()];
         for (int i = 0; i < postRow.length; i++) {
-            postRowBinary[i] =
-                    DataTypeConverter.convert(postRow[i], postSchema.getColumnDataTypes().get(i));
+            if (forwardedColumnIndices != null && forwardedColumnIndices[i] >= 0) {
+                postRowBinary[i] = preRowBinary[forwardedColumnIndices[i]];
+            } else {
+                postRowBinary[i] =
+                        DataTypeConverter.convert(
+                                postRow[i], postSchema.getColumnDataTypes().get(i));
+            }
         }
         return Tuple2.of(postGenerator.generate(postRowBinary), filterPassed);
     }
@@ -397,6 +624,11 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     /** Obtain effective transformers based on given {@link TableId}. */
     private List<PostTransformer> getEffectiveTransformers(TableId tableId) {
+        return effectiveTransformersCache.computeIfAbsent(
+                tableId, this::evaluateEffectiveTransformers);
+    }
+
+    private List<PostTransformer> evaluateEffectiveTransformers(TableId tableId) {
         List<PostTransformer> effectiveTransformers = new ArrayList<>();
         for (PostTransformer transformer : transformers) {
             if (transformer.getSelectors().isMatch(tableId)) {
@@ -433,7 +665,8 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                             timezone,
                             udfDescriptors,
                             udfFunctionInstances,
-                            postTransformer.getSupportedMetadataColumns()));
+                            postTransformer.getSupportedMetadataColumns(),
+                            udfResultCache));
         }
         return projectionProcessors.get(tableId, postTransformer);
     }
@@ -500,6 +733,11 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                         .map(UserDefinedFunctionDescriptor::new)
                         .collect(Collectors.toList());
         this.udfFunctionInstances = new ArrayList<>();
+        this.batchUdfDescriptors = new ArrayList<>();
+        this.batchUdfInstances = new ArrayList<>();
+        this.bufferedRecords = new ArrayList<>();
+        this.maxBufferedRecords = 0;
+        this.maxBufferedMillis = Long.MAX_VALUE;
 
         for (UserDefinedFunctionDescriptor udf : udfDescriptors) {
             try {
@@ -517,12 +755,31 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                             .getClass()
                             .getMethod("open", UserDefinedFunctionContext.class)
                             .invoke(udfInstance, userDefinedFunctionContext);
+
+                    if (udfInstance instanceof BatchUserDefinedFunction) {
+                        BatchUserDefinedFunction batchUdf = (BatchUserDefinedFunction) udfInstance;
+                        if (batchUdf.getMaxBufferedInputs() > 1) {
+                            batchUdfDescriptors.add(udf);
+                            batchUdfInstances.add(batchUdf);
+                            maxBufferedRecords =
+                                    Math.max(maxBufferedRecords, batchUdf.getMaxBufferedInputs());
+                            long maxBufferedMillisOfUdf = batchUdf.getMaxBufferedMillis();
+                            if (maxBufferedMillisOfUdf > 0) {
+                                maxBufferedMillis =
+                                        Math.min(maxBufferedMillis, maxBufferedMillisOfUdf);
+                            }
+                        }
+                    }
                 }
                 // Do nothing for Flink-style UDF since their lifecycle hooks are not supported
             } catch (ReflectiveOperationException e) {
                 throw new RuntimeException("Failed to instantiate UDF function " + udf, e);
             }
         }
+        if (maxBufferedMillis == Long.MAX_VALUE) {
+            // None of batched UDFs limits the buffering time
+            maxBufferedMillis = 0;
+        }
     }
 
     private void destroyUdf() {
@@ -543,6 +800,9 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         }
         udfDescriptors.clear();
         udfFunctionInstances.clear();
+        batchUdfDescriptors.clear();
+        batchUdfInstances.clear();
+        bufferedRecords.clear();
     }
 
     /** Backport of {@code Optional#stream} before Java 11. */
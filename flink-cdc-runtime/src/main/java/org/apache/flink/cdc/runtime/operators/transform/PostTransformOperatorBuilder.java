@@ -34,6 +34,7 @@ public class PostTransformOperatorBuilder {
     private String timezone;
     private final List<Tuple3<String, String, Map<String, String>>> udfFunctions =
             new ArrayList<>();
+    private long udfResultCacheMaxSize;
 
     public PostTransformOperatorBuilder addTransform(
             String tableInclusions,
@@ -87,7 +88,13 @@ public class PostTransformOperatorBuilder {
         return this;
     }
 
+    public PostTransformOperatorBuilder addUdfResultCacheMaxSize(long udfResultCacheMaxSize) {
+        this.udfResultCacheMaxSize = udfResultCacheMaxSize;
+        return this;
+    }
+
     public PostTransformOperator build() {
-        return new PostTransformOperator(transformRules, timezone, udfFunctions);
+        return new PostTransformOperator(
+                transformRules, timezone, udfFunctions, udfResultCacheMaxSize);
     }
 }
@@ -49,6 +49,12 @@ public class PreTransformChangeInfo {
     private final Map<String, RecordData.FieldGetter> sourceFieldGettersMap;
     private final BinaryRecordDataGenerator preTransformedRecordDataGenerator;
 
+    /** Source field getter for each pre-transformed column, in pre-transformed schema order. */
+    private final RecordData.FieldGetter[] preTransformedFieldGetters;
+
+    /** Whether pre-transformed schema keeps all source columns in their original order. */
+    private final boolean identityProjection;
+
     public static final PreTransformChangeInfo.Serializer SERIALIZER =
             new PreTransformChangeInfo.Serializer();
 
@@ -67,6 +73,30 @@ public class PreTransformChangeInfo {
                     sourceSchema.getColumns().get(i).getName(), sourceFieldGettersMap[i]);
         }
         this.preTransformedRecordDataGenerator = preTransformedRecordDataGenerator;
+
+        List<String> sourceColumnNames = sourceSchema.getColumnNames();
+        List<String> preTransformedColumnNames = preTransformedSchema.getColumnNames();
+        this.preTransformedFieldGetters =
+                new RecordData.FieldGetter[preTransformedColumnNames.size()];
+        boolean identityProjection = sourceColumnNames.size() == preTransformedColumnNames.size();
+        for (int i = 0; i < preTransformedColumnNames.size(); i++) {
+            int sourceIndex = sourceColumnNames.indexOf(preTransformedColumnNames.get(i));
+            if (sourceIndex < 0) {
+                // Column is absent from source schema, which could only be filled with nulls
+                this.preTransformedFieldGetters[i] = recordData -> null;
+                identityProjection = false;
+                continue;
+            }
+            this.preTransformedFieldGetters[i] = sourceFieldGettersMap[sourceIndex];
+            identityProjection &=
+                    sourceIndex == i
+                            && sourceSchema
+                                    .getColumns()
+                                    .get(i)
+                                    .getType()
+                                    .equals(preTransformedSchema.getColumns().get(i).getType());
+        }
+        this.identityProjection = identityProjection;
     }
 
     public String getName() {
@@ -97,6 +127,14 @@ public class PreTransformChangeInfo {
         return sourceFieldGettersMap;
     }
 
+    public RecordData.FieldGetter[] getPreTransformedFieldGetters() {
+        return preTransformedFieldGetters;
+    }
+
+    public boolean isIdentityProjection() {
+        return identityProjection;
+    }
+
     public BinaryRecordDataGenerator getPreTransformedRecordDataGenerator() {
         return preTransformedRecordDataGenerator;
     }
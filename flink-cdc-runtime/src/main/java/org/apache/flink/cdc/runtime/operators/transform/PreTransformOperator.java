@@ -74,6 +74,7 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
     private transient List<UserDefinedFunctionDescriptor> udfDescriptors;
     private transient Map<TableId, PreTransformProcessor> preTransformProcessorMap;
     private transient Map<TableId, Boolean> hasAsteriskMap;
+    private transient Map<TableId, List<Integer>> matchedRuleIndexesMap;
 
     public static PreTransformOperatorBuilder newBuilder() {
         return new PreTransformOperatorBuilder();
@@ -124,6 +125,7 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
         }
         this.preTransformProcessorMap = new ConcurrentHashMap<>();
         this.hasAsteriskMap = new ConcurrentHashMap<>();
+        this.matchedRuleIndexesMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -182,6 +184,7 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
     private void processEvent(Event event) {
         if (event instanceof CreateTableEvent) {
             CreateTableEvent createTableEvent = (CreateTableEvent) event;
+            matchedRuleIndexesMap.remove(createTableEvent.tableId());
             // CreateTableEvent from Source Contains the latest schema,
             // which may be different with the schema currently being processed.
             if (!preTransformProcessorMap.containsKey(createTableEvent.tableId())) {
@@ -189,6 +192,7 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
             }
         } else if (event instanceof DropTableEvent) {
             preTransformProcessorMap.remove(((DropTableEvent) event).tableId());
+            matchedRuleIndexesMap.remove(((DropTableEvent) event).tableId());
             output.collect(new StreamRecord<>(event));
         } else if (event instanceof TruncateTableEvent) {
             output.collect(new StreamRecord<>(event));
@@ -252,16 +256,14 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
 
     private void cacheTransformRuleInfo(CreateTableEvent createTableEvent) {
         TableId tableId = createTableEvent.tableId();
-        boolean notTransformed =
-                transforms.stream().noneMatch(t -> t.getSelectors().isMatch(tableId));
+        boolean notTransformed = getMatchedRuleIndexes(tableId).isEmpty();
         if (notTransformed) {
             // If this TableId isn't presented in any transform block, it should behave like a "*"
             // projection and should be regarded as asterisk-ful.
             hasAsteriskMap.put(tableId, true);
         } else {
             boolean hasAsterisk =
-                    transforms.stream()
-                            .filter(t -> t.getSelectors().isMatch(tableId))
+                    getMatchedTransforms(tableId).stream()
                             .anyMatch(
                                     t ->
                                             TransformParser.hasAsterisk(
@@ -275,16 +277,15 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
 
     private CreateTableEvent transformCreateTableEvent(CreateTableEvent createTableEvent) {
         TableId tableId = createTableEvent.tableId();
-        for (Tuple2<Selectors, SchemaMetadataTransform> transform : schemaMetadataTransformers) {
-            Selectors selectors = transform.f0;
-            if (selectors.isMatch(tableId)) {
-                createTableEvent =
-                        new CreateTableEvent(
-                                tableId,
-                                transformSchemaMetaData(
-                                        createTableEvent.getSchema(), transform.f1));
-                break;
-            }
+        List<Integer> matchedRuleIndexes = getMatchedRuleIndexes(tableId);
+        if (!matchedRuleIndexes.isEmpty()) {
+            // Only the first matched rule's schema metadata transform takes effect.
+            Tuple2<Selectors, SchemaMetadataTransform> transform =
+                    schemaMetadataTransformers.get(matchedRuleIndexes.get(0));
+            createTableEvent =
+                    new CreateTableEvent(
+                            tableId,
+                            transformSchemaMetaData(createTableEvent.getSchema(), transform.f1));
         }
 
         cachePreTransformProcessor(tableId, createTableEvent.getSchema());
@@ -299,10 +300,7 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
     private void cachePreTransformProcessor(TableId tableId, Schema tableSchema) {
         LinkedHashSet<Column> referencedColumnsSet = new LinkedHashSet<>();
         boolean hasMatchTransform = false;
-        for (PreTransformer transform : transforms) {
-            if (!transform.getSelectors().isMatch(tableId)) {
-                continue;
-            }
+        for (PreTransformer transform : getMatchedTransforms(tableId)) {
             processProjectionTransform(tableId, tableSchema, referencedColumnsSet, transform);
             hasMatchTransform = true;
         }
@@ -311,6 +309,30 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
         }
     }
 
+    /**
+     * Returns the indexes of the transform rules matching the given {@link TableId}, which are
+     * evaluated once and cached until a {@link CreateTableEvent} of the table is received.
+     */
+    private List<Integer> getMatchedRuleIndexes(TableId tableId) {
+        return matchedRuleIndexesMap.computeIfAbsent(
+                tableId,
+                id -> {
+                    List<Integer> matchedRuleIndexes = new ArrayList<>();
+                    for (int i = 0; i < transforms.size(); i++) {
+                        if (transforms.get(i).getSelectors().isMatch(id)) {
+                            matchedRuleIndexes.add(i);
+                        }
+                    }
+                    return matchedRuleIndexes;
+                });
+    }
+
+    private List<PreTransformer> getMatchedTransforms(TableId tableId) {
+        return getMatchedRuleIndexes(tableId).stream()
+                .map(transforms::get)
+                .collect(Collectors.toList());
+    }
+
     public void processProjectionTransform(
             TableId tableId,
             Schema tableSchema,
@@ -397,5 +419,6 @@ public class PreTransformOperator extends AbstractStreamOperator<Event>
     private void clearOperator() {
         this.transforms = null;
         this.preTransformProcessorMap = null;
+        this.matchedRuleIndexesMap = null;
     }
 }
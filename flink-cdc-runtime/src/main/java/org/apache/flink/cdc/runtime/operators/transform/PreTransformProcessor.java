@@ -20,13 +20,8 @@ package org.apache.flink.cdc.runtime.operators.transform;
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
-import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 /**
  * The processor of pre-transform projection in {@link PreTransformOperator}.
  *
@@ -59,17 +54,20 @@ public class PreTransformProcessor {
         return new CreateTableEvent(createTableEvent.tableId(), schema);
     }
 
+    /**
+     * Projects given source row to pre-transformed schema. Rows are forwarded as-is if no column
+     * needs to be peeled, otherwise fields are fetched with getters resolved by column index when
+     * this processor is created.
+     */
     public BinaryRecordData processFillDataField(BinaryRecordData data) {
-        List<Object> valueList = new ArrayList<>();
-        List<Column> columns = tableChangeInfo.getPreTransformedSchema().getColumns();
-        Map<String, RecordData.FieldGetter> sourceFieldGettersMap =
-                tableChangeInfo.getSourceFieldGettersMap();
-        for (Column column : columns) {
-            RecordData.FieldGetter fieldGetter = sourceFieldGettersMap.get(column.getName());
-            valueList.add(fieldGetter.getFieldOrNull(data));
+        if (tableChangeInfo.isIdentityProjection()) {
+            return data;
+        }
+        RecordData.FieldGetter[] fieldGetters = tableChangeInfo.getPreTransformedFieldGetters();
+        Object[] fields = new Object[fieldGetters.length];
+        for (int i = 0; i < fieldGetters.length; i++) {
+            fields[i] = fieldGetters[i].getFieldOrNull(data);
         }
-        return tableChangeInfo
-                .getPreTransformedRecordDataGenerator()
-                .generate(valueList.toArray(new Object[0]));
+        return tableChangeInfo.getPreTransformedRecordDataGenerator().generate(fields);
     }
 }
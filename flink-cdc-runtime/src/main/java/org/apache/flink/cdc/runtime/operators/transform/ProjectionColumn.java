@@ -43,6 +43,8 @@ import java.util.Map;
  *       expression.
  *   <li>originalColumnNames: a list for recording the name of all columns used by the column
  *       expression.
+ *   <li>binaryStringColumnNames: a list for recording string columns that are only used as
+ *       arguments of built-in functions accepting their internal binary format.
  * </ul>
  */
 public class ProjectionColumn implements Serializable {
@@ -52,6 +54,7 @@ public class ProjectionColumn implements Serializable {
     private final String scriptExpression;
     private final List<String> originalColumnNames;
     private final Map<String, String> columnNameMap;
+    private final List<String> binaryStringColumnNames;
 
     public ProjectionColumn(
             Column column,
@@ -59,11 +62,28 @@ public class ProjectionColumn implements Serializable {
             String scriptExpression,
             List<String> originalColumnNames,
             Map<String, String> columnNameMap) {
+        this(
+                column,
+                expression,
+                scriptExpression,
+                originalColumnNames,
+                columnNameMap,
+                Collections.emptyList());
+    }
+
+    public ProjectionColumn(
+            Column column,
+            String expression,
+            String scriptExpression,
+            List<String> originalColumnNames,
+            Map<String, String> columnNameMap,
+            List<String> binaryStringColumnNames) {
         this.column = column;
         this.expression = expression;
         this.scriptExpression = scriptExpression;
         this.originalColumnNames = originalColumnNames;
         this.columnNameMap = columnNameMap;
+        this.binaryStringColumnNames = binaryStringColumnNames;
     }
 
     public ProjectionColumn copy() {
@@ -72,7 +92,8 @@ public class ProjectionColumn implements Serializable {
                 expression,
                 scriptExpression,
                 new ArrayList<>(originalColumnNames),
-                new HashMap<>(columnNameMap));
+                new HashMap<>(columnNameMap),
+                new ArrayList<>(binaryStringColumnNames));
     }
 
     public Column getColumn() {
@@ -99,6 +120,14 @@ public class ProjectionColumn implements Serializable {
         return columnNameMap;
     }
 
+    /**
+     * Returns names of referenced string columns that could be passed to the expression as {@link
+     * org.apache.flink.cdc.common.data.binary.BinaryStringData} instead of {@link String}.
+     */
+    public List<String> getBinaryStringColumnNames() {
+        return binaryStringColumnNames;
+    }
+
     public String getColumnNameMapAsString() {
         return TransformException.prettyPrintColumnNameMap(getColumnNameMap());
     }
@@ -149,12 +178,35 @@ public class ProjectionColumn implements Serializable {
             String scriptExpression,
             List<String> originalColumnNames,
             Map<String, String> columnNameMap) {
+        return ofCalculated(
+                columnName,
+                dataType,
+                expression,
+                scriptExpression,
+                originalColumnNames,
+                columnNameMap,
+                Collections.emptyList());
+    }
+
+    /**
+     * Same as {@link #ofCalculated(String, DataType, String, String, List, Map)}, with given string
+     * columns passed to the expression in their internal binary format.
+     */
+    public static ProjectionColumn ofCalculated(
+            String columnName,
+            DataType dataType,
+            String expression,
+            String scriptExpression,
+            List<String> originalColumnNames,
+            Map<String, String> columnNameMap,
+            List<String> binaryStringColumnNames) {
         return new ProjectionColumn(
                 Column.physicalColumn(columnName, dataType),
                 expression,
                 scriptExpression,
                 originalColumnNames,
-                columnNameMap);
+                columnNameMap,
+                binaryStringColumnNames);
     }
 
     @Override
@@ -17,18 +17,26 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataTypeFamily;
 import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
 import org.codehaus.janino.ExpressionEvaluator;
 
+import javax.annotation.Nullable;
+
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.apache.flink.cdc.runtime.operators.transform.TransformContext.lookupObjectByName;
 import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
@@ -46,6 +54,13 @@ public class ProjectionColumnProcessor {
     private final Map<String, SupportedMetadataColumn> supportedMetadataColumns;
     private final List<Object> udfFunctionInstances;
     private final ExpressionEvaluator expressionEvaluator;
+    @Nullable private final UdfResultCache udfResultCache;
+
+    /** Referenced string columns passed to the expression as {@link BinaryStringData}. */
+    private final Set<String> binaryStringColumnNames;
+
+    /** Index of the upstream column this projection forwards as-is, or -1 if it's calculated. */
+    private final int forwardedColumnIndex;
 
     public ProjectionColumnProcessor(
             PostTransformChangeInfo tableInfo,
@@ -53,16 +68,27 @@ public class ProjectionColumnProcessor {
             String timezone,
             List<UserDefinedFunctionDescriptor> udfDescriptors,
             final List<Object> udfFunctionInstances,
-            Map<String, SupportedMetadataColumn> supportedMetadataColumns) {
+            Map<String, SupportedMetadataColumn> supportedMetadataColumns,
+            @Nullable UdfResultCache udfResultCache) {
         this.tableInfo = tableInfo;
         this.projectionColumn = projectionColumn;
         this.timezone = timezone;
         this.supportedMetadataColumns = supportedMetadataColumns;
+        // Cached UDF results are keyed by arguments, which must not retain upstream records
+        this.binaryStringColumnNames =
+                UdfResultCache.isCacheable(projectionColumn.getScriptExpression())
+                        ? Collections.emptySet()
+                        : new HashSet<>(projectionColumn.getBinaryStringColumnNames());
         this.transformExpressionKey = generateTransformExpressionKey();
         this.expressionEvaluator =
                 TransformExpressionCompiler.compileExpression(
                         transformExpressionKey, udfDescriptors);
         this.udfFunctionInstances = udfFunctionInstances;
+        this.udfResultCache =
+                UdfResultCache.isCacheable(projectionColumn.getScriptExpression())
+                        ? udfResultCache
+                        : null;
+        this.forwardedColumnIndex = resolveForwardedColumnIndex();
     }
 
     public static ProjectionColumnProcessor of(
@@ -71,19 +97,34 @@ public class ProjectionColumnProcessor {
             String timezone,
             List<UserDefinedFunctionDescriptor> udfDescriptors,
             List<Object> udfFunctionInstances,
-            Map<String, SupportedMetadataColumn> supportedMetadataColumns) {
+            Map<String, SupportedMetadataColumn> supportedMetadataColumns,
+            @Nullable UdfResultCache udfResultCache) {
         return new ProjectionColumnProcessor(
                 tableInfo,
                 projectionColumn,
                 timezone,
                 udfDescriptors,
                 udfFunctionInstances,
-                supportedMetadataColumns);
+                supportedMetadataColumns,
+                udfResultCache);
     }
 
     public Object evaluate(Object[] rowData, TransformContext context) {
+        if (forwardedColumnIndex >= 0) {
+            return rowData[forwardedColumnIndex];
+        }
         try {
             Object[] params = generateParams(rowData, context);
+            if (udfResultCache != null) {
+                // Only referenced columns are part of the cache key, the remaining parameters
+                // are time zone, epoch time and UDF instances
+                Object[] columnValues =
+                        Arrays.copyOf(params, params.length - 2 - udfFunctionInstances.size());
+                return udfResultCache.get(
+                        projectionColumn.getScriptExpression(),
+                        columnValues,
+                        () -> expressionEvaluator.evaluate(params));
+            }
             return expressionEvaluator.evaluate(params);
         } catch (InvocationTargetException e) {
             throw new RuntimeException(
@@ -98,6 +139,52 @@ public class ProjectionColumnProcessor {
         }
     }
 
+    public ProjectionColumn getProjectionColumn() {
+        return projectionColumn;
+    }
+
+    /**
+     * Returns the index of the upstream column in pre-transformed schema if this projection column
+     * is a plain (possibly aliased) reference to it, or -1 otherwise. Values of forwarded columns
+     * could be copied in their internal binary format without evaluating any expression.
+     */
+    public int getForwardedColumnIndex() {
+        return forwardedColumnIndex;
+    }
+
+    /**
+     * Returns if given referenced column is passed to the expression as {@link BinaryStringData},
+     * which means it doesn't need to be converted to a Java string before evaluation.
+     */
+    public boolean isBinaryStringArgument(String columnName) {
+        return binaryStringColumnNames.contains(columnName);
+    }
+
+    private int resolveForwardedColumnIndex() {
+        List<String> originalColumnNames = projectionColumn.getOriginalColumnNames();
+        if (originalColumnNames.size() != 1) {
+            return -1;
+        }
+        String originalColumnName = originalColumnNames.get(0);
+        if (!projectionColumn
+                        .getScriptExpression()
+                        .equals(projectionColumn.getColumnNameMap().get(originalColumnName))
+                || supportedMetadataColumns.containsKey(originalColumnName)
+                || METADATA_COLUMNS.stream().anyMatch(col -> col.f0.equals(originalColumnName))) {
+            return -1;
+        }
+        Integer index = tableInfo.getPreTransformedSchemaFieldIndex(originalColumnName);
+        if (index == null
+                || !tableInfo
+                        .getPreTransformedSchema()
+                        .getColumnDataTypes()
+                        .get(index)
+                        .equals(projectionColumn.getDataType())) {
+            return -1;
+        }
+        return index;
+    }
+
     private Object[] generateParams(Object[] rowData, TransformContext context) {
         List<Object> params = new ArrayList<>();
 
@@ -105,14 +192,19 @@ public class ProjectionColumnProcessor {
         LinkedHashSet<String> originalColumnNames =
                 new LinkedHashSet<>(projectionColumn.getOriginalColumnNames());
         for (String columnName : originalColumnNames) {
-            params.add(
+            Object value =
                     lookupObjectByName(
                             columnName,
                             tableInfo,
                             supportedMetadataColumns,
                             rowData,
                             null,
-                            context));
+                            context);
+            if (value instanceof String && binaryStringColumnNames.contains(columnName)) {
+                // Columns might have been converted for filter expressions already
+                value = BinaryStringData.fromString((String) value);
+            }
+            params.add(value);
         }
 
         // 2 - Add time-sensitive function arguments
@@ -137,7 +229,10 @@ public class ProjectionColumnProcessor {
             for (Column column : columns) {
                 if (column.getName().equals(originalColumnName)) {
                     argumentNames.add(columnNameMap.get(originalColumnName));
-                    paramTypes.add(DataTypeConverter.convertOriginalClass(column.getType()));
+                    paramTypes.add(
+                            binaryStringColumnNames.contains(originalColumnName)
+                                    ? BinaryStringData.class
+                                    : DataTypeConverter.convertOriginalClass(column.getType()));
                     break;
                 }
             }
@@ -167,11 +262,20 @@ public class ProjectionColumnProcessor {
         argumentNames.add(JaninoCompiler.DEFAULT_EPOCH_TIME);
         paramTypes.add(Long.class);
 
+        // String functions return BinaryStringData for BinaryStringData arguments
+        Class<?> returnClass =
+                !binaryStringColumnNames.isEmpty()
+                                && projectionColumn
+                                        .getDataType()
+                                        .is(DataTypeFamily.CHARACTER_STRING)
+                        ? Object.class
+                        : DataTypeConverter.convertOriginalClass(projectionColumn.getDataType());
+
         return TransformExpressionKey.of(
                 JaninoCompiler.loadSystemFunction(scriptExpression),
                 argumentNames,
                 paramTypes,
-                DataTypeConverter.convertOriginalClass(projectionColumn.getDataType()),
+                returnClass,
                 columnNameMap);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.runtime.operators.transform;
 
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
@@ -102,6 +103,20 @@ public class TransformFilterProcessor {
                 supportedMetadataColumnsMap);
     }
 
+    public boolean isNoOp() {
+        return isNoOp;
+    }
+
+    /** Returns whether the filtering expression invokes any of given UDFs. */
+    public boolean invokesAnyUdf(List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        if (isNoOp) {
+            return false;
+        }
+        String scriptExpression = transformFilter.getScriptExpression();
+        return udfDescriptors.stream()
+                .anyMatch(udf -> JaninoCompiler.invokesUdf(scriptExpression, udf));
+    }
+
     public boolean test(Object[] preRow, Object[] postRow, TransformContext context) {
         if (isNoOp) {
             return true;
@@ -178,14 +193,16 @@ public class TransformFilterProcessor {
         // 1 - Add referenced columns
         Tuple2<List<String>, List<Class<?>>> args = generateArguments(false);
         for (String columnName : args.f0) {
-            params.add(
+            Object value =
                     lookupObjectByName(
                             columnName,
                             tableInfo,
                             supportedMetadataColumns,
                             preRow,
                             postRow,
-                            context));
+                            context);
+            // Projected string columns might be evaluated as BinaryStringData
+            params.add(value instanceof BinaryStringData ? value.toString() : value);
         }
 
         // 2 - Add time-sensitive function arguments
@@ -19,11 +19,14 @@ package org.apache.flink.cdc.runtime.operators.transform;
 
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.common.utils.Preconditions;
+import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
 import org.apache.flink.cdc.runtime.parser.TransformParser;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +55,12 @@ public class TransformProjectionProcessor {
     private final List<ProjectionColumnProcessor> columnProcessors;
     private final SupportedMetadataColumn[] supportedMetadataColumns;
     private final Map<String, SupportedMetadataColumn> supportedMetadataColumnsMap;
+    @Nullable private final UdfResultCache udfResultCache;
+    private final int[] forwardedColumnIndices;
+    private final boolean[] evaluatedColumnReferences;
+
+    // Projection columns invoking batched UDFs, which are resolved on first use.
+    @Nullable private boolean[] batchUdfInvokingColumns;
 
     public TransformProjectionProcessor(
             PostTransformChangeInfo changeInfo,
@@ -59,13 +68,15 @@ public class TransformProjectionProcessor {
             String timezone,
             List<UserDefinedFunctionDescriptor> udfDescriptors,
             List<Object> udfFunctionInstances,
-            SupportedMetadataColumn[] supportedMetadataColumns) {
+            SupportedMetadataColumn[] supportedMetadataColumns,
+            @Nullable UdfResultCache udfResultCache) {
         this.changeInfo = changeInfo;
         this.projectionExpression = projectionExpression;
         this.timezone = timezone;
         this.udfDescriptors = udfDescriptors;
         this.udfFunctionInstances = udfFunctionInstances;
         this.supportedMetadataColumns = supportedMetadataColumns;
+        this.udfResultCache = udfResultCache;
 
         // Construct a mapping table ad-hoc to accelerate looking-up
         Map<String, SupportedMetadataColumn> supportedMetadataColumnsMap = new HashMap<>();
@@ -75,12 +86,80 @@ public class TransformProjectionProcessor {
         }
         this.supportedMetadataColumnsMap = supportedMetadataColumnsMap;
         this.columnProcessors = createProjectionColumnProcessors();
+        this.forwardedColumnIndices = new int[columnProcessors.size()];
+        this.evaluatedColumnReferences =
+                new boolean[changeInfo.getPreTransformedSchema().getColumnCount()];
+        for (int i = 0; i < columnProcessors.size(); i++) {
+            ProjectionColumnProcessor processor = columnProcessors.get(i);
+            forwardedColumnIndices[i] = processor.getForwardedColumnIndex();
+            if (forwardedColumnIndices[i] < 0) {
+                for (String columnName : processor.getProjectionColumn().getOriginalColumnNames()) {
+                    Integer index = changeInfo.getPreTransformedSchemaFieldIndex(columnName);
+                    if (index != null && !processor.isBinaryStringArgument(columnName)) {
+                        evaluatedColumnReferences[index] = true;
+                    }
+                }
+            }
+        }
     }
 
     public Object[] project(Object[] rowData, TransformContext context) {
-        return columnProcessors.stream()
-                .map(processor -> processor.evaluate(rowData, context))
-                .toArray();
+        Object[] projected = new Object[columnProcessors.size()];
+        for (int i = 0; i < projected.length; i++) {
+            projected[i] = columnProcessors.get(i).evaluate(rowData, context);
+        }
+        return projected;
+    }
+
+    /**
+     * Evaluates forwarded columns and projection columns that invoke any of given batched UDFs,
+     * leaving other projected columns {@code null}. It's used to collect arguments of batched UDFs
+     * without invoking other UDFs. Given UDFs are expected to be the same across invocations.
+     */
+    public Object[] projectBatchUdfInvocations(
+            Object[] rowData,
+            TransformContext context,
+            List<UserDefinedFunctionDescriptor> batchUdfDescriptors) {
+        if (batchUdfInvokingColumns == null) {
+            batchUdfInvokingColumns = new boolean[columnProcessors.size()];
+            for (int i = 0; i < batchUdfInvokingColumns.length; i++) {
+                String scriptExpression =
+                        columnProcessors.get(i).getProjectionColumn().getScriptExpression();
+                batchUdfInvokingColumns[i] =
+                        forwardedColumnIndices[i] < 0
+                                && scriptExpression != null
+                                && batchUdfDescriptors.stream()
+                                        .anyMatch(
+                                                udf ->
+                                                        JaninoCompiler.invokesUdf(
+                                                                scriptExpression, udf));
+            }
+        }
+        Object[] projected = new Object[columnProcessors.size()];
+        for (int i = 0; i < projected.length; i++) {
+            if (forwardedColumnIndices[i] >= 0 || batchUdfInvokingColumns[i]) {
+                projected[i] = columnProcessors.get(i).evaluate(rowData, context);
+            }
+        }
+        return projected;
+    }
+
+    /**
+     * Returns the index of forwarded upstream column for each projected column, or -1 for columns
+     * that require expression evaluation.
+     */
+    public int[] getForwardedColumnIndices() {
+        return forwardedColumnIndices;
+    }
+
+    /**
+     * Returns if the upstream column at given index is referenced by any calculated projection
+     * column, which means it has to be converted to its original Java object before evaluation.
+     * Columns that are only passed to string functions as {@code BinaryStringData} are excluded,
+     * and should be given in their internal format instead.
+     */
+    public boolean isReferencedByExpression(int preTransformedColumnIndex) {
+        return evaluatedColumnReferences[preTransformedColumnIndex];
     }
 
     private List<ProjectionColumnProcessor> createProjectionColumnProcessors() {
@@ -105,7 +184,8 @@ public class TransformProjectionProcessor {
                                                 timezone,
                                                 udfDescriptors,
                                                 udfFunctionInstances,
-                                                supportedMetadataColumnsMap))
+                                                supportedMetadataColumnsMap,
+                                                udfResultCache))
                         .collect(Collectors.toList());
 
         LOG.info("Successfully created projection column processors cache.");
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
+
+import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A size-bounded LRU cache of projection expressions that invoke UDFs. Results are keyed by the
+ * expression and the values of its referenced columns, so unchanged inputs (e.g. the before and
+ * after images of an update that does not touch them) do not invoke UDFs again. UDFs are assumed
+ * to be deterministic.
+ */
+public class UdfResultCache {
+
+    /** Number of expression evaluations served by the cache. */
+    public static final String NUM_UDF_RESULT_CACHE_HITS = "numUdfResultCacheHits";
+
+    /** Number of expression evaluations that were not cached. */
+    public static final String NUM_UDF_RESULT_CACHE_MISSES = "numUdfResultCacheMisses";
+
+    /** Current number of cached results. */
+    public static final String UDF_RESULT_CACHE_SIZE = "udfResultCacheSize";
+
+    private static final String UDF_INSTANCE_PREFIX = "__instanceOf";
+
+    private final Cache<Key, Optional<Object>> cache;
+    private final Counter numHitsCounter;
+    private final Counter numMissesCounter;
+
+    // Results are not cached while arguments of batched UDFs are being collected, since they
+    // return placeholder values then.
+    private boolean writable = true;
+
+    public UdfResultCache(long maxSize, MetricGroup metricGroup) {
+        // The cache is only accessed by the operator thread
+        this.cache = CacheBuilder.newBuilder().concurrencyLevel(1).maximumSize(maxSize).build();
+        this.numHitsCounter = metricGroup.counter(NUM_UDF_RESULT_CACHE_HITS);
+        this.numMissesCounter = metricGroup.counter(NUM_UDF_RESULT_CACHE_MISSES);
+        metricGroup.gauge(UDF_RESULT_CACHE_SIZE, cache::size);
+    }
+
+    /**
+     * Returns whether results of given script expression could be cached, that is, it invokes
+     * UDFs and does not depend on the current time.
+     */
+    public static boolean isCacheable(String scriptExpression) {
+        return scriptExpression.contains(UDF_INSTANCE_PREFIX)
+                && !scriptExpression.contains(JaninoCompiler.DEFAULT_EPOCH_TIME);
+    }
+
+    /** Returns the cached result, or evaluates and caches it if absent. */
+    public Object get(String scriptExpression, Object[] columnValues, Evaluator evaluator)
+            throws InvocationTargetException {
+        Key key = new Key(scriptExpression, columnValues);
+        Optional<Object> cachedResult = cache.getIfPresent(key);
+        if (cachedResult != null) {
+            if (writable) {
+                numHitsCounter.inc();
+            }
+            return cachedResult.orElse(null);
+        }
+        Object result = evaluator.evaluate();
+        if (writable) {
+            numMissesCounter.inc();
+            cache.put(key, Optional.ofNullable(result));
+        }
+        return result;
+    }
+
+    public void setWritable(boolean writable) {
+        this.writable = writable;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @VisibleForTesting
+    long getNumHits() {
+        return numHitsCounter.getCount();
+    }
+
+    @VisibleForTesting
+    long getNumMisses() {
+        return numMissesCounter.getCount();
+    }
+
+    /** Evaluates an expression whose result is absent in the cache. */
+    @FunctionalInterface
+    public interface Evaluator {
+        Object evaluate() throws InvocationTargetException;
+    }
+
+    /** Cache key of an expression and the values of its referenced columns. */
+    private static class Key {
+        private final String scriptExpression;
+        private final Object[] columnValues;
+        private final int hashCode;
+
+        private Key(String scriptExpression, Object[] columnValues) {
+            this.scriptExpression = scriptExpression;
+            this.columnValues = columnValues;
+            this.hashCode = 31 * scriptExpression.hashCode() + Arrays.deepHashCode(columnValues);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode
+                    && Objects.equals(scriptExpression, that.scriptExpression)
+                    && Arrays.deepEquals(columnValues, that.columnValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -24,11 +24,9 @@ import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /** Descriptor of a UDF function. */
 @Internal
@@ -86,10 +84,7 @@ public class UserDefinedFunctionDescriptor implements Serializable {
         Class<?> cdcPipelineUdfClazz = UserDefinedFunction.class;
         Class<?> flinkScalarFunctionClazz = org.apache.flink.table.functions.ScalarFunction.class;
 
-        if (Arrays.stream(clazz.getInterfaces())
-                .map(Class::getName)
-                .collect(Collectors.toList())
-                .contains(cdcPipelineUdfClazz.getName())) {
+        if (implementsInterface(clazz, cdcPipelineUdfClazz.getName())) {
             return true;
         } else if (clazz.getSuperclass().getName().equals(flinkScalarFunctionClazz.getName())) {
             return false;
@@ -104,6 +99,22 @@ public class UserDefinedFunctionDescriptor implements Serializable {
         }
     }
 
+    /**
+     * Checks implemented interfaces by name, including inherited ones like {@link
+     * org.apache.flink.cdc.common.udf.BatchUserDefinedFunction}.
+     */
+    private static boolean implementsInterface(Class<?> clazz, String interfaceName) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Class<?> implemented : current.getInterfaces()) {
+                if (implemented.getName().equals(interfaceName)
+                        || implementsInterface(implemented, interfaceName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public DataType getReturnTypeHint() {
         return returnTypeHint;
     }
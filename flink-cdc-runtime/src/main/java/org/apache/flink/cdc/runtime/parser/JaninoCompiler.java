@@ -590,6 +590,12 @@ public class JaninoCompiler {
         }
     }
 
+    /** Returns whether given script expression invokes the given UDF. */
+    public static boolean invokesUdf(
+            String scriptExpression, UserDefinedFunctionDescriptor udfFunction) {
+        return scriptExpression.contains("__instanceOf" + udfFunction.getClassName() + ".eval");
+    }
+
     private static String generateInvokeExpression(UserDefinedFunctionDescriptor udfFunction) {
         if (udfFunction.getReturnTypeHint() != null) {
             return String.format(
@@ -21,6 +21,7 @@ import org.apache.flink.api.common.io.ParseException;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeFamily;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.runtime.operators.transform.ProjectionColumn;
 import org.apache.flink.cdc.runtime.operators.transform.UserDefinedFunctionDescriptor;
@@ -350,7 +351,12 @@ public class TransformParser {
                                     JaninoCompiler.translateSqlNodeToJaninoExpression(
                                             exprNode, udfDescriptors, columnNameMap),
                                     originalColumnNames,
-                                    columnNameMap);
+                                    columnNameMap,
+                                    parseBinaryStringColumnNames(
+                                            exprNode,
+                                            originalColumnMap,
+                                            udfDescriptors,
+                                            supportedMetadataColumns));
                 }
             }
             // ... or an existing column's name identifier.
@@ -506,6 +512,151 @@ public class TransformParser {
         return columnNameList;
     }
 
+    /**
+     * Returns names of upstream string columns that are only referenced as direct arguments of
+     * built-in string functions overloaded for {@code BinaryStringData}, which could be passed
+     * in their internal binary format without being decoded. {@code CHAR_LENGTH} arguments are
+     * accepted anywhere, while functions returning strings are only accepted as the outermost call
+     * since their binary results could not be mixed with Java strings in other expressions.
+     */
+    public static List<String> parseBinaryStringColumnNames(
+            SqlNode exprNode,
+            Map<String, Column> originalColumnMap,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            SupportedMetadataColumn[] supportedMetadataColumns) {
+        Set<String> binaryColumnNames = new HashSet<>();
+        Set<String> otherColumnNames = new HashSet<>();
+        findBinaryStringArguments(
+                exprNode,
+                true,
+                originalColumnMap,
+                udfDescriptors,
+                supportedMetadataColumns,
+                binaryColumnNames,
+                otherColumnNames);
+        return binaryColumnNames.stream()
+                .filter(columnName -> !otherColumnNames.contains(columnName))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static void findBinaryStringArguments(
+            SqlNode sqlNode,
+            boolean isOutermost,
+            Map<String, Column> originalColumnMap,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            SupportedMetadataColumn[] supportedMetadataColumns,
+            Set<String> binaryColumnNames,
+            Set<String> otherColumnNames) {
+        if (sqlNode instanceof SqlIdentifier) {
+            SqlIdentifier sqlIdentifier = (SqlIdentifier) sqlNode;
+            otherColumnNames.add(sqlIdentifier.names.get(sqlIdentifier.names.size() - 1));
+        } else if (sqlNode instanceof SqlNodeList) {
+            for (SqlNode node : (SqlNodeList) sqlNode) {
+                findBinaryStringArguments(
+                        node,
+                        false,
+                        originalColumnMap,
+                        udfDescriptors,
+                        supportedMetadataColumns,
+                        binaryColumnNames,
+                        otherColumnNames);
+            }
+        } else if (sqlNode instanceof SqlCall) {
+            List<SqlNode> operands = ((SqlCall) sqlNode).getOperandList();
+            Set<Integer> binaryOperandIndices =
+                    getBinaryStringOperandIndices(
+                            (SqlCall) sqlNode,
+                            isOutermost,
+                            originalColumnMap,
+                            udfDescriptors,
+                            supportedMetadataColumns);
+            for (int i = 0; i < operands.size(); i++) {
+                SqlNode operand = operands.get(i);
+                String columnName =
+                        getBinaryStringColumnName(
+                                operand, originalColumnMap, supportedMetadataColumns);
+                if (binaryOperandIndices.contains(i) && columnName != null) {
+                    binaryColumnNames.add(columnName);
+                } else {
+                    findBinaryStringArguments(
+                            operand,
+                            false,
+                            originalColumnMap,
+                            udfDescriptors,
+                            supportedMetadataColumns,
+                            binaryColumnNames,
+                            otherColumnNames);
+                }
+            }
+        }
+    }
+
+    private static Set<Integer> getBinaryStringOperandIndices(
+            SqlCall sqlCall,
+            boolean isOutermost,
+            Map<String, Column> originalColumnMap,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            SupportedMetadataColumn[] supportedMetadataColumns) {
+        String operatorName = sqlCall.getOperator().getName().toUpperCase();
+        if (udfDescriptors.stream().anyMatch(udf -> udf.getName().equalsIgnoreCase(operatorName))) {
+            // UDFs shading built-in functions are invoked instead
+            return Collections.emptySet();
+        }
+        int operandCount = sqlCall.operandCount();
+        switch (operatorName) {
+            case "CHAR_LENGTH":
+                return operandCount == 1 ? Collections.singleton(0) : Collections.emptySet();
+            case "UPPER":
+            case "LOWER":
+            case "SUBSTR":
+            case "SUBSTRING":
+                return isOutermost ? Collections.singleton(0) : Collections.emptySet();
+            case "TRIM":
+                return isOutermost && operandCount == 3
+                        ? Collections.singleton(2)
+                        : Collections.emptySet();
+            case "CONCAT":
+            case "||":
+                // Concatenated operands must be all binary strings to select the overload
+                if (isOutermost
+                        && sqlCall.getOperandList().stream()
+                                .allMatch(
+                                        operand ->
+                                                getBinaryStringColumnName(
+                                                                operand,
+                                                                originalColumnMap,
+                                                                supportedMetadataColumns)
+                                                        != null)) {
+                    return Stream.iterate(0, i -> i + 1)
+                            .limit(operandCount)
+                            .collect(Collectors.toSet());
+                }
+                return Collections.emptySet();
+            default:
+                return Collections.emptySet();
+        }
+    }
+
+    @Nullable
+    private static String getBinaryStringColumnName(
+            SqlNode sqlNode,
+            Map<String, Column> originalColumnMap,
+            SupportedMetadataColumn[] supportedMetadataColumns) {
+        if (!(sqlNode instanceof SqlIdentifier)) {
+            return null;
+        }
+        SqlIdentifier sqlIdentifier = (SqlIdentifier) sqlNode;
+        String columnName = sqlIdentifier.names.get(sqlIdentifier.names.size() - 1);
+        Column column = originalColumnMap.get(columnName);
+        if (column == null
+                || !column.getType().is(DataTypeFamily.CHARACTER_STRING)
+                || isMetadataColumn(columnName, supportedMetadataColumns)) {
+            return null;
+        }
+        return columnName;
+    }
+
     private static void findSqlIdentifier(List<SqlNode> sqlNodes, List<String> columnNameList) {
         for (SqlNode sqlNode : sqlNodes) {
             if (sqlNode instanceof SqlIdentifier) {
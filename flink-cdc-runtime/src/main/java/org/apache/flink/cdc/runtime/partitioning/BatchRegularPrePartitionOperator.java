@@ -24,6 +24,7 @@ import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.pipeline.UnkeyedTablePartitionStrategy;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.runtime.operators.schema.regular.SchemaOperator;
 import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
@@ -52,15 +53,25 @@ public class BatchRegularPrePartitionOperator extends AbstractStreamOperator<Par
 
     private final int downstreamParallelism;
     private final HashFunctionProvider<DataChangeEvent> hashFunctionProvider;
+    private final UnkeyedTablePartitionStrategy unkeyedTableStrategy;
 
     private transient Map<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
     private transient volatile Map<TableId, Schema> originalSchemaMap;
+    private transient PartitionChannelSelector channelSelector;
 
     public BatchRegularPrePartitionOperator(
             int downstreamParallelism, HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
+        this(downstreamParallelism, hashFunctionProvider, UnkeyedTablePartitionStrategy.TABLE_ID);
+    }
+
+    public BatchRegularPrePartitionOperator(
+            int downstreamParallelism,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
+            UnkeyedTablePartitionStrategy unkeyedTableStrategy) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.downstreamParallelism = downstreamParallelism;
         this.hashFunctionProvider = hashFunctionProvider;
+        this.unkeyedTableStrategy = unkeyedTableStrategy;
     }
 
     @Override
@@ -68,6 +79,9 @@ public class BatchRegularPrePartitionOperator extends AbstractStreamOperator<Par
         super.open();
         cachedHashFunctions = new HashMap<>();
         originalSchemaMap = new HashMap<>();
+        channelSelector =
+                new PartitionChannelSelector(
+                        downstreamParallelism, unkeyedTableStrategy, getMetricGroup());
     }
 
     @Override
@@ -92,10 +106,10 @@ public class BatchRegularPrePartitionOperator extends AbstractStreamOperator<Par
                 new StreamRecord<>(
                         PartitioningEvent.ofRegular(
                                 dataChangeEvent,
-                                cachedHashFunctions
+                                channelSelector.selectChannel(
+                                        cachedHashFunctions
                                                 .get(dataChangeEvent.tableId())
-                                                .hashcode(dataChangeEvent)
-                                        % downstreamParallelism)));
+                                                .hashcode(dataChangeEvent)))));
     }
 
     private void broadcastEvent(Event toBroadcast) {
@@ -124,7 +138,9 @@ public class BatchRegularPrePartitionOperator extends AbstractStreamOperator<Par
     }
 
     private HashFunction<DataChangeEvent> recreateHashFunction(TableId tableId) {
-        return hashFunctionProvider.getHashFunction(tableId, loadSchemaFromCache(tableId));
+        Schema schema = loadSchemaFromCache(tableId);
+        return channelSelector.getHashFunction(
+                hashFunctionProvider.getHashFunction(tableId, schema), schema);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.pipeline.UnkeyedTablePartitionStrategy;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.runtime.operators.schema.regular.SchemaOperator;
@@ -46,18 +47,28 @@ public class DistributedPrePartitionOperator extends AbstractStreamOperator<Part
 
     private final int downstreamParallelism;
     private final HashFunctionProvider<DataChangeEvent> hashFunctionProvider;
+    private final UnkeyedTablePartitionStrategy unkeyedTableStrategy;
 
     // Schema and HashFunctionMap used in schema inferencing mode.
     private transient Map<TableId, Schema> schemaMap;
     private transient Map<TableId, HashFunction<DataChangeEvent>> hashFunctionMap;
+    private transient PartitionChannelSelector channelSelector;
 
     private transient int subTaskId;
 
     public DistributedPrePartitionOperator(
             int downstreamParallelism, HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
+        this(downstreamParallelism, hashFunctionProvider, UnkeyedTablePartitionStrategy.TABLE_ID);
+    }
+
+    public DistributedPrePartitionOperator(
+            int downstreamParallelism,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
+            UnkeyedTablePartitionStrategy unkeyedTableStrategy) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.downstreamParallelism = downstreamParallelism;
         this.hashFunctionProvider = hashFunctionProvider;
+        this.unkeyedTableStrategy = unkeyedTableStrategy;
     }
 
     @Override
@@ -66,6 +77,9 @@ public class DistributedPrePartitionOperator extends AbstractStreamOperator<Part
         subTaskId = getRuntimeContext().getIndexOfThisSubtask();
         schemaMap = new HashMap<>();
         hashFunctionMap = new HashMap<>();
+        channelSelector =
+                new PartitionChannelSelector(
+                        downstreamParallelism, unkeyedTableStrategy, getMetricGroup());
     }
 
     @Override
@@ -101,10 +115,10 @@ public class DistributedPrePartitionOperator extends AbstractStreamOperator<Part
                         PartitioningEvent.ofDistributed(
                                 dataChangeEvent,
                                 subTaskId,
-                                hashFunctionMap
+                                channelSelector.selectChannel(
+                                        hashFunctionMap
                                                 .get(dataChangeEvent.tableId())
-                                                .hashcode(dataChangeEvent)
-                                        % downstreamParallelism)));
+                                                .hashcode(dataChangeEvent)))));
     }
 
     private void broadcastEvent(Event toBroadcast) {
@@ -118,7 +132,9 @@ public class DistributedPrePartitionOperator extends AbstractStreamOperator<Part
     }
 
     private HashFunction<DataChangeEvent> recreateHashFunction(TableId tableId) {
-        return hashFunctionProvider.getHashFunction(tableId, schemaMap.get(tableId));
+        Schema schema = schemaMap.get(tableId);
+        return channelSelector.getHashFunction(
+                hashFunctionProvider.getHashFunction(tableId, schema), schema);
     }
 
     @Override
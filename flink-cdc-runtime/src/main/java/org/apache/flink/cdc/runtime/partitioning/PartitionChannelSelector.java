@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.pipeline.UnkeyedTablePartitionStrategy;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
+
+/**
+ * Selects downstream channels of {@link DataChangeEvent}s in pre-partition operators, and tracks
+ * the number of events sent to each channel.
+ *
+ * <p>Events of tables with primary key are always assigned by their hash code. Events of tables
+ * without primary key can be spread to all channels according to the {@link
+ * UnkeyedTablePartitionStrategy}, so that hot append-only tables are not bottlenecked by a single
+ * sink subtask.
+ */
+@Internal
+public class PartitionChannelSelector {
+
+    /** Metric group of the channels, keyed by the channel index. */
+    public static final String CHANNEL_GROUP = "channel";
+
+    /** Number of data change events sent to the channel by this subtask. */
+    public static final String NUM_DATA_CHANGE_EVENTS_OUT = "numDataChangeEventsOut";
+
+    private final int parallelism;
+    private final UnkeyedTablePartitionStrategy unkeyedTableStrategy;
+    private final Counter[] channelCounters;
+
+    private int nextChannel;
+
+    public PartitionChannelSelector(
+            int parallelism,
+            UnkeyedTablePartitionStrategy unkeyedTableStrategy,
+            MetricGroup metricGroup) {
+        this.parallelism = parallelism;
+        this.unkeyedTableStrategy = unkeyedTableStrategy;
+        this.channelCounters = new Counter[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            channelCounters[i] =
+                    metricGroup
+                            .addGroup(CHANNEL_GROUP, String.valueOf(i))
+                            .counter(NUM_DATA_CHANGE_EVENTS_OUT);
+        }
+    }
+
+    /**
+     * Returns the hash function used for a table. Tables without primary key get a hash function
+     * that spreads their events to all channels, unless {@link
+     * UnkeyedTablePartitionStrategy#TABLE_ID} is configured.
+     */
+    public HashFunction<DataChangeEvent> getHashFunction(
+            HashFunction<DataChangeEvent> hashFunction, Schema schema) {
+        if (unkeyedTableStrategy == UnkeyedTablePartitionStrategy.TABLE_ID
+                || !schema.primaryKeys().isEmpty()) {
+            return hashFunction;
+        }
+        return event -> selectUnkeyedChannel();
+    }
+
+    /** Selects the channel of a data change event with the given hash code. */
+    public int selectChannel(int hashcode) {
+        int channel = hashcode % parallelism;
+        channelCounters[channel].inc();
+        return channel;
+    }
+
+    private int selectUnkeyedChannel() {
+        int channel = nextChannel;
+        if (unkeyedTableStrategy == UnkeyedTablePartitionStrategy.LEAST_LOADED) {
+            // Start scanning from the next channel, so that ties are broken round-robin
+            long minCount = Long.MAX_VALUE;
+            for (int i = 0; i < parallelism; i++) {
+                int candidate = (nextChannel + i) % parallelism;
+                long count = channelCounters[candidate].getCount();
+                if (count < minCount) {
+                    minCount = count;
+                    channel = candidate;
+                }
+            }
+        }
+        nextChannel = (channel + 1) % parallelism;
+        return channel;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.pipeline.UnkeyedTablePartitionStrategy;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.runtime.operators.schema.regular.SchemaOperator;
 import org.apache.flink.cdc.runtime.operators.sink.SchemaEvolutionClient;
@@ -59,18 +60,33 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
     private final OperatorID schemaOperatorId;
     private final int downstreamParallelism;
     private final HashFunctionProvider<DataChangeEvent> hashFunctionProvider;
+    private final UnkeyedTablePartitionStrategy unkeyedTableStrategy;
 
     private transient SchemaEvolutionClient schemaEvolutionClient;
     private transient LoadingCache<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
+    private transient PartitionChannelSelector channelSelector;
 
     public RegularPrePartitionOperator(
             OperatorID schemaOperatorId,
             int downstreamParallelism,
             HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
+        this(
+                schemaOperatorId,
+                downstreamParallelism,
+                hashFunctionProvider,
+                UnkeyedTablePartitionStrategy.TABLE_ID);
+    }
+
+    public RegularPrePartitionOperator(
+            OperatorID schemaOperatorId,
+            int downstreamParallelism,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
+            UnkeyedTablePartitionStrategy unkeyedTableStrategy) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.schemaOperatorId = schemaOperatorId;
         this.downstreamParallelism = downstreamParallelism;
         this.hashFunctionProvider = hashFunctionProvider;
+        this.unkeyedTableStrategy = unkeyedTableStrategy;
     }
 
     @Override
@@ -80,6 +96,9 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
                 getContainingTask().getEnvironment().getOperatorCoordinatorEventGateway();
         schemaEvolutionClient = new SchemaEvolutionClient(toCoordinator, schemaOperatorId);
         cachedHashFunctions = createCache();
+        channelSelector =
+                new PartitionChannelSelector(
+                        downstreamParallelism, unkeyedTableStrategy, getMetricGroup());
     }
 
     @Override
@@ -105,10 +124,10 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
                 new StreamRecord<>(
                         PartitioningEvent.ofRegular(
                                 dataChangeEvent,
-                                cachedHashFunctions
+                                channelSelector.selectChannel(
+                                        cachedHashFunctions
                                                 .get(dataChangeEvent.tableId())
-                                                .hashcode(dataChangeEvent)
-                                        % downstreamParallelism)));
+                                                .hashcode(dataChangeEvent)))));
     }
 
     private void broadcastEvent(Event toBroadcast) {
@@ -137,7 +156,9 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
     }
 
     private HashFunction<DataChangeEvent> recreateHashFunction(TableId tableId) {
-        return hashFunctionProvider.getHashFunction(tableId, loadLatestSchemaFromRegistry(tableId));
+        Schema schema = loadLatestSchemaFromRegistry(tableId);
+        return channelSelector.getHashFunction(
+                hashFunctionProvider.getHashFunction(tableId, schema), schema);
     }
 
     private LoadingCache<TableId, HashFunction<DataChangeEvent>> createCache() {
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.ChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+
+/**
+ * Key selector that extracts the {@link TableId} of {@link ChangeEvent}s. It is used to shuffle
+ * events between pipeline stages with different parallelism while keeping all events of one table
+ * in order.
+ */
+@Internal
+public class TableIdKeySelector implements KeySelector<Event, TableId> {
+    @Override
+    public TableId getKey(Event event) {
+        if (!(event instanceof ChangeEvent)) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Unable to repartition event %s since it does not belong to any table",
+                            event));
+        }
+        return ((ChangeEvent) event).tableId();
+    }
+}
@@ -812,6 +812,9 @@ public class DataTypeConverter {
     }
 
     private static Object convertToString(Object obj) {
+        if (obj instanceof BinaryStringData) {
+            return obj;
+        }
         return BinaryStringData.fromString(obj.toString());
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.functions;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/** Unit tests for the {@link SystemFunctionUtils}. */
+class SystemFunctionUtilsTest {
+
+    @Test
+    void testLikeWithCachedPattern() {
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(SystemFunctionUtils.like("abc", "^a.*")).isTrue();
+            Assertions.assertThat(SystemFunctionUtils.notLike("xbc", "^a.*")).isTrue();
+        }
+        Assertions.assertThatThrownBy(() -> SystemFunctionUtils.like("abc", "("))
+                .isInstanceOf(PatternSyntaxException.class);
+        Assertions.assertThatThrownBy(() -> SystemFunctionUtils.like("abc", "("))
+                .isInstanceOf(PatternSyntaxException.class);
+    }
+
+    @Test
+    void testRegexpReplaceWithCachedPattern() {
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(SystemFunctionUtils.regexpReplace("a1b22", "[0-9]+", "$"))
+                    .isEqualTo("a$b$");
+        }
+        Assertions.assertThat(SystemFunctionUtils.regexpReplace("abc", "(", "x")).isNull();
+    }
+
+    @Test
+    void testToTimestampWithCachedFormatter() {
+        TimestampData utc =
+                SystemFunctionUtils.toTimestamp("2024-01-01 00:00:00", "yyyy-MM-dd HH:mm:ss", "UTC");
+        TimestampData shanghai =
+                SystemFunctionUtils.toTimestamp(
+                        "2024-01-01 00:00:00", "yyyy-MM-dd HH:mm:ss", "Asia/Shanghai");
+        Assertions.assertThat(utc.getMillisecond()).isEqualTo(1704067200000L);
+        Assertions.assertThat(utc.getMillisecond() - shanghai.getMillisecond())
+                .isEqualTo(8 * 3600 * 1000L);
+    }
+
+    @Test
+    void testIn() {
+        Assertions.assertThat(SystemFunctionUtils.in("b", "a", "b", "c")).isTrue();
+        Assertions.assertThat(SystemFunctionUtils.in("d", "a", null, "c")).isFalse();
+        Assertions.assertThat(SystemFunctionUtils.notIn(3L, 1L, 2L)).isTrue();
+        Assertions.assertThat(
+                        SystemFunctionUtils.in(
+                                new BigDecimal("1.0"), new BigDecimal("1"), new BigDecimal("1.0")))
+                .isTrue();
+    }
+
+    @Test
+    void testCastToDecimal() {
+        Assertions.assertThat(SystemFunctionUtils.castToBigDecimal("123.456", 5, 2))
+                .isEqualTo(new BigDecimal("123.46"));
+        Assertions.assertThat(SystemFunctionUtils.castToBigDecimal("123456", 5, 0)).isNull();
+        Assertions.assertThat(SystemFunctionUtils.castToDecimalData("1.5", 38, 1))
+                .isEqualTo(DecimalData.fromBigDecimal(new BigDecimal("1.5"), 38, 1));
+    }
+
+    @Test
+    void testBinaryStringFunctionsMatchStringFunctions() {
+        List<String> strings =
+                Arrays.asList(
+                        "",
+                        "  Hello World\t",
+                        "Flink CDC",
+                        "\u00e4\u00f6\u00fc \u00df",
+                        "a\ud83d\ude00b");
+        for (String str : strings) {
+            BinaryStringData binary = BinaryStringData.fromString(str);
+            Assertions.assertThat(SystemFunctionUtils.charLength(binary))
+                    .isEqualTo(SystemFunctionUtils.charLength(str));
+            Assertions.assertThat(SystemFunctionUtils.upper(binary))
+                    .hasToString(SystemFunctionUtils.upper(str));
+            Assertions.assertThat(SystemFunctionUtils.lower(binary))
+                    .hasToString(SystemFunctionUtils.lower(str));
+            Assertions.assertThat(SystemFunctionUtils.trim("BOTH", " ", binary))
+                    .hasToString(SystemFunctionUtils.trim("BOTH", " ", str));
+            Assertions.assertThat(SystemFunctionUtils.concat(binary, binary))
+                    .hasToString(SystemFunctionUtils.concat(str, str));
+            for (int begin = -6; begin <= 6; begin++) {
+                Assertions.assertThat(SystemFunctionUtils.substr(binary, begin))
+                        .hasToString(SystemFunctionUtils.substr(str, begin));
+                for (int length = 0; length <= 3; length++) {
+                    Assertions.assertThat(SystemFunctionUtils.substring(binary, begin, length))
+                            .hasToString(SystemFunctionUtils.substring(str, begin, length));
+                }
+            }
+        }
+        Assertions.assertThat(
+                        SystemFunctionUtils.concat(BinaryStringData.fromString("a"), null))
+                .hasToString(SystemFunctionUtils.concat("a", null));
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.flink.cdc.common.event.AlterColumnTypeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DropColumnEvent;
 import org.apache.flink.cdc.common.event.DropTableEvent;
+import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.RenameColumnEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
@@ -601,6 +602,65 @@ public class SchemaDerivatorTest extends SchemaTestBase {
                 .isEmpty();
     }
 
+    @Test
+    void testNormalizeSchemaChangeEventsCoalescesAddColumnEvents() {
+        assertThat(
+                        normalizeEvent(
+                                SchemaChangeBehavior.LENIENT,
+                                new AddColumnEvent(
+                                        NORMALIZE_TEST_TABLE_ID,
+                                        Collections.singletonList(
+                                                AddColumnEvent.after(
+                                                        Column.physicalColumn(
+                                                                "added_flag", DataTypes.BOOLEAN()),
+                                                        "id"))),
+                                new RenameColumnEvent(
+                                        NORMALIZE_TEST_TABLE_ID,
+                                        Collections.singletonMap("notes", "remarks"))))
+                .containsExactly(
+                        new AddColumnEvent(
+                                NORMALIZE_TEST_TABLE_ID,
+                                Arrays.asList(
+                                        new AddColumnEvent.ColumnWithPosition(
+                                                Column.physicalColumn(
+                                                        "added_flag", DataTypes.BOOLEAN())),
+                                        new AddColumnEvent.ColumnWithPosition(
+                                                Column.physicalColumn(
+                                                        "remarks", DataTypes.STRING())))));
+    }
+
+    @Test
+    void testCoalesceAddColumnEvents() {
+        TableId others = TableId.tableId("my_company", "my_branch", "others");
+        AddColumnEvent.ColumnWithPosition email =
+                AddColumnEvent.last(Column.physicalColumn("email", DataTypes.STRING()));
+        AddColumnEvent.ColumnWithPosition age =
+                AddColumnEvent.after(Column.physicalColumn("age", DataTypes.INT()), "email");
+        AddColumnEvent.ColumnWithPosition score =
+                AddColumnEvent.last(Column.physicalColumn("score", DataTypes.DOUBLE()));
+        DropColumnEvent dropColumnEvent =
+                new DropColumnEvent(NORMALIZE_TEST_TABLE_ID, Collections.singletonList("notes"));
+
+        List<Event> events =
+                Arrays.asList(
+                        new AddColumnEvent(
+                                NORMALIZE_TEST_TABLE_ID, Collections.singletonList(email)),
+                        new AddColumnEvent(others, Collections.singletonList(email)),
+                        new AddColumnEvent(NORMALIZE_TEST_TABLE_ID, Collections.singletonList(age)),
+                        dropColumnEvent,
+                        new AddColumnEvent(
+                                NORMALIZE_TEST_TABLE_ID, Collections.singletonList(score)),
+                        new AddColumnEvent(others, Collections.singletonList(score)));
+
+        assertThat(SchemaDerivator.coalesceAddColumnEvents(events))
+                .containsExactly(
+                        new AddColumnEvent(NORMALIZE_TEST_TABLE_ID, Arrays.asList(email, age)),
+                        new AddColumnEvent(others, Arrays.asList(email, score)),
+                        dropColumnEvent,
+                        new AddColumnEvent(
+                                NORMALIZE_TEST_TABLE_ID, Collections.singletonList(score)));
+    }
+
     @Test
     void testDeduceMergedCreateTableEvent() {
         TableIdRouter router =
@@ -21,8 +21,12 @@ import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.FlushEvent;
+import org.apache.flink.cdc.common.event.SchemaChangeEventType;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
 import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
@@ -39,6 +43,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -155,6 +160,67 @@ class SchemaOperatorTest {
         harness.close();
     }
 
+    @Test
+    void testTableLevelBlocking() throws Exception {
+        TableId others = TableId.tableId("my_company", "my_branch", "others");
+        SchemaOperator schemaOperator =
+                new SchemaOperator(
+                        new ArrayList<>(),
+                        Duration.ofSeconds(30),
+                        SchemaChangeBehavior.EVOLVE,
+                        "UTC",
+                        true);
+        RegularEventOperatorTestHarness<SchemaOperator, Event> harness =
+                RegularEventOperatorTestHarness.withDuration(
+                        schemaOperator, 1, Duration.ofSeconds(1));
+        harness.open();
+        harness.registerTableSchema(others, CUSTOMERS_SCHEMA);
+        schemaOperator.registerInitialSchema(others, CUSTOMERS_SCHEMA);
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        CUSTOMERS_SCHEMA.getColumnDataTypes().toArray(new DataType[0]));
+        CreateTableEvent createTableEvent = new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA);
+        DataChangeEvent customersInsert =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS,
+                        generator.generate(
+                                new Object[] {1, BinaryStringData.fromString("Alice"), 1234L}));
+        DataChangeEvent othersInsert =
+                DataChangeEvent.insertEvent(
+                        others,
+                        generator.generate(
+                                new Object[] {2, BinaryStringData.fromString("Bob"), 5678L}));
+        FlushEvent flushEvent =
+                new FlushEvent(
+                        0,
+                        Collections.singletonList(CUSTOMERS),
+                        SchemaChangeEventType.CREATE_TABLE);
+
+        // Schema change request is not blocking, and only events of the evolving table are held
+        schemaOperator.processElement(new StreamRecord<>(createTableEvent));
+        schemaOperator.processElement(new StreamRecord<>(customersInsert));
+        schemaOperator.processElement(new StreamRecord<>(othersInsert));
+        assertThat(
+                        harness.getOutputRecords().stream()
+                                .map(StreamRecord::getValue)
+                                .collect(Collectors.toList()))
+                .containsExactly(flushEvent, othersInsert);
+
+        long deadline = System.currentTimeMillis() + 30_000L;
+        while (harness.getOutputRecords().size() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100L);
+            schemaOperator.processPendingSchemaChange();
+        }
+        assertThat(
+                        harness.getOutputRecords().stream()
+                                .map(StreamRecord::getValue)
+                                .collect(Collectors.toList()))
+                .containsExactly(flushEvent, othersInsert, createTableEvent, customersInsert);
+        assertThat(harness.getLatestEvolvedSchema(CUSTOMERS)).isEqualTo(CUSTOMERS_SCHEMA);
+        harness.close();
+    }
+
     private OneInputStreamOperatorTestHarness<Event, Event> createTestHarness(
             int maxParallelism,
             int parallelism,
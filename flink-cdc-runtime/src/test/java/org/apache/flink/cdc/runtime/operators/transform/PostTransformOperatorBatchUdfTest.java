@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.udf.BatchUserDefinedFunction;
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
+import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Unit tests for the {@link PostTransformOperator} with {@link BatchUserDefinedFunction}s. */
+class PostTransformOperatorBatchUdfTest {
+
+    private static final TableId CUSTOMERS_TABLEID =
+            TableId.tableId("my_company", "my_branch", "customers");
+    private static final TableId ORDERS_TABLEID =
+            TableId.tableId("my_company", "my_branch", "orders");
+    private static final Schema SOURCE_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("col1", DataTypes.STRING().notNull())
+                    .physicalColumn("col2", DataTypes.STRING())
+                    .primaryKey("col1")
+                    .build();
+    private static final BinaryRecordDataGenerator RECORD_DATA_GENERATOR =
+            new BinaryRecordDataGenerator(((RowType) SOURCE_SCHEMA.toRowDataType()));
+
+    private OneInputStreamOperatorTestHarness<Event, Event> testHarness;
+
+    /** A batched UDF that records the evaluated batches. */
+    public static class BatchedUpperFunction implements BatchUserDefinedFunction {
+
+        static final List<List<String>> EVALUATED_BATCHES = new ArrayList<>();
+        static final AtomicInteger FALLBACK_EVALUATIONS = new AtomicInteger();
+
+        private final List<String> collectedInputs = new ArrayList<>();
+        private final Map<String, String> evaluatedResults = new HashMap<>();
+        private boolean collecting;
+
+        public String eval(String input) {
+            if (collecting) {
+                collectedInputs.add(input);
+                return null;
+            }
+            if (evaluatedResults.containsKey(input)) {
+                return evaluatedResults.get(input);
+            }
+            FALLBACK_EVALUATIONS.incrementAndGet();
+            return input.toUpperCase();
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.STRING();
+        }
+
+        @Override
+        public int getMaxBufferedInputs() {
+            return 3;
+        }
+
+        @Override
+        public long getMaxBufferedMillis() {
+            return 1000L;
+        }
+
+        @Override
+        public void startCollecting() {
+            collecting = true;
+        }
+
+        @Override
+        public void evalCollected() {
+            collecting = false;
+            EVALUATED_BATCHES.add(new ArrayList<>(collectedInputs));
+            collectedInputs.forEach(input -> evaluatedResults.put(input, input.toUpperCase()));
+            collectedInputs.clear();
+        }
+
+        @Override
+        public void clearCollected() {
+            collecting = false;
+            collectedInputs.clear();
+            evaluatedResults.clear();
+        }
+    }
+
+    /** A non-batched UDF that counts its invocations. */
+    public static class CountingLengthFunction implements UserDefinedFunction {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        public Integer eval(String input) {
+            INVOCATIONS.incrementAndGet();
+            return input.length();
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.INT();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BatchedUpperFunction.EVALUATED_BATCHES.clear();
+        BatchedUpperFunction.FALLBACK_EVALUATIONS.set(0);
+        CountingLengthFunction.INVOCATIONS.set(0);
+
+        PostTransformOperator operator =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                "my_company.my_branch.\\.*",
+                                "*, batched_upper(col2) AS upper2, counting_length(col2) AS len2",
+                                null)
+                        .addUdfFunctions(
+                                Arrays.asList(
+                                        Tuple3.of(
+                                                "batched_upper",
+                                                BatchedUpperFunction.class.getName(),
+                                                Collections.emptyMap()),
+                                        Tuple3.of(
+                                                "counting_length",
+                                                CountingLengthFunction.class.getName(),
+                                                Collections.emptyMap())))
+                        .build();
+        testHarness = new OneInputStreamOperatorTestHarness<>(operator);
+        testHarness.setup(EventSerializer.INSTANCE);
+        testHarness.open();
+        testHarness.setProcessingTime(0L);
+
+        processElement(new CreateTableEvent(CUSTOMERS_TABLEID, SOURCE_SCHEMA));
+        Assertions.assertThat(drainOutput())
+                .singleElement()
+                .isInstanceOf(CreateTableEvent.class)
+                .extracting(event -> ((CreateTableEvent) event).getSchema().getColumnNames())
+                .isEqualTo(Arrays.asList("col1", "col2", "upper2", "len2"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        testHarness.close();
+    }
+
+    @Test
+    void testFlushBufferedEventsWhenBufferIsFull() throws Exception {
+        processElement(insert("1", "a"));
+        processElement(update("1", "a", "b"));
+        Assertions.assertThat(drainOutput()).isEmpty();
+
+        processElement(insert("2", "c"));
+        List<Event> output = drainOutput();
+        Assertions.assertThat(output).hasSize(3);
+        assertAfter(output.get(0), "1", "a", "A", 1);
+        assertAfter(output.get(1), "1", "b", "B", 1);
+        assertAfter(output.get(2), "2", "c", "C", 1);
+        Assertions.assertThat(((DataChangeEvent) output.get(1)).before().getString(2))
+                .isEqualTo(BinaryStringData.fromString("A"));
+
+        Assertions.assertThat(BatchedUpperFunction.EVALUATED_BATCHES)
+                .containsExactly(Arrays.asList("a", "a", "b", "c"));
+        Assertions.assertThat(BatchedUpperFunction.FALLBACK_EVALUATIONS).hasValue(0);
+        // Non-batched UDFs are not evaluated by the collecting pass
+        Assertions.assertThat(CountingLengthFunction.INVOCATIONS).hasValue(4);
+    }
+
+    @Test
+    void testFlushBufferedEventsBeforeSchemaChangeEvents() throws Exception {
+        processElement(insert("1", "a"));
+        processElement(insert("2", "b"));
+        Assertions.assertThat(drainOutput()).isEmpty();
+
+        processElement(new CreateTableEvent(ORDERS_TABLEID, SOURCE_SCHEMA));
+        List<Event> output = drainOutput();
+        Assertions.assertThat(output).hasSize(3);
+        assertAfter(output.get(0), "1", "a", "A", 1);
+        assertAfter(output.get(1), "2", "b", "B", 1);
+        Assertions.assertThat(output.get(2)).isInstanceOf(CreateTableEvent.class);
+
+        processElement(insert("3", "c"));
+        processElement(
+                new AddColumnEvent(
+                        CUSTOMERS_TABLEID,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("col3", DataTypes.STRING())))));
+        output = drainOutput();
+        Assertions.assertThat(output).hasSize(2);
+        assertAfter(output.get(0), "3", "c", "C", 1);
+        Assertions.assertThat(output.get(1)).isInstanceOf(AddColumnEvent.class);
+
+        Assertions.assertThat(BatchedUpperFunction.EVALUATED_BATCHES)
+                .containsExactly(Arrays.asList("a", "b"), Collections.singletonList("c"));
+        Assertions.assertThat(BatchedUpperFunction.FALLBACK_EVALUATIONS).hasValue(0);
+        Assertions.assertThat(CountingLengthFunction.INVOCATIONS).hasValue(3);
+    }
+
+    @Test
+    void testFlushBufferedEventsBeforeCheckpointBarrier() throws Exception {
+        processElement(insert("1", "a"));
+        Assertions.assertThat(drainOutput()).isEmpty();
+
+        testHarness.prepareSnapshotPreBarrier(1L);
+        List<Event> output = drainOutput();
+        Assertions.assertThat(output).hasSize(1);
+        assertAfter(output.get(0), "1", "a", "A", 1);
+
+        // Nothing is left to be flushed by the next checkpoint
+        testHarness.prepareSnapshotPreBarrier(2L);
+        Assertions.assertThat(drainOutput()).isEmpty();
+        Assertions.assertThat(BatchedUpperFunction.EVALUATED_BATCHES)
+                .containsExactly(Collections.singletonList("a"));
+    }
+
+    @Test
+    void testFlushBufferedEventsOnTimeout() throws Exception {
+        processElement(insert("1", "a"));
+        testHarness.setProcessingTime(500L);
+        processElement(insert("2", "b"));
+        testHarness.setProcessingTime(999L);
+        Assertions.assertThat(drainOutput()).isEmpty();
+
+        // The buffer times out since its first event arrived
+        testHarness.setProcessingTime(1000L);
+        List<Event> output = drainOutput();
+        Assertions.assertThat(output).hasSize(2);
+        assertAfter(output.get(0), "1", "a", "A", 1);
+        assertAfter(output.get(1), "2", "b", "B", 1);
+
+        // A new buffer starts with the next event, regardless of the stale timer
+        testHarness.setProcessingTime(1500L);
+        processElement(insert("3", "c"));
+        testHarness.setProcessingTime(2000L);
+        Assertions.assertThat(drainOutput()).isEmpty();
+        testHarness.setProcessingTime(2500L);
+        output = drainOutput();
+        Assertions.assertThat(output).hasSize(1);
+        assertAfter(output.get(0), "3", "c", "C", 1);
+
+        Assertions.assertThat(BatchedUpperFunction.EVALUATED_BATCHES)
+                .containsExactly(Arrays.asList("a", "b"), Collections.singletonList("c"));
+    }
+
+    @Test
+    void testFlushBufferedEventsBeforeWatermark() throws Exception {
+        processElement(insert("1", "a"));
+        processElement(insert("2", "b"));
+        Assertions.assertThat(drainOutput()).isEmpty();
+
+        testHarness.processWatermark(new Watermark(100L));
+        List<Object> output = new ArrayList<>(testHarness.getOutput());
+        testHarness.getOutput().clear();
+        Assertions.assertThat(output).hasSize(3);
+        assertAfter((Event) ((StreamRecord<?>) output.get(0)).getValue(), "1", "a", "A", 1);
+        assertAfter((Event) ((StreamRecord<?>) output.get(1)).getValue(), "2", "b", "B", 1);
+        Assertions.assertThat(output.get(2)).isEqualTo(new Watermark(100L));
+
+        // Watermarks without buffered events are forwarded directly
+        testHarness.processWatermark(new Watermark(200L));
+        Assertions.assertThat(testHarness.getOutput()).containsExactly(new Watermark(200L));
+        Assertions.assertThat(BatchedUpperFunction.EVALUATED_BATCHES)
+                .containsExactly(Arrays.asList("a", "b"));
+    }
+
+    private void processElement(Event event) throws Exception {
+        testHarness.processElement(new StreamRecord<>(event));
+    }
+
+    private List<Event> drainOutput() {
+        List<Event> output = testHarness.extractOutputValues();
+        testHarness.getOutput().clear();
+        return output;
+    }
+
+    private static DataChangeEvent insert(String col1, String col2) {
+        return DataChangeEvent.insertEvent(CUSTOMERS_TABLEID, row(col1, col2));
+    }
+
+    private static DataChangeEvent update(String col1, String before, String after) {
+        return DataChangeEvent.updateEvent(CUSTOMERS_TABLEID, row(col1, before), row(col1, after));
+    }
+
+    private static RecordData row(String col1, String col2) {
+        return RECORD_DATA_GENERATOR.generate(
+                new Object[] {
+                    BinaryStringData.fromString(col1), BinaryStringData.fromString(col2)
+                });
+    }
+
+    private static void assertAfter(
+            Event event, String col1, String col2, String upper2, int len2) {
+        Assertions.assertThat(event).isInstanceOf(DataChangeEvent.class);
+        RecordData after = ((DataChangeEvent) event).after();
+        Assertions.assertThat(after.getString(0)).isEqualTo(BinaryStringData.fromString(col1));
+        Assertions.assertThat(after.getString(1)).isEqualTo(BinaryStringData.fromString(col2));
+        Assertions.assertThat(after.getString(2)).isEqualTo(BinaryStringData.fromString(upper2));
+        Assertions.assertThat(after.getInt(3)).isEqualTo(len2);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.flink.cdc.common.data.DecimalData;
 import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
 import org.apache.flink.cdc.common.data.TimeData;
 import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
@@ -365,6 +366,23 @@ class PostTransformOperatorTest {
                     .primaryKey("id")
                     .build();
 
+    private static final TableId STRING_FUNCTIONS_TABLEID =
+            TableId.tableId("my_company", "my_branch", "string_functions_table");
+    private static final Schema STRING_FUNCTIONS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("code", DataTypes.VARCHAR(10))
+                    .physicalColumn("alias_name", DataTypes.STRING())
+                    .physicalColumn("name_upper", DataTypes.STRING())
+                    .physicalColumn("name_length", DataTypes.INT())
+                    .physicalColumn("name_sub", DataTypes.STRING())
+                    .physicalColumn("code_trim", DataTypes.STRING())
+                    .physicalColumn("name_code", DataTypes.STRING())
+                    .physicalColumn("tb", DataTypes.STRING().notNull())
+                    .primaryKey("id")
+                    .build();
+
     private static final TableId COL_NAME_MAPPING_TABLEID =
             TableId.tableId("my_company", "my_branch", "col_name_mapping_table");
     private static final Schema COL_NAME_MAPPING_SCHEMA =
@@ -3381,4 +3399,143 @@ class PostTransformOperatorTest {
                         transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
                 .isEqualTo(new StreamRecord<>(updateEventExpect));
     }
+
+    @Test
+    void testStringFunctionsWithForwardedColumns() throws Exception {
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness = openStringFunctionsTransform(null);
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) STRING_FUNCTIONS_SCHEMA.toRowDataType()));
+        PostTransformOperator transform =
+                transformFunctionEventEventOperatorTestHarness.getOperator();
+
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                STRING_FUNCTIONS_TABLEID,
+                                generateStringFunctionsInput(recordDataGenerator, 1, "Alice"))));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                DataChangeEvent.insertEvent(
+                                        STRING_FUNCTIONS_TABLEID,
+                                        generateStringFunctionsOutput(
+                                                recordDataGenerator, 1, "Alice", "ALICE"))));
+        // Non-ASCII strings fall back to Java strings in some functions
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                STRING_FUNCTIONS_TABLEID,
+                                generateStringFunctionsInput(
+                                        recordDataGenerator, 2, "\u00e4lice"))));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                DataChangeEvent.insertEvent(
+                                        STRING_FUNCTIONS_TABLEID,
+                                        generateStringFunctionsOutput(
+                                                recordDataGenerator,
+                                                2,
+                                                "\u00e4lice",
+                                                "\u00c4LICE"))));
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    @Test
+    void testStringFunctionsWithFilter() throws Exception {
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        openStringFunctionsTransform("name_upper <> 'BOB' AND id > 0");
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) STRING_FUNCTIONS_SCHEMA.toRowDataType()));
+        PostTransformOperator transform =
+                transformFunctionEventEventOperatorTestHarness.getOperator();
+
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                STRING_FUNCTIONS_TABLEID,
+                                generateStringFunctionsInput(recordDataGenerator, 1, "Alice"))));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                DataChangeEvent.insertEvent(
+                                        STRING_FUNCTIONS_TABLEID,
+                                        generateStringFunctionsOutput(
+                                                recordDataGenerator, 1, "Alice", "ALICE"))));
+        // Filter refers to a projected column evaluated from binary strings
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                STRING_FUNCTIONS_TABLEID,
+                                generateStringFunctionsInput(recordDataGenerator, 2, "Bob"))));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isNull();
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    private RegularEventOperatorTestHarness<PostTransformOperator, Event>
+            openStringFunctionsTransform(String filterExpression) throws Exception {
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                STRING_FUNCTIONS_TABLEID.identifier(),
+                                "id, name, code, name AS alias_name, UPPER(name) AS name_upper, "
+                                        + "CHAR_LENGTH(name) AS name_length, SUBSTR(name, 2, 3) AS name_sub, "
+                                        + "TRIM(code) AS code_trim, name || code AS name_code, __table_name__ AS tb",
+                                filterExpression)
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        transform.processElement(
+                new StreamRecord<>(
+                        new CreateTableEvent(STRING_FUNCTIONS_TABLEID, STRING_FUNCTIONS_SCHEMA)));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                new CreateTableEvent(
+                                        STRING_FUNCTIONS_TABLEID, STRING_FUNCTIONS_SCHEMA)));
+        return transformFunctionEventEventOperatorTestHarness;
+    }
+
+    private static BinaryRecordData generateStringFunctionsInput(
+            BinaryRecordDataGenerator recordDataGenerator, int id, String name) {
+        return recordDataGenerator.generate(
+                new Object[] {
+                    id,
+                    BinaryStringData.fromString(name),
+                    BinaryStringData.fromString(" a1 "),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null
+                });
+    }
+
+    private static BinaryRecordData generateStringFunctionsOutput(
+            BinaryRecordDataGenerator recordDataGenerator, int id, String name, String upperName) {
+        return recordDataGenerator.generate(
+                new Object[] {
+                    id,
+                    BinaryStringData.fromString(name),
+                    BinaryStringData.fromString(" a1 "),
+                    BinaryStringData.fromString(name),
+                    BinaryStringData.fromString(upperName),
+                    name.length(),
+                    BinaryStringData.fromString(name.substring(1, 4)),
+                    BinaryStringData.fromString("a1"),
+                    BinaryStringData.fromString(name + " a1 "),
+                    BinaryStringData.fromString(STRING_FUNCTIONS_TABLEID.getTableName())
+                });
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link PreTransformProcessor}. */
+class PreTransformProcessorTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "customers");
+    private static final Schema SOURCE_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("age", DataTypes.INT())
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testIdentityProjection() {
+        PreTransformChangeInfo changeInfo =
+                PreTransformChangeInfo.of(
+                        TABLE_ID, SOURCE_SCHEMA, SOURCE_SCHEMA.copy(SOURCE_SCHEMA.getColumns()));
+        BinaryRecordData data = generate(SOURCE_SCHEMA, 1, BinaryStringData.fromString("a"), 18);
+
+        Assertions.assertThat(changeInfo.isIdentityProjection()).isTrue();
+        // Rows are forwarded without being copied
+        Assertions.assertThat(new PreTransformProcessor(changeInfo).processFillDataField(data))
+                .isSameAs(data);
+    }
+
+    @Test
+    void testReorderedAndPeeledProjection() {
+        Schema preTransformedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("age", DataTypes.INT())
+                        .primaryKey("id")
+                        .build();
+        PreTransformChangeInfo changeInfo =
+                PreTransformChangeInfo.of(TABLE_ID, SOURCE_SCHEMA, preTransformedSchema);
+
+        Assertions.assertThat(changeInfo.isIdentityProjection()).isFalse();
+        Assertions.assertThat(
+                        new PreTransformProcessor(changeInfo)
+                                .processFillDataField(
+                                        generate(
+                                                SOURCE_SCHEMA,
+                                                1,
+                                                BinaryStringData.fromString("a"),
+                                                18)))
+                .isEqualTo(generate(preTransformedSchema, 1, 18));
+    }
+
+    @Test
+    void testProjectionWithDifferentType() {
+        Schema preTransformedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.VARCHAR(10))
+                        .physicalColumn("age", DataTypes.INT())
+                        .primaryKey("id")
+                        .build();
+        PreTransformChangeInfo changeInfo =
+                PreTransformChangeInfo.of(TABLE_ID, SOURCE_SCHEMA, preTransformedSchema);
+
+        Assertions.assertThat(changeInfo.isIdentityProjection()).isFalse();
+    }
+
+    @Test
+    void testProjectionWithColumnAbsentFromSource() {
+        // Column count matches source schema, but "email" is not a source column
+        Schema preTransformedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("email", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        PreTransformChangeInfo changeInfo =
+                PreTransformChangeInfo.of(TABLE_ID, SOURCE_SCHEMA, preTransformedSchema);
+
+        Assertions.assertThat(changeInfo.isIdentityProjection()).isFalse();
+        Assertions.assertThat(
+                        new PreTransformProcessor(changeInfo)
+                                .processFillDataField(
+                                        generate(
+                                                SOURCE_SCHEMA,
+                                                1,
+                                                BinaryStringData.fromString("a"),
+                                                18)))
+                .isEqualTo(
+                        generate(preTransformedSchema, 1, BinaryStringData.fromString("a"), null));
+    }
+
+    private static BinaryRecordData generate(Schema schema, Object... fields) {
+        return new BinaryRecordDataGenerator((RowType) schema.toRowDataType()).generate(fields);
+    }
+}
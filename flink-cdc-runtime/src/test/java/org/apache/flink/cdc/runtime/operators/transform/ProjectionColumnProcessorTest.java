@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+/** Unit tests for {@link ProjectionColumnProcessor}. */
+class ProjectionColumnProcessorTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "customers");
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("code", DataTypes.VARCHAR(10))
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testForwardedColumn() {
+        ProjectionColumnProcessor processor =
+                createProcessor(ProjectionColumn.ofForwarded(SCHEMA.getColumns().get(1), "$0"));
+        BinaryStringData name = BinaryStringData.fromString("Alice");
+
+        Assertions.assertThat(processor.getForwardedColumnIndex()).isEqualTo(1);
+        // Forwarded values are returned as they are, without being converted
+        Assertions.assertThat(processor.evaluate(new Object[] {1, name, null}, createContext()))
+                .isSameAs(name);
+    }
+
+    @Test
+    void testAliasedColumn() {
+        ProjectionColumnProcessor processor =
+                createProcessor(
+                        ProjectionColumn.ofAliased(SCHEMA.getColumns().get(2), "alias", "$0"));
+
+        Assertions.assertThat(processor.getForwardedColumnIndex()).isEqualTo(2);
+        Assertions.assertThat(processor.getProjectionColumn().getColumnName()).isEqualTo("alias");
+    }
+
+    @Test
+    void testMetadataColumnIsNotForwarded() {
+        ProjectionColumnProcessor processor =
+                createProcessor(
+                        ProjectionColumn.ofCalculated(
+                                "__table_name__",
+                                DataTypes.STRING().notNull(),
+                                "__table_name__",
+                                "$0",
+                                Collections.singletonList("__table_name__"),
+                                Collections.singletonMap("__table_name__", "$0")));
+
+        Assertions.assertThat(processor.getForwardedColumnIndex()).isEqualTo(-1);
+        Assertions.assertThat(processor.evaluate(new Object[] {1, null, null}, createContext()))
+                .isEqualTo("customers");
+    }
+
+    @Test
+    void testColumnWithMismatchedTypeIsNotForwarded() {
+        // Upstream column is VARCHAR(10), so values have to be evaluated as STRING
+        ProjectionColumnProcessor processor =
+                createProcessor(
+                        ProjectionColumn.ofForwarded(
+                                Column.physicalColumn("code", DataTypes.STRING()), "$0"));
+
+        Assertions.assertThat(processor.getForwardedColumnIndex()).isEqualTo(-1);
+        Assertions.assertThat(processor.evaluate(new Object[] {1, null, "abc"}, createContext()))
+                .isEqualTo("abc");
+    }
+
+    @Test
+    void testBinaryStringArguments() {
+        ProjectionColumnProcessor processor =
+                createProcessor(
+                        ProjectionColumn.ofCalculated(
+                                "name_upper",
+                                DataTypes.STRING(),
+                                "UPPER(name)",
+                                "upper($0)",
+                                Collections.singletonList("name"),
+                                Collections.singletonMap("name", "$0"),
+                                Collections.singletonList("name")));
+
+        Assertions.assertThat(processor.getForwardedColumnIndex()).isEqualTo(-1);
+        Assertions.assertThat(processor.isBinaryStringArgument("name")).isTrue();
+        Assertions.assertThat(
+                        processor.evaluate(
+                                new Object[] {1, BinaryStringData.fromString("abc"), null},
+                                createContext()))
+                .isEqualTo(BinaryStringData.fromString("ABC"));
+        // Columns converted for filter expressions are accepted as well
+        Assertions.assertThat(processor.evaluate(new Object[] {1, "abc", null}, createContext()))
+                .isEqualTo(BinaryStringData.fromString("ABC"));
+    }
+
+    private static ProjectionColumnProcessor createProcessor(ProjectionColumn projectionColumn) {
+        Schema postSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .column(projectionColumn.getColumn())
+                        .primaryKey("id")
+                        .build();
+        return ProjectionColumnProcessor.of(
+                PostTransformChangeInfo.of(TABLE_ID, SCHEMA, postSchema),
+                projectionColumn,
+                "UTC",
+                Collections.emptyList(),
+                Collections.emptyList(),
+                new HashMap<>(),
+                null);
+    }
+
+    private static TransformContext createContext() {
+        TransformContext context = new TransformContext();
+        context.epochTime = 0L;
+        context.opType = "+I";
+        context.meta = new HashMap<>();
+        return context;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Unit tests for {@link UdfResultCache}. */
+class UdfResultCacheTest {
+
+    private static final String EXPRESSION = "__instanceOfEmbeddingFunction.eval(content)";
+
+    @Test
+    void testIsCacheable() {
+        Assertions.assertThat(UdfResultCache.isCacheable(EXPRESSION)).isTrue();
+        Assertions.assertThat(UdfResultCache.isCacheable("upper(content)")).isFalse();
+        Assertions.assertThat(
+                        UdfResultCache.isCacheable(
+                                "__instanceOfFormatFunction.eval(currentTimestamp(__epoch_time__, __time_zone__))"))
+                .isFalse();
+    }
+
+    @Test
+    void testCacheHitsAndMisses() throws Exception {
+        UdfResultCache cache = new UdfResultCache(16, new UnregisteredMetricsGroup());
+        AtomicInteger evaluations = new AtomicInteger();
+        UdfResultCache.Evaluator evaluator = () -> "result-" + evaluations.incrementAndGet();
+
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {"a"}, evaluator))
+                .isEqualTo("result-1");
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {"a"}, evaluator))
+                .isEqualTo("result-1");
+        // Binary values are compared by content
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {new byte[] {1, 2}}, evaluator))
+                .isEqualTo("result-2");
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {new byte[] {1, 2}}, evaluator))
+                .isEqualTo("result-2");
+        // Null results are cached as well
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {null}, () -> null)).isNull();
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {null}, evaluator)).isNull();
+
+        Assertions.assertThat(evaluations.get()).isEqualTo(2);
+        Assertions.assertThat(cache.getNumHits()).isEqualTo(3);
+        Assertions.assertThat(cache.getNumMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void testNotWritable() throws Exception {
+        UdfResultCache cache = new UdfResultCache(16, new UnregisteredMetricsGroup());
+
+        cache.setWritable(false);
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {"a"}, () -> null)).isNull();
+
+        cache.setWritable(true);
+        Assertions.assertThat(cache.get(EXPRESSION, new Object[] {"a"}, () -> "result"))
+                .isEqualTo("result");
+        Assertions.assertThat(cache.getNumHits()).isZero();
+        Assertions.assertThat(cache.getNumMisses()).isEqualTo(1);
+    }
+}
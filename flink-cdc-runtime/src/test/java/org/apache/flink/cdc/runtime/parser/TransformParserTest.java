@@ -805,6 +805,43 @@ class TransformParserTest {
         Assertions.assertThat(janinoExpression).isEqualTo(expressionExpect);
     }
 
+    @Test
+    void testGenerateProjectionColumnsWithBinaryStringArguments() {
+        List<Column> testColumns =
+                Arrays.asList(
+                        Column.physicalColumn("id", DataTypes.INT()),
+                        Column.physicalColumn("name", DataTypes.STRING()),
+                        Column.physicalColumn("code", DataTypes.VARCHAR(10)),
+                        Column.physicalColumn("age", DataTypes.INT()));
+
+        List<ProjectionColumn> result =
+                TransformParser.generateProjectionColumns(
+                        "id, name as alias_name, upper(name) as c1, char_length(name) + age as c2, "
+                                + "concat(name, code) as c3, upper(name) || code as c4, trim(code) as c5, "
+                                + "substr(name, char_length(name) - 1) as c6, substr(name, 1) || 'x' as c7, "
+                                + "if(char_length(name) > 1, name, code) as c8, concat(name, 'x') as c9, "
+                                + "upper(__table_name__) as c10",
+                        testColumns,
+                        Collections.emptyList(),
+                        new SupportedMetadataColumn[0]);
+
+        Assertions.assertThat(result)
+                .map(ProjectionColumn::getBinaryStringColumnNames)
+                .containsExactly(
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.singletonList("name"),
+                        Collections.singletonList("name"),
+                        Arrays.asList("code", "name"),
+                        Collections.emptyList(),
+                        Collections.singletonList("code"),
+                        Collections.singletonList("name"),
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.emptyList());
+    }
+
     /** Test metadata column. */
     private static class TestMetadataColumn implements SupportedMetadataColumn {
         @Override
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.pipeline.UnkeyedTablePartitionStrategy;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link PartitionChannelSelector}. */
+class PartitionChannelSelectorTest {
+
+    private static final TableId TABLE = TableId.tableId("db", "table");
+
+    private static final Schema KEYED_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final Schema UNKEYED_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .build();
+
+    private static final HashFunction<DataChangeEvent> TABLE_HASH_FUNCTION =
+            event -> event.tableId().hashCode() & 0x7FFFFFFF;
+
+    @Test
+    void testTableIdStrategyKeepsHashFunction() {
+        PartitionChannelSelector selector =
+                new PartitionChannelSelector(
+                        4, UnkeyedTablePartitionStrategy.TABLE_ID, new UnregisteredMetricsGroup());
+        assertThat(selector.getHashFunction(TABLE_HASH_FUNCTION, UNKEYED_SCHEMA))
+                .isSameAs(TABLE_HASH_FUNCTION);
+        assertThat(selector.getHashFunction(TABLE_HASH_FUNCTION, KEYED_SCHEMA))
+                .isSameAs(TABLE_HASH_FUNCTION);
+    }
+
+    @Test
+    void testTablesWithPrimaryKeyKeepHashFunction() {
+        PartitionChannelSelector selector =
+                new PartitionChannelSelector(
+                        4,
+                        UnkeyedTablePartitionStrategy.LEAST_LOADED,
+                        new UnregisteredMetricsGroup());
+        assertThat(selector.getHashFunction(TABLE_HASH_FUNCTION, KEYED_SCHEMA))
+                .isSameAs(TABLE_HASH_FUNCTION);
+    }
+
+    @Test
+    void testRoundRobinSpreadsUnkeyedTable() {
+        PartitionChannelSelector selector =
+                new PartitionChannelSelector(
+                        3,
+                        UnkeyedTablePartitionStrategy.ROUND_ROBIN,
+                        new UnregisteredMetricsGroup());
+        HashFunction<DataChangeEvent> hashFunction =
+                selector.getHashFunction(TABLE_HASH_FUNCTION, UNKEYED_SCHEMA);
+        assertThat(selectChannels(selector, hashFunction, 6)).containsExactly(0, 1, 2, 0, 1, 2);
+    }
+
+    @Test
+    void testLeastLoadedBalancesAgainstKeyedTables() {
+        PartitionChannelSelector selector =
+                new PartitionChannelSelector(
+                        3,
+                        UnkeyedTablePartitionStrategy.LEAST_LOADED,
+                        new UnregisteredMetricsGroup());
+        // A keyed table has already sent two events to channel 1
+        selector.selectChannel(1);
+        selector.selectChannel(4);
+
+        HashFunction<DataChangeEvent> hashFunction =
+                selector.getHashFunction(TABLE_HASH_FUNCTION, UNKEYED_SCHEMA);
+        assertThat(selectChannels(selector, hashFunction, 7)).containsExactly(0, 2, 0, 2, 0, 1, 2);
+    }
+
+    private static List<Integer> selectChannels(
+            PartitionChannelSelector selector,
+            HashFunction<DataChangeEvent> hashFunction,
+            int numEvents) {
+        List<Integer> channels = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            channels.add(selector.selectChannel(hashFunction.hashcode(null)));
+        }
+        return channels;
+    }
+}
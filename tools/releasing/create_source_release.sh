@@ -79,6 +79,7 @@ rsync -a \
   --exclude "target" \
   --exclude ".idea" --exclude "*.iml" \
   --exclude ".travis.yml" \
+  --exclude "flink-cdc-benchmarks" \
   . flink-cdc-${RELEASE_VERSION}
 
 tar $TAR_OPTIONS -czf ${RELEASE_DIR}/flink-cdc-${RELEASE_VERSION}-src.tgz flink-cdc-${RELEASE_VERSION}